@@ -0,0 +1,11 @@
+#!/bin/sh
+# Compila o projeto e empacota em out/sudoku.jar.
+# (O AppCDS só arquiva classes vindas de JAR, não de diretórios.)
+set -e
+cd "$(dirname "$0")/.."
+
+rm -rf out/classes
+mkdir -p out/classes
+javac -encoding UTF-8 -d out/classes $(find src -name '*.java')
+jar --create --file out/sudoku.jar --main-class Main -C out/classes .
+echo "Pacote gerado em out/sudoku.jar"
@@ -0,0 +1,19 @@
+#!/bin/sh
+# Gera o arquivo AppCDS (out/sudoku.jsa) a partir de uma execução de treino.
+#
+# O treino percorre o caminho comum de uma sessão (menu, inserção, remoção,
+# status, salvar) para que as classes usadas na inicialização e nas
+# primeiras jogadas fiquem pré-processadas no arquivo. Requer JDK 13+.
+set -e
+cd "$(dirname "$0")/.."
+
+scripts/compilar.sh
+
+TREINO_ARQUIVO="$(mktemp)"
+trap 'rm -f "$TREINO_ARQUIVO"' EXIT
+
+# iniciar, inserir, remover, status, salvar, sair
+printf '6\n\n1\n1 2\n3\n\n2\n1 2\n\n3\n\n7\n%s\n\n9\n' "$TREINO_ARQUIVO" | \
+    java -XX:ArchiveClassesAtExit=out/sudoku.jsa -cp out/sudoku.jar Main 1 1 5 2 3 7 > /dev/null
+
+echo "Arquivo CDS gerado em out/sudoku.jsa"
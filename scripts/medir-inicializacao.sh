@@ -0,0 +1,34 @@
+#!/bin/sh
+# Mede o tempo até o primeiro prompt do menu, sem e com o arquivo AppCDS.
+#
+# Uso: scripts/medir-inicializacao.sh [execucoes]   (padrão: 20)
+# Imprime mínimo e mediana em milissegundos para cada configuração.
+set -e
+cd "$(dirname "$0")/.."
+
+EXECUCOES="${1:-20}"
+[ -f out/sudoku.jar ] || scripts/compilar.sh
+
+medir() {
+    NOME="$1"
+    shift
+    TEMPOS=""
+    i=0
+    while [ "$i" -lt "$EXECUCOES" ]; do
+        TEMPO=$(echo 9 | java -Dsudoku.medir.inicializacao=true "$@" -cp out/sudoku.jar Main 2>&1 >/dev/null \
+            | sed -n 's/.*primeiro prompt: \([0-9]*\) ms$/\1/p')
+        TEMPOS="$TEMPOS $TEMPO"
+        i=$((i + 1))
+    done
+    echo "$TEMPOS" | tr ' ' '\n' | sed '/^$/d' | sort -n | awk -v nome="$NOME" '
+        { t[NR] = $1 }
+        END { printf "%-28s min %4d ms   mediana %4d ms   (%d execuções)\n", nome, t[1], t[int((NR + 1) / 2)], NR }'
+}
+
+medir "padrão"
+medir "C1"  -XX:TieredStopAtLevel=1
+if [ -f out/sudoku.jsa ]; then
+    medir "C1 + AppCDS" -XX:TieredStopAtLevel=1 -XX:SharedArchiveFile=out/sudoku.jsa
+else
+    echo "out/sudoku.jsa não encontrado: rode scripts/gerar-cds.sh para medir com AppCDS"
+fi
@@ -0,0 +1,14 @@
+#!/bin/sh
+# Inicia o Sudoku no modo de inicialização rápida.
+#
+# Usa o arquivo AppCDS se existir (gere com scripts/gerar-cds.sh) e limita
+# a compilação ao C1, que compila mais cedo e basta para sessões curtas.
+# Os argumentos são repassados ao Main (células fixas ou --script).
+cd "$(dirname "$0")/.."
+
+OPCOES="-XX:TieredStopAtLevel=1 -Xshare:auto"
+if [ -f out/sudoku.jsa ]; then
+    OPCOES="$OPCOES -XX:SharedArchiveFile=out/sudoku.jsa"
+fi
+
+exec java $OPCOES -cp out/sudoku.jar Main "$@"
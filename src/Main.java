@@ -1,7 +1,15 @@
 import factory.JogoFactory;
+import rede.ServidorRede;
 import service.JogoService;
+import ui.ExecutorScript;
+import ui.LeitorEntrada;
 import ui.Menu;
 
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
 /**
  * Ponto de entrada principal do Sudoku Refatorado.
  *
@@ -20,8 +28,19 @@ public class Main {
      * Método principal refatorado - foca apenas em inicialização.
      *
      * @param args Argumentos para células fixas no formato: linha coluna valor...
+     *             ou "--script arquivo|- [linha coluna valor...]" para o modo script
+     *             ou "--servidor [porta]" para servir jogos pela rede
      */
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("--script")) {
+            executarScript(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--servidor")) {
+            executarServidor(args);
+            return;
+        }
+
         System.out.println("=== SUDOKU REFATORADO ===");
         System.out.println("🏗️  Arquitetura: State Pattern + Factory + Services");
         System.out.println("📦 Pacotes: domain, service, state, validation, ui, factory");
@@ -69,6 +88,50 @@ public class Main {
         }
     }
 
+    /**
+     * Modo script: lê comandos de um arquivo (ou da entrada padrão com "-")
+     * e os executa em lote, sem menu nem redesenho do tabuleiro.
+     */
+    private static void executarScript(String[] args) {
+        if (args.length < 2) {
+            System.out.println("📋 Uso: --script arquivo|- [linha coluna valor...]");
+            return;
+        }
+
+        try {
+            JogoService jogoService = args.length > 2
+                    ? JogoFactory.criarJogoComFixos(Arrays.copyOfRange(args, 2, args.length))
+                    : JogoFactory.criarJogoVazio();
+
+            InputStream entrada = args[1].equals("-") ? System.in : new FileInputStream(args[1]);
+            try (LeitorEntrada leitor = new LeitorEntrada(entrada)) {
+                new ExecutorScript(jogoService, leitor, System.out).executar();
+            }
+        } catch (IllegalArgumentException e) {
+            System.out.println("❌ Argumentos inválidos: " + e.getMessage());
+        } catch (IOException e) {
+            System.out.println("❌ Não foi possível abrir o script: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Modo servidor: atende jogos pelo protocolo binário até Enter (ou fim da entrada).
+     */
+    private static void executarServidor(String[] args) {
+        try {
+            int porta = args.length > 1 ? Integer.parseInt(args[1]) : ServidorRede.PORTA_PADRAO;
+            try (ServidorRede servidor = new ServidorRede(porta)) {
+                System.out.println("🌐 Servidor na porta " + servidor.getPorta() + " (Enter encerra)");
+                System.in.read();
+                System.out.println("📊 " + servidor.getRequisicoes() + " requisições atendidas");
+            }
+        } catch (IllegalArgumentException e) {
+            System.out.println("📋 Uso: --servidor [porta]");
+        } catch (IOException e) {
+            System.out.println("❌ Não foi possível iniciar o servidor: " + e.getMessage());
+        }
+    }
+
     /**
      * Método auxiliar para testes rápidos.
      * Pode ser usado para criar um jogo de exemplo.
@@ -0,0 +1,238 @@
+package analise;
+
+import domain.exception.SudokuException;
+import solver.ImpressaoTabuleiro;
+import validation.RegrasCompiladas;
+
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Análise offline de arquivos de registro ({@link GravadorPartidas}): tempos
+ * de resolução, taxas de erro e células com mais conflitos, por puzzle e
+ * por jogador.
+ *
+ * <p>Cada arquivo é lido em fluxo, numa única passada, por uma thread do
+ * pool; as jogadas são reproduzidas com {@link ReproducaoPartida} e cada
+ * thread acumula o seu próprio {@link RelatorioAnalise}, somado aos outros
+ * no final. Nenhuma estrutura é compartilhada durante a leitura.</p>
+ *
+ * <p>Um arquivo corrompido vira um erro no relatório; o que foi lido dele
+ * até o ponto do erro continua contado.</p>
+ */
+public class AnaliseRegistros {
+
+    private final Map<Long, RegrasCompiladas> variantes = new HashMap<>();
+    private final int paralelismo;
+
+    /**
+     * Análise do Sudoku clássico com uma thread por processador.
+     */
+    public AnaliseRegistros() {
+        this(List.of(RegrasCompiladas.CLASSICO), Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param variantes variantes reproduzidas; partidas de outras são contadas como ignoradas
+     * @param paralelismo quantidade de arquivos lidos ao mesmo tempo
+     */
+    public AnaliseRegistros(Collection<RegrasCompiladas> variantes, int paralelismo) {
+        if (paralelismo < 1) {
+            throw new IllegalArgumentException("Paralelismo deve ser positivo");
+        }
+        for (RegrasCompiladas regras : variantes) {
+            this.variantes.put(regras.getIdentificador(), regras);
+        }
+        this.paralelismo = paralelismo;
+    }
+
+    // ========== ANÁLISE ==========
+
+    /**
+     * Analisa os arquivos em paralelo, um arquivo por tarefa (os maiores primeiro).
+     */
+    public RelatorioAnalise analisar(List<Path> arquivos) throws InterruptedException {
+        long inicio = System.nanoTime();
+        List<Path> ordenados = new ArrayList<>(arquivos);
+        ordenados.sort(Comparator.comparingLong(AnaliseRegistros::tamanho).reversed());
+
+        RelatorioAnalise total = new RelatorioAnalise();
+        try (ExecutorService pool = Executors.newFixedThreadPool(Math.min(paralelismo, Math.max(1, ordenados.size())))) {
+            List<Future<RelatorioAnalise>> parciais = new ArrayList<>(ordenados.size());
+            for (Path arquivo : ordenados) {
+                parciais.add(pool.submit(() -> analisarArquivo(arquivo)));
+            }
+            for (Future<RelatorioAnalise> parcial : parciais) {
+                total.combinar(parcial.get());
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Falha inesperada na análise", e.getCause());
+        }
+        total.setDuracaoNanos(System.nanoTime() - inicio);
+        return total;
+    }
+
+    /**
+     * Analisa um único canal na thread atual.
+     */
+    public RelatorioAnalise analisar(ReadableByteChannel canal, String nome) {
+        long inicio = System.nanoTime();
+        RelatorioAnalise relatorio = new RelatorioAnalise();
+        try (LeitorPartidas leitor = new LeitorPartidas(canal)) {
+            analisar(leitor, nome, relatorio);
+        } catch (IOException e) {
+            relatorio.registrarErro(nome + ": " + e.getMessage());
+        }
+        relatorio.setDuracaoNanos(System.nanoTime() - inicio);
+        return relatorio;
+    }
+
+    private RelatorioAnalise analisarArquivo(Path arquivo) {
+        RelatorioAnalise relatorio = new RelatorioAnalise();
+        try (LeitorPartidas leitor = LeitorPartidas.abrir(arquivo)) {
+            analisar(leitor, arquivo.toString(), relatorio);
+        } catch (IOException e) {
+            relatorio.registrarErro(arquivo + ": " + e.getMessage());
+        }
+        return relatorio;
+    }
+
+    private void analisar(LeitorPartidas leitor, String nome, RelatorioAnalise relatorio) throws IOException {
+        Acumulador acumulador = new Acumulador(relatorio);
+        try {
+            leitor.lerTodas(acumulador);
+        } catch (SudokuException e) {
+            relatorio.registrarErro(nome + ": " + e.getMessage());
+        }
+        relatorio.registrarArquivo(leitor.getPartidas(), leitor.getJogadas(), leitor.getPosicao());
+    }
+
+    private static long tamanho(Path arquivo) {
+        try {
+            return Files.size(arquivo);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    // ========== ACUMULADOR ==========
+
+    /**
+     * Reproduz as partidas de um arquivo e acumula os resultados no relatório da thread.
+     * A partida só entra nas estatísticas ao terminar: uma partida truncada não conta.
+     */
+    private final class Acumulador implements ConsumidorPartidas {
+        private final RelatorioAnalise relatorio;
+        private final Map<Long, ReproducaoPartida> reproducoes = new HashMap<>();
+        private final int[] conflitosPorCelula = new int[81];
+
+        // Partida atual (null = variante desconhecida, jogadas ignoradas)
+        private ReproducaoPartida reproducao;
+        private EstatisticasPuzzle puzzle;
+        private EstatisticasJogador jogador;
+        private int jogadas;
+        private int insercoes;
+        private int emConflito;
+        private int invalidas;
+        private long tempoResolucao;
+
+        Acumulador(RelatorioAnalise relatorio) {
+            this.relatorio = relatorio;
+        }
+
+        @Override
+        public void inicioPartida(String nomeJogador, long variante, byte[] pistas, long inicioMillis) {
+            RegrasCompiladas regras = variantes.get(variante);
+            if (regras == null) {
+                reproducao = null;
+                return;
+            }
+            reproducao = reproducoes.computeIfAbsent(variante, v -> new ReproducaoPartida(regras));
+            reproducao.reiniciar(pistas);
+            puzzle = relatorio.puzzle(ImpressaoTabuleiro.deCompactada(pistas, regras));
+            jogador = relatorio.jogador(nomeJogador);
+            jogadas = 0;
+            insercoes = 0;
+            emConflito = 0;
+            invalidas = 0;
+            tempoResolucao = -1;
+            Arrays.fill(conflitosPorCelula, 0);
+        }
+
+        @Override
+        public void jogada(int indice, int valor, long decorridoMillis) {
+            if (reproducao == null) {
+                return;
+            }
+            jogadas++;
+            int resultado = reproducao.aplicar(indice, valor);
+            if (resultado == ReproducaoPartida.INVALIDA) {
+                invalidas++;
+                return;
+            }
+            if (valor != 0) {
+                insercoes++;
+                if (resultado == ReproducaoPartida.CONFLITO) {
+                    emConflito++;
+                    conflitosPorCelula[indice]++;
+                } else if (tempoResolucao < 0 && reproducao.getPreenchidas() == 81 && reproducao.isResolvida()) {
+                    tempoResolucao = decorridoMillis;
+                }
+            }
+        }
+
+        @Override
+        public void fimPartida() {
+            if (reproducao == null) {
+                relatorio.registrarIgnorada();
+                return;
+            }
+            puzzle.registrarPartida(jogadas, insercoes, emConflito, invalidas, tempoResolucao);
+            puzzle.registrarConflitos(conflitosPorCelula);
+            jogador.registrarPartida(jogadas, insercoes, emConflito, invalidas, tempoResolucao);
+        }
+    }
+
+    // ========== LINHA DE COMANDO ==========
+
+    /**
+     * Uso: {@code java analise.AnaliseRegistros arquivo...}
+     */
+    public static void main(String[] args) throws InterruptedException {
+        if (args.length == 0) {
+            System.out.println("Uso: java analise.AnaliseRegistros arquivo...");
+            return;
+        }
+        List<Path> arquivos = new ArrayList<>();
+        for (String arg : args) {
+            arquivos.add(Path.of(arg));
+        }
+        RelatorioAnalise relatorio = new AnaliseRegistros().analisar(arquivos);
+
+        System.out.println("📊 " + relatorio);
+        System.out.println("\nPuzzles com mais erros:");
+        for (EstatisticasPuzzle puzzle : relatorio.puzzlesMaisDificeis(10, 1)) {
+            System.out.println("  " + puzzle + " - células " + puzzle.celulasMaisConflitantes(3));
+        }
+        System.out.println("\nJogadores mais rápidos:");
+        for (EstatisticasJogador jogador : relatorio.jogadoresMaisRapidos(10)) {
+            System.out.println("  " + jogador);
+        }
+        for (String erro : relatorio.getErros()) {
+            System.out.println("❌ " + erro);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package analise;
+
+/**
+ * Recebe as partidas lidas pelo {@link LeitorPartidas}, uma jogada por chamada,
+ * sem que o leitor crie objetos por jogada.
+ */
+public interface ConsumidorPartidas {
+
+    /**
+     * Início de uma partida.
+     *
+     * @param pistas pistas compactadas (GradeCompactada); o vetor é reutilizado
+     *               pelo leitor e só vale durante a chamada
+     */
+    void inicioPartida(String jogador, long variante, byte[] pistas, long inicioMillis);
+
+    /**
+     * @param indice célula (0-80)
+     * @param valor 1-9, ou 0 para remoção
+     * @param decorridoMillis tempo desde o início da partida
+     */
+    void jogada(int indice, int valor, long decorridoMillis);
+
+    void fimPartida();
+}
@@ -0,0 +1,21 @@
+package analise;
+
+/**
+ * Estatísticas das partidas de um jogador, em todos os puzzles.
+ */
+public final class EstatisticasJogador extends EstatisticasPartidas {
+    private final String jogador;
+
+    EstatisticasJogador(String jogador) {
+        this.jogador = jogador;
+    }
+
+    public String getJogador() {
+        return jogador;
+    }
+
+    @Override
+    public String toString() {
+        return jogador + ": " + resumo();
+    }
+}
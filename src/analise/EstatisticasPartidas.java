@@ -0,0 +1,122 @@
+package analise;
+
+/**
+ * Contadores comuns às estatísticas por puzzle e por jogador.
+ *
+ * <p>Não é sincronizada: cada thread da análise acumula as suas e elas são
+ * somadas ao final com {@link #combinar}.</p>
+ */
+public abstract class EstatisticasPartidas {
+
+    private long partidas;
+    private long resolvidas;
+    private long jogadas;
+    private long insercoes;
+    private long insercoesEmConflito;
+    private long jogadasInvalidas;
+
+    // Tempos das partidas resolvidas (ms)
+    private long tempoTotal;
+    private long tempoMinimo = Long.MAX_VALUE;
+    private long tempoMaximo;
+
+    EstatisticasPartidas() {
+    }
+
+    /**
+     * @param tempoResolucao ms até o tabuleiro ficar resolvido, ou -1 se não ficou
+     */
+    void registrarPartida(int jogadas, int insercoes, int emConflito, int invalidas, long tempoResolucao) {
+        this.partidas++;
+        this.jogadas += jogadas;
+        this.insercoes += insercoes;
+        this.insercoesEmConflito += emConflito;
+        this.jogadasInvalidas += invalidas;
+        if (tempoResolucao >= 0) {
+            resolvidas++;
+            tempoTotal += tempoResolucao;
+            tempoMinimo = Math.min(tempoMinimo, tempoResolucao);
+            tempoMaximo = Math.max(tempoMaximo, tempoResolucao);
+        }
+    }
+
+    void combinar(EstatisticasPartidas outras) {
+        partidas += outras.partidas;
+        resolvidas += outras.resolvidas;
+        jogadas += outras.jogadas;
+        insercoes += outras.insercoes;
+        insercoesEmConflito += outras.insercoesEmConflito;
+        jogadasInvalidas += outras.jogadasInvalidas;
+        tempoTotal += outras.tempoTotal;
+        tempoMinimo = Math.min(tempoMinimo, outras.tempoMinimo);
+        tempoMaximo = Math.max(tempoMaximo, outras.tempoMaximo);
+    }
+
+    // ========== GETTERS ==========
+
+    public long getPartidas() {
+        return partidas;
+    }
+
+    public long getResolvidas() {
+        return resolvidas;
+    }
+
+    public long getJogadas() {
+        return jogadas;
+    }
+
+    public long getInsercoes() {
+        return insercoes;
+    }
+
+    public long getInsercoesEmConflito() {
+        return insercoesEmConflito;
+    }
+
+    /**
+     * Jogadas que o jogo teria recusado (célula fixa, remoção de célula vazia).
+     */
+    public long getJogadasInvalidas() {
+        return jogadasInvalidas;
+    }
+
+    /**
+     * Fração das partidas que terminaram com o tabuleiro resolvido (0-1).
+     */
+    public double getTaxaResolucao() {
+        return partidas == 0 ? 0 : (double) resolvidas / partidas;
+    }
+
+    /**
+     * Fração das inserções que criaram conflito (0-1).
+     */
+    public double getTaxaErro() {
+        return insercoes == 0 ? 0 : (double) insercoesEmConflito / insercoes;
+    }
+
+    /**
+     * Tempo médio até resolver, em ms (0 se nenhuma partida foi resolvida).
+     */
+    public long getTempoMedioMillis() {
+        return resolvidas == 0 ? 0 : tempoTotal / resolvidas;
+    }
+
+    public long getTempoMinimoMillis() {
+        return resolvidas == 0 ? 0 : tempoMinimo;
+    }
+
+    public long getTempoMaximoMillis() {
+        return tempoMaximo;
+    }
+
+    String resumo() {
+        return String.format("%d partidas, %d resolvidas (%.1f%%), tempo médio %s, erro %.1f%%",
+                partidas, resolvidas, getTaxaResolucao() * 100, formatarTempo(getTempoMedioMillis()),
+                getTaxaErro() * 100);
+    }
+
+    static String formatarTempo(long millis) {
+        return String.format("%d:%02d.%03d", millis / 60_000, millis / 1000 % 60, millis % 1000);
+    }
+}
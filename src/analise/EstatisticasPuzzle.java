@@ -0,0 +1,73 @@
+package analise;
+
+import domain.model.Posicao;
+import solver.ImpressaoTabuleiro;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Estatísticas das partidas de um puzzle, incluindo em quais células os
+ * jogadores mais colocam dígitos em conflito.
+ */
+public final class EstatisticasPuzzle extends EstatisticasPartidas {
+    private final ImpressaoTabuleiro puzzle;
+    private final long[] conflitosPorCelula = new long[81];
+
+    EstatisticasPuzzle(ImpressaoTabuleiro puzzle) {
+        this.puzzle = puzzle;
+    }
+
+    /**
+     * @param conflitos inserções em conflito de uma partida, por célula
+     */
+    void registrarConflitos(int[] conflitos) {
+        for (int indice = 0; indice < 81; indice++) {
+            conflitosPorCelula[indice] += conflitos[indice];
+        }
+    }
+
+    void combinar(EstatisticasPuzzle outras) {
+        super.combinar(outras);
+        for (int indice = 0; indice < 81; indice++) {
+            conflitosPorCelula[indice] += outras.conflitosPorCelula[indice];
+        }
+    }
+
+    public ImpressaoTabuleiro getPuzzle() {
+        return puzzle;
+    }
+
+    public long getConflitos(int indice) {
+        return conflitosPorCelula[indice];
+    }
+
+    /**
+     * Até {@code k} células com mais inserções em conflito, da pior para a melhor
+     * (só células com pelo menos um conflito).
+     */
+    public List<Posicao> celulasMaisConflitantes(int k) {
+        List<Posicao> celulas = new ArrayList<>(Math.min(k, 81));
+        boolean[] escolhidas = new boolean[81];
+        while (celulas.size() < k) {
+            int melhor = -1;
+            for (int indice = 0; indice < 81; indice++) {
+                if (!escolhidas[indice] && conflitosPorCelula[indice] > 0
+                        && (melhor < 0 || conflitosPorCelula[indice] > conflitosPorCelula[melhor])) {
+                    melhor = indice;
+                }
+            }
+            if (melhor < 0) {
+                break;
+            }
+            escolhidas[melhor] = true;
+            celulas.add(Posicao.doIndice(melhor));
+        }
+        return celulas;
+    }
+
+    @Override
+    public String toString() {
+        return puzzle + ": " + resumo();
+    }
+}
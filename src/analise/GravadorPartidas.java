@@ -0,0 +1,252 @@
+package analise;
+
+import domain.model.Tabuleiro;
+import event.EventoJogo;
+import event.PoliticaExcesso;
+import service.JogoService;
+import solver.GradeCompactada;
+import state.EstadoJogo;
+import validation.RegrasCompiladas;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.Flow;
+
+/**
+ * Grava partidas (as jogadas de cada jogo, com o tempo de cada uma) em um
+ * arquivo de registro, lido depois pelo {@link LeitorPartidas}.
+ *
+ * <p><b>Versão 1</b> de cada partida (bytes, em ordem):</p>
+ * <pre>
+ *  2  assinatura "RP"
+ *  1  versão
+ *  8  identificador da variante (RegrasCompiladas)
+ * 41  pistas, dois valores por byte (GradeCompactada)
+ *  8  início da partida (epoch, milissegundos)
+ * 1+n jogador: tamanho (varint) + UTF-8
+ *     por jogada: índice (1 byte, 0-80), valor (1 byte, 0 = remoção)
+ *                 e intervalo desde a jogada anterior em ms (varint)
+ *  1  0xFF: fim da partida
+ * </pre>
+ *
+ * <p>Uma jogada ocupa 3 bytes na maioria dos casos (intervalos abaixo de
+ * 16 s). As partidas são montadas em memória e escritas inteiras ao
+ * encerrar, então várias partidas podem ser gravadas ao mesmo tempo no
+ * mesmo arquivo sem se intercalarem.</p>
+ */
+public class GravadorPartidas implements AutoCloseable {
+
+    public static final byte VERSAO = 1;
+
+    static final byte ASSINATURA_0 = 'R';
+    static final byte ASSINATURA_1 = 'P';
+    static final int FIM_PARTIDA = 0xFF;
+
+    /** Eventos que o gravador aceita acumular de um jogo antes de perder jogadas. */
+    private static final int CAPACIDADE_EVENTOS = 4096;
+
+    private final WritableByteChannel canal;
+    private long partidas;
+    private long bytes;
+
+    public GravadorPartidas(WritableByteChannel canal) {
+        this.canal = canal;
+    }
+
+    /**
+     * Cria (ou acrescenta ao fim de) um arquivo de registro.
+     */
+    public static GravadorPartidas abrir(Path arquivo) throws IOException {
+        return new GravadorPartidas(FileChannel.open(arquivo, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND));
+    }
+
+    // ========== GRAVAÇÃO ==========
+
+    /**
+     * Começa uma partida. As jogadas ficam na partida até {@link Partida#encerrar()}.
+     *
+     * @param pistas 81 valores (0 = vazio)
+     */
+    public Partida iniciar(String jogador, int[] pistas, RegrasCompiladas regras, long inicioMillis) {
+        if (pistas.length != 81) {
+            throw new IllegalArgumentException("Pistas devem ter 81 valores");
+        }
+        byte[] nome = jogador.getBytes(StandardCharsets.UTF_8);
+        Partida partida = new Partida(inicioMillis, 2 + 1 + 8 + GradeCompactada.TAMANHO_BYTES + 8 + 5 + nome.length);
+        partida.dados.put(ASSINATURA_0).put(ASSINATURA_1).put(VERSAO);
+        partida.dados.putLong(regras.getIdentificador());
+        partida.dados.put(GradeCompactada.compactar(pistas));
+        partida.dados.putLong(inicioMillis);
+        escreverVarint(partida.dados, nome.length);
+        partida.dados.put(nome);
+        return partida;
+    }
+
+    /**
+     * Grava as jogadas de um jogo a partir de agora, assinando os seus eventos.
+     * A partida é encerrada quando o jogo é vencido ou o publicador é fechado.
+     *
+     * <p>Os eventos chegam de forma assíncrona; um jogo que publique mais de
+     * {@value #CAPACIDADE_EVENTOS} eventos sem que o gravador os consuma perde
+     * os mais antigos.</p>
+     */
+    public Partida acompanhar(JogoService jogo, String jogador) {
+        Tabuleiro tabuleiro = jogo.getTabuleiro();
+        int[] pistas = new int[81];
+        for (int indice = 0; indice < 81; indice++) {
+            if (tabuleiro.isFixo(indice)) {
+                pistas[indice] = tabuleiro.getValor(indice);
+            }
+        }
+        long inicioMillis = System.currentTimeMillis();
+        Partida partida = iniciar(jogador, pistas, jogo.getRegras(), inicioMillis);
+        jogo.getEventos().subscribe(partida.new Assinante(inicioMillis, System.nanoTime()),
+                CAPACIDADE_EVENTOS, PoliticaExcesso.MANTER_RECENTES);
+        return partida;
+    }
+
+    private synchronized void escrever(ByteBuffer dados) throws IOException {
+        bytes += dados.remaining();
+        while (dados.hasRemaining()) {
+            canal.write(dados);
+        }
+        partidas++;
+    }
+
+    public synchronized long getPartidas() {
+        return partidas;
+    }
+
+    public synchronized long getBytes() {
+        return bytes;
+    }
+
+    @Override
+    public void close() throws IOException {
+        canal.close();
+    }
+
+    // ========== PARTIDA ==========
+
+    /**
+     * Partida em gravação. Sincronizada porque, em {@link #acompanhar}, as
+     * jogadas chegam na thread do publicador e o encerramento pode vir de outra.
+     */
+    public final class Partida {
+        private ByteBuffer dados;
+        private long anteriorMillis;
+        private int jogadas;
+        private boolean encerrada;
+
+        private Partida(long inicioMillis, int capacidade) {
+            this.dados = ByteBuffer.allocate(capacidade + 64 * 3);
+            this.anteriorMillis = inicioMillis;
+        }
+
+        /**
+         * @param indice célula (0-80)
+         * @param valor 1-9, ou 0 para remoção
+         * @param instanteMillis momento da jogada (epoch, milissegundos)
+         */
+        public synchronized void jogada(int indice, int valor, long instanteMillis) {
+            if (indice < 0 || indice > 80 || valor < 0 || valor > 9) {
+                throw new IllegalArgumentException("Jogada inválida: índice " + indice + ", valor " + valor);
+            }
+            if (encerrada) {
+                throw new IllegalStateException("Partida já encerrada");
+            }
+            if (dados.remaining() < 2 + 5 + 1) {
+                dados = ByteBuffer.wrap(Arrays.copyOf(dados.array(), dados.capacity() * 2)).position(dados.position());
+            }
+            long intervalo = Math.max(0, instanteMillis - anteriorMillis);
+            dados.put((byte) indice).put((byte) valor);
+            escreverVarint(dados, (int) Math.min(intervalo, Integer.MAX_VALUE));
+            anteriorMillis = Math.max(anteriorMillis, instanteMillis);
+            jogadas++;
+        }
+
+        /**
+         * Escreve a partida no arquivo. Chamadas repetidas não têm efeito.
+         */
+        public synchronized void encerrar() throws IOException {
+            if (encerrada) {
+                return;
+            }
+            encerrada = true;
+            dados.put((byte) FIM_PARTIDA).flip();
+            escrever(dados);
+            dados = null;
+        }
+
+        public synchronized int getJogadas() {
+            return jogadas;
+        }
+
+        public synchronized boolean isEncerrada() {
+            return encerrada;
+        }
+
+        /**
+         * Recebe os eventos do jogo acompanhado, sempre em uma tarefa por vez do publicador.
+         */
+        private final class Assinante implements Flow.Subscriber<EventoJogo> {
+            private final long inicioMillis;
+            private final long inicioNanos;
+            private Flow.Subscription assinatura;
+
+            Assinante(long inicioMillis, long inicioNanos) {
+                this.inicioMillis = inicioMillis;
+                this.inicioNanos = inicioNanos;
+            }
+
+            @Override
+            public void onSubscribe(Flow.Subscription assinatura) {
+                this.assinatura = assinatura;
+                assinatura.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(EventoJogo evento) {
+                if (evento.getTipo() == EventoJogo.Tipo.JOGADA) {
+                    jogada(evento.getIndice(), evento.getValor(),
+                            inicioMillis + (evento.getInstanteNanos() - inicioNanos) / 1_000_000);
+                } else if (evento.getTipo() == EventoJogo.Tipo.TRANSICAO && evento.getEstado() == EstadoJogo.VENCIDO) {
+                    assinatura.cancel();
+                    onComplete();
+                }
+            }
+
+            @Override
+            public void onError(Throwable erro) {
+                onComplete();
+            }
+
+            @Override
+            public void onComplete() {
+                try {
+                    encerrar();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+    }
+
+    // ========== VARINT ==========
+
+    static void escreverVarint(ByteBuffer destino, int valor) {
+        while ((valor & ~0x7F) != 0) {
+            destino.put((byte) ((valor & 0x7F) | 0x80));
+            valor >>>= 7;
+        }
+        destino.put((byte) valor);
+    }
+}
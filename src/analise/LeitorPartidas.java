@@ -0,0 +1,193 @@
+package analise;
+
+import domain.exception.SudokuException;
+import solver.GradeCompactada;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Lê em fluxo um arquivo gravado pelo {@link GravadorPartidas}: blocos de
+ * 64 KiB do canal, interpretados byte a byte e entregues a um
+ * {@link ConsumidorPartidas}. A memória usada não depende do tamanho do
+ * arquivo nem da quantidade de jogadas de uma partida.
+ *
+ * <p>Um registro corrompido interrompe a leitura do arquivo com
+ * {@link SudokuException}: sem marcadores de sincronização, não há como
+ * achar com segurança o início da partida seguinte.</p>
+ */
+public class LeitorPartidas implements AutoCloseable {
+
+    private static final int TAMANHO_BUFFER = 64 * 1024;
+    private static final int FIM = -1;
+
+    private final ReadableByteChannel canal;
+    private final ByteBuffer buffer = ByteBuffer.allocate(TAMANHO_BUFFER);
+    private final byte[] pistas = new byte[GradeCompactada.TAMANHO_BYTES];
+    private byte[] nome = new byte[32];
+
+    // Bytes consumidos antes do bloco atual do buffer
+    private long deslocamento;
+
+    // Estatísticas
+    private long partidas;
+    private long jogadas;
+
+    public LeitorPartidas(ReadableByteChannel canal) {
+        this.canal = canal;
+        buffer.flip(); // começa vazio
+    }
+
+    public static LeitorPartidas abrir(Path arquivo) throws IOException {
+        return new LeitorPartidas(FileChannel.open(arquivo, StandardOpenOption.READ));
+    }
+
+    // ========== LEITURA ==========
+
+    /**
+     * Lê a próxima partida inteira, entregando-a ao consumidor.
+     *
+     * @return false no fim do arquivo
+     * @throws SudokuException se o registro estiver corrompido ou truncado
+     */
+    public boolean proxima(ConsumidorPartidas consumidor) throws IOException {
+        int b = lerByte();
+        if (b == FIM) {
+            return false;
+        }
+        long inicioRegistro = getPosicao() - 1;
+        if (b != GravadorPartidas.ASSINATURA_0 || lerObrigatorio() != GravadorPartidas.ASSINATURA_1) {
+            throw corrompido(inicioRegistro, "assinatura de partida não encontrada");
+        }
+        int versao = lerObrigatorio();
+        if (versao != GravadorPartidas.VERSAO) {
+            throw corrompido(inicioRegistro, "versão não suportada: " + versao);
+        }
+        long variante = lerLong();
+        for (int i = 0; i < pistas.length; i++) {
+            pistas[i] = (byte) lerObrigatorio();
+        }
+        long inicioMillis = lerLong();
+        String jogador = lerNome(inicioRegistro);
+        consumidor.inicioPartida(jogador, variante, pistas, inicioMillis);
+
+        long decorrido = 0;
+        int indice;
+        while ((indice = lerObrigatorio()) != GravadorPartidas.FIM_PARTIDA) {
+            int valor = lerObrigatorio();
+            if (indice > 80 || valor > 9) {
+                throw corrompido(getPosicao() - 2, "jogada inválida (índice " + indice + ", valor " + valor + ")");
+            }
+            decorrido += lerVarint();
+            consumidor.jogada(indice, valor, decorrido);
+            jogadas++;
+        }
+        consumidor.fimPartida();
+        partidas++;
+        return true;
+    }
+
+    /**
+     * Lê todas as partidas restantes.
+     *
+     * @return quantidade de partidas lidas
+     */
+    public long lerTodas(ConsumidorPartidas consumidor) throws IOException {
+        long antes = partidas;
+        while (proxima(consumidor)) {
+            // cada partida já foi entregue
+        }
+        return partidas - antes;
+    }
+
+    // ========== ESTATÍSTICAS ==========
+
+    public long getPartidas() {
+        return partidas;
+    }
+
+    public long getJogadas() {
+        return jogadas;
+    }
+
+    /**
+     * Bytes consumidos desde o início do canal.
+     */
+    public long getPosicao() {
+        return deslocamento + buffer.position();
+    }
+
+    @Override
+    public void close() throws IOException {
+        canal.close();
+    }
+
+    // ========== BYTES ==========
+
+    private String lerNome(long inicioRegistro) throws IOException {
+        int tamanho = lerVarint();
+        if (tamanho > 4096) {
+            throw corrompido(inicioRegistro, "nome de jogador com " + tamanho + " bytes");
+        }
+        if (tamanho > nome.length) {
+            nome = new byte[Math.max(tamanho, nome.length * 2)];
+        }
+        for (int i = 0; i < tamanho; i++) {
+            nome[i] = (byte) lerObrigatorio();
+        }
+        return new String(nome, 0, tamanho, StandardCharsets.UTF_8);
+    }
+
+    private long lerLong() throws IOException {
+        long valor = 0;
+        for (int i = 0; i < 8; i++) {
+            valor = valor << 8 | lerObrigatorio();
+        }
+        return valor;
+    }
+
+    private int lerVarint() throws IOException {
+        int valor = 0;
+        for (int deslocamentoBits = 0; deslocamentoBits < 35; deslocamentoBits += 7) {
+            int b = lerObrigatorio();
+            valor |= (b & 0x7F) << deslocamentoBits;
+            if ((b & 0x80) == 0) {
+                return valor;
+            }
+        }
+        throw corrompido(getPosicao(), "varint longo demais");
+    }
+
+    private int lerObrigatorio() throws IOException {
+        int b = lerByte();
+        if (b == FIM) {
+            throw corrompido(getPosicao(), "partida truncada");
+        }
+        return b;
+    }
+
+    private int lerByte() throws IOException {
+        if (!buffer.hasRemaining()) {
+            deslocamento += buffer.limit();
+            buffer.clear();
+            int lidos;
+            do {
+                lidos = canal.read(buffer);
+            } while (lidos == 0);
+            buffer.flip();
+            if (lidos < 0) {
+                return FIM;
+            }
+        }
+        return buffer.get() & 0xFF;
+    }
+
+    private static SudokuException corrompido(long posicao, String motivo) {
+        return new SudokuException("Registro de partidas corrompido no byte " + posicao + ": " + motivo);
+    }
+}
@@ -0,0 +1,174 @@
+package analise;
+
+import solver.ImpressaoTabuleiro;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resultado da análise de um ou mais arquivos de registro: estatísticas
+ * por puzzle e por jogador, totais e erros de leitura.
+ *
+ * <p>A memória cresce com a quantidade de puzzles e jogadores distintos,
+ * não com a quantidade de partidas ou jogadas.</p>
+ */
+public class RelatorioAnalise {
+
+    private final Map<ImpressaoTabuleiro, EstatisticasPuzzle> puzzles = new HashMap<>();
+    private final Map<String, EstatisticasJogador> jogadores = new HashMap<>();
+    private final List<String> erros = new ArrayList<>();
+
+    private long arquivos;
+    private long partidas;
+    private long partidasIgnoradas;
+    private long jogadas;
+    private long bytes;
+    private long duracaoNanos;
+
+    RelatorioAnalise() {
+    }
+
+    // ========== ACUMULAÇÃO ==========
+
+    EstatisticasPuzzle puzzle(ImpressaoTabuleiro puzzle) {
+        return puzzles.computeIfAbsent(puzzle, EstatisticasPuzzle::new);
+    }
+
+    EstatisticasJogador jogador(String jogador) {
+        return jogadores.computeIfAbsent(jogador, EstatisticasJogador::new);
+    }
+
+    void registrarArquivo(long partidas, long jogadas, long bytes) {
+        this.arquivos++;
+        this.partidas += partidas;
+        this.jogadas += jogadas;
+        this.bytes += bytes;
+    }
+
+    void registrarIgnorada() {
+        partidasIgnoradas++;
+    }
+
+    void registrarErro(String erro) {
+        erros.add(erro);
+    }
+
+    void setDuracaoNanos(long duracaoNanos) {
+        this.duracaoNanos = duracaoNanos;
+    }
+
+    /**
+     * Soma outro relatório (de outro arquivo ou partição) a este.
+     */
+    void combinar(RelatorioAnalise outro) {
+        outro.puzzles.forEach((chave, estatisticas) -> {
+            EstatisticasPuzzle atual = puzzles.putIfAbsent(chave, estatisticas);
+            if (atual != null) {
+                atual.combinar(estatisticas);
+            }
+        });
+        outro.jogadores.forEach((chave, estatisticas) -> {
+            EstatisticasJogador atual = jogadores.putIfAbsent(chave, estatisticas);
+            if (atual != null) {
+                atual.combinar(estatisticas);
+            }
+        });
+        erros.addAll(outro.erros);
+        arquivos += outro.arquivos;
+        partidas += outro.partidas;
+        partidasIgnoradas += outro.partidasIgnoradas;
+        jogadas += outro.jogadas;
+        bytes += outro.bytes;
+    }
+
+    // ========== CONSULTAS ==========
+
+    public EstatisticasPuzzle getPuzzle(ImpressaoTabuleiro puzzle) {
+        return puzzles.get(puzzle);
+    }
+
+    public EstatisticasJogador getJogador(String jogador) {
+        return jogadores.get(jogador);
+    }
+
+    public Collection<EstatisticasPuzzle> getPuzzles() {
+        return Collections.unmodifiableCollection(puzzles.values());
+    }
+
+    public Collection<EstatisticasJogador> getJogadores() {
+        return Collections.unmodifiableCollection(jogadores.values());
+    }
+
+    /**
+     * Até {@code k} puzzles com maior taxa de erro, entre os que têm pelo menos {@code minimoPartidas} partidas.
+     */
+    public List<EstatisticasPuzzle> puzzlesMaisDificeis(int k, long minimoPartidas) {
+        return puzzles.values().stream()
+                .filter(p -> p.getPartidas() >= minimoPartidas)
+                .sorted(Comparator.comparingDouble(EstatisticasPuzzle::getTaxaErro).reversed())
+                .limit(k)
+                .toList();
+    }
+
+    /**
+     * Até {@code k} jogadores com menor tempo médio de resolução.
+     */
+    public List<EstatisticasJogador> jogadoresMaisRapidos(int k) {
+        return jogadores.values().stream()
+                .filter(j -> j.getResolvidas() > 0)
+                .sorted(Comparator.comparingLong(EstatisticasJogador::getTempoMedioMillis))
+                .limit(k)
+                .toList();
+    }
+
+    public List<String> getErros() {
+        return Collections.unmodifiableList(erros);
+    }
+
+    public long getArquivos() {
+        return arquivos;
+    }
+
+    public long getPartidas() {
+        return partidas;
+    }
+
+    /**
+     * Partidas de variantes não informadas à análise (lidas, mas não reproduzidas).
+     */
+    public long getPartidasIgnoradas() {
+        return partidasIgnoradas;
+    }
+
+    public long getJogadas() {
+        return jogadas;
+    }
+
+    public long getBytes() {
+        return bytes;
+    }
+
+    public long getDuracaoNanos() {
+        return duracaoNanos;
+    }
+
+    /**
+     * Jogadas reproduzidas por segundo de análise (todas as threads).
+     */
+    public double getJogadasPorSegundo() {
+        return duracaoNanos == 0 ? 0 : jogadas * 1e9 / duracaoNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d arquivos, %d partidas (%d ignoradas), %d jogadas, %d puzzles, %d jogadores, "
+                        + "%.1f M jogadas/s%s",
+                arquivos, partidas, partidasIgnoradas, jogadas, puzzles.size(), jogadores.size(),
+                getJogadasPorSegundo() / 1e6, erros.isEmpty() ? "" : ", " + erros.size() + " erros");
+    }
+}
@@ -0,0 +1,177 @@
+package analise;
+
+import solver.GradeCompactada;
+import validation.RegrasCompiladas;
+
+import java.util.Arrays;
+
+/**
+ * Reprodução de uma partida gravada sobre as tabelas da variante
+ * ({@link RegrasCompiladas}), sem Tabuleiro nem validação do tabuleiro
+ * inteiro a cada jogada.
+ *
+ * <p>Cada unidade guarda quantas vezes cada dígito aparece nela. Uma
+ * inserção só visita as unidades da própria célula (3 no clássico) para
+ * saber se criou um conflito, e o total de repetições mantido junto diz
+ * em O(1) se o tabuleiro está resolvido. Exclusões e gaiolas, que não são
+ * unidades, só são conferidas quando o tabuleiro fica completo.</p>
+ *
+ * <p>Reutilizável: {@link #reiniciar} prepara a próxima partida sem alocar.</p>
+ */
+public class ReproducaoPartida {
+
+    /** Jogada aceita sem conflito. */
+    public static final int SEM_CONFLITO = 0;
+    /** Inserção que repete um dígito em alguma unidade (ou exclusão) da célula. */
+    public static final int CONFLITO = 1;
+    /** Jogada que o jogo recusaria: célula fixa, remoção de célula vazia ou valor igual ao atual. */
+    public static final int INVALIDA = 2;
+
+    private final RegrasCompiladas regras;
+    private final int[] unidadesDaCelula;
+    private final int[] inicioUnidadesDaCelula;
+
+    private final int[] valores = new int[81];
+    private final boolean[] fixas = new boolean[81];
+    private final int[] contagem; // [unidade * 10 + dígito]
+
+    private int preenchidas;
+    private int repeticoes;
+
+    public ReproducaoPartida(RegrasCompiladas regras) {
+        this.regras = regras;
+        this.unidadesDaCelula = regras.getUnidadesDaCelula();
+        this.inicioUnidadesDaCelula = regras.getInicioUnidadesDaCelula();
+        this.contagem = new int[regras.getTotalUnidades() * 10];
+    }
+
+    /**
+     * Começa uma partida a partir das pistas.
+     *
+     * @param pistas pistas compactadas (GradeCompactada)
+     */
+    public void reiniciar(byte[] pistas) {
+        Arrays.fill(valores, 0);
+        Arrays.fill(fixas, false);
+        Arrays.fill(contagem, 0);
+        preenchidas = 0;
+        repeticoes = 0;
+        for (int indice = 0; indice < 81; indice++) {
+            int valor = GradeCompactada.obter(pistas, indice);
+            if (valor != 0) {
+                colocar(indice, valor);
+                fixas[indice] = true;
+            }
+        }
+    }
+
+    /**
+     * Aplica uma jogada.
+     *
+     * @param valor 1-9, ou 0 para remoção
+     * @return {@link #SEM_CONFLITO}, {@link #CONFLITO} ou {@link #INVALIDA} (jogada ignorada)
+     */
+    public int aplicar(int indice, int valor) {
+        int atual = valores[indice];
+        if (fixas[indice] || atual == valor) {
+            return INVALIDA;
+        }
+        if (atual != 0) {
+            retirar(indice, atual);
+        }
+        return valor == 0 ? SEM_CONFLITO : colocar(indice, valor);
+    }
+
+    /**
+     * Tabuleiro completo e sem nenhuma restrição violada.
+     */
+    public boolean isResolvida() {
+        return preenchidas == 81 && repeticoes == 0 && exclusoesRespeitadas() && gaiolasRespeitadas();
+    }
+
+    public int getValor(int indice) {
+        return valores[indice];
+    }
+
+    public boolean isFixa(int indice) {
+        return fixas[indice];
+    }
+
+    public int getPreenchidas() {
+        return preenchidas;
+    }
+
+    public RegrasCompiladas getRegras() {
+        return regras;
+    }
+
+    // ========== CONTAGENS ==========
+
+    private int colocar(int indice, int valor) {
+        boolean conflito = false;
+        for (int k = inicioUnidadesDaCelula[indice]; k < inicioUnidadesDaCelula[indice + 1]; k++) {
+            if (++contagem[unidadesDaCelula[k] * 10 + valor] > 1) {
+                repeticoes++;
+                conflito = true;
+            }
+        }
+        valores[indice] = valor;
+        preenchidas++;
+        if (!conflito && regras.temExclusoes()) {
+            conflito = repeteEmExclusao(indice, valor);
+        }
+        return conflito ? CONFLITO : SEM_CONFLITO;
+    }
+
+    private void retirar(int indice, int valor) {
+        for (int k = inicioUnidadesDaCelula[indice]; k < inicioUnidadesDaCelula[indice + 1]; k++) {
+            if (contagem[unidadesDaCelula[k] * 10 + valor]-- > 1) {
+                repeticoes--;
+            }
+        }
+        valores[indice] = 0;
+        preenchidas--;
+    }
+
+    private boolean repeteEmExclusao(int indice, int valor) {
+        int[] pares = regras.getParesExclusao();
+        int[] inicio = regras.getInicioParesExclusao();
+        for (int k = inicio[indice]; k < inicio[indice + 1]; k++) {
+            if (valores[pares[k]] == valor) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean exclusoesRespeitadas() {
+        if (!regras.temExclusoes()) {
+            return true;
+        }
+        for (int indice = 0; indice < 81; indice++) {
+            if (repeteEmExclusao(indice, valores[indice])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean gaiolasRespeitadas() {
+        if (!regras.temGaiolas()) {
+            return true;
+        }
+        int[] celulas = regras.getCelulasGaiola();
+        int[] inicio = regras.getInicioGaiola();
+        int[] soma = regras.getSomaGaiola();
+        for (int g = 0; g < regras.getTotalGaiolas(); g++) {
+            int total = 0;
+            for (int k = inicio[g]; k < inicio[g + 1]; k++) {
+                total += valores[celulas[k]];
+            }
+            if (total != soma[g]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,119 @@
+package domain.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * Conjunto imutável de células do tabuleiro, guardado em 128 bits:
+ * células 0-63 em {@code baixo} e 64-80 em {@code alto}.
+ *
+ * <p>Substitui listas de {@link Posicao} nos caminhos quentes: pertinência,
+ * contagem e iteração são operações de bits, sem alocar por célula.</p>
+ */
+public final class ConjuntoCelulas {
+
+    public static final ConjuntoCelulas VAZIO = new ConjuntoCelulas(0, 0);
+
+    private static final long MASCARA_ALTO = (1L << (81 - 64)) - 1;
+
+    private final long baixo; // células 0-63
+    private final long alto;  // células 64-80
+
+    private ConjuntoCelulas(long baixo, long alto) {
+        this.baixo = baixo;
+        this.alto = alto;
+    }
+
+    /**
+     * Conjunto a partir das duas palavras de bits (bits acima da célula 80 são descartados).
+     */
+    public static ConjuntoCelulas de(long baixo, long alto) {
+        alto &= MASCARA_ALTO;
+        return baixo == 0 && alto == 0 ? VAZIO : new ConjuntoCelulas(baixo, alto);
+    }
+
+    public long getBaixo() {
+        return baixo;
+    }
+
+    public long getAlto() {
+        return alto;
+    }
+
+    public boolean contem(int indice) {
+        return indice < 64
+                ? (baixo & (1L << indice)) != 0
+                : (alto & (1L << (indice - 64))) != 0;
+    }
+
+    public boolean contem(Posicao posicao) {
+        return contem(posicao.getIndice());
+    }
+
+    public int tamanho() {
+        return Long.bitCount(baixo) + Long.bitCount(alto);
+    }
+
+    public boolean estaVazio() {
+        return baixo == 0 && alto == 0;
+    }
+
+    /**
+     * Menor índice do conjunto que seja maior ou igual a {@code inicio}.
+     *
+     * @return o índice ou -1 se não houver
+     */
+    public int proximo(int inicio) {
+        if (inicio < 64) {
+            long restantes = baixo & (-1L << Math.max(inicio, 0));
+            if (restantes != 0) {
+                return Long.numberOfTrailingZeros(restantes);
+            }
+            inicio = 64;
+        }
+        if (inicio >= 128) {
+            return -1;
+        }
+        long restantes = alto & (-1L << (inicio - 64));
+        return restantes != 0 ? 64 + Long.numberOfTrailingZeros(restantes) : -1;
+    }
+
+    /**
+     * Percorre os índices em ordem crescente (ordem de linha).
+     */
+    public void paraCada(IntConsumer acao) {
+        for (long bits = baixo; bits != 0; bits &= bits - 1) {
+            acao.accept(Long.numberOfTrailingZeros(bits));
+        }
+        for (long bits = alto; bits != 0; bits &= bits - 1) {
+            acao.accept(64 + Long.numberOfTrailingZeros(bits));
+        }
+    }
+
+    /**
+     * Posições do conjunto em ordem de linha, para exibição.
+     */
+    public List<Posicao> paraPosicoes() {
+        List<Posicao> posicoes = new ArrayList<>(tamanho());
+        paraCada(indice -> posicoes.add(Posicao.doIndice(indice)));
+        return posicoes;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof ConjuntoCelulas outro)) return false;
+        return baixo == outro.baixo && alto == outro.alto;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(baixo) * 31 + Long.hashCode(alto);
+    }
+
+    @Override
+    public String toString() {
+        return paraPosicoes().toString();
+    }
+}
@@ -0,0 +1,135 @@
+package domain.model;
+
+/**
+ * Contagens por unidade do tabuleiro: células preenchidas e ocorrências de
+ * cada dígito em cada unidade de 9 células da variante
+ * ({@link UnidadesTabuleiro}). Mantidas pelo {@link Tabuleiro} em O(1) por
+ * célula alterada, para que interface, servidor e motores de dica consultem
+ * uma unidade sem percorrê-la.
+ *
+ * <p>Uma unidade está <b>completa</b> quando tem as 9 células preenchidas
+ * sem dígitos repetidos.</p>
+ */
+public final class ContagemUnidades {
+
+    private final UnidadesTabuleiro unidades;
+    private final byte[] preenchidas;
+    // Ocorrências por unidade e dígito: [unidade * 9 + digito - 1]
+    private final byte[] ocorrencias;
+    // Ocorrências além da primeira, somadas sobre os dígitos (0 = sem repetições)
+    private final byte[] repeticoes;
+
+    ContagemUnidades(UnidadesTabuleiro unidades) {
+        this.unidades = unidades;
+        this.preenchidas = new byte[unidades.getTotal()];
+        this.ocorrencias = new byte[unidades.getTotal() * 9];
+        this.repeticoes = new byte[unidades.getTotal()];
+    }
+
+    private ContagemUnidades(ContagemUnidades origem) {
+        this.unidades = origem.unidades;
+        this.preenchidas = origem.preenchidas.clone();
+        this.ocorrencias = origem.ocorrencias.clone();
+        this.repeticoes = origem.repeticoes.clone();
+    }
+
+    ContagemUnidades copiar() {
+        return new ContagemUnidades(this);
+    }
+
+    // ========== ATUALIZAÇÃO ==========
+
+    /**
+     * Troca o valor de uma célula nas unidades dela.
+     *
+     * @param anterior valor antigo (0 = vazia)
+     * @param novo valor novo (0 = vazia)
+     * @return unidades que ficaram completas com esta troca (bit = unidade)
+     */
+    long alterar(int indice, int anterior, int novo) {
+        if (anterior == novo) {
+            return 0;
+        }
+        long completadas = 0;
+        for (int k = unidades.inicioUnidades(indice), fim = unidades.fimUnidades(indice); k < fim; k++) {
+            int unidade = unidades.unidade(k);
+            boolean estavaCompleta = isCompleta(unidade);
+            if (anterior != 0) {
+                if (--ocorrencias[unidade * 9 + anterior - 1] > 0) {
+                    repeticoes[unidade]--;
+                }
+                preenchidas[unidade]--;
+            }
+            if (novo != 0) {
+                if (ocorrencias[unidade * 9 + novo - 1]++ > 0) {
+                    repeticoes[unidade]++;
+                }
+                preenchidas[unidade]++;
+            }
+            if (!estavaCompleta && isCompleta(unidade)) {
+                completadas |= 1L << unidade;
+            }
+        }
+        return completadas;
+    }
+
+    // ========== CONSULTAS ==========
+
+    /**
+     * Unidades acompanhadas (numeração e nomes).
+     */
+    public UnidadesTabuleiro getUnidades() {
+        return unidades;
+    }
+
+    /**
+     * Células preenchidas na unidade (0-9).
+     */
+    public int getPreenchidas(int unidade) {
+        return preenchidas[unidade];
+    }
+
+    /**
+     * Quantas vezes o dígito (1-9) aparece na unidade; mais de 1 é conflito.
+     */
+    public int getOcorrencias(int unidade, int digito) {
+        return ocorrencias[unidade * 9 + digito - 1];
+    }
+
+    /**
+     * Dígitos presentes na unidade (bit d-1 = dígito d).
+     */
+    public int getDigitos(int unidade) {
+        int digitos = 0;
+        for (int d = 0; d < 9; d++) {
+            if (ocorrencias[unidade * 9 + d] != 0) {
+                digitos |= 1 << d;
+            }
+        }
+        return digitos;
+    }
+
+    public boolean temRepeticoes(int unidade) {
+        return repeticoes[unidade] != 0;
+    }
+
+    /**
+     * Indica se a unidade tem as 9 células preenchidas, sem dígitos repetidos.
+     */
+    public boolean isCompleta(int unidade) {
+        return preenchidas[unidade] == 9 && repeticoes[unidade] == 0;
+    }
+
+    /**
+     * Unidades completas (bit = unidade).
+     */
+    public long getUnidadesCompletas() {
+        long completas = 0;
+        for (int unidade = 0; unidade < preenchidas.length; unidade++) {
+            if (isCompleta(unidade)) {
+                completas |= 1L << unidade;
+            }
+        }
+        return completas;
+    }
+}
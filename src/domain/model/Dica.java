@@ -0,0 +1,41 @@
+package domain.model;
+
+/**
+ * Sugestão de jogada calculada a partir da solução do puzzle.
+ * Imutável.
+ */
+public class Dica {
+    private final Posicao posicao;
+    private final int valor;
+
+    // Indica se a dica corrige um valor errado já inserido
+    private final boolean correcao;
+
+    public Dica(Posicao posicao, int valor, boolean correcao) {
+        if (valor < 1 || valor > 9) {
+            throw new IllegalArgumentException("Valor deve estar entre 1 e 9");
+        }
+        this.posicao = posicao;
+        this.valor = valor;
+        this.correcao = correcao;
+    }
+
+    public Posicao getPosicao() {
+        return posicao;
+    }
+
+    public int getValor() {
+        return valor;
+    }
+
+    public boolean isCorrecao() {
+        return correcao;
+    }
+
+    @Override
+    public String toString() {
+        return correcao
+                ? String.format("Troque %s por %d", posicao, valor)
+                : String.format("Insira %d em %s", valor, posicao);
+    }
+}
@@ -0,0 +1,60 @@
+package domain.model;
+
+/**
+ * Uma jogada isolada (inserção ou remoção), usada em operações em lote.
+ * Coordenadas na base do usuário (1-9). Imutável.
+ */
+public class Jogada {
+
+    public enum Tipo {
+        INSERIR,
+        REMOVER
+    }
+
+    private final Tipo tipo;
+    private final int linha;
+    private final int coluna;
+    private final int valor; // 0 para remoções
+
+    private Jogada(Tipo tipo, int linha, int coluna, int valor) {
+        this.tipo = tipo;
+        this.linha = linha;
+        this.coluna = coluna;
+        this.valor = valor;
+    }
+
+    // ========== FACTORY METHODS ==========
+
+    public static Jogada inserir(int linha, int coluna, int valor) {
+        return new Jogada(Tipo.INSERIR, linha, coluna, valor);
+    }
+
+    public static Jogada remover(int linha, int coluna) {
+        return new Jogada(Tipo.REMOVER, linha, coluna, 0);
+    }
+
+    // ========== GETTERS ==========
+
+    public Tipo getTipo() {
+        return tipo;
+    }
+
+    public int getLinha() {
+        return linha;
+    }
+
+    public int getColuna() {
+        return coluna;
+    }
+
+    public int getValor() {
+        return valor;
+    }
+
+    @Override
+    public String toString() {
+        return tipo == Tipo.INSERIR
+                ? String.format("inserir %d em (%d,%d)", valor, linha, coluna)
+                : String.format("remover (%d,%d)", linha, coluna);
+    }
+}
@@ -0,0 +1,26 @@
+package domain.model;
+
+/**
+ * Leitura primitiva de um tabuleiro por índice (linha * 9 + coluna, 0-80).
+ *
+ * <p>É o que as regras e o renderizador precisam para ler um tabuleiro.
+ * Implementada pelo {@link Tabuleiro} e pelas visões do pool de jogos,
+ * que não têm objetos Celula.</p>
+ */
+public interface LeituraTabuleiro {
+
+    /**
+     * @return valor de 1 a 9, ou 0 se a célula estiver vazia
+     */
+    int getValor(int indice);
+
+    boolean isFixo(int indice);
+
+    boolean isEmErro(int indice);
+
+    int getCelulasPreenchidas();
+
+    default boolean estaCompleto() {
+        return getCelulasPreenchidas() == 81;
+    }
+}
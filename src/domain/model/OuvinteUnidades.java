@@ -0,0 +1,16 @@
+package domain.model;
+
+/**
+ * Avisado pelo {@link Tabuleiro} quando uma jogada completa uma unidade.
+ */
+@FunctionalInterface
+public interface OuvinteUnidades {
+
+    /**
+     * Chamado logo depois da alteração que deixou a unidade com as 9 células
+     * preenchidas e sem repetições.
+     *
+     * @param unidade numeração de {@link Tabuleiro#getUnidades()}
+     */
+    void unidadeCompletada(int unidade);
+}
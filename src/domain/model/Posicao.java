@@ -3,20 +3,54 @@ package domain.model;
 /**
  * Representa uma posição (linha, coluna) no tabuleiro de Sudoku.
  * Encapsula a lógica de conversão entre base 1 (usuário) e base 0 (interno).
+ *
+ * <p>Existem só 81 instâncias, criadas uma vez: obtenha-as com
+ * {@link #de(int, int)} ou {@link #doIndice(int)}. O núcleo do jogo trabalha
+ * com o índice da célula (0-80, {@code linha * 9 + coluna} em base 0);
+ * posições aparecem apenas na interface com o usuário e nas mensagens.</p>
  */
 public class Posicao {
+    private static final Posicao[] POSICOES = new Posicao[81];
+
+    static {
+        for (int indice = 0; indice < 81; indice++) {
+            POSICOES[indice] = new Posicao(indice / 9 + 1, indice % 9 + 1);
+        }
+    }
+
     private final int linha;  // 1-9 (base usuário)
     private final int coluna; // 1-9 (base usuário)
 
-    public Posicao(int linha, int coluna) {
+    private Posicao(int linha, int coluna) {
+        this.linha = linha;
+        this.coluna = coluna;
+    }
+
+    /**
+     * Posição em base usuário (1-9).
+     *
+     * @throws IllegalArgumentException se linha ou coluna estiver fora de 1-9
+     */
+    public static Posicao de(int linha, int coluna) {
         if (!isValida(linha) || !isValida(coluna)) {
             throw new IllegalArgumentException("Linha e coluna devem estar entre 1 e 9");
         }
-        this.linha = linha;
-        this.coluna = coluna;
+        return POSICOES[(linha - 1) * 9 + coluna - 1];
     }
 
-    private boolean isValida(int valor) {
+    /**
+     * Posição da célula de índice 0-80.
+     *
+     * @throws IllegalArgumentException se o índice estiver fora de 0-80
+     */
+    public static Posicao doIndice(int indice) {
+        if (indice < 0 || indice >= 81) {
+            throw new IllegalArgumentException("Índice deve estar entre 0 e 80");
+        }
+        return POSICOES[indice];
+    }
+
+    private static boolean isValida(int valor) {
         return valor >= 1 && valor <= 9;
     }
 
@@ -38,6 +72,13 @@ public class Posicao {
         return coluna - 1;
     }
 
+    /**
+     * Índice da célula (0-80).
+     */
+    public int getIndice() {
+        return (linha - 1) * 9 + coluna - 1;
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) return true;
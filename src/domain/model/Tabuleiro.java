@@ -2,14 +2,53 @@ package domain.model;
 
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Representa o tabuleiro 9x9 do Sudoku.
  * Gerencia a grade de células e mantém consistência interna.
+ *
+ * <p>Cópias compartilham a estrutura: {@link #copiar()} e {@link #restaurar}
+ * não copiam células, só as referências às 9 linhas. A primeira escrita
+ * em uma linha compartilhada copia apenas aquela linha (9 referências),
+ * e o espelho de valores é copiado na primeira escrita após a cópia.
+ * Por isso ramificar um jogo custa o mesmo com 1 ou com 80 células
+ * preenchidas.</p>
+ *
+ * <p>Copiar só lê a origem (além de um contador atômico), então várias
+ * threads podem copiar o mesmo tabuleiro ao mesmo tempo, desde que ninguém
+ * o altere.</p>
+ *
+ * <p>Além dos contadores globais, pode manter as contagens de cada unidade
+ * da variante ({@link ContagemUnidades}), ligadas por
+ * {@link #acompanharUnidades}, e avisar o {@link OuvinteUnidades} quando
+ * uma jogada completa uma unidade.</p>
  */
-public class Tabuleiro {
-    // Grade 9x9 de células
-    private Celula[][] grade = new Celula[9][9];
+public class Tabuleiro implements LeituraTabuleiro {
+    private static final int TODAS_AS_LINHAS = (1 << 9) - 1;
+
+    // Os campos são atribuídos nos construtores: a cópia só recebe referências, sem alocar um tabuleiro
+
+    // Grade 9x9 de células; as linhas (Celula[9]) podem ser compartilhadas com cópias
+    private Celula[][] grade;
+
+    // Linhas que só este tabuleiro referencia (bit = linha) e podem ser alteradas no lugar
+    private int linhasProprias = TODAS_AS_LINHAS;
+
+    // Espelho primitivo dos valores (índice 0-80, 0 = vazia) para os laços de validação
+    private byte[] valores;
+    // Contagens por unidade da variante (null = não acompanhadas), alteradas junto com o espelho
+    private ContagemUnidades contagem;
+    // Espelho e contagens só deste tabuleiro (copiados na primeira escrita após uma cópia)
+    private boolean valoresProprios = true;
+
+    // Cópias feitas deste tabuleiro (incrementado por quem copia) e quantas ele já viu:
+    // se diferirem, linhas e espelho passaram a ser compartilhados desde a última escrita
+    private AtomicInteger copias;
+    private int copiasVistas;
+
+    // Avisado quando uma unidade fica completa (não passa para as cópias)
+    private OuvinteUnidades ouvinteUnidades;
 
     // Contadores de estado - calculados dinamicamente
     private int celulasPreenchidas = 0;
@@ -20,6 +59,8 @@ public class Tabuleiro {
      * Construtor vazio - cria tabuleiro com todas células vazias.
      */
     public Tabuleiro() {
+        this.grade = new Celula[9][9];
+        inicializarPropriedade();
         inicializarGradeVazia();
         recalcularContadores();
     }
@@ -32,9 +73,34 @@ public class Tabuleiro {
             throw new IllegalArgumentException("Grade deve ser 9x9");
         }
         this.grade = grade;
+        inicializarPropriedade();
         recalcularContadores();
     }
 
+    /**
+     * Cópia que compartilha as linhas e o espelho de valores com a origem.
+     */
+    private Tabuleiro(Tabuleiro origem) {
+        origem.copias.incrementAndGet();
+        this.grade = origem.grade.clone();
+        this.valores = origem.valores;
+        this.contagem = origem.contagem;
+        this.linhasProprias = 0;
+        this.valoresProprios = false;
+        this.copias = new AtomicInteger();
+        this.celulasPreenchidas = origem.celulasPreenchidas;
+        this.celulasFixas = origem.celulasFixas;
+        this.celulasComErro = origem.celulasComErro;
+    }
+
+    /**
+     * Espelho novo, só deste tabuleiro (preenchido por recalcularContadores).
+     */
+    private void inicializarPropriedade() {
+        this.valores = new byte[81];
+        this.copias = new AtomicInteger();
+    }
+
     private void inicializarGradeVazia() {
         for (int linha = 0; linha < 9; linha++) {
             for (int coluna = 0; coluna < 9; coluna++) {
@@ -60,6 +126,14 @@ public class Tabuleiro {
         return getCelula(posicao.getLinhaIndex(), posicao.getColunaIndex());
     }
 
+    /**
+     * Obtém a célula pelo índice (0-80).
+     */
+    public Celula getCelula(int indice) {
+        validarIndice(indice);
+        return grade[indice / 9][indice % 9];
+    }
+
     /**
      * Define uma célula em uma posição específica.
      * Recalcula contadores automaticamente.
@@ -71,10 +145,11 @@ public class Tabuleiro {
         }
 
         Celula antiga = grade[linha][coluna];
-        grade[linha][coluna] = celula;
+        linhaParaEscrita(linha)[coluna] = celula;
 
         // Atualiza contadores
         atualizarContadoresAoSubstituir(antiga, celula);
+        atualizarValor(linha, coluna, celula);
     }
 
     /**
@@ -105,10 +180,11 @@ public class Tabuleiro {
 
         // Cria nova célula com o valor
         Celula nova = atual.comValor(valor);
-        grade[linha][coluna] = nova;
+        linhaParaEscrita(linha)[coluna] = nova;
 
         // Atualiza contadores
         atualizarContadoresAoSubstituir(atual, nova);
+        definirValor(linha * 9 + coluna, valor);
         return true;
     }
 
@@ -119,6 +195,14 @@ public class Tabuleiro {
         return inserirNumero(posicao.getLinhaIndex(), posicao.getColunaIndex(), valor);
     }
 
+    /**
+     * Insere um valor pelo índice da célula (0-80).
+     */
+    public boolean inserirNumero(int indice, int valor) {
+        validarIndice(indice);
+        return inserirNumero(indice / 9, indice % 9, valor);
+    }
+
     /**
      * Remove o valor de uma célula editável.
      */
@@ -137,10 +221,11 @@ public class Tabuleiro {
 
         // Cria nova célula vazia
         Celula nova = atual.comValor(null);
-        grade[linha][coluna] = nova;
+        linhaParaEscrita(linha)[coluna] = nova;
 
         // Atualiza contadores
         atualizarContadoresAoSubstituir(atual, nova);
+        definirValor(linha * 9 + coluna, 0);
         return true;
     }
 
@@ -151,6 +236,14 @@ public class Tabuleiro {
         return removerNumero(posicao.getLinhaIndex(), posicao.getColunaIndex());
     }
 
+    /**
+     * Remove o valor pelo índice da célula (0-80).
+     */
+    public boolean removerNumero(int indice) {
+        validarIndice(indice);
+        return removerNumero(indice / 9, indice % 9);
+    }
+
     /**
      * Marca uma célula como fixa com um valor.
      * Usado apenas na inicialização.
@@ -167,10 +260,11 @@ public class Tabuleiro {
 
         // Cria célula fixa
         Celula nova = Celula.criarFixa(valor);
-        grade[linha][coluna] = nova;
+        linhaParaEscrita(linha)[coluna] = nova;
 
         // Atualiza contadores
         atualizarContadoresAoSubstituir(atual, nova);
+        definirValor(linha * 9 + coluna, valor);
         return true;
     }
 
@@ -183,11 +277,19 @@ public class Tabuleiro {
         Celula atual = grade[linha][coluna];
         if (atual.isPreenchida() && !atual.isEmErro()) {
             Celula nova = atual.marcarErro();
-            grade[linha][coluna] = nova;
+            linhaParaEscrita(linha)[coluna] = nova;
             celulasComErro++;
         }
     }
 
+    /**
+     * Marca como com erro a célula de índice 0-80.
+     */
+    public void marcarErro(int indice) {
+        validarIndice(indice);
+        marcarErro(indice / 9, indice % 9);
+    }
+
     /**
      * Remove marcação de erro de uma célula.
      */
@@ -197,7 +299,7 @@ public class Tabuleiro {
         Celula atual = grade[linha][coluna];
         if (atual.isEmErro()) {
             Celula nova = atual.limparErro();
-            grade[linha][coluna] = nova;
+            linhaParaEscrita(linha)[coluna] = nova;
             celulasComErro--;
         }
     }
@@ -210,7 +312,7 @@ public class Tabuleiro {
             for (int coluna = 0; coluna < 9; coluna++) {
                 Celula atual = grade[linha][coluna];
                 if (atual.isEmErro()) {
-                    grade[linha][coluna] = atual.limparErro();
+                    linhaParaEscrita(linha)[coluna] = atual.limparErro();
                 }
             }
         }
@@ -229,7 +331,8 @@ public class Tabuleiro {
                 Celula atual = grade[linha][coluna];
                 if (atual.isEditavel() && atual.isPreenchida()) {
                     Celula nova = atual.comValor(null);
-                    grade[linha][coluna] = nova;
+                    linhaParaEscrita(linha)[coluna] = nova;
+                    definirValor(linha * 9 + coluna, 0);
                     celulasLimpas++;
 
                     // Atualiza contador
@@ -243,6 +346,7 @@ public class Tabuleiro {
 
     // ========== VERIFICAÇÕES DE ESTADO ==========
 
+    @Override
     public boolean estaCompleto() {
         return celulasPreenchidas == 81;
     }
@@ -288,6 +392,7 @@ public class Tabuleiro {
         for (int linha = 0; linha < 9; linha++) {
             for (int coluna = 0; coluna < 9; coluna++) {
                 Celula celula = grade[linha][coluna];
+                atualizarValor(linha, coluna, celula);
                 if (celula.isPreenchida()) {
                     celulasPreenchidas++;
                 }
@@ -301,8 +406,55 @@ public class Tabuleiro {
         }
     }
 
+    private void atualizarValor(int linha, int coluna, Celula celula) {
+        Integer valor = celula.getValorAtual();
+        definirValor(linha * 9 + coluna, valor != null ? valor : 0);
+    }
+
+    /**
+     * Grava o valor no espelho e nas contagens das unidades da célula,
+     * avisando o ouvinte das unidades que ficaram completas.
+     */
+    private void definirValor(int indice, int valor) {
+        byte[] destino = valoresParaEscrita();
+        int anterior = destino[indice];
+        destino[indice] = (byte) valor;
+        if (contagem == null) {
+            return;
+        }
+        long completadas = contagem.alterar(indice, anterior, valor);
+        if (completadas != 0 && ouvinteUnidades != null) {
+            while (completadas != 0) {
+                ouvinteUnidades.unidadeCompletada(Long.numberOfTrailingZeros(completadas));
+                completadas &= completadas - 1;
+            }
+        }
+    }
+
     // ========== GETTERS ==========
 
+    /**
+     * Retorna o valor da célula pelo índice (linha * 9 + coluna, 0-80).
+     * Acesso primitivo e sem alocação, usado pelos laços de validação.
+     *
+     * @return valor de 1 a 9, ou 0 se a célula estiver vazia
+     */
+    @Override
+    public int getValor(int indice) {
+        return valores[indice];
+    }
+
+    @Override
+    public boolean isFixo(int indice) {
+        return grade[indice / 9][indice % 9].isFixo();
+    }
+
+    @Override
+    public boolean isEmErro(int indice) {
+        return grade[indice / 9][indice % 9].isEmErro();
+    }
+
+    @Override
     public int getCelulasPreenchidas() {
         return celulasPreenchidas;
     }
@@ -315,6 +467,78 @@ public class Tabuleiro {
         return celulasComErro;
     }
 
+    /**
+     * Passa a acompanhar as unidades dadas (normalmente as das regras da
+     * variante), contando os valores atuais sem avisar o ouvinte.
+     */
+    public void acompanharUnidades(UnidadesTabuleiro unidades) {
+        if (contagem != null && contagem.getUnidades() == unidades) {
+            return;
+        }
+        ContagemUnidades nova = new ContagemUnidades(unidades);
+        for (int indice = 0; indice < 81; indice++) {
+            nova.alterar(indice, 0, valores[indice]);
+        }
+        contagem = nova;
+    }
+
+    /**
+     * Unidades acompanhadas, ou null se {@link #acompanharUnidades} não foi chamado.
+     */
+    public UnidadesTabuleiro getUnidades() {
+        return contagem != null ? contagem.getUnidades() : null;
+    }
+
+    private ContagemUnidades contagem() {
+        if (contagem == null) {
+            throw new IllegalStateException("Unidades não acompanhadas neste tabuleiro");
+        }
+        return contagem;
+    }
+
+    /**
+     * Células preenchidas na unidade (numeração de {@link #getUnidades()}).
+     */
+    public int getPreenchidasNaUnidade(int unidade) {
+        return contagem().getPreenchidas(unidade);
+    }
+
+    /**
+     * Ocorrências do dígito (1-9) na unidade; mais de 1 é conflito.
+     */
+    public int getOcorrencias(int unidade, int digito) {
+        return contagem().getOcorrencias(unidade, digito);
+    }
+
+    /**
+     * Dígitos presentes na unidade (bit d-1 = dígito d).
+     */
+    public int getDigitosNaUnidade(int unidade) {
+        return contagem().getDigitos(unidade);
+    }
+
+    /**
+     * Indica se a unidade tem as 9 células preenchidas, sem repetições.
+     */
+    public boolean isUnidadeCompleta(int unidade) {
+        return contagem().isCompleta(unidade);
+    }
+
+    /**
+     * Unidades completas (bit = unidade).
+     */
+    public long getUnidadesCompletas() {
+        return contagem().getUnidadesCompletas();
+    }
+
+    /**
+     * Define quem é avisado quando uma jogada completa uma unidade (null = ninguém).
+     * Restaurar o tabuleiro não gera avisos.
+     */
+    public void setOuvinteUnidades(OuvinteUnidades ouvinte) {
+        this.ouvinteUnidades = ouvinte;
+    }
+
     public Celula[][] getGrade() {
         // Retorna cópia defensiva
         Celula[][] copia = new Celula[9][9];
@@ -334,20 +558,87 @@ public class Tabuleiro {
         }
     }
 
+    private void validarIndice(int indice) {
+        if (indice < 0 || indice >= 81) {
+            throw new IllegalArgumentException(
+                    String.format("Índice inválido: %d (deve ser 0-80)", indice)
+            );
+        }
+    }
+
     // ========== UTILITÁRIOS ==========
 
     /**
-     * Cria uma cópia profunda do tabuleiro.
+     * Cria uma cópia independente do tabuleiro em tempo constante:
+     * as linhas são compartilhadas até que um dos dois as altere.
      */
     public Tabuleiro copiar() {
-        Celula[][] copiaGrade = new Celula[9][9];
-        for (int linha = 0; linha < 9; linha++) {
-            for (int coluna = 0; coluna < 9; coluna++) {
-                // Como Celula é imutável, podemos reutilizar as instâncias
-                copiaGrade[linha][coluna] = grade[linha][coluna];
+        return new Tabuleiro(this);
+    }
+
+    /**
+     * Restaura este tabuleiro para o conteúdo de outro (normalmente uma cópia
+     * feita antes de uma operação que precisou ser desfeita).
+     * Mantém a identidade do objeto, então quem tem referência a ele vê o conteúdo restaurado.
+     * Também em tempo constante: passa a compartilhar as linhas da origem.
+     */
+    public void restaurar(Tabuleiro origem) {
+        if (origem == this) {
+            return;
+        }
+        origem.copias.incrementAndGet();
+        ContagemUnidades acompanhada = contagem;
+        System.arraycopy(origem.grade, 0, grade, 0, 9);
+        valores = origem.valores;
+        contagem = origem.contagem;
+        linhasProprias = 0;
+        valoresProprios = false;
+        celulasPreenchidas = origem.celulasPreenchidas;
+        celulasFixas = origem.celulasFixas;
+        celulasComErro = origem.celulasComErro;
+        if (acompanhada != null) {
+            // Continua acompanhando as mesmas unidades, mesmo vindo de um tabuleiro sem elas
+            acompanharUnidades(acompanhada.getUnidades());
+        }
+    }
+
+    /**
+     * Linha pronta para alteração: copiada antes, se ainda compartilhada.
+     */
+    private Celula[] linhaParaEscrita(int linha) {
+        verificarCopias();
+        int bit = 1 << linha;
+        if ((linhasProprias & bit) == 0) {
+            grade[linha] = grade[linha].clone();
+            linhasProprias |= bit;
+        }
+        return grade[linha];
+    }
+
+    private byte[] valoresParaEscrita() {
+        verificarCopias();
+        if (!valoresProprios) {
+            valores = valores.clone();
+            if (contagem != null) {
+                contagem = contagem.copiar();
             }
+            valoresProprios = true;
+        }
+        return valores;
+    }
+
+    /**
+     * Se alguém copiou este tabuleiro desde a última escrita, nada mais é só
+     * dele. Passa a um contador novo: as linhas copiadas daqui em diante não
+     * são vistas pelas cópias anteriores.
+     */
+    private void verificarCopias() {
+        if (copias.get() != copiasVistas) {
+            linhasProprias = 0;
+            valoresProprios = false;
+            copias = new AtomicInteger();
+            copiasVistas = 0;
         }
-        return new Tabuleiro(copiaGrade);
     }
 
     @Override
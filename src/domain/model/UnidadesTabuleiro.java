@@ -0,0 +1,82 @@
+package domain.model;
+
+/**
+ * Unidades de 9 células que o {@link Tabuleiro} acompanha em
+ * {@link ContagemUnidades}: as linhas, colunas e blocos de uma variante, e
+ * também as regiões do Jigsaw, as diagonais e as janelas extras.
+ *
+ * <p>As unidades são numeradas de 0 em diante, na ordem das regras da
+ * variante (nas variantes prontas: linhas 0-8, colunas 9-17, blocos ou
+ * regiões 18-26 e, depois, diagonais ou janelas). Montada pelas regras
+ * compiladas da variante; imutável e compartilhada entre os jogos.</p>
+ */
+public final class UnidadesTabuleiro {
+
+    /** Máximo de unidades acompanhadas (máscaras de 64 bits). */
+    public static final int MAXIMO_UNIDADES = 64;
+
+    private final int total;
+    private final String[] nomes;
+
+    // Unidades de cada célula: unidadesDaCelula[inicioUnidadesDaCelula[i] .. inicioUnidadesDaCelula[i + 1])
+    private final int[] unidadesDaCelula;
+    private final int[] inicioUnidadesDaCelula = new int[82];
+
+    /**
+     * @param celulas células (0-80) de cada unidade, 9 por unidade
+     * @param nomes   nome de cada unidade para exibição (ex.: "Linha 3")
+     */
+    public UnidadesTabuleiro(int[][] celulas, String[] nomes) {
+        if (celulas.length > MAXIMO_UNIDADES || celulas.length != nomes.length) {
+            throw new IllegalArgumentException("Até " + MAXIMO_UNIDADES + " unidades, cada uma com nome");
+        }
+        this.total = celulas.length;
+        this.nomes = nomes.clone();
+
+        int[] contagem = new int[81];
+        for (int[] unidade : celulas) {
+            if (unidade.length != 9) {
+                throw new IllegalArgumentException("Unidade acompanhada deve ter 9 células");
+            }
+            for (int celula : unidade) {
+                if (celula < 0 || celula > 80) {
+                    throw new IllegalArgumentException("Célula fora do tabuleiro: " + celula);
+                }
+                contagem[celula]++;
+            }
+        }
+        for (int indice = 0; indice < 81; indice++) {
+            inicioUnidadesDaCelula[indice + 1] = inicioUnidadesDaCelula[indice] + contagem[indice];
+        }
+        this.unidadesDaCelula = new int[inicioUnidadesDaCelula[81]];
+        int[] proxima = new int[81];
+        for (int u = 0; u < total; u++) {
+            for (int celula : celulas[u]) {
+                unidadesDaCelula[inicioUnidadesDaCelula[celula] + proxima[celula]++] = u;
+            }
+        }
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * Nome da unidade para exibição (ex.: "Linha 3", "Região 5", "Janela 2").
+     */
+    public String descrever(int unidade) {
+        return nomes[unidade];
+    }
+
+    int inicioUnidades(int indice) {
+        return inicioUnidadesDaCelula[indice];
+    }
+
+    int fimUnidades(int indice) {
+        return inicioUnidadesDaCelula[indice + 1];
+    }
+
+    int unidade(int k) {
+        return unidadesDaCelula[k];
+    }
+}
@@ -0,0 +1,168 @@
+package event;
+
+import domain.model.Posicao;
+import state.EstadoJogo;
+
+/**
+ * Evento imutável emitido pelo JogoService.
+ *
+ * <p>Quatro tipos, todos na mesma classe compacta (sem hierarquia):</p>
+ * <ul>
+ *   <li>{@link Tipo#JOGADA}: célula (índice 0-80) e valor; valor 0 = remoção</li>
+ *   <li>{@link Tipo#TRANSICAO}: estado anterior e novo</li>
+ *   <li>{@link Tipo#CONFLITOS}: conjunto de células em conflito como bitset de 81 bits</li>
+ *   <li>{@link Tipo#UNIDADE_COMPLETA}: unidade da variante (linha, coluna, bloco, região, diagonal...) que a jogada completou sem repetições</li>
+ * </ul>
+ */
+public final class EventoJogo {
+
+    public enum Tipo {
+        JOGADA,
+        TRANSICAO,
+        CONFLITOS,
+        UNIDADE_COMPLETA
+    }
+
+    private final Tipo tipo;
+    private final long sequencia;
+    private final long instanteNanos;
+
+    // JOGADA
+    private final int indice;
+    private final int valor;
+
+    // UNIDADE_COMPLETA: numeração e nome das unidades da variante (RegrasCompiladas.getUnidadesTabuleiro)
+    private final int unidade;
+    private final String descricaoUnidade;
+
+    // TRANSICAO
+    private final EstadoJogo estadoAnterior;
+    private final EstadoJogo estado;
+
+    // CONFLITOS: células 0-63 e 64-80
+    private final long conflitosBaixo;
+    private final long conflitosAlto;
+
+    private EventoJogo(Tipo tipo, long sequencia, int indice, int valor, int unidade, String descricaoUnidade,
+                       EstadoJogo estadoAnterior, EstadoJogo estado,
+                       long conflitosBaixo, long conflitosAlto) {
+        this.tipo = tipo;
+        this.sequencia = sequencia;
+        this.instanteNanos = System.nanoTime();
+        this.indice = indice;
+        this.valor = valor;
+        this.unidade = unidade;
+        this.descricaoUnidade = descricaoUnidade;
+        this.estadoAnterior = estadoAnterior;
+        this.estado = estado;
+        this.conflitosBaixo = conflitosBaixo;
+        this.conflitosAlto = conflitosAlto;
+    }
+
+    static EventoJogo jogada(long sequencia, int indice, int valor) {
+        return new EventoJogo(Tipo.JOGADA, sequencia, indice, valor, -1, null, null, null, 0, 0);
+    }
+
+    static EventoJogo transicao(long sequencia, EstadoJogo anterior, EstadoJogo novo) {
+        return new EventoJogo(Tipo.TRANSICAO, sequencia, -1, 0, -1, null, anterior, novo, 0, 0);
+    }
+
+    static EventoJogo conflitos(long sequencia, long conflitosBaixo, long conflitosAlto) {
+        return new EventoJogo(Tipo.CONFLITOS, sequencia, -1, 0, -1, null, null, null, conflitosBaixo, conflitosAlto);
+    }
+
+    static EventoJogo unidadeCompleta(long sequencia, int unidade, String descricao) {
+        return new EventoJogo(Tipo.UNIDADE_COMPLETA, sequencia, -1, 0, unidade, descricao, null, null, 0, 0);
+    }
+
+    // ========== GETTERS ==========
+
+    public Tipo getTipo() {
+        return tipo;
+    }
+
+    /**
+     * Número do evento no publicador, crescente. Buracos indicam eventos descartados.
+     */
+    public long getSequencia() {
+        return sequencia;
+    }
+
+    public long getInstanteNanos() {
+        return instanteNanos;
+    }
+
+    /**
+     * Índice da célula (0-80) de uma jogada, ou -1.
+     */
+    public int getIndice() {
+        return indice;
+    }
+
+    public Posicao getPosicao() {
+        return indice >= 0 ? Posicao.doIndice(indice) : null;
+    }
+
+    /**
+     * Valor inserido, ou 0 se a jogada foi uma remoção.
+     */
+    public int getValor() {
+        return valor;
+    }
+
+    /**
+     * Unidade da variante completada, ou -1.
+     */
+    public int getUnidade() {
+        return unidade;
+    }
+
+    /**
+     * Nome da unidade completada (ex.: "Região 5"), ou null.
+     */
+    public String getDescricaoUnidade() {
+        return descricaoUnidade;
+    }
+
+    public boolean isRemocao() {
+        return tipo == Tipo.JOGADA && valor == 0;
+    }
+
+    public EstadoJogo getEstadoAnterior() {
+        return estadoAnterior;
+    }
+
+    public EstadoJogo getEstado() {
+        return estado;
+    }
+
+    public long getConflitosBaixo() {
+        return conflitosBaixo;
+    }
+
+    public long getConflitosAlto() {
+        return conflitosAlto;
+    }
+
+    public boolean isEmConflito(int indice) {
+        return indice < 64
+                ? (conflitosBaixo & (1L << indice)) != 0
+                : (conflitosAlto & (1L << (indice - 64))) != 0;
+    }
+
+    public int getQuantidadeConflitos() {
+        return Long.bitCount(conflitosBaixo) + Long.bitCount(conflitosAlto);
+    }
+
+    @Override
+    public String toString() {
+        return switch (tipo) {
+            case JOGADA -> isRemocao()
+                    ? String.format("#%d Remoção em (%d,%d)", sequencia, indice / 9 + 1, indice % 9 + 1)
+                    : String.format("#%d %d em (%d,%d)", sequencia, valor, indice / 9 + 1, indice % 9 + 1);
+            case TRANSICAO -> String.format("#%d %s -> %s", sequencia, estadoAnterior, estado);
+            case CONFLITOS -> String.format("#%d %d conflitos", sequencia, getQuantidadeConflitos());
+            case UNIDADE_COMPLETA -> String.format("#%d %s completa", sequencia, descricaoUnidade);
+        };
+    }
+}
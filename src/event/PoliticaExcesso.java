@@ -0,0 +1,12 @@
+package event;
+
+/**
+ * O que fazer quando o buffer de um assinante está cheio.
+ * Nenhuma das políticas bloqueia quem publica.
+ */
+public enum PoliticaExcesso {
+    /** Descarta o evento novo; o assinante vê os mais antigos. */
+    DESCARTAR_NOVOS,
+    /** Descarta o evento mais antigo do buffer; o assinante vê os mais recentes. */
+    MANTER_RECENTES
+}
@@ -0,0 +1,320 @@
+package event;
+
+import state.EstadoJogo;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publicador de eventos do jogo ({@link Flow.Publisher}) para espectadores e consumidores.
+ *
+ * <p>Cada assinante tem um buffer circular limitado e é atendido no executor,
+ * nunca na thread de quem joga: publicar só enfileira o evento e, se
+ * necessário, agenda a entrega. Quando o buffer enche, a
+ * {@link PoliticaExcesso} decide qual evento descartar; um espectador lento
+ * perde eventos, mas não atrasa a jogada.</p>
+ *
+ * <p>A entrega respeita a demanda ({@link Flow.Subscription#request}) e é feita
+ * em lotes: cada tarefa no executor entrega até {@code tamanhoLote} eventos
+ * e se reagenda se ainda houver trabalho, para não monopolizar a thread.</p>
+ *
+ * <p>Sem assinantes, os métodos de publicação retornam sem criar eventos.</p>
+ */
+public class PublicadorEventos implements Flow.Publisher<EventoJogo>, AutoCloseable {
+
+    public static final int CAPACIDADE_PADRAO = 256;
+    public static final int TAMANHO_LOTE_PADRAO = 64;
+
+    private final Executor executor;
+    private final int capacidadePadrao;
+    private final int tamanhoLote;
+    private final List<Assinatura> assinaturas = new CopyOnWriteArrayList<>();
+    private final AtomicLong sequencia = new AtomicLong();
+    private final AtomicLong descartados = new AtomicLong();
+    private volatile boolean fechado;
+
+    /**
+     * Publicador que entrega no pool comum do ForkJoin (obtido só quando
+     * há algo a entregar, o que mantém barata a criação de cada jogo).
+     */
+    public PublicadorEventos() {
+        this(null, CAPACIDADE_PADRAO, TAMANHO_LOTE_PADRAO);
+    }
+
+    /**
+     * @param executor onde as entregas rodam; null = pool comum do ForkJoin
+     */
+    public PublicadorEventos(Executor executor, int capacidadePadrao, int tamanhoLote) {
+        if (capacidadePadrao < 1 || tamanhoLote < 1) {
+            throw new IllegalArgumentException("Capacidade e tamanho do lote devem ser positivos");
+        }
+        this.executor = executor;
+        this.capacidadePadrao = capacidadePadrao;
+        this.tamanhoLote = tamanhoLote;
+    }
+
+    // ========== ASSINATURA ==========
+
+    /**
+     * Assina com a capacidade padrão, mantendo os eventos mais recentes.
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super EventoJogo> assinante) {
+        subscribe(assinante, capacidadePadrao, PoliticaExcesso.MANTER_RECENTES);
+    }
+
+    public void subscribe(Flow.Subscriber<? super EventoJogo> assinante, int capacidade, PoliticaExcesso politica) {
+        if (assinante == null || politica == null) {
+            throw new NullPointerException("Assinante e política são obrigatórios");
+        }
+        if (capacidade < 1) {
+            throw new IllegalArgumentException("Capacidade deve ser positiva");
+        }
+
+        Assinatura assinatura = new Assinatura(assinante, capacidade, politica);
+        assinante.onSubscribe(assinatura);
+        if (fechado) {
+            assinatura.concluir();
+        } else {
+            assinaturas.add(assinatura);
+        }
+    }
+
+    // ========== PUBLICAÇÃO ==========
+
+    public boolean temAssinantes() {
+        return !assinaturas.isEmpty();
+    }
+
+    /**
+     * Jogada em uma célula (índice 0-80); valor 0 indica remoção.
+     */
+    public void publicarJogada(int indice, int valor) {
+        if (temAssinantes()) {
+            publicar(EventoJogo.jogada(sequencia.incrementAndGet(), indice, valor));
+        }
+    }
+
+    public void publicarTransicao(EstadoJogo anterior, EstadoJogo novo) {
+        if (temAssinantes()) {
+            publicar(EventoJogo.transicao(sequencia.incrementAndGet(), anterior, novo));
+        }
+    }
+
+    /**
+     * Novo conjunto de células em conflito (bits 0-63 e 64-80).
+     */
+    public void publicarConflitos(long conflitosBaixo, long conflitosAlto) {
+        if (temAssinantes()) {
+            publicar(EventoJogo.conflitos(sequencia.incrementAndGet(), conflitosBaixo, conflitosAlto));
+        }
+    }
+
+    /**
+     * Unidade da variante que a última jogada completou sem repetições, com o nome para exibição.
+     */
+    public void publicarUnidadeCompleta(int unidade, String descricao) {
+        if (temAssinantes()) {
+            publicar(EventoJogo.unidadeCompleta(sequencia.incrementAndGet(), unidade, descricao));
+        }
+    }
+
+    private void publicar(EventoJogo evento) {
+        for (Assinatura assinatura : assinaturas) {
+            assinatura.oferecer(evento);
+        }
+    }
+
+    /**
+     * Encerra o publicador: cada assinante recebe onComplete depois de
+     * consumir o que já estava no buffer.
+     */
+    @Override
+    public void close() {
+        fechado = true;
+        for (Assinatura assinatura : assinaturas) {
+            assinatura.concluir();
+        }
+    }
+
+    // ========== MÉTRICAS ==========
+
+    public int getAssinantes() {
+        return assinaturas.size();
+    }
+
+    /**
+     * Total de eventos descartados por buffers cheios, somando todos os assinantes.
+     */
+    public long getDescartados() {
+        return descartados.get();
+    }
+
+    private Executor executor() {
+        return executor != null ? executor : ForkJoinPool.commonPool();
+    }
+
+    // ========== ASSINATURA ==========
+
+    /**
+     * Buffer e demanda de um assinante. O buffer é protegido pelo monitor da
+     * própria assinatura (seções curtas, sem chamar o assinante); a entrega
+     * roda no executor, uma tarefa por vez, controlada pelo contador de trabalho.
+     */
+    private final class Assinatura implements Flow.Subscription, Runnable {
+        private final Flow.Subscriber<? super EventoJogo> assinante;
+        private final PoliticaExcesso politica;
+        private final EventoJogo[] buffer;
+        private int inicio;
+        private int quantidade;
+
+        private final AtomicLong demanda = new AtomicLong();
+        private final AtomicInteger trabalho = new AtomicInteger();
+        private volatile boolean cancelada;
+        private volatile boolean concluida;
+        private volatile Throwable erroPendente;
+
+        private Assinatura(Flow.Subscriber<? super EventoJogo> assinante, int capacidade, PoliticaExcesso politica) {
+            this.assinante = assinante;
+            this.politica = politica;
+            this.buffer = new EventoJogo[capacidade];
+        }
+
+        void oferecer(EventoJogo evento) {
+            synchronized (this) {
+                if (quantidade == buffer.length) {
+                    descartados.incrementAndGet();
+                    if (politica == PoliticaExcesso.DESCARTAR_NOVOS) {
+                        return;
+                    }
+                    buffer[inicio] = null;
+                    inicio = (inicio + 1) % buffer.length;
+                    quantidade--;
+                }
+                buffer[(inicio + quantidade) % buffer.length] = evento;
+                quantidade++;
+            }
+            agendar();
+        }
+
+        void concluir() {
+            concluida = true;
+            agendar();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                erroPendente = new IllegalArgumentException("Demanda deve ser positiva: " + n);
+            } else {
+                demanda.getAndAccumulate(n, (atual, pedido) -> {
+                    long soma = atual + pedido;
+                    return soma < 0 ? Long.MAX_VALUE : soma;
+                });
+            }
+            agendar();
+        }
+
+        @Override
+        public void cancel() {
+            cancelada = true;
+            assinaturas.remove(this);
+            synchronized (this) {
+                Arrays.fill(buffer, null);
+                quantidade = 0;
+            }
+        }
+
+        private void agendar() {
+            if (trabalho.getAndIncrement() == 0) {
+                try {
+                    executor().execute(this);
+                } catch (RejectedExecutionException e) {
+                    cancel();
+                    assinante.onError(e);
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            int pendentes = 1;
+            while (true) {
+                if (!cancelada && entregarLote() == tamanhoLote) {
+                    // Lote cheio: devolve a thread e continua em outra tarefa
+                    executor().execute(this);
+                    return;
+                }
+                pendentes = trabalho.addAndGet(-pendentes);
+                if (pendentes == 0) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Entrega até um lote de eventos, respeitando a demanda.
+         *
+         * @return quantos eventos foram entregues
+         */
+        private int entregarLote() {
+            Throwable erro = erroPendente;
+            if (erro != null) {
+                cancel();
+                assinante.onError(erro);
+                return 0;
+            }
+
+            int entregues = 0;
+            while (entregues < tamanhoLote && !cancelada) {
+                if (demanda.get() == 0) {
+                    break;
+                }
+                EventoJogo evento = retirar();
+                if (evento == null) {
+                    break;
+                }
+                if (demanda.get() != Long.MAX_VALUE) {
+                    demanda.decrementAndGet();
+                }
+                try {
+                    assinante.onNext(evento);
+                } catch (Throwable t) {
+                    cancel();
+                    assinante.onError(t);
+                    break;
+                }
+                entregues++;
+            }
+
+            // Publicador fechado e buffer esvaziado: encerra o assinante
+            if (concluida && !cancelada && vazio()) {
+                cancel();
+                assinante.onComplete();
+            }
+            return entregues;
+        }
+
+        private synchronized EventoJogo retirar() {
+            if (quantidade == 0) {
+                return null;
+            }
+            EventoJogo evento = buffer[inicio];
+            buffer[inicio] = null;
+            inicio = (inicio + 1) % buffer.length;
+            quantidade--;
+            return evento;
+        }
+
+        private synchronized boolean vazio() {
+            return quantidade == 0;
+        }
+    }
+}
@@ -3,11 +3,27 @@ package factory;
 import domain.model.Tabuleiro;
 import service.JogoService;
 import service.ValidadorService;
+import state.CompletoState;
+import state.EmAndamentoState;
+import state.EstadoJogo;
+import state.JogoState;
 import state.NaoIniciadoState;
+import state.VencidoState;
+import validation.DefinicaoVariante;
+import validation.Gaiola;
+import validation.RegrasCompiladas;
+
+import java.util.List;
 
 /**
  * Factory para criação do serviço principal do jogo.
  * Centraliza a montagem das dependências.
+ * Todos os jogos compartilham o mesmo SolucaoService, de modo que puzzles
+ * conhecidos têm a solução servida pelo cache após o primeiro uso.
+ *
+ * <p>Os validadores são compartilhados por variante e o SolucaoService só é
+ * montado quando um jogo pede solução ou dica pela primeira vez, para que
+ * criar um jogo na inicialização custe apenas o tabuleiro.</p>
  */
 public class JogoFactory {
 
@@ -16,7 +32,7 @@ public class JogoFactory {
      */
     public static JogoService criarJogoVazio() {
         Tabuleiro tabuleiro = TabuleiroFactory.criarTabuleiroVazio();
-        ValidadorService validadorService = new ValidadorService();
+        ValidadorService validadorService = ValidadorService.padrao();
         NaoIniciadoState estadoInicial = new NaoIniciadoState();
 
         return new JogoService(tabuleiro, estadoInicial, validadorService);
@@ -27,7 +43,7 @@ public class JogoFactory {
      */
     public static JogoService criarJogoComFixos(String[] args) {
         Tabuleiro tabuleiro = TabuleiroFactory.criarTabuleiroComFixos(args);
-        ValidadorService validadorService = new ValidadorService();
+        ValidadorService validadorService = ValidadorService.padrao();
         NaoIniciadoState estadoInicial = new NaoIniciadoState();
 
         return new JogoService(tabuleiro, estadoInicial, validadorService);
@@ -38,7 +54,7 @@ public class JogoFactory {
      */
     public static JogoService criarJogoExemplo() {
         Tabuleiro tabuleiro = TabuleiroFactory.criarTabuleiroExemplo();
-        ValidadorService validadorService = new ValidadorService();
+        ValidadorService validadorService = ValidadorService.padrao();
         NaoIniciadoState estadoInicial = new NaoIniciadoState();
 
         return new JogoService(tabuleiro, estadoInicial, validadorService);
@@ -49,7 +65,7 @@ public class JogoFactory {
      */
     public static JogoService criarJogoQuaseCompleto() {
         Tabuleiro tabuleiro = TabuleiroFactory.criarTabuleiroQuaseCompleto();
-        ValidadorService validadorService = new ValidadorService();
+        ValidadorService validadorService = ValidadorService.padrao();
         NaoIniciadoState estadoInicial = new NaoIniciadoState();
 
         JogoService jogo = new JogoService(tabuleiro, estadoInicial, validadorService);
@@ -58,12 +74,51 @@ public class JogoFactory {
         return jogo;
     }
 
+    /**
+     * Cria um jogo de uma variante (diagonal, jigsaw, hyper, anti-cavalo...)
+     * com células fixas no formato dos argumentos de linha de comando.
+     */
+    public static JogoService criarJogoVariante(RegrasCompiladas regras, String[] args) {
+        Tabuleiro tabuleiro = TabuleiroFactory.criarTabuleiroComFixos(args);
+        ValidadorService validadorService = ValidadorService.para(regras);
+        NaoIniciadoState estadoInicial = new NaoIniciadoState();
+
+        return new JogoService(tabuleiro, estadoInicial, validadorService);
+    }
+
+    /**
+     * Cria um Killer Sudoku: tabuleiro vazio, as pistas são as somas das gaiolas.
+     */
+    public static JogoService criarJogoKiller(List<Gaiola> gaiolas) {
+        Tabuleiro tabuleiro = TabuleiroFactory.criarTabuleiroVazio();
+        ValidadorService validadorService = ValidadorService.para(DefinicaoVariante.killer(gaiolas).compilar());
+        NaoIniciadoState estadoInicial = new NaoIniciadoState();
+
+        return new JogoService(tabuleiro, estadoInicial, validadorService);
+    }
+
+    /**
+     * Retoma um jogo salvo: tabuleiro já montado, estado e contador de jogadas.
+     */
+    public static JogoService restaurarJogo(Tabuleiro tabuleiro, EstadoJogo estado, int jogadasRealizadas,
+                                           RegrasCompiladas regras) {
+        JogoState estadoAtual = switch (estado) {
+            case NAO_INICIADO -> new NaoIniciadoState();
+            case EM_ANDAMENTO -> new EmAndamentoState();
+            case COMPLETO -> new CompletoState();
+            case VENCIDO -> new VencidoState();
+        };
+        ValidadorService validadorService = ValidadorService.para(regras);
+
+        return new JogoService(tabuleiro, estadoAtual, validadorService, null, jogadasRealizadas);
+    }
+
     /**
      * Cria um jogo com configuração personalizada.
      * Útil para testes.
      */
     public static JogoService criarJogoPersonalizado(Tabuleiro tabuleiro) {
-        ValidadorService validadorService = new ValidadorService();
+        ValidadorService validadorService = ValidadorService.padrao();
         NaoIniciadoState estadoInicial = new NaoIniciadoState();
 
         return new JogoService(tabuleiro, estadoInicial, validadorService);
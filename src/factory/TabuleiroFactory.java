@@ -68,6 +68,31 @@ public class TabuleiroFactory {
         return tabuleiro;
     }
 
+    /**
+     * Cria um tabuleiro a partir de uma grade de 81 valores (índice = linha * 9 + coluna).
+     * Valores diferentes de zero viram células fixas.
+     */
+    public static Tabuleiro criarTabuleiroDeGrade(int[] valores) {
+        if (valores == null || valores.length != 81) {
+            throw new IllegalArgumentException("A grade deve ter 81 valores");
+        }
+
+        Tabuleiro tabuleiro = criarTabuleiroVazio();
+        for (int indice = 0; indice < 81; indice++) {
+            int valor = valores[indice];
+            if (valor < 0 || valor > 9) {
+                throw new IllegalArgumentException(
+                        String.format("Valor inválido na posição %d: %d (deve ser 0-9)", indice, valor)
+                );
+            }
+            if (valor != 0) {
+                tabuleiro.setCelula(indice / 9, indice % 9, Celula.criarFixa(valor));
+            }
+        }
+
+        return tabuleiro;
+    }
+
     /**
      * Cria um tabuleiro de exemplo para testes.
      */
@@ -0,0 +1,144 @@
+package geracao;
+
+import validation.RegrasCompiladas;
+
+import java.util.SplittableRandom;
+
+/**
+ * Parâmetros de uma mineração de puzzles. Use o {@link Builder}.
+ *
+ * <p>Semente, tentativas por grade e limite de pistas definem quais puzzles
+ * saem de cada grade; ao retomar de um checkpoint valem os valores gravados
+ * nele. Os demais parâmetros podem mudar entre execuções.</p>
+ */
+public class ConfiguracaoMineracao {
+
+    private final RegrasCompiladas regras;
+    private final long semente;
+    private final int tentativasPorGrade;
+    private final int maximoPistas;
+    private final long totalGrades;
+    private final int gradesPorLote;
+    private final int paralelismo;
+
+    private ConfiguracaoMineracao(Builder builder) {
+        this.regras = builder.regras;
+        this.semente = builder.semente;
+        this.tentativasPorGrade = builder.tentativasPorGrade;
+        this.maximoPistas = builder.maximoPistas;
+        this.totalGrades = builder.totalGrades;
+        this.gradesPorLote = builder.gradesPorLote;
+        this.paralelismo = builder.paralelismo;
+    }
+
+    public RegrasCompiladas getRegras() {
+        return regras;
+    }
+
+    public long getSemente() {
+        return semente;
+    }
+
+    /**
+     * Ordens de remoção sorteadas por grade; cada uma produz um puzzle mínimo.
+     */
+    public int getTentativasPorGrade() {
+        return tentativasPorGrade;
+    }
+
+    /**
+     * Puzzles mínimos com até esta quantidade de pistas são gravados na saída.
+     */
+    public int getMaximoPistas() {
+        return maximoPistas;
+    }
+
+    /**
+     * Grades a processar no total, contando as de execuções anteriores
+     * ({@link Long#MAX_VALUE} = até ser interrompida).
+     */
+    public long getTotalGrades() {
+        return totalGrades;
+    }
+
+    /**
+     * Grades entre dois checkpoints.
+     */
+    public int getGradesPorLote() {
+        return gradesPorLote;
+    }
+
+    public int getParalelismo() {
+        return paralelismo;
+    }
+
+    /**
+     * Builder da configuração; sem semente informada, sorteia uma.
+     */
+    public static class Builder {
+        private RegrasCompiladas regras = RegrasCompiladas.CLASSICO;
+        private long semente = new SplittableRandom().nextLong();
+        private int tentativasPorGrade = 1;
+        private int maximoPistas = 22;
+        private long totalGrades = Long.MAX_VALUE;
+        private int gradesPorLote = 1024;
+        private int paralelismo = Runtime.getRuntime().availableProcessors();
+
+        public Builder regras(RegrasCompiladas regras) {
+            if (regras.temGaiolas()) {
+                throw new IllegalArgumentException("Mineração não se aplica a variantes com gaiolas");
+            }
+            this.regras = regras;
+            return this;
+        }
+
+        public Builder semente(long semente) {
+            this.semente = semente;
+            return this;
+        }
+
+        public Builder tentativasPorGrade(int tentativas) {
+            if (tentativas < 1) {
+                throw new IllegalArgumentException("Deve haver ao menos uma tentativa por grade");
+            }
+            this.tentativasPorGrade = tentativas;
+            return this;
+        }
+
+        public Builder maximoPistas(int pistas) {
+            if (pistas < 0 || pistas > 81) {
+                throw new IllegalArgumentException("Máximo de pistas deve estar entre 0 e 81");
+            }
+            this.maximoPistas = pistas;
+            return this;
+        }
+
+        public Builder totalGrades(long grades) {
+            if (grades < 1) {
+                throw new IllegalArgumentException("Total de grades deve ser positivo");
+            }
+            this.totalGrades = grades;
+            return this;
+        }
+
+        public Builder gradesPorLote(int grades) {
+            if (grades < 1) {
+                throw new IllegalArgumentException("Lote deve ter ao menos uma grade");
+            }
+            this.gradesPorLote = grades;
+            return this;
+        }
+
+        public Builder paralelismo(int threads) {
+            if (threads < 1) {
+                throw new IllegalArgumentException("Paralelismo deve ser positivo");
+            }
+            this.paralelismo = threads;
+            return this;
+        }
+
+        public ConfiguracaoMineracao build() {
+            return new ConfiguracaoMineracao(this);
+        }
+    }
+}
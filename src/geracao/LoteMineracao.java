@@ -0,0 +1,34 @@
+package geracao;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resultado de uma faixa de grades: contadores e os puzzles guardados,
+ * na ordem das grades. Cada tarefa do pool monta o seu; as faixas vizinhas
+ * são juntadas ao subir na árvore de tarefas.
+ */
+final class LoteMineracao {
+
+    final long[] histograma = new long[82];
+    final List<int[]> guardados = new ArrayList<>();
+    long grades;
+    long testes;
+
+    void registrarPuzzle(int pistas) {
+        histograma[pistas]++;
+    }
+
+    /**
+     * Junta o lote da faixa seguinte a este.
+     */
+    LoteMineracao combinar(LoteMineracao seguinte) {
+        for (int pistas = 0; pistas < histograma.length; pistas++) {
+            histograma[pistas] += seguinte.histograma[pistas];
+        }
+        guardados.addAll(seguinte.guardados);
+        grades += seguinte.grades;
+        testes += seguinte.testes;
+        return this;
+    }
+}
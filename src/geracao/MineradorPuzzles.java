@@ -0,0 +1,261 @@
+package geracao;
+
+import domain.exception.SudokuException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+
+/**
+ * Mineração de puzzles mínimos (nenhuma pista pode sair) a partir de grades
+ * sorteadas, para um job longo que pode ser interrompido e retomado.
+ *
+ * <p>Cada grade é reduzida tirando as pistas numa ordem sorteada: uma pista
+ * sai se o puzzle continuar com solução única ({@link VerificadorUnicidade}).
+ * Uma única passada já dá um puzzle mínimo, porque tirar pistas nunca torna
+ * removível uma pista que não era. Os puzzles com até
+ * {@link ConfiguracaoMineracao#getMaximoPistas()} pistas vão para a saída,
+ * uma linha de 81 caracteres por puzzle (legível pelo ImportadorPuzzles).</p>
+ *
+ * <p>As grades são processadas em lotes, divididos entre as threads de um
+ * {@link ForkJoinPool}; depois de cada lote a saída é gravada em disco e o
+ * checkpoint ({@link ProgressoMineracao}) avança. A grade n é sempre sorteada
+ * da mesma semente, então a saída não depende do número de threads nem das
+ * interrupções: retomar continua exatamente de onde o último checkpoint parou.</p>
+ */
+public class MineradorPuzzles {
+
+    // Faixa de grades abaixo da qual a tarefa não se divide mais
+    private static final int GRADES_POR_TAREFA = 4;
+
+    private final ConfiguracaoMineracao configuracao;
+    private volatile boolean parar;
+
+    public MineradorPuzzles(ConfiguracaoMineracao configuracao) {
+        this.configuracao = configuracao;
+    }
+
+    /**
+     * Minera até completar {@link ConfiguracaoMineracao#getTotalGrades()} ou
+     * até {@link #parar()}. Se o checkpoint existir, retoma dele (semente,
+     * tentativas e limite de pistas passam a ser os gravados).
+     *
+     * @param saida arquivo de puzzles (acrescentado)
+     * @param checkpoint arquivo de checkpoint (criado ou atualizado a cada lote)
+     * @param aoProgresso chamado depois de cada checkpoint
+     * @throws SudokuException se o checkpoint for de outra variante ou não corresponder à saída
+     */
+    public ProgressoMineracao minerar(Path saida, Path checkpoint, Consumer<ProgressoMineracao> aoProgresso)
+            throws IOException {
+        ProgressoMineracao progresso = retomarOuIniciar(checkpoint);
+        int paralelismo = configuracao.getParalelismo();
+
+        try (FileChannel canal = FileChannel.open(saida, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+             ForkJoinPool pool = new ForkJoinPool(paralelismo)) {
+            if (canal.size() < progresso.getBytesSaida()) {
+                throw new SudokuException("Saída menor que a registrada no checkpoint: " + saida);
+            }
+            // Puzzles gravados depois do último checkpoint serão gerados de novo
+            canal.truncate(progresso.getBytesSaida());
+            canal.position(progresso.getBytesSaida());
+
+            while (!parar && progresso.getProximaGrade() < configuracao.getTotalGrades()) {
+                long inicio = progresso.getProximaGrade();
+                long fim = inicio + Math.min(configuracao.getGradesPorLote(), configuracao.getTotalGrades() - inicio);
+                long comeco = System.nanoTime();
+
+                LoteMineracao lote = pool.invoke(new Tarefa(progresso, inicio, fim));
+                gravar(canal, lote);
+                canal.force(false);
+
+                progresso.registrarLote(lote, canal.position(), System.nanoTime() - comeco, paralelismo);
+                progresso.salvar(checkpoint);
+                aoProgresso.accept(progresso);
+            }
+        }
+        return progresso;
+    }
+
+    /**
+     * Pede o fim da mineração depois do lote atual (que ainda chega ao checkpoint).
+     */
+    public void parar() {
+        parar = true;
+    }
+
+    private ProgressoMineracao retomarOuIniciar(Path checkpoint) throws IOException {
+        long variante = configuracao.getRegras().getIdentificador();
+        if (!Files.exists(checkpoint)) {
+            return new ProgressoMineracao(variante, configuracao.getSemente(),
+                    configuracao.getTentativasPorGrade(), configuracao.getMaximoPistas());
+        }
+        ProgressoMineracao progresso = ProgressoMineracao.carregar(checkpoint);
+        if (progresso.getVariante() != variante) {
+            throw new SudokuException("Checkpoint pertence a outra variante (esperado: "
+                    + configuracao.getRegras().getNome() + ")");
+        }
+        return progresso;
+    }
+
+    private static void gravar(FileChannel canal, LoteMineracao lote) throws IOException {
+        if (lote.guardados.isEmpty()) {
+            return;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(lote.guardados.size() * 82);
+        for (int[] puzzle : lote.guardados) {
+            for (int valor : puzzle) {
+                buffer.put((byte) (valor == 0 ? '.' : '0' + valor));
+            }
+            buffer.put((byte) '\n');
+        }
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            canal.write(buffer);
+        }
+    }
+
+    // ========== REDUÇÃO DE UMA GRADE ==========
+
+    /**
+     * Sorteia a grade {@code numero} e produz um puzzle mínimo por tentativa.
+     */
+    private void minerarGrade(long numero, ProgressoMineracao progresso, VerificadorUnicidade verificador,
+                              int[] grade, int[] ordem, LoteMineracao lote) {
+        SplittableRandom aleatorio = new SplittableRandom(misturar(progresso.getSemente() ^ misturar(numero)));
+        verificador.sortearGrade(aleatorio, grade);
+
+        for (int tentativa = 0; tentativa < progresso.getTentativasPorGrade(); tentativa++) {
+            verificador.carregar(grade);
+            embaralhar(ordem, aleatorio);
+            int pistas = 81;
+            for (int indice : ordem) {
+                lote.testes++;
+                if (verificador.isRemovivel(indice)) {
+                    verificador.remover(indice);
+                    pistas--;
+                }
+            }
+            lote.registrarPuzzle(pistas);
+            if (pistas <= progresso.getMaximoPistas()) {
+                lote.guardados.add(verificador.copiarPistas());
+            }
+        }
+        lote.grades++;
+    }
+
+    private static void embaralhar(int[] ordem, SplittableRandom aleatorio) {
+        for (int i = 0; i < ordem.length; i++) {
+            ordem[i] = i;
+        }
+        for (int i = ordem.length - 1; i > 0; i--) {
+            int j = aleatorio.nextInt(i + 1);
+            int troca = ordem[i];
+            ordem[i] = ordem[j];
+            ordem[j] = troca;
+        }
+    }
+
+    /**
+     * Mistura de 64 bits (splitmix64): grades vizinhas recebem sementes sem relação.
+     */
+    private static long misturar(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    // ========== TAREFAS ==========
+
+    /**
+     * Faixa [inicio, fim) de grades; divide-se ao meio até
+     * {@link #GRADES_POR_TAREFA} e junta os lotes na ordem das grades.
+     */
+    @SuppressWarnings("serial") // tarefas nunca são serializadas
+    private final class Tarefa extends RecursiveTask<LoteMineracao> {
+        private final ProgressoMineracao progresso;
+        private final long inicio;
+        private final long fim;
+
+        Tarefa(ProgressoMineracao progresso, long inicio, long fim) {
+            this.progresso = progresso;
+            this.inicio = inicio;
+            this.fim = fim;
+        }
+
+        @Override
+        protected LoteMineracao compute() {
+            if (fim - inicio > GRADES_POR_TAREFA) {
+                long meio = (inicio + fim) >>> 1;
+                Tarefa direita = new Tarefa(progresso, meio, fim);
+                direita.fork();
+                LoteMineracao esquerda = new Tarefa(progresso, inicio, meio).compute();
+                return esquerda.combinar(direita.join());
+            }
+            VerificadorUnicidade verificador = new VerificadorUnicidade(configuracao.getRegras());
+            int[] grade = new int[81];
+            int[] ordem = new int[81];
+            LoteMineracao lote = new LoteMineracao();
+            for (long numero = inicio; numero < fim; numero++) {
+                minerarGrade(numero, progresso, verificador, grade, ordem, lote);
+            }
+            return lote;
+        }
+    }
+
+    // ========== LINHA DE COMANDO ==========
+
+    /**
+     * Uso: {@code java geracao.MineradorPuzzles saida checkpoint [grades|-] [máximo de pistas] [semente]}
+     *
+     * <p>Ctrl+C termina o lote atual e grava o checkpoint; rodar de novo com
+     * os mesmos arquivos retoma a mineração.</p>
+     */
+    public static void main(String[] args) throws IOException {
+        ConfiguracaoMineracao.Builder builder = new ConfiguracaoMineracao.Builder();
+        try {
+            if (args.length < 2) {
+                throw new IllegalArgumentException("Faltam os arquivos");
+            }
+            if (args.length > 2 && !args[2].equals("-")) {
+                builder.totalGrades(Long.parseLong(args[2]));
+            }
+            if (args.length > 3) {
+                builder.maximoPistas(Integer.parseInt(args[3]));
+            }
+            if (args.length > 4) {
+                builder.semente(Long.parseLong(args[4]));
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println("Uso: MineradorPuzzles saida checkpoint [grades|-] [máximo de pistas] [semente]");
+            System.exit(1);
+            return;
+        }
+
+        MineradorPuzzles minerador = new MineradorPuzzles(builder.build());
+        Thread principal = Thread.currentThread();
+        Thread ganchoParada = new Thread(() -> {
+            minerador.parar();
+            try {
+                principal.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        Runtime.getRuntime().addShutdownHook(ganchoParada);
+
+        ProgressoMineracao progresso = minerador.minerar(Path.of(args[0]), Path.of(args[1]), System.out::println);
+        System.out.println("Concluído: " + progresso);
+        for (int pistas = 0; pistas <= 81; pistas++) {
+            if (progresso.getPuzzlesComPistas(pistas) > 0) {
+                System.out.printf("  %2d pistas: %,d%n", pistas, progresso.getPuzzlesComPistas(pistas));
+            }
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package geracao;
+
+import domain.exception.SudokuException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Estado de uma mineração: onde ela parou (o checkpoint) e as métricas
+ * acumuladas desde o início, somando todas as execuções.
+ *
+ * <p>O checkpoint é gravado depois de cada lote, num arquivo temporário
+ * renomeado sobre o anterior: uma interrupção a qualquer momento deixa o
+ * último checkpoint completo. Ele guarda também quantos bytes a saída tinha
+ * naquele momento, para descartar na retomada os puzzles de um lote que
+ * não chegou ao checkpoint.</p>
+ */
+public class ProgressoMineracao {
+
+    public static final int VERSAO = 1;
+
+    private static final int ASSINATURA = 0x53444B4D; // "SDKM"
+    private static final int MAXIMO_PISTAS = 81;
+    private static final int TAMANHO = 4 + 4 + 8 + 8 + 4 + 4 + 8 * 7 + 8 * (MAXIMO_PISTAS + 1);
+
+    // Definem os puzzles de cada grade (fixos desde o início da mineração)
+    private final long variante;
+    private final long semente;
+    private final int tentativasPorGrade;
+    private final int maximoPistas;
+
+    private long proximaGrade;
+    private long bytesSaida;
+    private long testes;
+    private long guardados;
+    private long duracaoNanos;
+    private long nucleoNanos;
+    private final long[] histograma = new long[MAXIMO_PISTAS + 1];
+
+    ProgressoMineracao(long variante, long semente, int tentativasPorGrade, int maximoPistas) {
+        this.variante = variante;
+        this.semente = semente;
+        this.tentativasPorGrade = tentativasPorGrade;
+        this.maximoPistas = maximoPistas;
+    }
+
+    // ========== ACUMULAÇÃO ==========
+
+    /**
+     * Conta um lote já gravado na saída e avança o checkpoint para depois dele.
+     */
+    void registrarLote(LoteMineracao lote, long bytesSaida, long duracaoNanos, int paralelismo) {
+        this.proximaGrade += lote.grades;
+        this.bytesSaida = bytesSaida;
+        this.testes += lote.testes;
+        this.guardados += lote.guardados.size();
+        this.duracaoNanos += duracaoNanos;
+        this.nucleoNanos += duracaoNanos * paralelismo;
+        for (int pistas = 0; pistas <= MAXIMO_PISTAS; pistas++) {
+            histograma[pistas] += lote.histograma[pistas];
+        }
+    }
+
+    // ========== CHECKPOINT ==========
+
+    /**
+     * Grava o checkpoint, substituindo o anterior de uma vez.
+     */
+    public void salvar(Path arquivo) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(TAMANHO);
+        buffer.putInt(ASSINATURA).putInt(VERSAO)
+                .putLong(variante).putLong(semente).putInt(tentativasPorGrade).putInt(maximoPistas)
+                .putLong(proximaGrade).putLong(bytesSaida).putLong(testes).putLong(guardados)
+                .putLong(duracaoNanos).putLong(nucleoNanos).putLong(0); // reservado
+        for (long quantidade : histograma) {
+            buffer.putLong(quantidade);
+        }
+        buffer.flip();
+
+        Path temporario = arquivo.resolveSibling(arquivo.getFileName() + ".tmp");
+        try (FileChannel canal = FileChannel.open(temporario, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                canal.write(buffer);
+            }
+            canal.force(true);
+        }
+        Files.move(temporario, arquivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Lê um checkpoint gravado por {@link #salvar}.
+     *
+     * @throws SudokuException se o arquivo não for um checkpoint válido
+     */
+    public static ProgressoMineracao carregar(Path arquivo) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(arquivo));
+        if (buffer.remaining() != TAMANHO || buffer.getInt() != ASSINATURA) {
+            throw new SudokuException("Arquivo não é um checkpoint de mineração: " + arquivo);
+        }
+        int versao = buffer.getInt();
+        if (versao != VERSAO) {
+            throw new SudokuException("Versão de checkpoint não suportada: " + versao);
+        }
+        ProgressoMineracao progresso = new ProgressoMineracao(buffer.getLong(), buffer.getLong(),
+                buffer.getInt(), buffer.getInt());
+        progresso.proximaGrade = buffer.getLong();
+        progresso.bytesSaida = buffer.getLong();
+        progresso.testes = buffer.getLong();
+        progresso.guardados = buffer.getLong();
+        progresso.duracaoNanos = buffer.getLong();
+        progresso.nucleoNanos = buffer.getLong();
+        buffer.getLong(); // reservado
+        for (int pistas = 0; pistas <= MAXIMO_PISTAS; pistas++) {
+            progresso.histograma[pistas] = buffer.getLong();
+        }
+        return progresso;
+    }
+
+    // ========== CONSULTAS ==========
+
+    long getVariante() {
+        return variante;
+    }
+
+    public long getSemente() {
+        return semente;
+    }
+
+    public int getTentativasPorGrade() {
+        return tentativasPorGrade;
+    }
+
+    public int getMaximoPistas() {
+        return maximoPistas;
+    }
+
+    /**
+     * Grades já processadas; também é o número da próxima grade.
+     */
+    public long getProximaGrade() {
+        return proximaGrade;
+    }
+
+    /**
+     * Tamanho da saída até o último lote completo.
+     */
+    public long getBytesSaida() {
+        return bytesSaida;
+    }
+
+    /**
+     * Verificações de unicidade feitas (uma por pista testada).
+     */
+    public long getTestes() {
+        return testes;
+    }
+
+    /**
+     * Puzzles mínimos produzidos (todas as tentativas, guardados ou não).
+     */
+    public long getPuzzles() {
+        long total = 0;
+        for (long quantidade : histograma) {
+            total += quantidade;
+        }
+        return total;
+    }
+
+    /**
+     * Puzzles gravados na saída (até {@link #getMaximoPistas()} pistas).
+     */
+    public long getGuardados() {
+        return guardados;
+    }
+
+    /**
+     * Puzzles mínimos produzidos com a quantidade de pistas informada.
+     */
+    public long getPuzzlesComPistas(int pistas) {
+        return histograma[pistas];
+    }
+
+    /**
+     * Menor quantidade de pistas encontrada (-1 se nenhum puzzle ainda).
+     */
+    public int getMenorPistas() {
+        for (int pistas = 0; pistas <= MAXIMO_PISTAS; pistas++) {
+            if (histograma[pistas] > 0) {
+                return pistas;
+            }
+        }
+        return -1;
+    }
+
+    public double getMediaPistas() {
+        long puzzles = 0;
+        long soma = 0;
+        for (int pistas = 0; pistas <= MAXIMO_PISTAS; pistas++) {
+            puzzles += histograma[pistas];
+            soma += histograma[pistas] * pistas;
+        }
+        return puzzles == 0 ? 0 : (double) soma / puzzles;
+    }
+
+    /**
+     * Tempo de mineração somado de todas as execuções.
+     */
+    public long getDuracaoNanos() {
+        return duracaoNanos;
+    }
+
+    /**
+     * Verificações de unicidade por segundo por núcleo do pool (a métrica de vazão).
+     */
+    public double getTestesPorSegundoPorNucleo() {
+        return nucleoNanos == 0 ? 0 : testes * 1e9 / nucleoNanos;
+    }
+
+    public double getGradesPorSegundo() {
+        return duracaoNanos == 0 ? 0 : proximaGrade * 1e9 / duracaoNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%,d grades (%.1f/s) | %,d testes (%,.0f/s/núcleo) | %,d mínimos: média %.1f, "
+                        + "menor %d pistas | %,d guardados (<= %d pistas)",
+                proximaGrade, getGradesPorSegundo(), testes, getTestesPorSegundoPorNucleo(), getPuzzles(),
+                getMediaPistas(), getMenorPistas(), guardados, maximoPistas);
+    }
+}
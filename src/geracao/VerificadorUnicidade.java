@@ -0,0 +1,262 @@
+package geracao;
+
+import validation.RegrasCompiladas;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Busca especializada para a mineração de puzzles: sorteia grades completas
+ * e responde, com saída antecipada, se um puzzle de solução única continua
+ * único sem uma das suas pistas.
+ *
+ * <p>A pergunta "o puzzle sem a pista c ainda é único?" vira "existe uma
+ * solução em que c é diferente do valor da pista?": a busca para na primeira
+ * solução encontrada, em vez de contar até duas como
+ * {@code ResolvedorSudoku.contarSolucoes(grade, 2)}.</p>
+ *
+ * <p>Mantém a grade e as máscaras das unidades entre as chamadas; não é
+ * thread-safe (use uma instância por thread).</p>
+ */
+public final class VerificadorUnicidade {
+
+    private static final int TODOS = 0x1FF;
+
+    private final int[] unidadesDaCelula;
+    private final int[] inicioUnidadesDaCelula;
+    private final boolean temExclusoes;
+    private final int[] paresExclusao;
+    private final int[] inicioParesExclusao;
+
+    private final int[] grade = new int[81];
+    private final int[] mascaraUnidade;
+    private final int[] vazias = new int[81];
+
+    // Célula cujo valor original está proibido na busca atual (-1 = nenhuma)
+    private int celulaRestrita = -1;
+    private int bitProibido;
+    private SplittableRandom aleatorio;
+    private long nos;
+
+    /**
+     * @throws IllegalArgumentException se a variante tiver gaiolas (no Killer as pistas são as somas)
+     */
+    public VerificadorUnicidade(RegrasCompiladas regras) {
+        if (regras.temGaiolas()) {
+            throw new IllegalArgumentException("Mineração não se aplica a variantes com gaiolas: " + regras.getNome());
+        }
+        this.unidadesDaCelula = regras.getUnidadesDaCelula();
+        this.inicioUnidadesDaCelula = regras.getInicioUnidadesDaCelula();
+        this.temExclusoes = regras.temExclusoes();
+        this.paresExclusao = regras.getParesExclusao();
+        this.inicioParesExclusao = regras.getInicioParesExclusao();
+        this.mascaraUnidade = new int[regras.getTotalUnidades()];
+    }
+
+    // ========== GRADES COMPLETAS ==========
+
+    /**
+     * Sorteia uma grade completa e válida da variante.
+     *
+     * @param destino recebe os 81 valores
+     */
+    public void sortearGrade(SplittableRandom aleatorio, int[] destino) {
+        limpar();
+        this.aleatorio = aleatorio;
+        try {
+            if (!buscar(preencherVazias())) {
+                throw new IllegalStateException("Variante sem grade completa possível");
+            }
+        } finally {
+            this.aleatorio = null;
+        }
+        System.arraycopy(grade, 0, destino, 0, 81);
+    }
+
+    // ========== PISTAS ==========
+
+    /**
+     * Carrega um puzzle (sem conflitos) como o conjunto atual de pistas.
+     *
+     * @param pistas 81 valores (0 = vazio)
+     */
+    public void carregar(int[] pistas) {
+        limpar();
+        for (int indice = 0; indice < 81; indice++) {
+            if (pistas[indice] != 0) {
+                colocar(indice, pistas[indice]);
+            }
+        }
+    }
+
+    /**
+     * Indica se a pista da célula pode sair sem o puzzle ganhar uma segunda
+     * solução, supondo que o puzzle atual tenha solução única. As pistas
+     * não são alteradas.
+     */
+    public boolean isRemovivel(int indice) {
+        int valor = grade[indice];
+        if (valor == 0) {
+            throw new IllegalArgumentException("Célula " + indice + " não tem pista");
+        }
+        int bit = 1 << (valor - 1);
+        tirar(indice, bit);
+        try {
+            // Sem outro candidato, a célula está forçada: nenhuma busca necessária
+            if ((candidatos(indice) & ~bit) == 0) {
+                return true;
+            }
+            celulaRestrita = indice;
+            bitProibido = bit;
+            return !buscar(preencherVazias());
+        } finally {
+            celulaRestrita = -1;
+            grade[indice] = valor;
+            alternar(indice, bit);
+        }
+    }
+
+    /**
+     * Tira a pista da célula do puzzle atual.
+     */
+    public void remover(int indice) {
+        int valor = grade[indice];
+        if (valor != 0) {
+            tirar(indice, 1 << (valor - 1));
+        }
+    }
+
+    /**
+     * Pistas atuais (81 valores, 0 = vazio).
+     */
+    public int[] copiarPistas() {
+        return grade.clone();
+    }
+
+    /**
+     * Nós visitados pelas buscas desde a criação (medida de esforço).
+     */
+    public long getNos() {
+        return nos;
+    }
+
+    // ========== BUSCA ==========
+
+    private void limpar() {
+        Arrays.fill(grade, 0);
+        Arrays.fill(mascaraUnidade, 0);
+    }
+
+    private int preencherVazias() {
+        int total = 0;
+        for (int indice = 0; indice < 81; indice++) {
+            if (grade[indice] == 0) {
+                vazias[total++] = indice;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Procura uma solução para as {@code restantes} primeiras células de
+     * {@link #vazias}. Para na primeira; a grade volta ao estado de entrada,
+     * exceto ao sortear uma grade (a solução encontrada fica nela).
+     */
+    private boolean buscar(int restantes) {
+        nos++;
+        if (restantes == 0) {
+            return true;
+        }
+
+        // 1. Célula mais restrita (MRV), movida para o fim da faixa
+        int melhorPosicao = 0;
+        int melhoresCandidatos = 0;
+        int menorContagem = 10;
+        for (int k = 0; k < restantes; k++) {
+            int candidatos = candidatos(vazias[k]);
+            int contagem = Integer.bitCount(candidatos);
+            if (contagem < menorContagem) {
+                if (contagem == 0) {
+                    return false;
+                }
+                menorContagem = contagem;
+                melhorPosicao = k;
+                melhoresCandidatos = candidatos;
+                if (contagem == 1) {
+                    break;
+                }
+            }
+        }
+        int ultima = restantes - 1;
+        int indice = vazias[melhorPosicao];
+        vazias[melhorPosicao] = vazias[ultima];
+        vazias[ultima] = indice;
+
+        // 2. Tenta cada candidato (em ordem sorteada ao gerar grades)
+        int candidatos = melhoresCandidatos;
+        boolean encontrou = false;
+        while (candidatos != 0 && !encontrou) {
+            int bit = aleatorio == null ? candidatos & -candidatos : sortearBit(candidatos);
+            candidatos ^= bit;
+            grade[indice] = Integer.numberOfTrailingZeros(bit) + 1;
+            alternar(indice, bit);
+            encontrou = buscar(ultima);
+            if (!encontrou || aleatorio == null) {
+                alternar(indice, bit);
+                grade[indice] = 0;
+            }
+        }
+
+        vazias[ultima] = vazias[melhorPosicao];
+        vazias[melhorPosicao] = indice;
+        return encontrou;
+    }
+
+    private int sortearBit(int candidatos) {
+        for (int pulos = aleatorio.nextInt(Integer.bitCount(candidatos)); pulos > 0; pulos--) {
+            candidatos &= candidatos - 1;
+        }
+        return candidatos & -candidatos;
+    }
+
+    /**
+     * Dígitos (bits 0-8) que ainda cabem na célula vazia.
+     */
+    private int candidatos(int indice) {
+        int usados = 0;
+        for (int k = inicioUnidadesDaCelula[indice], fim = inicioUnidadesDaCelula[indice + 1]; k < fim; k++) {
+            usados |= mascaraUnidade[unidadesDaCelula[k]];
+        }
+        if (temExclusoes) {
+            for (int k = inicioParesExclusao[indice], fim = inicioParesExclusao[indice + 1]; k < fim; k++) {
+                int valor = grade[paresExclusao[k]];
+                if (valor != 0) {
+                    usados |= 1 << (valor - 1);
+                }
+            }
+        }
+        if (indice == celulaRestrita) {
+            usados |= bitProibido;
+        }
+        return ~usados & TODOS;
+    }
+
+    private void colocar(int indice, int valor) {
+        grade[indice] = valor;
+        alternar(indice, 1 << (valor - 1));
+    }
+
+    private void tirar(int indice, int bit) {
+        grade[indice] = 0;
+        alternar(indice, bit);
+    }
+
+    /**
+     * Liga/desliga o dígito nas máscaras das unidades da célula.
+     */
+    private void alternar(int indice, int bit) {
+        for (int k = inicioUnidadesDaCelula[indice], fim = inicioUnidadesDaCelula[indice + 1]; k < fim; k++) {
+            mascaraUnidade[unidadesDaCelula[k]] ^= bit;
+        }
+    }
+}
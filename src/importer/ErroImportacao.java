@@ -0,0 +1,61 @@
+package importer;
+
+/**
+ * Erro estruturado de importação: qual puzzle, onde no arquivo e por quê.
+ * O puzzle com erro é descartado e a importação continua no próximo.
+ */
+public final class ErroImportacao {
+
+    public enum Tipo {
+        /** Caractere que não é célula nem separador no formato. */
+        CARACTERE_INVALIDO,
+        /** Puzzle com mais ou menos de 81 células. */
+        TAMANHO_INVALIDO,
+        /** Pistas repetidas na mesma linha, coluna ou bloco. */
+        PISTAS_EM_CONFLITO
+    }
+
+    private final Tipo tipo;
+    private final long numeroPuzzle;
+    private final long linha;
+    private final long coluna;
+    private final String mensagem;
+
+    ErroImportacao(Tipo tipo, long numeroPuzzle, long linha, long coluna, String mensagem) {
+        this.tipo = tipo;
+        this.numeroPuzzle = numeroPuzzle;
+        this.linha = linha;
+        this.coluna = coluna;
+        this.mensagem = mensagem;
+    }
+
+    public Tipo getTipo() {
+        return tipo;
+    }
+
+    /**
+     * Posição do puzzle no arquivo (1 = primeiro), contando também os descartados.
+     */
+    public long getNumeroPuzzle() {
+        return numeroPuzzle;
+    }
+
+    /** Linha do arquivo (1-based). */
+    public long getLinha() {
+        return linha;
+    }
+
+    /** Coluna em bytes dentro da linha (1-based). */
+    public long getColuna() {
+        return coluna;
+    }
+
+    public String getMensagem() {
+        return mensagem;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Puzzle %d (linha %d, coluna %d): %s", numeroPuzzle, linha, coluna, mensagem);
+    }
+}
@@ -0,0 +1,47 @@
+package importer;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Formatos de arquivo de puzzles aceitos pelo {@link ImportadorPuzzles}.
+ */
+public enum FormatoPuzzle {
+    /**
+     * Um puzzle por linha: 81 caracteres, '0' ou '.' para vazio.
+     * O resto da linha após as 81 células (classificação, comentário) é ignorado,
+     * assim como linhas vazias e linhas iniciadas por '#'.
+     */
+    LINHA_81,
+
+    /** SDM: um puzzle por linha, 81 dígitos com '0' para vazio. */
+    SDM,
+
+    /**
+     * SDK (SadMan): 9 linhas de 9 caracteres, '.' para vazio; linhas de
+     * metadados iniciadas por '[' ou '#'. Vários puzzles separados por linha vazia.
+     * Espaços e separadores '|', '-' e '+' são ignorados.
+     */
+    SDK,
+
+    /** XML do OpenSudoku: cada puzzle no atributo {@code data} de um elemento {@code <game>}. */
+    OPEN_SUDOKU;
+
+    /**
+     * Escolhe o formato pela extensão do arquivo (.sdm, .sdk, .opensudoku ou .xml);
+     * qualquer outra extensão é tratada como {@link #LINHA_81}.
+     */
+    public static FormatoPuzzle porExtensao(Path arquivo) {
+        String nome = arquivo.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (nome.endsWith(".sdm")) {
+            return SDM;
+        }
+        if (nome.endsWith(".sdk")) {
+            return SDK;
+        }
+        if (nome.endsWith(".opensudoku") || nome.endsWith(".xml")) {
+            return OPEN_SUDOKU;
+        }
+        return LINHA_81;
+    }
+}
@@ -0,0 +1,440 @@
+package importer;
+
+import domain.model.Tabuleiro;
+import factory.TabuleiroFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Importa puzzles de arquivos nos formatos da comunidade ({@link FormatoPuzzle})
+ * em fluxo: lê o canal em blocos de 64 KiB e interpreta byte a byte, sem criar
+ * uma String por linha e sem manter o arquivo em memória.
+ *
+ * <p>Três formas de consumo, do mais barato ao mais conveniente:</p>
+ * <ul>
+ *   <li>{@link #proximo(int[])}: preenche um vetor de 81 valores, sem alocação</li>
+ *   <li>{@link #importar(Consumer)}: entrega cada Tabuleiro a um callback</li>
+ *   <li>{@link #stream()}: Stream preguiçoso de Tabuleiro</li>
+ * </ul>
+ *
+ * <p>Puzzles com erro são descartados e informados ao consumidor de
+ * {@link ErroImportacao}; a importação segue no próximo puzzle.</p>
+ */
+public class ImportadorPuzzles implements AutoCloseable {
+
+    private static final int TAMANHO_BUFFER = 64 * 1024;
+    private static final int FIM = -1;
+    private static final byte[] ATRIBUTO_DATA = {'d', 'a', 't', 'a', '='};
+
+    private final ReadableByteChannel canal;
+    private final FormatoPuzzle formato;
+    private final Consumer<ErroImportacao> aoErro;
+    private final ByteBuffer buffer = ByteBuffer.allocate(TAMANHO_BUFFER);
+    private final int[] grade = new int[81];
+
+    // Posição no arquivo (1-based)
+    private long linha = 1;
+    private long coluna;
+
+    // Estatísticas
+    private long puzzles;
+    private long importados;
+    private long erros;
+
+    /**
+     * @param aoErro recebe os puzzles descartados (pode ser null para só contá-los)
+     */
+    public ImportadorPuzzles(ReadableByteChannel canal, FormatoPuzzle formato, Consumer<ErroImportacao> aoErro) {
+        this.canal = canal;
+        this.formato = formato;
+        this.aoErro = aoErro;
+        buffer.flip(); // começa vazio
+    }
+
+    /**
+     * Abre um arquivo, escolhendo o formato pela extensão.
+     */
+    public static ImportadorPuzzles abrir(Path arquivo, Consumer<ErroImportacao> aoErro) throws IOException {
+        return new ImportadorPuzzles(FileChannel.open(arquivo, StandardOpenOption.READ),
+                FormatoPuzzle.porExtensao(arquivo), aoErro);
+    }
+
+    // ========== CONSUMO ==========
+
+    /**
+     * Lê o próximo puzzle válido.
+     *
+     * @param destino 81 posições; recebe os valores (0 = vazio)
+     * @return false no fim do arquivo
+     */
+    public boolean proximo(int[] destino) throws IOException {
+        boolean encontrou = switch (formato) {
+            case LINHA_81, SDM -> lerLinha81();
+            case SDK -> lerSdk();
+            case OPEN_SUDOKU -> lerOpenSudoku();
+        };
+        if (encontrou) {
+            System.arraycopy(grade, 0, destino, 0, 81);
+            importados++;
+        }
+        return encontrou;
+    }
+
+    /**
+     * Lê o próximo puzzle válido como tabuleiro com as pistas fixas.
+     *
+     * @return o tabuleiro, ou null no fim do arquivo
+     */
+    public Tabuleiro proximo() throws IOException {
+        int[] valores = new int[81];
+        return proximo(valores) ? TabuleiroFactory.criarTabuleiroDeGrade(valores) : null;
+    }
+
+    /**
+     * Entrega cada puzzle válido ao callback, até o fim do arquivo.
+     *
+     * @return quantidade de tabuleiros importados
+     */
+    public long importar(Consumer<Tabuleiro> aoImportar) throws IOException {
+        long antes = importados;
+        Tabuleiro tabuleiro;
+        while ((tabuleiro = proximo()) != null) {
+            aoImportar.accept(tabuleiro);
+        }
+        return importados - antes;
+    }
+
+    /**
+     * Stream sequencial e preguiçoso dos puzzles válidos. Fechar o stream
+     * fecha o importador; erros de E/S viram {@link UncheckedIOException}.
+     */
+    public Stream<Tabuleiro> stream() {
+        Spliterator<Tabuleiro> spliterator = new Spliterators.AbstractSpliterator<>(
+                Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super Tabuleiro> acao) {
+                try {
+                    Tabuleiro tabuleiro = proximo();
+                    if (tabuleiro == null) {
+                        return false;
+                    }
+                    acao.accept(tabuleiro);
+                    return true;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+        return StreamSupport.stream(spliterator, false).onClose(() -> {
+            try {
+                close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    @Override
+    public void close() throws IOException {
+        canal.close();
+    }
+
+    // ========== ESTATÍSTICAS ==========
+
+    /** Puzzles encontrados no arquivo, válidos ou não. */
+    public long getPuzzles() {
+        return puzzles;
+    }
+
+    public long getImportados() {
+        return importados;
+    }
+
+    public long getErros() {
+        return erros;
+    }
+
+    // ========== FORMATOS ==========
+
+    /**
+     * LINHA_81 e SDM: um puzzle por linha.
+     */
+    private boolean lerLinha81() throws IOException {
+        while (true) {
+            int b = lerByte();
+            if (b == FIM) {
+                return false;
+            }
+            if (b == '\n' || b == '\r' || b == ' ' || b == '\t') {
+                continue;
+            }
+            if (b == '#') {
+                b = descartarLinha(b);
+                continue;
+            }
+
+            puzzles++;
+            long linhaPuzzle = linha;
+            int celulas = 0;
+            while (celulas < 81 && b != FIM && b != '\n' && b != '\r' && b != ' ' && b != '\t') {
+                int valor = valorCelula(b);
+                if (valor < 0) {
+                    erro(ErroImportacao.Tipo.CARACTERE_INVALIDO, linha, coluna, caractereInvalido(b));
+                    break;
+                }
+                grade[celulas++] = valor;
+                b = lerByte();
+            }
+
+            if (celulas == 81) {
+                descartarLinha(b); // classificação ou comentário após o puzzle
+                if (pistasValidas(linhaPuzzle)) {
+                    return true;
+                }
+            } else {
+                if (valorCelula(b) >= 0 || b == FIM || b == '\n' || b == '\r' || b == ' ' || b == '\t') {
+                    erro(ErroImportacao.Tipo.TAMANHO_INVALIDO, linhaPuzzle, 1,
+                            "Linha com " + celulas + " células (esperado 81)");
+                }
+                descartarLinha(b);
+            }
+        }
+    }
+
+    /**
+     * SDK: células espalhadas em várias linhas, puzzles separados por linha vazia.
+     */
+    private boolean lerSdk() throws IOException {
+        int celulas = 0;
+        long linhaPuzzle = 0;
+        boolean linhaVazia = true;
+        boolean descartando = false;
+
+        while (true) {
+            int b = lerByte();
+            if (b == FIM) {
+                if (celulas > 0 && !descartando) {
+                    erro(ErroImportacao.Tipo.TAMANHO_INVALIDO, linhaPuzzle, 1,
+                            "Puzzle com " + celulas + " células (esperado 81)");
+                }
+                return false;
+            }
+            if (b == '\n') {
+                if (linhaVazia && (celulas > 0 || descartando)) {
+                    // Linha vazia encerra o puzzle atual
+                    if (!descartando) {
+                        erro(ErroImportacao.Tipo.TAMANHO_INVALIDO, linhaPuzzle, 1,
+                                "Puzzle com " + celulas + " células (esperado 81)");
+                    }
+                    celulas = 0;
+                    descartando = false;
+                }
+                linhaVazia = true;
+                continue;
+            }
+            if (b == '\r' || b == ' ' || b == '\t') {
+                continue;
+            }
+            if (b == '|' || b == '-' || b == '+') {
+                linhaVazia = false; // linha de moldura não separa puzzles
+                continue;
+            }
+            if (linhaVazia && (b == '[' || b == '#')) {
+                descartarLinha(b);
+                linhaVazia = true;
+                continue;
+            }
+
+            linhaVazia = false;
+            if (descartando) {
+                continue;
+            }
+            if (celulas == 0) {
+                puzzles++;
+                linhaPuzzle = linha;
+            }
+
+            int valor = valorCelula(b);
+            if (valor < 0) {
+                erro(ErroImportacao.Tipo.CARACTERE_INVALIDO, linha, coluna, caractereInvalido(b));
+                descartando = true;
+                celulas = 0;
+                continue;
+            }
+            grade[celulas++] = valor;
+            if (celulas == 81) {
+                descartarLinha(b);
+                if (pistasValidas(linhaPuzzle)) {
+                    return true;
+                }
+                celulas = 0;
+                linhaVazia = true;
+            }
+        }
+    }
+
+    /**
+     * OpenSudoku: procura o atributo data="..." de cada elemento game.
+     */
+    private boolean lerOpenSudoku() throws IOException {
+        int casados = 0;
+        int anterior = ' ';
+        while (true) {
+            int b = lerByte();
+            if (b == FIM) {
+                return false;
+            }
+
+            // Casa "data=" precedido de espaço (evita "metadata=")
+            if (casados < ATRIBUTO_DATA.length) {
+                if (b == ATRIBUTO_DATA[casados] && (casados > 0 || ehEspaco(anterior))) {
+                    casados++;
+                } else {
+                    casados = b == ATRIBUTO_DATA[0] && ehEspaco(anterior) ? 1 : 0;
+                }
+                anterior = b;
+                continue;
+            }
+            casados = 0;
+            anterior = b;
+            if (b != '"' && b != '\'') {
+                continue;
+            }
+
+            int aspas = b;
+            puzzles++;
+            long linhaPuzzle = linha;
+            long colunaPuzzle = coluna;
+            int celulas = 0;
+            boolean valido = true;
+            while ((b = lerByte()) != aspas && b != FIM) {
+                int valor = valorCelula(b);
+                if (valor < 0) {
+                    if (valido) {
+                        erro(ErroImportacao.Tipo.CARACTERE_INVALIDO, linha, coluna, caractereInvalido(b));
+                    }
+                    valido = false;
+                } else if (celulas < 81) {
+                    grade[celulas] = valor;
+                    celulas++;
+                } else {
+                    celulas++;
+                }
+            }
+            if (!valido) {
+                continue;
+            }
+            if (celulas != 81) {
+                erro(ErroImportacao.Tipo.TAMANHO_INVALIDO, linhaPuzzle, colunaPuzzle,
+                        "Atributo data com " + celulas + " células (esperado 81)");
+                continue;
+            }
+            if (pistasValidas(linhaPuzzle)) {
+                return true;
+            }
+        }
+    }
+
+    // ========== AUXILIARES ==========
+
+    private int valorCelula(int b) {
+        if (b >= '1' && b <= '9') {
+            return b - '0';
+        }
+        if (b == '0' && formato != FormatoPuzzle.SDK) {
+            return 0;
+        }
+        if (b == '.' && formato != FormatoPuzzle.SDM) {
+            return 0;
+        }
+        return -1;
+    }
+
+    /**
+     * Pistas não podem se repetir em linha, coluna ou bloco.
+     */
+    private boolean pistasValidas(long linhaPuzzle) {
+        int[] linhas = new int[9];
+        int[] colunas = new int[9];
+        int[] blocos = new int[9];
+        for (int indice = 0; indice < 81; indice++) {
+            int valor = grade[indice];
+            if (valor == 0) {
+                continue;
+            }
+            int bit = 1 << valor;
+            int l = indice / 9;
+            int c = indice % 9;
+            int b = (l / 3) * 3 + c / 3;
+            if (((linhas[l] | colunas[c] | blocos[b]) & bit) != 0) {
+                erro(ErroImportacao.Tipo.PISTAS_EM_CONFLITO, linhaPuzzle, 1,
+                        String.format("Pista %d repetida na célula (%d,%d)", valor, l + 1, c + 1));
+                return false;
+            }
+            linhas[l] |= bit;
+            colunas[c] |= bit;
+            blocos[b] |= bit;
+        }
+        return true;
+    }
+
+    private void erro(ErroImportacao.Tipo tipo, long linhaErro, long colunaErro, String mensagem) {
+        erros++;
+        if (aoErro != null) {
+            aoErro.accept(new ErroImportacao(tipo, puzzles, linhaErro, colunaErro, mensagem));
+        }
+    }
+
+    private static String caractereInvalido(int b) {
+        return b >= 0x20 && b < 0x7F
+                ? "Caractere inválido '" + (char) b + "'"
+                : String.format("Byte inválido 0x%02X", b);
+    }
+
+    private static boolean ehEspaco(int b) {
+        return b == ' ' || b == '\t' || b == '\n' || b == '\r';
+    }
+
+    /**
+     * Descarta até o fim da linha, a partir do byte já lido.
+     */
+    private int descartarLinha(int b) throws IOException {
+        while (b != '\n' && b != FIM) {
+            b = lerByte();
+        }
+        return b;
+    }
+
+    private int lerByte() throws IOException {
+        if (!buffer.hasRemaining()) {
+            buffer.clear();
+            int lidos;
+            do {
+                lidos = canal.read(buffer);
+            } while (lidos == 0);
+            buffer.flip();
+            if (lidos < 0) {
+                return FIM;
+            }
+        }
+        int b = buffer.get() & 0xFF;
+        if (b == '\n') {
+            linha++;
+            coluna = 0;
+        } else {
+            coluna++;
+        }
+        return b;
+    }
+}
@@ -0,0 +1,17 @@
+package loadtest;
+
+import java.io.IOException;
+
+/**
+ * Alvo das sessões de um teste de carga: onde os jogadores simulados jogam.
+ * {@link AlvoLocal} joga direto no JogoService, no mesmo processo.
+ */
+public interface AlvoCarga {
+
+    /**
+     * Abre uma sessão com um novo jogo do puzzle informado.
+     *
+     * @param pistas 81 valores (0 = vazio); os demais viram células fixas
+     */
+    SessaoCarga abrir(int[] pistas) throws IOException;
+}
@@ -0,0 +1,55 @@
+package loadtest;
+
+import factory.JogoFactory;
+import factory.TabuleiroFactory;
+import service.JogoService;
+
+/**
+ * Alvo no mesmo processo: cada sessão é um JogoService criado pela fábrica,
+ * como faria a interface de console.
+ */
+public class AlvoLocal implements AlvoCarga {
+
+    @Override
+    public SessaoCarga abrir(int[] pistas) {
+        return new Sessao(JogoFactory.criarJogoPersonalizado(TabuleiroFactory.criarTabuleiroDeGrade(pistas)));
+    }
+
+    private static final class Sessao implements SessaoCarga {
+        private final JogoService jogo;
+
+        private Sessao(JogoService jogo) {
+            this.jogo = jogo;
+        }
+
+        @Override
+        public boolean iniciar() {
+            return jogo.iniciarJogo().isValido();
+        }
+
+        @Override
+        public boolean inserir(int linha, int coluna, int valor) {
+            return jogo.inserirNumero(linha, coluna, valor).isValido();
+        }
+
+        @Override
+        public boolean remover(int linha, int coluna) {
+            return jogo.removerNumero(linha, coluna).isValido();
+        }
+
+        @Override
+        public boolean limpar() {
+            return jogo.limparCelulasEditaveis().isValido();
+        }
+
+        @Override
+        public boolean finalizar() {
+            return jogo.finalizarJogo().isValido();
+        }
+
+        @Override
+        public void close() {
+            jogo.getEventos().close();
+        }
+    }
+}
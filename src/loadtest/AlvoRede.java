@@ -0,0 +1,71 @@
+package loadtest;
+
+import rede.ClienteRede;
+
+import java.io.IOException;
+
+/**
+ * Alvo remoto: cada sessão é uma conexão com um {@link rede.ServidorRede}
+ * e um jogo novo no servidor, para medir o servidor de ponta a ponta.
+ */
+public class AlvoRede implements AlvoCarga {
+    private final String host;
+    private final int porta;
+
+    public AlvoRede(String host, int porta) {
+        this.host = host;
+        this.porta = porta;
+    }
+
+    @Override
+    public SessaoCarga abrir(int[] pistas) throws IOException {
+        ClienteRede cliente = ClienteRede.conectar(host, porta);
+        try {
+            if (!cliente.novoJogo(pistas).isValido()) {
+                throw new IOException("Servidor recusou o puzzle");
+            }
+        } catch (IOException e) {
+            cliente.close();
+            throw e;
+        }
+        return new Sessao(cliente);
+    }
+
+    private static final class Sessao implements SessaoCarga {
+        private final ClienteRede cliente;
+
+        private Sessao(ClienteRede cliente) {
+            this.cliente = cliente;
+        }
+
+        @Override
+        public boolean iniciar() throws IOException {
+            return cliente.iniciarJogo().isValido();
+        }
+
+        @Override
+        public boolean inserir(int linha, int coluna, int valor) throws IOException {
+            return cliente.inserirNumero(linha, coluna, valor).isValido();
+        }
+
+        @Override
+        public boolean remover(int linha, int coluna) throws IOException {
+            return cliente.removerNumero(linha, coluna).isValido();
+        }
+
+        @Override
+        public boolean limpar() throws IOException {
+            return cliente.limparCelulasEditaveis().isValido();
+        }
+
+        @Override
+        public boolean finalizar() throws IOException {
+            return cliente.finalizarJogo().isValido();
+        }
+
+        @Override
+        public void close() throws IOException {
+            cliente.close();
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package loadtest;
+
+import domain.model.Tabuleiro;
+import factory.TabuleiroFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parâmetros de um teste de carga. Use o {@link Builder}.
+ */
+public class ConfiguracaoCarga {
+
+    private final int jogadores;
+    private final int jogadasPorJogador;
+    private final long pausaNanos;
+    private final long semente;
+    private final PerfilJogadas perfil;
+    private final List<int[]> puzzles;
+    private final AlvoCarga alvo;
+
+    private ConfiguracaoCarga(Builder builder) {
+        this.jogadores = builder.jogadores;
+        this.jogadasPorJogador = builder.jogadasPorJogador;
+        this.pausaNanos = builder.pausaNanos;
+        this.semente = builder.semente;
+        this.perfil = builder.perfil;
+        this.puzzles = List.copyOf(builder.puzzles);
+        this.alvo = builder.alvo;
+    }
+
+    public int getJogadores() {
+        return jogadores;
+    }
+
+    public int getJogadasPorJogador() {
+        return jogadasPorJogador;
+    }
+
+    /**
+     * Tempo de "pensar" entre jogadas (0 = sem pausa, carga máxima).
+     */
+    public long getPausaNanos() {
+        return pausaNanos;
+    }
+
+    public long getSemente() {
+        return semente;
+    }
+
+    public PerfilJogadas getPerfil() {
+        return perfil;
+    }
+
+    public List<int[]> getPuzzles() {
+        return puzzles;
+    }
+
+    public AlvoCarga getAlvo() {
+        return alvo;
+    }
+
+    /**
+     * Builder da configuração; sem puzzles informados, usa o puzzle de exemplo.
+     */
+    public static class Builder {
+        private int jogadores = 1000;
+        private int jogadasPorJogador = 1000;
+        private long pausaNanos = 0;
+        private long semente = 42;
+        private PerfilJogadas perfil = PerfilJogadas.realista();
+        private final List<int[]> puzzles = new ArrayList<>();
+        private AlvoCarga alvo = new AlvoLocal();
+
+        public Builder jogadores(int jogadores) {
+            if (jogadores < 1) {
+                throw new IllegalArgumentException("Deve haver ao menos um jogador");
+            }
+            this.jogadores = jogadores;
+            return this;
+        }
+
+        public Builder jogadasPorJogador(int jogadas) {
+            if (jogadas < 1) {
+                throw new IllegalArgumentException("Cada jogador deve fazer ao menos uma jogada");
+            }
+            this.jogadasPorJogador = jogadas;
+            return this;
+        }
+
+        public Builder pausaMicros(long micros) {
+            if (micros < 0) {
+                throw new IllegalArgumentException("Pausa não pode ser negativa");
+            }
+            this.pausaNanos = micros * 1000;
+            return this;
+        }
+
+        public Builder semente(long semente) {
+            this.semente = semente;
+            return this;
+        }
+
+        public Builder perfil(PerfilJogadas perfil) {
+            this.perfil = perfil;
+            return this;
+        }
+
+        /**
+         * Adiciona um puzzle (81 valores, 0 = vazio). Os jogadores se revezam entre os puzzles.
+         */
+        public Builder adicionarPuzzle(int[] pistas) {
+            if (pistas.length != 81) {
+                throw new IllegalArgumentException("Puzzle deve ter 81 valores");
+            }
+            this.puzzles.add(pistas.clone());
+            return this;
+        }
+
+        public Builder alvo(AlvoCarga alvo) {
+            this.alvo = alvo;
+            return this;
+        }
+
+        public ConfiguracaoCarga build() {
+            if (puzzles.isEmpty()) {
+                Tabuleiro exemplo = TabuleiroFactory.criarTabuleiroExemplo();
+                int[] pistas = new int[81];
+                for (int indice = 0; indice < 81; indice++) {
+                    pistas[indice] = exemplo.getValor(indice);
+                }
+                puzzles.add(pistas);
+            }
+            return new ConfiguracaoCarga(this);
+        }
+    }
+}
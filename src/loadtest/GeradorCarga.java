@@ -0,0 +1,161 @@
+package loadtest;
+
+import importer.ImportadorPuzzles;
+import solver.ResolvedorSudoku;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Gerador de carga: N jogadores simulados, cada um em uma virtual thread,
+ * jogando ao mesmo tempo contra um {@link AlvoCarga}.
+ *
+ * <p>Todos os jogadores esperam uma largada comum, para que a medição
+ * comece com a carga completa. Cada jogador mede suas operações em
+ * histogramas próprios (sem disputa entre threads), combinados ao final
+ * no {@link RelatorioCarga} junto com as métricas do coletor de lixo.</p>
+ *
+ * <p>Uso na linha de comando:</p>
+ * <pre>
+ * java -cp out/sudoku.jar loadtest.GeradorCarga [jogadores] [jogadas por jogador] [arquivo de puzzles]
+ * </pre>
+ */
+public class GeradorCarga {
+
+    private final ConfiguracaoCarga configuracao;
+
+    public GeradorCarga(ConfiguracaoCarga configuracao) {
+        this.configuracao = configuracao;
+    }
+
+    /**
+     * Executa o teste e espera todos os jogadores terminarem.
+     */
+    public RelatorioCarga executar() throws InterruptedException {
+        // 1. Soluções dos puzzles, calculadas antes da largada (puzzles sem solução são ignorados)
+        List<int[]> puzzles = new ArrayList<>();
+        List<int[]> solucoes = new ArrayList<>();
+        ResolvedorSudoku resolvedor = new ResolvedorSudoku();
+        for (int[] pistas : configuracao.getPuzzles()) {
+            int[] solucao = pistas.clone();
+            if (resolvedor.resolver(solucao)) {
+                puzzles.add(pistas);
+                solucoes.add(solucao);
+            }
+        }
+        if (puzzles.isEmpty()) {
+            throw new IllegalArgumentException("Nenhum dos puzzles informados tem solução");
+        }
+
+        // 2. Jogadores aguardando a largada
+        CountDownLatch largada = new CountDownLatch(1);
+        List<JogadorSimulado> jogadores = new ArrayList<>(configuracao.getJogadores());
+        for (int numero = 0; numero < configuracao.getJogadores(); numero++) {
+            jogadores.add(new JogadorSimulado(numero, configuracao, puzzles, solucoes, largada));
+        }
+
+        long coletasAntes = totalColetas();
+        long tempoColetaAntes = tempoColetas();
+        long inicio;
+        long fim;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (JogadorSimulado jogador : jogadores) {
+                executor.execute(jogador);
+            }
+            inicio = System.nanoTime();
+            largada.countDown();
+            // close() espera todas as tarefas
+        }
+        fim = System.nanoTime();
+
+        // 3. Consolida
+        HistogramaLatencia[] latencias = new HistogramaLatencia[OperacaoCarga.values().length];
+        for (int i = 0; i < latencias.length; i++) {
+            latencias[i] = new HistogramaLatencia();
+        }
+        long aceitas = 0;
+        long rejeitadas = 0;
+        long vencidos = 0;
+        int falhas = 0;
+        Throwable primeiraFalha = null;
+        for (JogadorSimulado jogador : jogadores) {
+            for (int i = 0; i < latencias.length; i++) {
+                latencias[i].combinar(jogador.latencias[i]);
+            }
+            aceitas += jogador.aceitas;
+            rejeitadas += jogador.rejeitadas;
+            vencidos += jogador.vencidos;
+            if (jogador.falha != null) {
+                falhas++;
+                if (primeiraFalha == null) {
+                    primeiraFalha = jogador.falha;
+                }
+            }
+        }
+
+        Runtime runtime = Runtime.getRuntime();
+        return new RelatorioCarga(configuracao.getJogadores(), fim - inicio, latencias,
+                aceitas, rejeitadas, vencidos, falhas, primeiraFalha,
+                totalColetas() - coletasAntes, tempoColetas() - tempoColetaAntes,
+                runtime.totalMemory() - runtime.freeMemory());
+    }
+
+    private static long totalColetas() {
+        long total = 0;
+        for (GarbageCollectorMXBean coletor : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, coletor.getCollectionCount());
+        }
+        return total;
+    }
+
+    private static long tempoColetas() {
+        long total = 0;
+        for (GarbageCollectorMXBean coletor : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, coletor.getCollectionTime());
+        }
+        return total;
+    }
+
+    // ========== LINHA DE COMANDO ==========
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        ConfiguracaoCarga.Builder builder = new ConfiguracaoCarga.Builder();
+        try {
+            if (args.length > 0) {
+                builder.jogadores(Integer.parseInt(args[0]));
+            }
+            if (args.length > 1) {
+                builder.jogadasPorJogador(Integer.parseInt(args[1]));
+            }
+            if (args.length > 3) {
+                int separador = args[3].lastIndexOf(':');
+                builder.alvo(new AlvoRede(args[3].substring(0, separador), Integer.parseInt(args[3].substring(separador + 1))));
+            }
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            System.err.println("Uso: GeradorCarga [jogadores] [jogadas por jogador] [arquivo de puzzles|-] [host:porta]");
+            System.exit(2);
+            return;
+        }
+        if (args.length > 2 && !args[2].equals("-")) {
+            int[] grade = new int[81];
+            try (ImportadorPuzzles importador = ImportadorPuzzles.abrir(Path.of(args[2]), System.err::println)) {
+                while (importador.proximo(grade)) {
+                    builder.adicionarPuzzle(grade);
+                }
+            }
+        }
+
+        ConfiguracaoCarga configuracao = builder.build();
+        System.out.printf("Iniciando %d jogadores × %d jogadas (%d puzzles; perfil: %s)%n",
+                configuracao.getJogadores(), configuracao.getJogadasPorJogador(),
+                configuracao.getPuzzles().size(), configuracao.getPerfil());
+        System.out.print(new GeradorCarga(configuracao).executar());
+    }
+}
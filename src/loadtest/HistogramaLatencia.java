@@ -0,0 +1,109 @@
+package loadtest;
+
+/**
+ * Histograma de latências em nanossegundos com faixas log-lineares: cada
+ * potência de 2 é dividida em 16 faixas, o que dá erro relativo de no
+ * máximo 6,25% em qualquer percentil, com 960 contadores fixos e registro
+ * O(1) sem alocação.
+ *
+ * <p>Não é sincronizado: cada jogador registra no seu próprio histograma e
+ * eles são combinados ao final com {@link #combinar}.</p>
+ */
+public class HistogramaLatencia {
+
+    private static final int BITS_FAIXA = 4;
+    private static final int FAIXAS_POR_POTENCIA = 1 << BITS_FAIXA;
+    private static final int LIMITE_LINEAR = 2 * FAIXAS_POR_POTENCIA;
+    private static final int TOTAL_FAIXAS = LIMITE_LINEAR + (63 - 5) * FAIXAS_POR_POTENCIA;
+
+    private final long[] contagens = new long[TOTAL_FAIXAS];
+    private long total;
+    private long soma;
+    private long minimo = Long.MAX_VALUE;
+    private long maximo;
+
+    public void registrar(long nanos) {
+        if (nanos < 0) {
+            nanos = 0;
+        }
+        contagens[faixa(nanos)]++;
+        total++;
+        soma += nanos;
+        minimo = Math.min(minimo, nanos);
+        maximo = Math.max(maximo, nanos);
+    }
+
+    /**
+     * Soma as contagens de outro histograma a este.
+     */
+    public void combinar(HistogramaLatencia outro) {
+        for (int i = 0; i < TOTAL_FAIXAS; i++) {
+            contagens[i] += outro.contagens[i];
+        }
+        total += outro.total;
+        soma += outro.soma;
+        minimo = Math.min(minimo, outro.minimo);
+        maximo = Math.max(maximo, outro.maximo);
+    }
+
+    /**
+     * Latência abaixo da qual está a fração {@code percentil} (0-100) das amostras.
+     *
+     * @return limite superior da faixa, em nanossegundos (0 se vazio)
+     */
+    public long percentil(double percentil) {
+        if (total == 0) {
+            return 0;
+        }
+        long alvo = Math.max(1, (long) Math.ceil(total * percentil / 100.0));
+        long acumulado = 0;
+        for (int i = 0; i < TOTAL_FAIXAS; i++) {
+            acumulado += contagens[i];
+            if (acumulado >= alvo) {
+                return Math.min(limiteSuperior(i), maximo);
+            }
+        }
+        return maximo;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public long getMinimo() {
+        return total == 0 ? 0 : minimo;
+    }
+
+    public long getMaximo() {
+        return maximo;
+    }
+
+    public double getMedia() {
+        return total == 0 ? 0.0 : (double) soma / total;
+    }
+
+    // ========== FAIXAS ==========
+
+    /**
+     * Valores abaixo de 32 têm uma faixa cada; acima, a faixa vem do expoente
+     * e dos 4 bits seguintes ao bit mais alto.
+     */
+    private static int faixa(long valor) {
+        if (valor < LIMITE_LINEAR) {
+            return (int) valor;
+        }
+        int expoente = 63 - Long.numberOfLeadingZeros(valor);
+        int mantissa = (int) (valor >>> (expoente - BITS_FAIXA)) & (FAIXAS_POR_POTENCIA - 1);
+        return LIMITE_LINEAR + (expoente - 5) * FAIXAS_POR_POTENCIA + mantissa;
+    }
+
+    private static long limiteSuperior(int faixa) {
+        if (faixa < LIMITE_LINEAR) {
+            return faixa;
+        }
+        int expoente = (faixa - LIMITE_LINEAR) / FAIXAS_POR_POTENCIA + 5;
+        int mantissa = (faixa - LIMITE_LINEAR) % FAIXAS_POR_POTENCIA;
+        long inicio = (long) (FAIXAS_POR_POTENCIA + mantissa) << (expoente - BITS_FAIXA);
+        return inicio + (1L << (expoente - BITS_FAIXA)) - 1;
+    }
+}
@@ -0,0 +1,219 @@
+package loadtest;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Um jogador simulado: joga uma sequência de jogadas sorteadas pelo
+ * {@link PerfilJogadas}, medindo cada operação. Mantém uma cópia própria
+ * do tabuleiro para escolher jogadas plausíveis sem consultar o alvo.
+ *
+ * <p>Ao vencer um jogo, abre outro com o próximo puzzle da lista.</p>
+ */
+final class JogadorSimulado implements Runnable {
+
+    private final ConfiguracaoCarga configuracao;
+    private final List<int[]> puzzles;
+    private final List<int[]> solucoes;
+    private final CountDownLatch largada;
+    private final SplittableRandom aleatorio;
+
+    // Resultados (lidos depois que a thread termina)
+    final HistogramaLatencia[] latencias = new HistogramaLatencia[OperacaoCarga.values().length];
+    long aceitas;
+    long rejeitadas;
+    long vencidos;
+    Throwable falha;
+
+    // Jogo atual
+    private int puzzleAtual;
+    private int[] pistas;
+    private int[] solucao;
+    private final int[] atual = new int[81];
+    private SessaoCarga sessao;
+
+    JogadorSimulado(int numero, ConfiguracaoCarga configuracao, List<int[]> puzzles, List<int[]> solucoes,
+                    CountDownLatch largada) {
+        this.configuracao = configuracao;
+        this.puzzles = puzzles;
+        this.solucoes = solucoes;
+        this.largada = largada;
+        this.aleatorio = new SplittableRandom(configuracao.getSemente() * 31 + numero);
+        this.puzzleAtual = numero % puzzles.size();
+        for (int i = 0; i < latencias.length; i++) {
+            latencias[i] = new HistogramaLatencia();
+        }
+    }
+
+    @Override
+    public void run() {
+        try {
+            largada.await();
+            novoJogo();
+            for (int jogada = 0; jogada < configuracao.getJogadasPorJogador(); jogada++) {
+                jogar();
+                if (configuracao.getPausaNanos() > 0) {
+                    LockSupport.parkNanos(configuracao.getPausaNanos());
+                }
+            }
+            sessao.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            falha = e;
+        } catch (Exception e) {
+            falha = e;
+        }
+    }
+
+    // ========== JOGADAS ==========
+
+    private void jogar() throws IOException {
+        int vazia = sortearCelula(true);
+        if (vazia == -1) {
+            terminarTabuleiroCheio();
+            return;
+        }
+
+        switch (configuracao.getPerfil().sortear(aleatorio.nextInt(configuracao.getPerfil().getTotal()))) {
+            case CORRETA -> inserir(vazia, solucao[vazia]);
+            case CONFLITO -> inserir(vazia, valorEmConflito(vazia));
+            case ERRADA -> inserir(vazia, valorErrado(vazia));
+            case REMOCAO -> {
+                int preenchida = sortearCelula(false);
+                if (preenchida == -1) {
+                    inserir(vazia, solucao[vazia]);
+                } else {
+                    remover(preenchida);
+                }
+            }
+            case LIMPEZA -> {
+                long inicio = System.nanoTime();
+                boolean aceita = sessao.limpar();
+                registrar(OperacaoCarga.LIMPAR, inicio, aceita);
+                if (aceita) {
+                    System.arraycopy(pistas, 0, atual, 0, 81);
+                }
+            }
+        }
+    }
+
+    /**
+     * Tabuleiro cheio: finaliza se estiver certo (e começa outro jogo),
+     * senão corrige removendo um valor errado.
+     */
+    private void terminarTabuleiroCheio() throws IOException {
+        for (int indice = 0; indice < 81; indice++) {
+            if (atual[indice] != solucao[indice]) {
+                remover(indice);
+                return;
+            }
+        }
+        long inicio = System.nanoTime();
+        boolean aceita = sessao.finalizar();
+        registrar(OperacaoCarga.FINALIZAR, inicio, aceita);
+        if (aceita) {
+            vencidos++;
+        }
+        sessao.close();
+        puzzleAtual = (puzzleAtual + 1) % puzzles.size();
+        novoJogo();
+    }
+
+    private void novoJogo() throws IOException {
+        pistas = puzzles.get(puzzleAtual);
+        solucao = solucoes.get(puzzleAtual);
+        System.arraycopy(pistas, 0, atual, 0, 81);
+        sessao = configuracao.getAlvo().abrir(pistas);
+
+        long inicio = System.nanoTime();
+        registrar(OperacaoCarga.INICIAR, inicio, sessao.iniciar());
+    }
+
+    private void inserir(int indice, int valor) throws IOException {
+        long inicio = System.nanoTime();
+        boolean aceita = sessao.inserir(indice / 9 + 1, indice % 9 + 1, valor);
+        registrar(OperacaoCarga.INSERIR, inicio, aceita);
+        if (aceita) {
+            atual[indice] = valor;
+        }
+    }
+
+    private void remover(int indice) throws IOException {
+        long inicio = System.nanoTime();
+        boolean aceita = sessao.remover(indice / 9 + 1, indice % 9 + 1);
+        registrar(OperacaoCarga.REMOVER, inicio, aceita);
+        if (aceita) {
+            atual[indice] = 0;
+        }
+    }
+
+    private void registrar(OperacaoCarga operacao, long inicio, boolean aceita) {
+        latencias[operacao.ordinal()].registrar(System.nanoTime() - inicio);
+        if (aceita) {
+            aceitas++;
+        } else {
+            rejeitadas++;
+        }
+    }
+
+    // ========== ESCOLHAS ==========
+
+    /**
+     * Sorteia uma célula vazia, ou uma preenchida pelo jogador, percorrendo a
+     * grade a partir de uma posição aleatória.
+     *
+     * @return o índice ou -1 se não houver nenhuma
+     */
+    private int sortearCelula(boolean vazia) {
+        int inicio = aleatorio.nextInt(81);
+        for (int passo = 0; passo < 81; passo++) {
+            int indice = (inicio + passo) % 81;
+            if (pistas[indice] == 0 && (atual[indice] == 0) == vazia) {
+                return indice;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Um valor já presente na linha da célula (ou o da solução, se a linha estiver vazia).
+     */
+    private int valorEmConflito(int indice) {
+        int linha = indice / 9 * 9;
+        int inicio = aleatorio.nextInt(9);
+        for (int passo = 0; passo < 9; passo++) {
+            int valor = atual[linha + (inicio + passo) % 9];
+            if (valor != 0) {
+                return valor;
+            }
+        }
+        return solucao[indice];
+    }
+
+    /**
+     * Um valor diferente da solução e, se possível, sem repetir na linha.
+     */
+    private int valorErrado(int indice) {
+        int linha = indice / 9 * 9;
+        int naLinha = 0;
+        for (int coluna = 0; coluna < 9; coluna++) {
+            naLinha |= 1 << atual[linha + coluna];
+        }
+        int inicio = aleatorio.nextInt(9);
+        int qualquer = 0;
+        for (int passo = 0; passo < 9; passo++) {
+            int valor = (inicio + passo) % 9 + 1;
+            if (valor == solucao[indice]) {
+                continue;
+            }
+            if ((naLinha & (1 << valor)) == 0) {
+                return valor;
+            }
+            qualquer = valor;
+        }
+        return qualquer;
+    }
+}
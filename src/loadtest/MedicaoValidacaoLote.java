@@ -0,0 +1,157 @@
+package loadtest;
+
+import domain.model.Tabuleiro;
+import factory.TabuleiroFactory;
+import service.ValidadorService;
+import solver.ResolvedorSudoku;
+import validation.ValidadorLote;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Compara a validação de grades completas uma a uma
+ * ({@link ValidadorService#validarTabuleiroCompleto}) com a validação em lote
+ * ({@link ValidadorService#validarTabuleirosCompletos}), e mede à parte só a
+ * verificação colunar, com as grades já transpostas.
+ *
+ * <p>As grades são variações da solução do puzzle de exemplo (dígitos
+ * trocados, linhas e colunas permutadas dentro das faixas), com uma parte
+ * propositalmente quebrada. Cada caminho roda várias vezes e vale a melhor.</p>
+ *
+ * <pre>
+ * java -cp out/sudoku.jar loadtest.MedicaoValidacaoLote [grades] [rodadas]
+ * </pre>
+ */
+public class MedicaoValidacaoLote {
+
+    public static void main(String[] args) {
+        int total = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int rodadas = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+
+        List<Tabuleiro> tabuleiros = gerarGrades(total, new SplittableRandom(42));
+        ValidadorService validador = ValidadorService.padrao();
+
+        // 1. Uma a uma
+        boolean[] individual = new boolean[total];
+        long melhorIndividual = Long.MAX_VALUE;
+        for (int rodada = 0; rodada < rodadas; rodada++) {
+            long inicio = System.nanoTime();
+            for (int i = 0; i < total; i++) {
+                individual[i] = validador.validarTabuleiroCompleto(tabuleiros.get(i)).isValido();
+            }
+            melhorIndividual = Math.min(melhorIndividual, System.nanoTime() - inicio);
+        }
+
+        // 2. Em lote
+        boolean[] lote = null;
+        long melhorLote = Long.MAX_VALUE;
+        for (int rodada = 0; rodada < rodadas; rodada++) {
+            long inicio = System.nanoTime();
+            lote = validador.validarTabuleirosCompletos(tabuleiros);
+            melhorLote = Math.min(melhorLote, System.nanoTime() - inicio);
+        }
+
+        // 3. Só a verificação, com as grades já no layout colunar
+        ValidadorLote carregado = new ValidadorLote(validador.getRegras());
+        for (int i = 0; i < Math.min(total, carregado.getCapacidade()); i++) {
+            carregado.adicionar(tabuleiros.get(i));
+        }
+        boolean[] parcial = new boolean[carregado.getCapacidade()];
+        int repeticoes = Math.max(1, total / carregado.getTamanho());
+        long melhorVerificacao = Long.MAX_VALUE;
+        for (int rodada = 0; rodada < rodadas; rodada++) {
+            long inicio = System.nanoTime();
+            for (int r = 0; r < repeticoes; r++) {
+                carregado.validar(parcial);
+            }
+            melhorVerificacao = Math.min(melhorVerificacao, System.nanoTime() - inicio);
+        }
+
+        int validas = 0;
+        for (boolean valida : lote) {
+            if (valida) {
+                validas++;
+            }
+        }
+        System.out.printf("%d grades (%d válidas), melhor de %d rodadas%n", total, validas, rodadas);
+        System.out.printf("Uma a uma: %8.1f ns/grade%n", (double) melhorIndividual / total);
+        System.out.printf("Em lote:   %8.1f ns/grade%n", (double) melhorLote / total);
+        System.out.printf("Ganho:     %8.1fx%n", (double) melhorIndividual / melhorLote);
+        System.out.printf("Só verificação em lote (sem transpor): %.1f ns/grade%n",
+                (double) melhorVerificacao / ((long) repeticoes * carregado.getTamanho()));
+        if (!Arrays.equals(individual, lote)) {
+            System.out.println("ATENÇÃO: os dois caminhos discordam!");
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Grades completas: ~90% válidas, o resto com duas células da mesma linha trocadas
+     * entre colunas de blocos diferentes.
+     */
+    private static List<Tabuleiro> gerarGrades(int total, SplittableRandom aleatorio) {
+        Tabuleiro exemplo = TabuleiroFactory.criarTabuleiroExemplo();
+        int[] base = new int[81];
+        for (int indice = 0; indice < 81; indice++) {
+            base[indice] = exemplo.getValor(indice);
+        }
+        if (!new ResolvedorSudoku().resolver(base)) {
+            throw new IllegalStateException("Puzzle de exemplo sem solução");
+        }
+
+        List<Tabuleiro> tabuleiros = new ArrayList<>(total);
+        int[] grade = new int[81];
+        int[] digitos = new int[10];
+        int[] linhas = new int[9];
+        int[] colunas = new int[9];
+        for (int i = 0; i < total; i++) {
+            embaralharDigitos(digitos, aleatorio);
+            embaralharDentroDasFaixas(linhas, aleatorio);
+            embaralharDentroDasFaixas(colunas, aleatorio);
+            for (int linha = 0; linha < 9; linha++) {
+                for (int coluna = 0; coluna < 9; coluna++) {
+                    grade[linha * 9 + coluna] = digitos[base[linhas[linha] * 9 + colunas[coluna]]];
+                }
+            }
+            if (aleatorio.nextInt(10) == 0) {
+                int linha = aleatorio.nextInt(9) * 9;
+                int a = aleatorio.nextInt(3);
+                int b = 3 + aleatorio.nextInt(6);
+                int temp = grade[linha + a];
+                grade[linha + a] = grade[linha + b];
+                grade[linha + b] = temp;
+            }
+            tabuleiros.add(TabuleiroFactory.criarTabuleiroDeGrade(grade));
+        }
+        return tabuleiros;
+    }
+
+    private static void embaralharDigitos(int[] digitos, SplittableRandom aleatorio) {
+        for (int d = 0; d <= 9; d++) {
+            digitos[d] = d;
+        }
+        for (int d = 9; d > 1; d--) {
+            int outro = 1 + aleatorio.nextInt(d);
+            int temp = digitos[d];
+            digitos[d] = digitos[outro];
+            digitos[outro] = temp;
+        }
+    }
+
+    private static void embaralharDentroDasFaixas(int[] ordem, SplittableRandom aleatorio) {
+        for (int faixa = 0; faixa < 9; faixa += 3) {
+            for (int k = 0; k < 3; k++) {
+                ordem[faixa + k] = faixa + k;
+            }
+            for (int k = 2; k > 0; k--) {
+                int outro = aleatorio.nextInt(k + 1);
+                int temp = ordem[faixa + k];
+                ordem[faixa + k] = ordem[faixa + outro];
+                ordem[faixa + outro] = temp;
+            }
+        }
+    }
+}
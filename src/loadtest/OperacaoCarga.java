@@ -0,0 +1,22 @@
+package loadtest;
+
+/**
+ * Operações medidas separadamente no relatório.
+ */
+public enum OperacaoCarga {
+    INICIAR("Iniciar"),
+    INSERIR("Inserir"),
+    REMOVER("Remover"),
+    LIMPAR("Limpar"),
+    FINALIZAR("Finalizar");
+
+    private final String descricao;
+
+    OperacaoCarga(String descricao) {
+        this.descricao = descricao;
+    }
+
+    public String getDescricao() {
+        return descricao;
+    }
+}
@@ -0,0 +1,79 @@
+package loadtest;
+
+/**
+ * Distribuição das jogadas de um jogador simulado, em pesos relativos.
+ * Quando o tabuleiro fica cheio, o jogador finaliza (se estiver certo) ou
+ * remove um valor errado, independentemente dos pesos.
+ */
+public class PerfilJogadas {
+
+    private final int correta;
+    private final int conflito;
+    private final int errada;
+    private final int remocao;
+    private final int limpeza;
+    private final int total;
+
+    /**
+     * @param correta  inserir o valor da solução
+     * @param conflito inserir um valor já presente na linha (gera conflito)
+     * @param errada   inserir um valor sem conflito direto, mas diferente da solução
+     * @param remocao  remover um valor inserido
+     * @param limpeza  limpar todas as células editáveis
+     */
+    public PerfilJogadas(int correta, int conflito, int errada, int remocao, int limpeza) {
+        if (correta < 0 || conflito < 0 || errada < 0 || remocao < 0 || limpeza < 0) {
+            throw new IllegalArgumentException("Pesos não podem ser negativos");
+        }
+        if (correta == 0) {
+            throw new IllegalArgumentException("O peso de jogadas corretas deve ser positivo");
+        }
+        this.correta = correta;
+        this.conflito = conflito;
+        this.errada = errada;
+        this.remocao = remocao;
+        this.limpeza = limpeza;
+        this.total = correta + conflito + errada + remocao + limpeza;
+    }
+
+    /**
+     * Jogador típico: maioria de acertos, alguns erros e correções,
+     * e uma limpeza do tabuleiro de vez em quando.
+     */
+    public static PerfilJogadas realista() {
+        return new PerfilJogadas(700, 100, 80, 118, 2);
+    }
+
+    /**
+     * Tipo da próxima jogada a partir de um sorteio em [0, total).
+     */
+    Tipo sortear(int sorteio) {
+        if ((sorteio -= correta) < 0) {
+            return Tipo.CORRETA;
+        }
+        if ((sorteio -= conflito) < 0) {
+            return Tipo.CONFLITO;
+        }
+        if ((sorteio -= errada) < 0) {
+            return Tipo.ERRADA;
+        }
+        if ((sorteio -= remocao) < 0) {
+            return Tipo.REMOCAO;
+        }
+        return Tipo.LIMPEZA;
+    }
+
+    int getTotal() {
+        return total;
+    }
+
+    enum Tipo {
+        CORRETA, CONFLITO, ERRADA, REMOCAO, LIMPEZA
+    }
+
+    @Override
+    public String toString() {
+        return String.format("corretas %d, conflitos %d, erradas %d, remoções %d, limpezas %d",
+                correta, conflito, errada, remocao, limpeza);
+    }
+}
@@ -0,0 +1,153 @@
+package loadtest;
+
+import java.util.Locale;
+
+/**
+ * Resultado de um teste de carga: vazão, percentis de latência por operação
+ * e atividade do coletor de lixo durante a execução.
+ */
+public class RelatorioCarga {
+
+    private static final double[] PERCENTIS = {50, 90, 99, 99.9};
+
+    private final int jogadores;
+    private final long duracaoNanos;
+    private final HistogramaLatencia[] latencias;
+    private final HistogramaLatencia geral;
+    private final long aceitas;
+    private final long rejeitadas;
+    private final long vencidos;
+    private final int falhas;
+    private final Throwable primeiraFalha;
+    private final long coletas;
+    private final long tempoColetaMillis;
+    private final long heapUsadoBytes;
+
+    RelatorioCarga(int jogadores, long duracaoNanos, HistogramaLatencia[] latencias,
+                   long aceitas, long rejeitadas, long vencidos, int falhas, Throwable primeiraFalha,
+                   long coletas, long tempoColetaMillis, long heapUsadoBytes) {
+        this.jogadores = jogadores;
+        this.duracaoNanos = duracaoNanos;
+        this.latencias = latencias;
+        this.geral = new HistogramaLatencia();
+        for (HistogramaLatencia histograma : latencias) {
+            geral.combinar(histograma);
+        }
+        this.aceitas = aceitas;
+        this.rejeitadas = rejeitadas;
+        this.vencidos = vencidos;
+        this.falhas = falhas;
+        this.primeiraFalha = primeiraFalha;
+        this.coletas = coletas;
+        this.tempoColetaMillis = tempoColetaMillis;
+        this.heapUsadoBytes = heapUsadoBytes;
+    }
+
+    // ========== CONSULTAS ==========
+
+    public int getJogadores() {
+        return jogadores;
+    }
+
+    public long getDuracaoNanos() {
+        return duracaoNanos;
+    }
+
+    public long getOperacoes() {
+        return geral.getTotal();
+    }
+
+    /**
+     * Operações por segundo, somando todos os jogadores.
+     */
+    public double getVazao() {
+        return duracaoNanos == 0 ? 0.0 : geral.getTotal() * 1e9 / duracaoNanos;
+    }
+
+    public HistogramaLatencia getLatencias(OperacaoCarga operacao) {
+        return latencias[operacao.ordinal()];
+    }
+
+    /**
+     * Latências de todas as operações juntas.
+     */
+    public HistogramaLatencia getLatencias() {
+        return geral;
+    }
+
+    public long getAceitas() {
+        return aceitas;
+    }
+
+    public long getRejeitadas() {
+        return rejeitadas;
+    }
+
+    /**
+     * Jogos finalizados com vitória.
+     */
+    public long getVencidos() {
+        return vencidos;
+    }
+
+    /**
+     * Jogadores interrompidos por exceção.
+     */
+    public int getFalhas() {
+        return falhas;
+    }
+
+    public Throwable getPrimeiraFalha() {
+        return primeiraFalha;
+    }
+
+    public long getColetas() {
+        return coletas;
+    }
+
+    public long getTempoColetaMillis() {
+        return tempoColetaMillis;
+    }
+
+    /**
+     * Heap em uso ao final da execução.
+     */
+    public long getHeapUsadoBytes() {
+        return heapUsadoBytes;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder texto = new StringBuilder();
+        double segundos = duracaoNanos / 1e9;
+        texto.append(String.format(Locale.ROOT, "Jogadores: %d | Duração: %.2f s | Operações: %d (%.0f op/s)%n",
+                jogadores, segundos, geral.getTotal(), getVazao()));
+        texto.append(String.format(Locale.ROOT, "Aceitas: %d | Rejeitadas: %d | Jogos vencidos: %d | Falhas: %d%n",
+                aceitas, rejeitadas, vencidos, falhas));
+
+        texto.append(String.format(Locale.ROOT, "%n%-10s %10s %9s %9s %9s %9s %9s %9s%n",
+                "Operação", "Total", "média", "p50", "p90", "p99", "p99.9", "máx"));
+        for (OperacaoCarga operacao : OperacaoCarga.values()) {
+            linha(texto, operacao.getDescricao(), latencias[operacao.ordinal()]);
+        }
+        linha(texto, "Todas", geral);
+        texto.append("(latências em µs)\n");
+
+        texto.append(String.format(Locale.ROOT, "%nGC: %d coletas, %d ms (%.1f%% do tempo) | Heap em uso: %d MB%n",
+                coletas, tempoColetaMillis, segundos == 0 ? 0.0 : tempoColetaMillis / 10.0 / segundos,
+                heapUsadoBytes / (1024 * 1024)));
+        if (primeiraFalha != null) {
+            texto.append("Primeira falha: ").append(primeiraFalha).append('\n');
+        }
+        return texto.toString();
+    }
+
+    private static void linha(StringBuilder texto, String nome, HistogramaLatencia histograma) {
+        texto.append(String.format(Locale.ROOT, "%-10s %10d %9.1f", nome, histograma.getTotal(),
+                histograma.getMedia() / 1000));
+        for (double percentil : PERCENTIS) {
+            texto.append(String.format(Locale.ROOT, " %9.1f", histograma.percentil(percentil) / 1000.0));
+        }
+        texto.append(String.format(Locale.ROOT, " %9.1f%n", histograma.getMaximo() / 1000.0));
+    }
+}
@@ -0,0 +1,23 @@
+package loadtest;
+
+import java.io.IOException;
+
+/**
+ * Um jogo aberto em um {@link AlvoCarga}. Cada operação retorna se foi
+ * aceita; linhas e colunas vão de 1 a 9.
+ */
+public interface SessaoCarga extends AutoCloseable {
+
+    boolean iniciar() throws IOException;
+
+    boolean inserir(int linha, int coluna, int valor) throws IOException;
+
+    boolean remover(int linha, int coluna) throws IOException;
+
+    boolean limpar() throws IOException;
+
+    boolean finalizar() throws IOException;
+
+    @Override
+    void close() throws IOException;
+}
@@ -0,0 +1,68 @@
+package persistence;
+
+import domain.exception.SudokuException;
+import service.JogoService;
+import validation.RegrasCompiladas;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Salva e carrega jogos em arquivo usando o {@link CodecJogo}.
+ *
+ * <p>Um arquivo pode conter um único jogo ou vários jogos em sequência
+ * (para restaurar todas as sessões de um servidor de uma vez).</p>
+ */
+public final class ArquivoJogo {
+
+    private ArquivoJogo() {
+    }
+
+    public static void salvar(JogoService jogo, Path arquivo) throws IOException {
+        Files.write(arquivo, CodecJogo.codificar(jogo));
+    }
+
+    /**
+     * Carrega o primeiro jogo do arquivo.
+     *
+     * @throws SudokuException se o conteúdo não for um jogo válido da variante
+     */
+    public static JogoService carregar(Path arquivo, RegrasCompiladas regras) throws IOException {
+        return CodecJogo.decodificar(ByteBuffer.wrap(Files.readAllBytes(arquivo)), regras);
+    }
+
+    /**
+     * Grava vários jogos em sequência, num único buffer e numa única escrita.
+     */
+    public static void salvarTodos(List<JogoService> jogos, Path arquivo) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(Math.multiplyExact(jogos.size(), CodecJogo.TAMANHO_MAXIMO));
+        for (JogoService jogo : jogos) {
+            CodecJogo.codificar(jogo, buffer);
+        }
+        buffer.flip();
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                canal.write(buffer);
+            }
+        }
+    }
+
+    /**
+     * Lê todos os jogos gravados por {@link #salvarTodos}.
+     */
+    public static List<JogoService> carregarTodos(Path arquivo, RegrasCompiladas regras) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(arquivo));
+        List<JogoService> jogos = new ArrayList<>();
+        while (buffer.hasRemaining()) {
+            jogos.add(CodecJogo.decodificar(buffer, regras));
+        }
+        return jogos;
+    }
+}
@@ -0,0 +1,275 @@
+package persistence;
+
+import domain.exception.SudokuException;
+import domain.model.Celula;
+import domain.model.Tabuleiro;
+import factory.JogoFactory;
+import service.JogoService;
+import service.ValidadorService;
+import state.EstadoJogo;
+import validation.RegrasCompiladas;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Set;
+
+/**
+ * Formato binário versionado de um jogo completo.
+ *
+ * <p><b>Versão 1</b> (bytes, em ordem):</p>
+ * <pre>
+ *  2  assinatura "SD"
+ *  1  versão
+ *  1  estado (ordinal de EstadoJogo)
+ *  8  identificador da variante (RegrasCompiladas)
+ * 41  valores, dois por byte (nibble alto = célula par)
+ * 11  bitmap de células fixas (bit i = célula i)
+ * 11  bitmap de células com erro
+ * 1-5 jogadas realizadas (varint)
+ *  1  quantidade de células com rascunho
+ *  3  por célula com rascunho: índice + máscara de 9 bits
+ * </pre>
+ *
+ * <p>Um jogo sem rascunhos ocupa de 77 a 81 bytes. A codificação escreve
+ * direto no ByteBuffer e a decodificação lê direto dele, sem vetores ou
+ * estruturas intermediárias: só são criadas as Celulas do tabuleiro.</p>
+ */
+public final class CodecJogo {
+
+    public static final byte VERSAO = 1;
+
+    /** Maior tamanho possível de um jogo codificado (todas as células com rascunho). */
+    public static final int TAMANHO_MAXIMO = 2 + 1 + 1 + 8 + 41 + 11 + 11 + 5 + 1 + 81 * 3;
+
+    private static final byte ASSINATURA_0 = 'S';
+    private static final byte ASSINATURA_1 = 'D';
+    private static final EstadoJogo[] ESTADOS = EstadoJogo.values();
+
+    private CodecJogo() {
+    }
+
+    // ========== CODIFICAÇÃO ==========
+
+    /**
+     * Escreve o jogo na posição atual do buffer.
+     *
+     * @throws java.nio.BufferOverflowException se não houver espaço (use {@link #TAMANHO_MAXIMO})
+     */
+    public static void codificar(JogoService jogo, ByteBuffer destino) {
+        codificar(jogo.getTabuleiro(), jogo.getTipoEstado(), jogo.getJogadasRealizadas(),
+                jogo.getRegras().getIdentificador(), destino);
+    }
+
+    public static void codificar(Tabuleiro tabuleiro, EstadoJogo estado, int jogadas, long variante,
+                                 ByteBuffer destino) {
+        destino.put(ASSINATURA_0).put(ASSINATURA_1).put(VERSAO).put((byte) estado.ordinal());
+        destino.putLong(variante);
+
+        // 1. Valores em nibbles
+        for (int indice = 0; indice < 81; indice += 2) {
+            int alto = tabuleiro.getValor(indice);
+            int baixo = indice + 1 < 81 ? tabuleiro.getValor(indice + 1) : 0;
+            destino.put((byte) (alto << 4 | baixo));
+        }
+
+        // 2. Bitmaps de fixas e de erros
+        for (int inicio = 0; inicio < 81; inicio += 8) {
+            int bits = 0;
+            for (int indice = inicio, fim = Math.min(inicio + 8, 81); indice < fim; indice++) {
+                if (tabuleiro.isFixo(indice)) {
+                    bits |= 1 << (indice - inicio);
+                }
+            }
+            destino.put((byte) bits);
+        }
+        for (int inicio = 0; inicio < 81; inicio += 8) {
+            int bits = 0;
+            for (int indice = inicio, fim = Math.min(inicio + 8, 81); indice < fim; indice++) {
+                if (tabuleiro.isEmErro(indice)) {
+                    bits |= 1 << (indice - inicio);
+                }
+            }
+            destino.put((byte) bits);
+        }
+
+        // 3. Jogadas
+        escreverVarint(destino, jogadas);
+
+        // 4. Rascunhos esparsos: a quantidade é preenchida depois de percorrer as células
+        int posicaoQuantidade = destino.position();
+        destino.put((byte) 0);
+        int comRascunho = 0;
+        for (int indice = 0; indice < 81; indice++) {
+            Set<Integer> rascunhos = tabuleiro.getCelula(indice / 9, indice % 9).getRascunhos();
+            if (rascunhos.isEmpty()) {
+                continue;
+            }
+            int mascara = 0;
+            for (int numero : rascunhos) {
+                mascara |= 1 << (numero - 1);
+            }
+            destino.put((byte) indice).putShort((short) mascara);
+            comRascunho++;
+        }
+        destino.put(posicaoQuantidade, (byte) comRascunho);
+    }
+
+    /**
+     * Codifica em um vetor do tamanho exato.
+     */
+    public static byte[] codificar(JogoService jogo) {
+        ByteBuffer buffer = ByteBuffer.allocate(TAMANHO_MAXIMO);
+        codificar(jogo, buffer);
+        byte[] bytes = new byte[buffer.position()];
+        buffer.flip().get(bytes);
+        return bytes;
+    }
+
+    // ========== DECODIFICAÇÃO ==========
+
+    /**
+     * Lê um jogo do Sudoku clássico a partir da posição atual do buffer.
+     */
+    public static JogoService decodificar(ByteBuffer origem) {
+        return decodificar(origem, RegrasCompiladas.CLASSICO);
+    }
+
+    /**
+     * Lê um jogo a partir da posição atual do buffer; ao final o buffer
+     * fica posicionado logo após o jogo (vários jogos podem ser lidos em sequência).
+     *
+     * @param regras regras da variante; devem ser as mesmas usadas ao salvar
+     * @throws SudokuException se os dados não forem um jogo válido desta variante,
+     *         inclusive se forem inconsistentes (estado que o tabuleiro não permite,
+     *         marcas em células vazias, jogadas negativas)
+     */
+    public static JogoService decodificar(ByteBuffer origem, RegrasCompiladas regras) {
+        try {
+            if (origem.get() != ASSINATURA_0 || origem.get() != ASSINATURA_1) {
+                throw new SudokuException("Dados não são um jogo salvo");
+            }
+            byte versao = origem.get();
+            if (versao != VERSAO) {
+                throw new SudokuException("Versão de jogo salvo não suportada: " + versao);
+            }
+            int ordinalEstado = origem.get();
+            if (ordinalEstado < 0 || ordinalEstado >= ESTADOS.length) {
+                throw new SudokuException("Estado de jogo inválido: " + ordinalEstado);
+            }
+            if (origem.getLong() != regras.getIdentificador()) {
+                throw new SudokuException("Jogo salvo pertence a outra variante (esperado: " + regras.getNome() + ")");
+            }
+
+            Tabuleiro tabuleiro = lerTabuleiro(origem);
+            int jogadas = lerVarint(origem);
+            if (jogadas < 0) {
+                throw new SudokuException("Contador de jogadas inválido: " + jogadas);
+            }
+            lerRascunhos(origem, tabuleiro);
+            EstadoJogo estado = ESTADOS[ordinalEstado];
+            verificarEstado(estado, tabuleiro, regras);
+            return JogoFactory.restaurarJogo(tabuleiro, estado, jogadas, regras);
+        } catch (BufferUnderflowException e) {
+            throw new SudokuException("Jogo salvo truncado", e);
+        } catch (IllegalArgumentException e) {
+            throw new SudokuException("Jogo salvo corrompido: " + e.getMessage(), e);
+        }
+    }
+
+    private static Tabuleiro lerTabuleiro(ByteBuffer origem) {
+        // Bitmaps vêm depois dos valores: lidos por posição absoluta, sem copiar
+        if (origem.remaining() < 41 + 11 + 11) {
+            throw new BufferUnderflowException();
+        }
+        int inicioValores = origem.position();
+        int inicioFixos = inicioValores + 41;
+        int inicioErros = inicioFixos + 11;
+
+        Tabuleiro tabuleiro = new Tabuleiro();
+        for (int indice = 0; indice < 81; indice++) {
+            int par = origem.get(inicioValores + (indice >> 1));
+            int valor = (indice & 1) == 0 ? (par >> 4) & 0x0F : par & 0x0F;
+            boolean fixo = bitLigado(origem, inicioFixos, indice);
+            boolean erro = bitLigado(origem, inicioErros, indice);
+            if (valor == 0) {
+                if (fixo || erro) {
+                    throw new SudokuException("Célula vazia marcada como " + (fixo ? "fixa" : "com erro") + ": " + indice);
+                }
+                continue;
+            }
+
+            Celula celula = fixo ? Celula.criarFixa(valor) : Celula.criarPreenchida(valor);
+            tabuleiro.setCelula(indice / 9, indice % 9, erro ? celula.marcarErro() : celula);
+        }
+        // Bits além da célula 80 (último byte de cada bitmap) devem estar zerados
+        if ((origem.get(inicioFixos + 10) | origem.get(inicioErros + 10)) >> 1 != 0) {
+            throw new SudokuException("Bitmap de células com bits além da célula 80");
+        }
+        origem.position(inicioErros + 11);
+        return tabuleiro;
+    }
+
+    /**
+     * Completo e vencido exigem o tabuleiro cheio; vencido exige também que esteja correto.
+     */
+    private static void verificarEstado(EstadoJogo estado, Tabuleiro tabuleiro, RegrasCompiladas regras) {
+        if ((estado == EstadoJogo.COMPLETO || estado == EstadoJogo.VENCIDO) && !tabuleiro.estaCompleto()) {
+            throw new SudokuException("Estado " + estado + " com " + tabuleiro.getCelulasPreenchidas()
+                    + "/81 células preenchidas");
+        }
+        if (estado == EstadoJogo.VENCIDO
+                && !ValidadorService.para(regras).validarTabuleiroCompleto(tabuleiro).isValido()) {
+            throw new SudokuException("Estado " + estado + " com tabuleiro incorreto");
+        }
+    }
+
+    private static boolean bitLigado(ByteBuffer origem, int inicio, int indice) {
+        return (origem.get(inicio + (indice >> 3)) & (1 << (indice & 7))) != 0;
+    }
+
+    /**
+     * Rascunhos são lidos depois das jogadas; aplicados sobre o tabuleiro já montado.
+     */
+    private static void lerRascunhos(ByteBuffer origem, Tabuleiro tabuleiro) {
+        int quantidade = origem.get() & 0xFF;
+        for (int i = 0; i < quantidade; i++) {
+            int indice = origem.get() & 0xFF;
+            int mascara = origem.getShort() & 0x1FF;
+            if (indice > 80) {
+                throw new SudokuException("Índice de rascunho inválido: " + indice);
+            }
+            Celula atual = tabuleiro.getCelula(indice / 9, indice % 9);
+            Celula.Builder builder = new Celula.Builder()
+                    .comValor(atual.getValorAtual())
+                    .fixo(atual.isFixo())
+                    .emErro(atual.isEmErro());
+            while (mascara != 0) {
+                builder.adicionarRascunho(Integer.numberOfTrailingZeros(mascara) + 1);
+                mascara &= mascara - 1;
+            }
+            tabuleiro.setCelula(indice / 9, indice % 9, builder.build());
+        }
+    }
+
+    // ========== VARINT ==========
+
+    private static void escreverVarint(ByteBuffer destino, int valor) {
+        while ((valor & ~0x7F) != 0) {
+            destino.put((byte) ((valor & 0x7F) | 0x80));
+            valor >>>= 7;
+        }
+        destino.put((byte) valor);
+    }
+
+    private static int lerVarint(ByteBuffer origem) {
+        int valor = 0;
+        for (int deslocamento = 0; deslocamento < 35; deslocamento += 7) {
+            int b = origem.get();
+            valor |= (b & 0x7F) << deslocamento;
+            if ((b & 0x80) == 0) {
+                return valor;
+            }
+        }
+        throw new SudokuException("Contador de jogadas inválido");
+    }
+}
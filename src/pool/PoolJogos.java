@@ -0,0 +1,414 @@
+package pool;
+
+import domain.exception.SudokuException;
+import domain.model.ConjuntoCelulas;
+import domain.model.LeituraTabuleiro;
+import domain.model.Tabuleiro;
+import state.EstadoJogo;
+import validation.RegraSudoku;
+import validation.RegrasCompiladas;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Armazena muitos jogos simultâneos em vetores primitivos contíguos
+ * (estrutura de vetores), indexados pelo número do slot.
+ *
+ * <p>Um JogoService com Tabuleiro, 81 Celulas e seus conjuntos ocupa dezenas
+ * de kilobytes espalhados pelo heap. Aqui cada jogo ocupa
+ * {@link #BYTES_POR_JOGO} bytes: 81 valores, bitmaps de células fixas e com
+ * erro, estado, contador de jogadas e instante da última atividade.
+ * Rascunhos não são guardados no pool.</p>
+ *
+ * <p>As regras de jogo são as mesmas do JogoService (estados de
+ * {@link EstadoJogo}, células fixas protegidas, conflitos marcados após
+ * cada inserção), aplicadas direto nos vetores. Para ler um jogo como
+ * tabuleiro use uma {@link VisaoJogo}, que não aloca por acesso.</p>
+ *
+ * <p>Alocação, liberação e varreduras são sincronizadas. As operações em
+ * um slot não são: cada jogo deve ser manipulado por uma thread de cada vez
+ * (por exemplo, particionando os slots entre threads).</p>
+ */
+public class PoolJogos {
+
+    /** Bytes por jogo nos vetores do pool: valores, 4 bitmaps, estado, preenchidas, jogadas, atividade e pilha de livres. */
+    public static final int BYTES_POR_JOGO = 81 + 4 * 8 + 1 + 1 + 4 + 8 + 4;
+
+    private static final byte LIVRE = -1;
+    private static final byte NAO_INICIADO = (byte) EstadoJogo.NAO_INICIADO.ordinal();
+    private static final byte EM_ANDAMENTO = (byte) EstadoJogo.EM_ANDAMENTO.ordinal();
+    private static final byte COMPLETO = (byte) EstadoJogo.COMPLETO.ordinal();
+    private static final byte VENCIDO = (byte) EstadoJogo.VENCIDO.ordinal();
+    private static final EstadoJogo[] ESTADOS = EstadoJogo.values();
+
+    private final int capacidade;
+    private final RegraSudoku regraSudoku;
+
+    // Estrutura de vetores: o jogo do slot s ocupa valores[s * 81 .. s * 81 + 80] e a posição s dos demais
+    final byte[] valores;
+    final long[] fixosBaixo;   // células 0-63
+    final long[] fixosAlto;    // células 64-80
+    final long[] errosBaixo;
+    final long[] errosAlto;
+    final byte[] estados;
+    final byte[] preenchidas;
+    private final int[] jogadas;
+    private final long[] ultimaAtividade;
+
+    // Pilha de slots livres
+    private final int[] livres;
+    private int totalLivres;
+
+    /**
+     * Pool para o Sudoku clássico.
+     */
+    public PoolJogos(int capacidade) {
+        this(capacidade, RegrasCompiladas.CLASSICO);
+    }
+
+    public PoolJogos(int capacidade, RegrasCompiladas regras) {
+        if (capacidade < 1) {
+            throw new IllegalArgumentException("Capacidade deve ser positiva");
+        }
+        this.capacidade = capacidade;
+        this.regraSudoku = new RegraSudoku(regras);
+
+        this.valores = new byte[Math.multiplyExact(capacidade, 81)];
+        this.fixosBaixo = new long[capacidade];
+        this.fixosAlto = new long[capacidade];
+        this.errosBaixo = new long[capacidade];
+        this.errosAlto = new long[capacidade];
+        this.estados = new byte[capacidade];
+        this.preenchidas = new byte[capacidade];
+        this.jogadas = new int[capacidade];
+        this.ultimaAtividade = new long[capacidade];
+
+        this.livres = new int[capacidade];
+        for (int i = 0; i < capacidade; i++) {
+            estados[i] = LIVRE;
+            livres[i] = capacidade - 1 - i; // slots baixos saem primeiro
+        }
+        this.totalLivres = capacidade;
+    }
+
+    // ========== CICLO DE VIDA ==========
+
+    /**
+     * Reserva um slot com tabuleiro vazio, em estado não iniciado.
+     *
+     * @return número do slot
+     * @throws SudokuException se o pool estiver cheio
+     */
+    public synchronized int alocar() {
+        if (totalLivres == 0) {
+            throw new SudokuException("Pool de jogos cheio (" + capacidade + " jogos)");
+        }
+        int slot = livres[--totalLivres];
+        estados[slot] = NAO_INICIADO;
+        ultimaAtividade[slot] = System.currentTimeMillis();
+        return slot;
+    }
+
+    /**
+     * Reserva um slot e copia um tabuleiro (valores, fixas e erros).
+     */
+    public int alocar(LeituraTabuleiro origem) {
+        int slot = alocar();
+        int base = slot * 81;
+        long fixosB = 0;
+        long fixosA = 0;
+        long errosB = 0;
+        long errosA = 0;
+        for (int indice = 0; indice < 81; indice++) {
+            valores[base + indice] = (byte) origem.getValor(indice);
+            if (origem.isFixo(indice)) {
+                if (indice < 64) {
+                    fixosB |= 1L << indice;
+                } else {
+                    fixosA |= 1L << (indice - 64);
+                }
+            }
+            if (origem.isEmErro(indice)) {
+                if (indice < 64) {
+                    errosB |= 1L << indice;
+                } else {
+                    errosA |= 1L << (indice - 64);
+                }
+            }
+        }
+        fixosBaixo[slot] = fixosB;
+        fixosAlto[slot] = fixosA;
+        errosBaixo[slot] = errosB;
+        errosAlto[slot] = errosA;
+        preenchidas[slot] = (byte) origem.getCelulasPreenchidas();
+        return slot;
+    }
+
+    /**
+     * Devolve o slot ao pool e zera o seu conteúdo.
+     */
+    public synchronized void liberar(int slot) {
+        verificarEmUso(slot);
+        zerar(slot);
+        livres[totalLivres++] = slot;
+    }
+
+    // ========== OPERAÇÕES DE JOGO ==========
+
+    public boolean iniciar(int slot) {
+        verificarEmUso(slot);
+        if (estados[slot] != NAO_INICIADO) {
+            return false;
+        }
+        estados[slot] = preenchidas[slot] == 81 ? COMPLETO : EM_ANDAMENTO;
+        tocar(slot);
+        return true;
+    }
+
+    /**
+     * Define uma célula fixa (apenas antes de iniciar o jogo).
+     */
+    public boolean definirFixo(int slot, int indice, int valor) {
+        verificarEmUso(slot);
+        verificarIndice(indice);
+        if (estados[slot] != NAO_INICIADO || valor < 1 || valor > 9) {
+            return false;
+        }
+        if (valores[slot * 81 + indice] == 0) {
+            preenchidas[slot]++;
+        }
+        valores[slot * 81 + indice] = (byte) valor;
+        if (indice < 64) {
+            fixosBaixo[slot] |= 1L << indice;
+        } else {
+            fixosAlto[slot] |= 1L << (indice - 64);
+        }
+        return true;
+    }
+
+    /**
+     * Insere um valor em uma célula editável e remarca os conflitos.
+     *
+     * @return false se o jogo não aceita jogadas ou a célula é fixa
+     */
+    public boolean inserir(int slot, int indice, int valor) {
+        verificarEmUso(slot);
+        verificarIndice(indice);
+        byte estado = estados[slot];
+        if ((estado != EM_ANDAMENTO && estado != COMPLETO) || valor < 1 || valor > 9 || fixo(slot, indice)) {
+            return false;
+        }
+
+        int posicao = slot * 81 + indice;
+        if (valores[posicao] == 0) {
+            preenchidas[slot]++;
+        }
+        valores[posicao] = (byte) valor;
+        jogadas[slot]++;
+        tocar(slot);
+
+        if (preenchidas[slot] == 81) {
+            estados[slot] = COMPLETO;
+        }
+        marcarConflitos(slot);
+        return true;
+    }
+
+    /**
+     * Remove o valor de uma célula editável e remarca os conflitos.
+     */
+    public boolean remover(int slot, int indice) {
+        verificarEmUso(slot);
+        verificarIndice(indice);
+        byte estado = estados[slot];
+        int posicao = slot * 81 + indice;
+        if ((estado != EM_ANDAMENTO && estado != COMPLETO) || fixo(slot, indice) || valores[posicao] == 0) {
+            return false;
+        }
+
+        valores[posicao] = 0;
+        preenchidas[slot]--;
+        jogadas[slot]++;
+        tocar(slot);
+
+        estados[slot] = EM_ANDAMENTO;
+        marcarConflitos(slot);
+        return true;
+    }
+
+    /**
+     * Finaliza o jogo se o tabuleiro estiver completo e correto.
+     */
+    public boolean finalizar(int slot) {
+        verificarEmUso(slot);
+        if (estados[slot] != COMPLETO || !regraSudoku.estaCorreto(new VisaoJogo(this).posicionar(slot))) {
+            return false;
+        }
+        estados[slot] = VENCIDO;
+        tocar(slot);
+        return true;
+    }
+
+    // ========== CONSULTAS ==========
+
+    /**
+     * Cria uma visão reutilizável; posicione-a em um slot antes de ler.
+     */
+    public VisaoJogo visao() {
+        return new VisaoJogo(this);
+    }
+
+    public int getValor(int slot, int indice) {
+        verificarIndice(indice);
+        return valores[slot * 81 + indice];
+    }
+
+    public boolean isFixo(int slot, int indice) {
+        verificarIndice(indice);
+        return fixo(slot, indice);
+    }
+
+    public boolean isEmErro(int slot, int indice) {
+        verificarIndice(indice);
+        return emErro(slot, indice);
+    }
+
+    // Leituras sem verificação do índice (0-80), para a VisaoJogo e as operações que já verificaram
+
+    boolean fixo(int slot, int indice) {
+        return indice < 64
+                ? (fixosBaixo[slot] & (1L << indice)) != 0
+                : (fixosAlto[slot] & (1L << (indice - 64))) != 0;
+    }
+
+    boolean emErro(int slot, int indice) {
+        return indice < 64
+                ? (errosBaixo[slot] & (1L << indice)) != 0
+                : (errosAlto[slot] & (1L << (indice - 64))) != 0;
+    }
+
+    public EstadoJogo getEstado(int slot) {
+        verificarEmUso(slot);
+        return ESTADOS[estados[slot]];
+    }
+
+    public int getCelulasPreenchidas(int slot) {
+        return preenchidas[slot];
+    }
+
+    public int getJogadas(int slot) {
+        return jogadas[slot];
+    }
+
+    public long getUltimaAtividade(int slot) {
+        return ultimaAtividade[slot];
+    }
+
+    public int getCapacidade() {
+        return capacidade;
+    }
+
+    public synchronized int getEmUso() {
+        return capacidade - totalLivres;
+    }
+
+    /**
+     * Converte o jogo em um Tabuleiro completo (para abrir em um JogoService).
+     */
+    public Tabuleiro paraTabuleiro(int slot) {
+        verificarEmUso(slot);
+        Tabuleiro tabuleiro = new Tabuleiro();
+        int base = slot * 81;
+        for (int indice = 0; indice < 81; indice++) {
+            int valor = valores[base + indice];
+            if (valor == 0) {
+                continue;
+            }
+            if (fixo(slot, indice)) {
+                tabuleiro.marcarComoFixo(indice / 9, indice % 9, valor);
+            } else {
+                tabuleiro.inserirNumero(indice / 9, indice % 9, valor);
+            }
+            if (emErro(slot, indice)) {
+                tabuleiro.marcarErro(indice / 9, indice % 9);
+            }
+        }
+        return tabuleiro;
+    }
+
+    // ========== OPERAÇÕES EM MASSA ==========
+
+    /**
+     * Libera todos os jogos sem atividade desde o limite informado.
+     * Percorre apenas os vetores de estado e de atividade, em sequência.
+     *
+     * @param limiteMillis instante (System.currentTimeMillis) antes do qual o jogo é considerado inativo
+     * @param aoExpirar    chamado com o slot antes de liberá-lo (pode ser null)
+     * @return quantidade de jogos liberados
+     */
+    public synchronized int liberarInativos(long limiteMillis, IntConsumer aoExpirar) {
+        int liberados = 0;
+        for (int slot = 0; slot < capacidade; slot++) {
+            if (estados[slot] != LIVRE && ultimaAtividade[slot] < limiteMillis) {
+                if (aoExpirar != null) {
+                    aoExpirar.accept(slot);
+                }
+                zerar(slot);
+                livres[totalLivres++] = slot;
+                liberados++;
+            }
+        }
+        return liberados;
+    }
+
+    /**
+     * Quantidade de jogos em cada estado, indexada pelo ordinal de {@link EstadoJogo}.
+     */
+    public synchronized int[] contarPorEstado() {
+        int[] contagem = new int[ESTADOS.length];
+        for (int slot = 0; slot < capacidade; slot++) {
+            byte estado = estados[slot];
+            if (estado != LIVRE) {
+                contagem[estado]++;
+            }
+        }
+        return contagem;
+    }
+
+    // ========== AUXILIARES ==========
+
+    private void marcarConflitos(int slot) {
+        ConjuntoCelulas conflitos = regraSudoku.encontrarConflitos(new VisaoJogo(this).posicionar(slot));
+        errosBaixo[slot] = conflitos.getBaixo();
+        errosAlto[slot] = conflitos.getAlto();
+    }
+
+    private void tocar(int slot) {
+        ultimaAtividade[slot] = System.currentTimeMillis();
+    }
+
+    private void zerar(int slot) {
+        Arrays.fill(valores, slot * 81, slot * 81 + 81, (byte) 0);
+        fixosBaixo[slot] = 0;
+        fixosAlto[slot] = 0;
+        errosBaixo[slot] = 0;
+        errosAlto[slot] = 0;
+        estados[slot] = LIVRE;
+        preenchidas[slot] = 0;
+        jogadas[slot] = 0;
+        ultimaAtividade[slot] = 0;
+    }
+
+    private void verificarEmUso(int slot) {
+        if (slot < 0 || slot >= capacidade || estados[slot] == LIVRE) {
+            throw new SudokuException("Slot de jogo inválido ou livre: " + slot);
+        }
+    }
+
+    private static void verificarIndice(int indice) {
+        if (indice < 0 || indice >= 81) {
+            throw new SudokuException("Índice da célula deve estar entre 0 e 80: " + indice);
+        }
+    }
+}
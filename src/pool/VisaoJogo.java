@@ -0,0 +1,57 @@
+package pool;
+
+import domain.model.LeituraTabuleiro;
+
+/**
+ * Visão de um jogo do {@link PoolJogos} como {@link LeituraTabuleiro}.
+ *
+ * <p>É um cursor reutilizável: {@link #posicionar(int)} aponta para outro
+ * slot sem criar objetos, e as leituras vão direto aos vetores do pool.
+ * Serve para validar ou desenhar muitos jogos em sequência com uma única
+ * instância. Não é segura para uso concorrente.</p>
+ */
+public final class VisaoJogo implements LeituraTabuleiro {
+
+    private final PoolJogos pool;
+    private int slot = -1;
+    private int base;
+
+    VisaoJogo(PoolJogos pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Aponta a visão para outro jogo.
+     *
+     * @return esta mesma visão
+     */
+    public VisaoJogo posicionar(int slot) {
+        this.slot = slot;
+        this.base = slot * 81;
+        return this;
+    }
+
+    public int getSlot() {
+        return slot;
+    }
+
+    @Override
+    public int getValor(int indice) {
+        return pool.valores[base + indice];
+    }
+
+    @Override
+    public boolean isFixo(int indice) {
+        return pool.fixo(slot, indice);
+    }
+
+    @Override
+    public boolean isEmErro(int indice) {
+        return pool.emErro(slot, indice);
+    }
+
+    @Override
+    public int getCelulasPreenchidas() {
+        return pool.preenchidas[slot];
+    }
+}
@@ -0,0 +1,227 @@
+package rede;
+
+import domain.model.Posicao;
+import domain.model.Tabuleiro;
+import persistence.CodecJogo;
+import solver.GradeCompactada;
+import state.EstadoJogo;
+import validation.ResultadoValidacao;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Cliente bloqueante do {@link ServidorRede}: cada método envia uma
+ * requisição e espera a resposta, com os mesmos resultados do JogoService
+ * local (erros do jogo voltam como {@link ResultadoValidacao}; só falhas de
+ * conexão viram IOException).
+ *
+ * <p>Não é thread-safe: use um cliente por thread (cada um é uma conexão e um jogo).</p>
+ */
+public class ClienteRede implements AutoCloseable {
+
+    private static final EstadoJogo[] ESTADOS = EstadoJogo.values();
+
+    private final SocketChannel canal;
+    private final ByteBuffer requisicao = ByteBuffer.allocateDirect(64);
+    private final ByteBuffer resposta = ByteBuffer.allocateDirect(ProtocoloRede.TAMANHO_MAXIMO_RESPOSTA);
+
+    private ClienteRede(SocketChannel canal) {
+        this.canal = canal;
+    }
+
+    public static ClienteRede conectar(String host, int porta) throws IOException {
+        SocketChannel canal = SocketChannel.open();
+        try {
+            canal.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            canal.connect(new InetSocketAddress(host, porta));
+        } catch (IOException e) {
+            canal.close();
+            throw e;
+        }
+        return new ClienteRede(canal);
+    }
+
+    // ========== OPERAÇÕES ==========
+
+    /**
+     * Troca o jogo da conexão por um novo, do puzzle informado.
+     *
+     * @param pistas 81 valores (0 = vazio); os demais viram células fixas
+     */
+    public ResultadoValidacao novoJogo(int[] pistas) throws IOException {
+        requisicao.clear();
+        requisicao.put((byte) ProtocoloRede.NOVO_JOGO).put(GradeCompactada.compactar(pistas));
+        return enviarSimples();
+    }
+
+    public ResultadoValidacao iniciarJogo() throws IOException {
+        return enviarSimples(ProtocoloRede.INICIAR);
+    }
+
+    public ResultadoValidacao inserirNumero(int linha, int coluna, int valor) throws IOException {
+        return inserirNumero(Posicao.de(linha, coluna).getIndice(), valor);
+    }
+
+    /**
+     * @param indice célula (0-80)
+     */
+    public ResultadoValidacao inserirNumero(int indice, int valor) throws IOException {
+        requisicao.clear();
+        requisicao.put((byte) ProtocoloRede.INSERIR).put((byte) indice).put((byte) valor);
+        return enviarSimples();
+    }
+
+    public ResultadoValidacao removerNumero(int linha, int coluna) throws IOException {
+        return removerNumero(Posicao.de(linha, coluna).getIndice());
+    }
+
+    public ResultadoValidacao removerNumero(int indice) throws IOException {
+        requisicao.clear();
+        requisicao.put((byte) ProtocoloRede.REMOVER).put((byte) indice);
+        return enviarSimples();
+    }
+
+    public ResultadoValidacao limparCelulasEditaveis() throws IOException {
+        return enviarSimples(ProtocoloRede.LIMPAR);
+    }
+
+    public ResultadoValidacao finalizarJogo() throws IOException {
+        return enviarSimples(ProtocoloRede.FINALIZAR);
+    }
+
+    /**
+     * Estado do jogo no servidor.
+     *
+     * @throws IOException se a conexão falhar ou o servidor recusar
+     */
+    public Status status() throws IOException {
+        requisicao.clear();
+        requisicao.put((byte) ProtocoloRede.STATUS);
+        exigirSucesso(enviar());
+        EstadoJogo estado = ESTADOS[resposta.get()];
+        int jogadas = resposta.getInt();
+        return new Status(estado, jogadas, lerTexto());
+    }
+
+    /**
+     * Cópia do tabuleiro do servidor.
+     *
+     * @throws IOException se a conexão falhar ou o servidor recusar
+     */
+    public Tabuleiro tabuleiro() throws IOException {
+        requisicao.clear();
+        requisicao.put((byte) ProtocoloRede.TABULEIRO);
+        exigirSucesso(enviar());
+        return CodecJogo.decodificar(resposta).getTabuleiro();
+    }
+
+    @Override
+    public void close() throws IOException {
+        canal.close();
+    }
+
+    // ========== TROCA DE MENSAGENS ==========
+
+    private ResultadoValidacao enviarSimples(int operacao) throws IOException {
+        requisicao.clear();
+        requisicao.put((byte) operacao);
+        return enviarSimples();
+    }
+
+    private ResultadoValidacao enviarSimples() throws IOException {
+        return enviar() == ProtocoloRede.OK ? ResultadoValidacao.sucesso() : lerErros();
+    }
+
+    /**
+     * Envia a requisição montada e lê a resposta inteira.
+     *
+     * @return código da resposta; o corpo fica em {@link #resposta}
+     */
+    private int enviar() throws IOException {
+        requisicao.flip();
+        while (requisicao.hasRemaining()) {
+            canal.write(requisicao);
+        }
+        resposta.clear().limit(ProtocoloRede.TAMANHO_CABECALHO_RESPOSTA);
+        lerAteEncher();
+        int codigo = resposta.get(0);
+        int tamanho = resposta.getShort(1) & 0xFFFF;
+        if (tamanho > resposta.capacity() - ProtocoloRede.TAMANHO_CABECALHO_RESPOSTA) {
+            throw new IOException("Resposta grande demais: " + tamanho + " bytes");
+        }
+        resposta.limit(ProtocoloRede.TAMANHO_CABECALHO_RESPOSTA + tamanho);
+        lerAteEncher();
+        resposta.position(ProtocoloRede.TAMANHO_CABECALHO_RESPOSTA);
+        return codigo;
+    }
+
+    private void lerAteEncher() throws IOException {
+        while (resposta.hasRemaining()) {
+            if (canal.read(resposta) < 0) {
+                throw new EOFException("Servidor fechou a conexão");
+            }
+        }
+    }
+
+    private void exigirSucesso(int codigo) throws IOException {
+        if (codigo != ProtocoloRede.OK) {
+            throw new IOException("Servidor recusou: " + lerErros().getMensagemErro());
+        }
+    }
+
+    private ResultadoValidacao lerErros() {
+        List<String> mensagens = Arrays.asList(lerTexto().split("\n"));
+        return ResultadoValidacao.erros(mensagens);
+    }
+
+    private String lerTexto() {
+        byte[] bytes = new byte[resposta.remaining()];
+        resposta.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // ========== STATUS ==========
+
+    /**
+     * Resposta de {@link #status()}.
+     */
+    public static final class Status {
+        private final EstadoJogo estado;
+        private final int jogadasRealizadas;
+        private final String descricao;
+
+        private Status(EstadoJogo estado, int jogadasRealizadas, String descricao) {
+            this.estado = estado;
+            this.jogadasRealizadas = jogadasRealizadas;
+            this.descricao = descricao;
+        }
+
+        public EstadoJogo getEstado() {
+            return estado;
+        }
+
+        public int getJogadasRealizadas() {
+            return jogadasRealizadas;
+        }
+
+        /**
+         * Texto de {@code JogoService.verificarStatus()}.
+         */
+        public String getDescricao() {
+            return descricao;
+        }
+
+        @Override
+        public String toString() {
+            return estado + " (" + jogadasRealizadas + " jogadas): " + descricao;
+        }
+    }
+}
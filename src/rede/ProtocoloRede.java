@@ -0,0 +1,84 @@
+package rede;
+
+import persistence.CodecJogo;
+import solver.GradeCompactada;
+
+/**
+ * Protocolo binário entre {@link ClienteRede} e {@link ServidorRede}.
+ *
+ * <p><b>Requisição</b>: 1 byte de operação seguido dos argumentos, com
+ * tamanho fixo por operação (sem prefixo de tamanho):</p>
+ * <pre>
+ *  NOVO_JOGO  0x01  41 bytes: pistas (GradeCompactada)
+ *  INICIAR    0x02  -
+ *  INSERIR    0x03  índice (0-80), valor (1-9)
+ *  REMOVER    0x04  índice (0-80)
+ *  LIMPAR     0x05  -
+ *  FINALIZAR  0x06  -
+ *  STATUS     0x07  -
+ *  TABULEIRO  0x08  -
+ * </pre>
+ *
+ * <p><b>Resposta</b>: 1 byte de código ({@link #OK} ou {@link #ERRO}),
+ * 2 bytes de tamanho do corpo e o corpo:</p>
+ * <ul>
+ *   <li>ERRO: mensagens em UTF-8, separadas por '\n'</li>
+ *   <li>STATUS: estado (ordinal de EstadoJogo), jogadas (4 bytes) e a descrição em UTF-8</li>
+ *   <li>TABULEIRO: o jogo no formato do {@link CodecJogo}</li>
+ *   <li>demais operações: corpo vazio</li>
+ * </ul>
+ *
+ * <p>O cliente pode enviar várias requisições sem esperar as respostas;
+ * elas voltam na mesma ordem. Uma operação desconhecida recebe ERRO e a
+ * conexão é fechada, já que o restante dos bytes não pode ser interpretado.</p>
+ */
+public final class ProtocoloRede {
+
+    public static final int NOVO_JOGO = 0x01;
+    public static final int INICIAR = 0x02;
+    public static final int INSERIR = 0x03;
+    public static final int REMOVER = 0x04;
+    public static final int LIMPAR = 0x05;
+    public static final int FINALIZAR = 0x06;
+    public static final int STATUS = 0x07;
+    public static final int TABULEIRO = 0x08;
+
+    public static final int OK = 0;
+    public static final int ERRO = 1;
+
+    /** Código, tamanho do corpo. */
+    public static final int TAMANHO_CABECALHO_RESPOSTA = 3;
+
+    /** Mensagens de erro maiores que isto são cortadas. */
+    public static final int TAMANHO_MAXIMO_MENSAGEM = 1024;
+
+    /** Maior resposta possível (cabe sempre no buffer de saída de uma conexão). */
+    public static final int TAMANHO_MAXIMO_RESPOSTA = TAMANHO_CABECALHO_RESPOSTA
+            + Math.max(CodecJogo.TAMANHO_MAXIMO, 1 + 4 + TAMANHO_MAXIMO_MENSAGEM);
+
+    // Tamanho de cada requisição, operação incluída (0 = operação desconhecida)
+    private static final int[] TAMANHO_REQUISICAO = new int[256];
+
+    static {
+        TAMANHO_REQUISICAO[NOVO_JOGO] = 1 + GradeCompactada.TAMANHO_BYTES;
+        TAMANHO_REQUISICAO[INICIAR] = 1;
+        TAMANHO_REQUISICAO[INSERIR] = 3;
+        TAMANHO_REQUISICAO[REMOVER] = 2;
+        TAMANHO_REQUISICAO[LIMPAR] = 1;
+        TAMANHO_REQUISICAO[FINALIZAR] = 1;
+        TAMANHO_REQUISICAO[STATUS] = 1;
+        TAMANHO_REQUISICAO[TABULEIRO] = 1;
+    }
+
+    private ProtocoloRede() {
+    }
+
+    /**
+     * Tamanho da requisição em bytes, operação incluída.
+     *
+     * @return 0 se a operação não existir
+     */
+    public static int tamanhoRequisicao(int operacao) {
+        return TAMANHO_REQUISICAO[operacao & 0xFF];
+    }
+}
@@ -0,0 +1,458 @@
+package rede;
+
+import factory.JogoFactory;
+import factory.TabuleiroFactory;
+import persistence.CodecJogo;
+import service.JogoService;
+import solver.GradeCompactada;
+import validation.ResultadoValidacao;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+
+/**
+ * Servidor de jogos pela rede, com o {@link ProtocoloRede}: um jogo por conexão.
+ *
+ * <p>Poucas threads atendem todas as conexões. Cada thread é um laço de
+ * eventos com o seu próprio {@link Selector} e dois buffers diretos de
+ * 64 KiB (entrada e saída) reutilizados por todas as suas conexões; uma
+ * conexão ociosa não guarda buffer nenhum. Só quando sobra uma requisição
+ * pela metade, ou quando o cliente não lê as respostas a tempo, o resto é
+ * copiado para um buffer pequeno da própria conexão.</p>
+ *
+ * <p>As conexões aceitas são distribuídas entre os laços em rodízio. O
+ * jogo de uma conexão é usado só pela thread do seu laço, então o
+ * JogoService não precisa de sincronização.</p>
+ */
+public class ServidorRede implements AutoCloseable {
+
+    public static final int PORTA_PADRAO = 7099;
+
+    private static final int TAMANHO_BUFFER = 64 * 1024;
+    private static final int FILA_CONEXOES = 1024;
+
+    private final ServerSocketChannel servidor;
+    private final Supplier<JogoService> fabricaJogos;
+    private final Laco[] lacos;
+    private int proximoLaco; // usado só pelo laço que aceita
+    private volatile boolean ativo = true;
+
+    /**
+     * Servidor em todas as interfaces, um laço por processador, jogos de exemplo.
+     */
+    public ServidorRede(int porta) throws IOException {
+        this(new InetSocketAddress(porta), Runtime.getRuntime().availableProcessors(), JogoFactory::criarJogoExemplo);
+    }
+
+    /**
+     * @param endereco porta 0 escolhe uma porta livre (veja {@link #getPorta()})
+     * @param totalLacos threads de atendimento
+     * @param fabricaJogos jogo de uma conexão que não enviou NOVO_JOGO
+     */
+    public ServidorRede(InetSocketAddress endereco, int totalLacos, Supplier<JogoService> fabricaJogos)
+            throws IOException {
+        if (totalLacos < 1) {
+            throw new IllegalArgumentException("Servidor precisa de pelo menos um laço");
+        }
+        this.fabricaJogos = fabricaJogos;
+        this.servidor = ServerSocketChannel.open();
+        try {
+            servidor.configureBlocking(false);
+            servidor.bind(endereco, FILA_CONEXOES);
+            this.lacos = new Laco[totalLacos];
+            for (int i = 0; i < totalLacos; i++) {
+                lacos[i] = new Laco(i);
+            }
+            servidor.register(lacos[0].seletor, SelectionKey.OP_ACCEPT);
+        } catch (IOException | RuntimeException e) {
+            servidor.close();
+            throw e;
+        }
+        for (Laco laco : lacos) {
+            laco.thread.start();
+        }
+    }
+
+    // ========== CONSULTAS ==========
+
+    public int getPorta() {
+        return servidor.socket().getLocalPort();
+    }
+
+    public int getConexoes() {
+        int total = 0;
+        for (Laco laco : lacos) {
+            total += laco.conexoes;
+        }
+        return total;
+    }
+
+    public long getRequisicoes() {
+        long total = 0;
+        for (Laco laco : lacos) {
+            total += laco.requisicoes;
+        }
+        return total;
+    }
+
+    /**
+     * Para de aceitar conexões, fecha as existentes e espera os laços terminarem.
+     */
+    @Override
+    public void close() throws IOException {
+        ativo = false;
+        for (Laco laco : lacos) {
+            laco.seletor.wakeup();
+        }
+        try {
+            for (Laco laco : lacos) {
+                laco.thread.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            servidor.close();
+        }
+    }
+
+    // ========== CONEXÃO ==========
+
+    /**
+     * Estado de uma conexão entre um evento e outro.
+     */
+    private final class Conexao {
+        private final SocketChannel canal;
+        private SelectionKey chave;
+        private JogoService jogo;
+        private ByteBuffer entradaPendente; // requisição incompleta (ou não processada)
+        private ByteBuffer saidaPendente;   // respostas que o cliente ainda não leu
+        private boolean fecharAposEscrever;
+
+        private Conexao(SocketChannel canal) {
+            this.canal = canal;
+        }
+
+        private JogoService jogo() {
+            if (jogo == null) {
+                jogo = fabricaJogos.get();
+            }
+            return jogo;
+        }
+
+        private void novoJogo(int[] pistas) {
+            JogoService novo = JogoFactory.criarJogoPersonalizado(TabuleiroFactory.criarTabuleiroDeGrade(pistas));
+            descartarJogo();
+            jogo = novo;
+        }
+
+        private void descartarJogo() {
+            if (jogo != null) {
+                jogo.getEventos().close();
+                jogo = null;
+            }
+        }
+    }
+
+    // ========== LAÇO DE EVENTOS ==========
+
+    private final class Laco implements Runnable {
+        private final Selector seletor;
+        private final Thread thread;
+        private final Queue<SocketChannel> novas = new ConcurrentLinkedQueue<>();
+        private final ByteBuffer entrada = ByteBuffer.allocateDirect(TAMANHO_BUFFER);
+        private final ByteBuffer saida = ByteBuffer.allocateDirect(TAMANHO_BUFFER);
+        private final byte[] pistas = new byte[GradeCompactada.TAMANHO_BYTES];
+
+        // Escritos só pela thread do laço
+        private volatile int conexoes;
+        private volatile long requisicoes;
+
+        private Laco(int numero) throws IOException {
+            this.seletor = Selector.open();
+            this.thread = new Thread(this, "sudoku-rede-" + numero);
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (ativo) {
+                    seletor.select(this::atender);
+                    SocketChannel canal;
+                    while ((canal = novas.poll()) != null) {
+                        registrar(canal);
+                    }
+                }
+            } catch (IOException e) {
+                System.err.println("Laço " + thread.getName() + " encerrado: " + e.getMessage());
+            } finally {
+                for (SelectionKey chave : seletor.keys()) {
+                    if (chave.attachment() instanceof Conexao conexao) {
+                        fechar(conexao);
+                    }
+                }
+                SocketChannel canal;
+                while ((canal = novas.poll()) != null) {
+                    fecharCanal(canal);
+                }
+                try {
+                    seletor.close();
+                } catch (IOException e) {
+                    // nada a fazer no encerramento
+                }
+            }
+        }
+
+        private void atender(SelectionKey chave) {
+            Conexao conexao = null;
+            try {
+                if (chave.isAcceptable()) {
+                    aceitar();
+                    return;
+                }
+                conexao = (Conexao) chave.attachment();
+                if (chave.isWritable()) {
+                    escreverPendente(conexao);
+                }
+                if (chave.isValid() && chave.isReadable()) {
+                    ler(conexao);
+                }
+            } catch (IOException | CancelledKeyException e) {
+                if (conexao != null) {
+                    fechar(conexao);
+                }
+            }
+        }
+
+        private void aceitar() throws IOException {
+            SocketChannel canal;
+            while ((canal = servidor.accept()) != null) {
+                try {
+                    canal.configureBlocking(false);
+                    canal.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                } catch (IOException e) {
+                    fecharCanal(canal);
+                    continue;
+                }
+                Laco destino = lacos[proximoLaco++ % lacos.length];
+                if (destino == this) {
+                    registrar(canal);
+                } else {
+                    destino.novas.add(canal);
+                    destino.seletor.wakeup();
+                }
+            }
+        }
+
+        private void registrar(SocketChannel canal) {
+            Conexao conexao = new Conexao(canal);
+            try {
+                conexao.chave = canal.register(seletor, SelectionKey.OP_READ, conexao);
+                conexoes++;
+            } catch (IOException e) {
+                fecharCanal(canal);
+            }
+        }
+
+        // ========== LEITURA ==========
+
+        private void ler(Conexao conexao) throws IOException {
+            entrada.clear();
+            if (conexao.entradaPendente != null) {
+                entrada.put(conexao.entradaPendente);
+                conexao.entradaPendente = null;
+            }
+            int lidos = conexao.canal.read(entrada);
+            entrada.flip();
+            if (lidos < 0 && !entrada.hasRemaining()) {
+                fechar(conexao);
+                return;
+            }
+            processar(conexao);
+            if (lidos < 0 && conexao.chave.isValid() && conexao.saidaPendente == null) {
+                fechar(conexao);
+            }
+        }
+
+        /**
+         * Executa as requisições completas do buffer de entrada, na ordem,
+         * e envia as respostas. O que sobra fica pendente na conexão.
+         */
+        private void processar(Conexao conexao) throws IOException {
+            saida.clear();
+            while (entrada.hasRemaining()) {
+                if (saida.remaining() < ProtocoloRede.TAMANHO_MAXIMO_RESPOSTA && !descarregar(conexao)) {
+                    break;
+                }
+                int operacao = entrada.get(entrada.position()) & 0xFF;
+                int tamanho = ProtocoloRede.tamanhoRequisicao(operacao);
+                if (tamanho == 0) {
+                    int cabecalho = saida.position();
+                    saida.position(cabecalho + ProtocoloRede.TAMANHO_CABECALHO_RESPOSTA);
+                    responder(cabecalho, ResultadoValidacao.erro("Operação desconhecida: " + operacao));
+                    entrada.position(entrada.limit());
+                    conexao.fecharAposEscrever = true;
+                    break;
+                }
+                if (entrada.remaining() < tamanho) {
+                    break;
+                }
+                executar(conexao, operacao, tamanho);
+                requisicoes++;
+            }
+            if (entrada.hasRemaining()) {
+                conexao.entradaPendente = copiar(entrada);
+            }
+            if (descarregar(conexao) && conexao.fecharAposEscrever) {
+                fechar(conexao);
+            }
+        }
+
+        private void executar(Conexao conexao, int operacao, int tamanho) {
+            int fim = entrada.position() + tamanho;
+            entrada.get(); // operação
+            int cabecalho = saida.position();
+            saida.position(cabecalho + ProtocoloRede.TAMANHO_CABECALHO_RESPOSTA);
+
+            ResultadoValidacao resultado;
+            try {
+                resultado = switch (operacao) {
+                    case ProtocoloRede.NOVO_JOGO -> {
+                        entrada.get(pistas);
+                        conexao.novoJogo(GradeCompactada.descompactar(pistas));
+                        yield ResultadoValidacao.sucesso();
+                    }
+                    case ProtocoloRede.INICIAR -> conexao.jogo().iniciarJogo();
+                    case ProtocoloRede.INSERIR -> {
+                        int indice = entrada.get() & 0xFF;
+                        int valor = entrada.get() & 0xFF;
+                        yield conexao.jogo().inserirNumero(indice, valor);
+                    }
+                    case ProtocoloRede.REMOVER -> conexao.jogo().removerNumero(entrada.get() & 0xFF);
+                    case ProtocoloRede.LIMPAR -> conexao.jogo().limparCelulasEditaveis();
+                    case ProtocoloRede.FINALIZAR -> conexao.jogo().finalizarJogo();
+                    case ProtocoloRede.STATUS -> {
+                        JogoService jogo = conexao.jogo();
+                        saida.put((byte) jogo.getTipoEstado().ordinal()).putInt(jogo.getJogadasRealizadas());
+                        escreverTexto(jogo.verificarStatus());
+                        yield ResultadoValidacao.sucesso();
+                    }
+                    case ProtocoloRede.TABULEIRO -> {
+                        CodecJogo.codificar(conexao.jogo(), saida);
+                        yield ResultadoValidacao.sucesso();
+                    }
+                    default -> ResultadoValidacao.erro("Operação desconhecida: " + operacao);
+                };
+            } catch (RuntimeException e) {
+                resultado = ResultadoValidacao.erro(e.getMessage() != null ? e.getMessage() : e.toString());
+            }
+            entrada.position(fim);
+            responder(cabecalho, resultado);
+        }
+
+        /**
+         * Fecha a resposta iniciada em {@code cabecalho}: código e tamanho do corpo.
+         * Em caso de erro, o corpo é trocado pelas mensagens.
+         */
+        private void responder(int cabecalho, ResultadoValidacao resultado) {
+            int corpo = cabecalho + ProtocoloRede.TAMANHO_CABECALHO_RESPOSTA;
+            if (!resultado.isValido()) {
+                saida.position(corpo);
+                escreverTexto(String.join("\n", resultado.getMensagensErro()));
+            }
+            saida.put(cabecalho, (byte) (resultado.isValido() ? ProtocoloRede.OK : ProtocoloRede.ERRO));
+            saida.putShort(cabecalho + 1, (short) (saida.position() - corpo));
+        }
+
+        private void escreverTexto(String texto) {
+            byte[] bytes = texto.getBytes(StandardCharsets.UTF_8);
+            saida.put(bytes, 0, Math.min(bytes.length, ProtocoloRede.TAMANHO_MAXIMO_MENSAGEM));
+        }
+
+        // ========== ESCRITA ==========
+
+        /**
+         * Envia o buffer de saída. O que o canal não aceitar vai para a conexão,
+         * que passa a esperar OP_WRITE e deixa de ler até esvaziar.
+         *
+         * @return true se tudo foi enviado
+         */
+        private boolean descarregar(Conexao conexao) throws IOException {
+            saida.flip();
+            if (conexao.saidaPendente == null && saida.hasRemaining()) {
+                conexao.canal.write(saida);
+            }
+            if (saida.hasRemaining()) {
+                conexao.saidaPendente = juntar(conexao.saidaPendente, saida);
+                conexao.chave.interestOps(SelectionKey.OP_WRITE);
+            }
+            saida.clear();
+            return conexao.saidaPendente == null;
+        }
+
+        private void escreverPendente(Conexao conexao) throws IOException {
+            conexao.canal.write(conexao.saidaPendente);
+            if (conexao.saidaPendente.hasRemaining()) {
+                return;
+            }
+            conexao.saidaPendente = null;
+            if (conexao.fecharAposEscrever) {
+                fechar(conexao);
+                return;
+            }
+            conexao.chave.interestOps(SelectionKey.OP_READ);
+            if (conexao.entradaPendente != null) {
+                entrada.clear();
+                entrada.put(conexao.entradaPendente).flip();
+                conexao.entradaPendente = null;
+                processar(conexao);
+            }
+        }
+
+        private ByteBuffer copiar(ByteBuffer origem) {
+            return juntar(null, origem);
+        }
+
+        /**
+         * Novo buffer (no heap, do tamanho exato) com o restante de {@code pendente} seguido de {@code origem}.
+         */
+        private ByteBuffer juntar(ByteBuffer pendente, ByteBuffer origem) {
+            int antes = pendente == null ? 0 : pendente.remaining();
+            ByteBuffer copia = ByteBuffer.allocate(antes + origem.remaining());
+            if (pendente != null) {
+                copia.put(pendente);
+            }
+            copia.put(origem).flip();
+            return copia;
+        }
+
+        // ========== ENCERRAMENTO ==========
+
+        private void fechar(Conexao conexao) {
+            if (conexao.chave != null && conexao.chave.isValid()) {
+                conexao.chave.cancel();
+                conexoes--;
+            }
+            conexao.descartarJogo();
+            fecharCanal(conexao.canal);
+        }
+
+        private void fecharCanal(SocketChannel canal) {
+            try {
+                canal.close();
+            } catch (IOException e) {
+                // conexão já perdida
+            }
+        }
+    }
+}
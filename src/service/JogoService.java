@@ -1,31 +1,108 @@
 package service;
 
+import domain.model.ConjuntoCelulas;
+import domain.model.Dica;
+import domain.model.Jogada;
 import domain.model.Posicao;
 import domain.model.Tabuleiro;
+import event.PublicadorEventos;
+import solver.DetectorImpasse;
+import solver.GradeCompactada;
 import state.*;
+import validation.MapaCandidatos;
+import validation.RegrasCompiladas;
 import validation.ResultadoValidacao;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Serviço principal que orquestra o jogo de Sudoku.
  * Substitui a antiga classe Jogo, aplicando separação de responsabilidades.
  * Gerencia estado do jogo usando State Pattern.
+ *
+ * <p>Jogadas, transições de estado, mudanças no conjunto de conflitos e
+ * unidades completadas são publicadas em {@link #getEventos()} para
+ * espectadores e consumidores.</p>
+ *
+ * <p>Após cada jogada o tabuleiro passa pelo {@link DetectorImpasse}: um
+ * tabuleiro sem repetições, mas que já não pode ser completado, é
+ * percebido na hora ({@link #getProgresso()}) e não só ao finalizar.</p>
+ *
+ * <p>Um jogo pode ter ramos com nome para testar um palpite e voltar
+ * ({@link #criarRamo}, {@link #trocarRamo}, {@link #mesclarRamo}). Como o
+ * {@link Tabuleiro} compartilha linhas entre cópias, criar ou trocar de
+ * ramo não copia células.</p>
  */
 public class JogoService {
+    /** Nome do ramo em que todo jogo começa. */
+    public static final String RAMO_PRINCIPAL = "principal";
+
     private Tabuleiro tabuleiro;
     private JogoState estadoAtual;
     private int jogadasRealizadas;
 
     // Serviços especializados
     private final ValidadorService validadorService;
+    private SolucaoService solucaoService; // null = SolucaoService.padrao(), obtido no primeiro uso
+
+    // Solução do puzzle, obtida no primeiro uso (null = ainda não calculada)
+    private byte[] solucao;
+    private boolean cacheConsultado;
+    // O resolvedor já concluiu que o puzzle não tem solução (não resolve de novo)
+    private boolean semSolucao;
+
+    // Detector criado na primeira jogada e situação após a última (null = não verificada)
+    private DetectorImpasse detector;
+    private DetectorImpasse.Situacao progresso;
+
+    // Candidatos de cada célula, mantidos a cada jogada depois do primeiro pedido (null = ninguém pediu)
+    private MapaCandidatos candidatos;
+
+    // Ramos do jogo (null = só o principal, sem custo); o ramo atual vive em "tabuleiro"
+    private Map<String, Ramo> ramos;
+    private String ramoAtual = RAMO_PRINCIPAL;
+
+    // Eventos para assinantes e último conjunto de conflitos publicado (células 0-63 e 64-80)
+    private final PublicadorEventos eventos = new PublicadorEventos();
+    private long conflitosBaixo;
+    private long conflitosAlto;
+
+    // Unidades completadas pela operação em curso e pela última concluída (bit = unidade da variante)
+    private long unidadesCompletadas;
+    private long ultimasUnidadesCompletadas;
 
     /**
      * Construtor privado - use a fábrica para criar instâncias.
+     * Usa o SolucaoService compartilhado, montado só quando uma solução for pedida.
      */
     public JogoService(Tabuleiro tabuleiro, JogoState estadoInicial, ValidadorService validadorService) {
+        this(tabuleiro, estadoInicial, validadorService, null);
+    }
+
+    /**
+     * Construtor com serviço de soluções explícito.
+     */
+    public JogoService(Tabuleiro tabuleiro, JogoState estadoInicial, ValidadorService validadorService,
+                       SolucaoService solucaoService) {
+        this(tabuleiro, estadoInicial, validadorService, solucaoService, 0);
+    }
+
+    /**
+     * Construtor para retomar um jogo salvo, com o contador de jogadas já existente.
+     */
+    public JogoService(Tabuleiro tabuleiro, JogoState estadoInicial, ValidadorService validadorService,
+                       SolucaoService solucaoService, int jogadasRealizadas) {
         this.tabuleiro = tabuleiro;
         this.estadoAtual = estadoInicial;
         this.validadorService = validadorService;
-        this.jogadasRealizadas = 0;
+        this.solucaoService = solucaoService;
+        this.jogadasRealizadas = jogadasRealizadas;
+        tabuleiro.acompanharUnidades(validadorService.getRegras().getUnidadesTabuleiro());
+        tabuleiro.setOuvinteUnidades(unidade -> unidadesCompletadas |= 1L << unidade);
     }
 
     // ========== OPERAÇÕES PRINCIPAIS ==========
@@ -35,22 +112,33 @@ public class JogoService {
      * Valida através do estado atual e executa se permitido.
      */
     public ResultadoValidacao inserirNumero(int linha, int coluna, int valor) {
-        Posicao posicao = new Posicao(linha, coluna);
+        return inserirNumero(Posicao.de(linha, coluna).getIndice(), valor);
+    }
 
+    /**
+     * Tenta inserir um número na célula de índice 0-80 ({@code (linha-1) * 9 + coluna-1}).
+     * Mesmo fluxo da versão por linha e coluna, sem passar por {@link Posicao}.
+     */
+    public ResultadoValidacao inserirNumero(int indice, int valor) {
         // 1. Validação básica de entrada
-        ResultadoValidacao validacaoBasica = validarEntrada(posicao, valor);
+        ResultadoValidacao validacaoBasica = validarEntrada(indice, valor);
         if (!validacaoBasica.isValido()) {
             return validacaoBasica;
         }
 
         // 2. Validação pelo estado atual (State Pattern)
-        ResultadoValidacao validacaoEstado = estadoAtual.inserirNumero(posicao, valor, tabuleiro);
+        ResultadoValidacao validacaoEstado = estadoAtual.inserirNumero(indice, valor, tabuleiro);
         if (!validacaoEstado.isValido()) {
             return validacaoEstado;
         }
 
         // 3. Executa a inserção (já feita pelo estado)
         jogadasRealizadas++;
+        eventos.publicarJogada(indice, valor);
+        publicarUnidadesCompletadas();
+        if (candidatos != null) {
+            candidatos.atualizar(tabuleiro, indice);
+        }
 
         // 4. Verifica transições de estado
         verificarTransicaoEstado();
@@ -58,8 +146,12 @@ public class JogoService {
         // 5. Valida se há conflitos após a inserção
         if (tabuleiro.getCelulasPreenchidas() > 0) {
             validadorService.validarTabuleiro(tabuleiro);
+            publicarConflitosSeMudaram();
         }
 
+        // 6. Verifica se o tabuleiro ainda pode ser completado
+        atualizarProgresso();
+
         return ResultadoValidacao.sucesso();
     }
 
@@ -67,28 +159,100 @@ public class JogoService {
      * Remove um número de uma posição (apenas células editáveis).
      */
     public ResultadoValidacao removerNumero(int linha, int coluna) {
-        Posicao posicao = new Posicao(linha, coluna);
+        return removerNumero(Posicao.de(linha, coluna).getIndice());
+    }
 
+    /**
+     * Remove o número da célula de índice 0-80 (apenas células editáveis).
+     */
+    public ResultadoValidacao removerNumero(int indice) {
         // 1. Validação básica
-        if (linha < 1 || linha > 9 || coluna < 1 || coluna > 9) {
-            return ResultadoValidacao.erro("Linha e coluna devem ser entre 1 e 9");
+        if (indice < 0 || indice >= 81) {
+            return ResultadoValidacao.erro("Índice da célula deve estar entre 0 e 80");
         }
 
         // 2. Validação pelo estado atual
-        ResultadoValidacao validacaoEstado = estadoAtual.removerNumero(posicao, tabuleiro);
+        ResultadoValidacao validacaoEstado = estadoAtual.removerNumero(indice, tabuleiro);
         if (!validacaoEstado.isValido()) {
             return validacaoEstado;
         }
 
         // 3. Executa a remoção (já feita pelo estado)
         jogadasRealizadas++;
+        eventos.publicarJogada(indice, 0);
+        publicarUnidadesCompletadas();
+        if (candidatos != null) {
+            candidatos.atualizar(tabuleiro, indice);
+        }
 
         // 4. Verifica transições de estado
         verificarTransicaoEstado();
 
+        // 5. A remoção pode desfazer conflitos: revalida e avisa se o conjunto mudou
+        if (tabuleiro.getCelulasPreenchidas() > 0) {
+            validadorService.validarTabuleiro(tabuleiro);
+        } else {
+            tabuleiro.limparTodosErros();
+        }
+        publicarConflitosSeMudaram();
+
+        // 6. Uma remoção pode desfazer o impasse
+        atualizarProgresso();
+
         return ResultadoValidacao.sucesso();
     }
 
+    /**
+     * Aplica um lote de jogadas de forma atômica (colar linha, importar
+     * solução parcial, reproduzir gravação).
+     *
+     * <p>Diferente de chamar inserirNumero repetidamente, o tabuleiro é validado
+     * uma única vez ao final e a transição de estado é verificada uma única vez.
+     * Se alguma jogada for rejeitada, o tabuleiro volta ao estado anterior ao lote
+     * e as jogadas seguintes não são tentadas.</p>
+     */
+    public ResultadoLote aplicarJogadas(List<Jogada> jogadas) {
+        List<ResultadoValidacao> resultados = new ArrayList<>(jogadas.size());
+        Tabuleiro copiaSeguranca = tabuleiro.copiar();
+
+        // 1. Aplica cada jogada sem validar o tabuleiro
+        for (int i = 0; i < jogadas.size(); i++) {
+            ResultadoValidacao resultado = aplicarSemValidar(jogadas.get(i));
+            resultados.add(resultado);
+
+            if (!resultado.isValido()) {
+                // 2a. Falha: desfaz o lote inteiro
+                tabuleiro.restaurar(copiaSeguranca);
+                unidadesCompletadas = 0;
+                for (int j = i + 1; j < jogadas.size(); j++) {
+                    resultados.add(ResultadoValidacao.erro("Jogada não aplicada: lote rejeitado na jogada " + i));
+                }
+                return new ResultadoLote(false, resultados,
+                        ResultadoValidacao.erro("Lote rejeitado: " + resultado.getMensagemErro()));
+            }
+        }
+
+        // 2b. Sucesso: contabiliza, verifica transição e valida uma única vez
+        jogadasRealizadas += jogadas.size();
+        if (eventos.temAssinantes()) {
+            for (Jogada jogada : jogadas) {
+                int indice = (jogada.getLinha() - 1) * 9 + jogada.getColuna() - 1;
+                eventos.publicarJogada(indice, jogada.getTipo() == Jogada.Tipo.REMOVER ? 0 : jogada.getValor());
+            }
+        }
+        publicarUnidadesCompletadas();
+        verificarTransicaoEstado();
+        recalcularCandidatos();
+
+        ResultadoValidacao validacaoFinal = tabuleiro.getCelulasPreenchidas() > 0
+                ? validadorService.validarTabuleiro(tabuleiro)
+                : ResultadoValidacao.sucesso();
+        publicarConflitosSeMudaram();
+        atualizarProgresso();
+
+        return new ResultadoLote(true, resultados, validacaoFinal);
+    }
+
     /**
      * Marca uma célula como fixa (usado apenas na inicialização).
      */
@@ -98,10 +262,10 @@ public class JogoService {
             return ResultadoValidacao.erro("Células fixas só podem ser definidas antes de iniciar o jogo");
         }
 
-        Posicao posicao = new Posicao(linha, coluna);
+        Posicao posicao = Posicao.de(linha, coluna);
 
         // Validação básica
-        ResultadoValidacao validacaoBasica = validarEntrada(posicao, valor);
+        ResultadoValidacao validacaoBasica = validarEntrada(posicao.getIndice(), valor);
         if (!validacaoBasica.isValido()) {
             return validacaoBasica;
         }
@@ -110,6 +274,13 @@ public class JogoService {
         boolean sucesso = tabuleiro.marcarComoFixo(posicao.getLinhaIndex(), posicao.getColunaIndex(), valor);
 
         if (sucesso) {
+            // O puzzle mudou; completar unidades com fixos não é jogada
+            unidadesCompletadas = 0;
+            solucao = null;
+            cacheConsultado = false;
+            semSolucao = false;
+            progresso = null;
+            recalcularCandidatos();
             return ResultadoValidacao.sucesso();
         } else {
             return ResultadoValidacao.erro("Não foi possível marcar célula como fixa");
@@ -122,7 +293,7 @@ public class JogoService {
     public ResultadoValidacao iniciarJogo() {
         if (estadoAtual instanceof NaoIniciadoState) {
             NaoIniciadoState estadoNaoIniciado = (NaoIniciadoState) estadoAtual;
-            estadoAtual = estadoNaoIniciado.iniciarJogo();
+            mudarEstado(estadoNaoIniciado.iniciarJogo());
             return ResultadoValidacao.sucesso();
         } else {
             return ResultadoValidacao.erro("Jogo já foi iniciado");
@@ -133,14 +304,26 @@ public class JogoService {
      * Limpa todas as células editáveis.
      */
     public ResultadoValidacao limparCelulasEditaveis() {
+        Tabuleiro anterior = eventos.temAssinantes() ? tabuleiro.copiar() : null;
         ResultadoValidacao validacaoEstado = estadoAtual.limparCelulasEditaveis(tabuleiro);
 
         if (validacaoEstado.isValido()) {
             jogadasRealizadas++;
+            if (anterior != null) {
+                for (int indice = 0; indice < 81; indice++) {
+                    if (anterior.getValor(indice) != tabuleiro.getValor(indice)) {
+                        eventos.publicarJogada(indice, 0);
+                    }
+                }
+            }
+            publicarUnidadesCompletadas();
             // Após limpar, sempre volta para EmAndamento
             if (estadoAtual instanceof CompletoState) {
-                estadoAtual = ((CompletoState) estadoAtual).voltarParaAndamento();
+                mudarEstado(((CompletoState) estadoAtual).voltarParaAndamento());
             }
+            publicarConflitosSeMudaram();
+            atualizarProgresso();
+            recalcularCandidatos();
             return ResultadoValidacao.sucesso();
         }
 
@@ -158,7 +341,7 @@ public class JogoService {
         }
 
         // 2. Valida se o tabuleiro está correto
-        ResultadoValidacao validacao = validadorService.validarTabuleiroCompleto(tabuleiro);
+        ResultadoValidacao validacao = validadorService.validarTabuleiroCompleto(tabuleiro, gabarito());
         if (!validacao.isValido()) {
             return validacao;
         }
@@ -166,10 +349,10 @@ public class JogoService {
         // 3. Transição para estado vencido
         JogoState novoEstado = estadoAtual.finalizarJogo(tabuleiro);
         if (novoEstado != null) {
-            estadoAtual = novoEstado;
+            mudarEstado(novoEstado);
         } else if (estadoAtual instanceof CompletoState) {
             // Se estava completo e passou na validação, marca como vencido
-            estadoAtual = ((CompletoState) estadoAtual).marcarComoVencido();
+            mudarEstado(((CompletoState) estadoAtual).marcarComoVencido());
         }
 
         return ResultadoValidacao.sucesso();
@@ -195,7 +378,221 @@ public class JogoService {
         }
 
         // Depois valida o conteúdo
-        return validadorService.validarTabuleiroCompleto(tabuleiro);
+        return validadorService.validarTabuleiroCompleto(tabuleiro, gabarito());
+    }
+
+    /**
+     * Retorna a solução do puzzle compactada em 41 bytes (ver solver.GradeCompactada).
+     * A primeira chamada consulta o cache compartilhado; as seguintes são O(1).
+     *
+     * @return cópia da solução ou null se o puzzle não tem solução
+     */
+    public byte[] obterSolucao() {
+        byte[] atual = solucaoDoPuzzle();
+        return atual != null ? atual.clone() : null;
+    }
+
+    /**
+     * Sugere a próxima jogada com base na solução do puzzle.
+     *
+     * @return a dica ou null se não há solução ou nada a sugerir
+     */
+    public Dica obterDica() {
+        byte[] atual = solucaoDoPuzzle();
+        return atual != null ? solucaoService().obterDica(tabuleiro, atual) : null;
+    }
+
+    /**
+     * Verificação completa do progresso ("conferir meu jogo"): obtém a solução
+     * do puzzle, resolvendo-o se ainda não estiver em cache, e compara com os
+     * valores preenchidos. Se o puzzle tiver mais de uma solução, a comparação
+     * não vale (outro valor pode levar a outra solução) e a verificação é a
+     * propagação limitada.
+     */
+    public DetectorImpasse.Situacao verificarProgresso() {
+        byte[] atual = solucaoDoPuzzle();
+        progresso = atual != null
+                ? detector().verificar(tabuleiro, atual)
+                : DetectorImpasse.Situacao.SEM_SAIDA; // O próprio puzzle não tem solução
+        return progresso;
+    }
+
+    /**
+     * Situação do tabuleiro após a última jogada. Usa a solução se ela já
+     * estiver em cache; caso contrário, o resultado vem da propagação limitada.
+     */
+    public DetectorImpasse.Situacao getProgresso() {
+        if (progresso == null) {
+            atualizarProgresso();
+        }
+        return progresso;
+    }
+
+    // ========== RAMOS ==========
+
+    /**
+     * Cria um ramo com o tabuleiro atual, sem trocar para ele.
+     */
+    public ResultadoValidacao criarRamo(String nome) {
+        if (nome == null || nome.isBlank()) {
+            return ResultadoValidacao.erro("Nome do ramo não pode ser vazio");
+        }
+        Map<String, Ramo> todos = ramos();
+        if (todos.containsKey(nome)) {
+            return ResultadoValidacao.erro("Ramo já existe: " + nome);
+        }
+        Tabuleiro copia = tabuleiro.copiar();
+        Ramo novo = new Ramo(copia);
+        Ramo atual = todos.get(ramoAtual);
+        // O novo ramo é igual ao atual: com os demais, herda as bases do atual
+        for (Map.Entry<String, Ramo> entrada : todos.entrySet()) {
+            Ramo ramo = entrada.getValue();
+            if (ramo == atual) {
+                novo.bases.put(ramoAtual, copia);
+                ramo.bases.put(nome, copia);
+            } else {
+                novo.bases.put(entrada.getKey(), atual.bases.get(entrada.getKey()));
+                ramo.bases.put(nome, ramo.bases.get(ramoAtual));
+            }
+        }
+        todos.put(nome, novo);
+        return ResultadoValidacao.sucesso();
+    }
+
+    /**
+     * Guarda o tabuleiro do ramo atual e passa a jogar no ramo informado.
+     */
+    public ResultadoValidacao trocarRamo(String nome) {
+        if (nome.equals(ramoAtual)) {
+            return ResultadoValidacao.sucesso();
+        }
+        Ramo destino = ramos == null ? null : ramos.get(nome);
+        if (destino == null) {
+            return ResultadoValidacao.erro("Ramo não encontrado: " + nome);
+        }
+        if (!estadoAtual.isAtivo()) {
+            return ResultadoValidacao.erro("Só é possível trocar de ramo durante o jogo");
+        }
+
+        Tabuleiro anterior = tabuleiro.copiar();
+        ramos.get(ramoAtual).ponta = anterior;
+        tabuleiro.restaurar(destino.ponta);
+        destino.ponta = null; // o ramo atual vive no tabuleiro de trabalho
+        ramoAtual = nome;
+
+        if (eventos.temAssinantes()) {
+            for (int indice = 0; indice < 81; indice++) {
+                if (anterior.getValor(indice) != tabuleiro.getValor(indice)) {
+                    eventos.publicarJogada(indice, tabuleiro.getValor(indice));
+                }
+            }
+        }
+        verificarTransicaoEstado();
+        publicarConflitosSeMudaram();
+        atualizarProgresso();
+        recalcularCandidatos();
+        return ResultadoValidacao.sucesso();
+    }
+
+    /**
+     * Traz para o ramo atual as células alteradas no outro ramo (mesclagem de três vias).
+     *
+     * <p>O ancestral comum é guardado para cada par ordenado de ramos: começa
+     * no ponto em que o mais novo foi criado (vale também para ramos irmãos)
+     * e, depois de mesclar o outro ramo neste, passa a ser a ponta mesclada;
+     * as bases dos demais pares não mudam. Célula alterada
+     * só no outro ramo é trazida; alterada nos dois com valores diferentes
+     * fica com o valor atual e é informada como conflito. As jogadas
+     * trazidas passam por {@link #aplicarJogadas} e são atômicas.</p>
+     */
+    public ResultadoMesclagem mesclarRamo(String nome) {
+        Ramo outro = ramos == null ? null : ramos.get(nome);
+        if (outro == null || nome.equals(ramoAtual)) {
+            ResultadoValidacao erro = ResultadoValidacao.erro(outro == null
+                    ? "Ramo não encontrado: " + nome
+                    : "Não é possível mesclar um ramo nele mesmo");
+            return new ResultadoMesclagem(new ResultadoLote(false, List.of(), erro), ConjuntoCelulas.VAZIO);
+        }
+
+        Ramo atual = ramos.get(ramoAtual);
+        Tabuleiro base = atual.bases.get(nome);
+        Tabuleiro deles = outro.ponta;
+
+        List<Jogada> jogadas = new ArrayList<>();
+        long conflitosBaixo = 0;
+        long conflitosAlto = 0;
+        for (int indice = 0; indice < 81; indice++) {
+            if (tabuleiro.isFixo(indice)) {
+                continue;
+            }
+            int valorBase = base.getValor(indice);
+            int valorDeles = deles.getValor(indice);
+            int valorNosso = tabuleiro.getValor(indice);
+            if (valorDeles == valorBase || valorDeles == valorNosso) {
+                continue;
+            }
+            if (valorNosso == valorBase) {
+                jogadas.add(valorDeles == 0
+                        ? Jogada.remover(indice / 9 + 1, indice % 9 + 1)
+                        : Jogada.inserir(indice / 9 + 1, indice % 9 + 1, valorDeles));
+            } else if (indice < 64) {
+                conflitosBaixo |= 1L << indice;
+            } else {
+                conflitosAlto |= 1L << (indice - 64);
+            }
+        }
+
+        ResultadoLote lote = jogadas.isEmpty()
+                ? new ResultadoLote(true, List.of(), ResultadoValidacao.sucesso())
+                : aplicarJogadas(jogadas);
+        if (lote.isAplicado()) {
+            atual.bases.put(nome, deles);
+        }
+        return new ResultadoMesclagem(lote, ConjuntoCelulas.de(conflitosBaixo, conflitosAlto));
+    }
+
+    /**
+     * Descarta um ramo (não pode ser o atual).
+     */
+    public ResultadoValidacao removerRamo(String nome) {
+        if (nome.equals(ramoAtual)) {
+            return ResultadoValidacao.erro("Não é possível remover o ramo atual");
+        }
+        if (ramos == null || ramos.remove(nome) == null) {
+            return ResultadoValidacao.erro("Ramo não encontrado: " + nome);
+        }
+        for (Ramo ramo : ramos.values()) {
+            ramo.bases.remove(nome);
+        }
+        return ResultadoValidacao.sucesso();
+    }
+
+    public String getRamoAtual() {
+        return ramoAtual;
+    }
+
+    /**
+     * Nomes dos ramos, na ordem de criação.
+     */
+    public List<String> getRamos() {
+        return ramos == null ? List.of(RAMO_PRINCIPAL) : List.copyOf(ramos.keySet());
+    }
+
+    /**
+     * Candidatos da célula de índice 0-80 (bit d-1 = dígito d; 0 se preenchida).
+     *
+     * <p>O primeiro pedido calcula o tabuleiro inteiro; daí em diante o mapa é
+     * atualizado a cada jogada, e a consulta é só uma leitura.</p>
+     */
+    public int getCandidatos(int indice) {
+        return mapaCandidatos().getCandidatos(indice);
+    }
+
+    /**
+     * Todas as jogadas legais: as 81 máscaras de candidatos, copiadas para {@code destino}.
+     */
+    public void copiarCandidatos(int[] destino) {
+        mapaCandidatos().copiarPara(destino);
     }
 
     // ========== GETTERS ==========
@@ -224,31 +621,212 @@ public class JogoService {
         return estadoAtual.getTipoEstado();
     }
 
+    /**
+     * Unidades da variante completadas pela última jogada ou lote (bit =
+     * unidade, nomes em {@link #descreverUnidade}).
+     */
+    public long getUnidadesCompletadas() {
+        return ultimasUnidadesCompletadas;
+    }
+
+    /**
+     * Nome da unidade da variante para exibição (ex.: "Linha 3", "Região 5").
+     */
+    public String descreverUnidade(int unidade) {
+        return tabuleiro.getUnidades().descrever(unidade);
+    }
+
+    /**
+     * Regras da variante deste jogo.
+     */
+    public RegrasCompiladas getRegras() {
+        return validadorService.getRegras();
+    }
+
+    /**
+     * Fluxo de eventos do jogo (jogadas, transições, conflitos e unidades completadas).
+     */
+    public PublicadorEventos getEventos() {
+        return eventos;
+    }
+
     // ========== MÉTODOS PRIVADOS ==========
 
-    private ResultadoValidacao validarEntrada(Posicao posicao, int valor) {
+    private ResultadoValidacao validarEntrada(int indice, int valor) {
         // Validações básicas que não dependem do estado
+        if (indice < 0 || indice >= 81) {
+            return ResultadoValidacao.erro("Índice da célula deve estar entre 0 e 80");
+        }
         if (valor < 1 || valor > 9) {
             return ResultadoValidacao.erro("Valor deve estar entre 1 e 9");
         }
 
-        // Posicao já valida linha/coluna no construtor
-
         return ResultadoValidacao.sucesso();
     }
 
+    private ResultadoValidacao aplicarSemValidar(Jogada jogada) {
+        int linha = jogada.getLinha();
+        int coluna = jogada.getColuna();
+        if (linha < 1 || linha > 9 || coluna < 1 || coluna > 9) {
+            return ResultadoValidacao.erro("Linha e coluna devem ser entre 1 e 9");
+        }
+
+        int indice = (linha - 1) * 9 + coluna - 1;
+        if (jogada.getTipo() == Jogada.Tipo.REMOVER) {
+            return estadoAtual.removerNumero(indice, tabuleiro);
+        }
+
+        ResultadoValidacao validacaoBasica = validarEntrada(indice, jogada.getValor());
+        if (!validacaoBasica.isValido()) {
+            return validacaoBasica;
+        }
+        return estadoAtual.inserirNumero(indice, jogada.getValor(), tabuleiro);
+    }
+
+    private SolucaoService solucaoService() {
+        if (solucaoService == null) {
+            solucaoService = SolucaoService.padrao();
+        }
+        return solucaoService;
+    }
+
+    private Map<String, Ramo> ramos() {
+        if (ramos == null) {
+            ramos = new LinkedHashMap<>();
+            ramos.put(RAMO_PRINCIPAL, new Ramo(null));
+        }
+        return ramos;
+    }
+
+    /**
+     * Um ramo: cópia do tabuleiro (ponta; null se for o ramo atual) e, para
+     * cada outro ramo, o ancestral comum usado ao mesclá-lo neste.
+     */
+    private static final class Ramo {
+        final Map<String, Tabuleiro> bases = new HashMap<>();
+        Tabuleiro ponta;
+
+        Ramo(Tabuleiro ponta) {
+            this.ponta = ponta;
+        }
+    }
+
+    private MapaCandidatos mapaCandidatos() {
+        if (candidatos == null) {
+            candidatos = validadorService.criarMapaCandidatos();
+            candidatos.recalcular(tabuleiro);
+        }
+        return candidatos;
+    }
+
+    private void recalcularCandidatos() {
+        if (candidatos != null) {
+            candidatos.recalcular(tabuleiro);
+        }
+    }
+
+    private DetectorImpasse detector() {
+        if (detector == null) {
+            detector = new DetectorImpasse(validadorService.getRegras());
+        }
+        return detector;
+    }
+
+    private void atualizarProgresso() {
+        progresso = detector().verificar(tabuleiro, gabarito());
+    }
+
+    private byte[] solucaoConhecida() {
+        if (solucao == null && !cacheConsultado) {
+            // Uma consulta por puzzle, sem resolver: outro jogo pode já ter resolvido o mesmo
+            // puzzle, ou ele pode estar no índice de soluções
+            solucao = solucaoService().consultarCache(tabuleiro, validadorService.getRegras());
+            cacheConsultado = true;
+        }
+        return solucao;
+    }
+
+    /**
+     * Solução conhecida que serve de gabarito: só a de um puzzle de solução única.
+     */
+    private byte[] gabarito() {
+        byte[] conhecida = solucaoConhecida();
+        return conhecida != null && GradeCompactada.isUnica(conhecida) ? conhecida : null;
+    }
+
+    private byte[] solucaoDoPuzzle() {
+        if (solucao == null && !semSolucao) {
+            solucao = solucaoService().obterSolucao(tabuleiro, validadorService.getRegras());
+            semSolucao = solucao == null;
+        }
+        return solucao;
+    }
+
     private void verificarTransicaoEstado() {
         // Verifica transições automáticas baseadas no tabuleiro
         if (estadoAtual instanceof EmAndamentoState) {
             JogoState possivelNovoEstado = ((EmAndamentoState) estadoAtual).verificarTransicao(tabuleiro);
             if (possivelNovoEstado != estadoAtual) {
-                estadoAtual = possivelNovoEstado;
+                mudarEstado(possivelNovoEstado);
             }
         } else if (estadoAtual instanceof CompletoState) {
             // Se em estado completo e removemos algo, volta para em andamento
             if (!tabuleiro.estaCompleto()) {
-                estadoAtual = ((CompletoState) estadoAtual).voltarParaAndamento();
+                mudarEstado(((CompletoState) estadoAtual).voltarParaAndamento());
             }
         }
     }
+
+    private void mudarEstado(JogoState novoEstado) {
+        EstadoJogo anterior = estadoAtual.getTipoEstado();
+        estadoAtual = novoEstado;
+        if (anterior != novoEstado.getTipoEstado()) {
+            eventos.publicarTransicao(anterior, novoEstado.getTipoEstado());
+        }
+    }
+
+    /**
+     * Publica as unidades completadas pela operação que terminou. Dentro de um
+     * lote uma unidade pode ser completada e desfeita: só conta se ainda estiver completa.
+     */
+    private void publicarUnidadesCompletadas() {
+        long completadas = 0;
+        for (long pendentes = unidadesCompletadas; pendentes != 0; pendentes &= pendentes - 1) {
+            int unidade = Long.numberOfTrailingZeros(pendentes);
+            if (tabuleiro.isUnidadeCompleta(unidade)) {
+                completadas |= 1L << unidade;
+                eventos.publicarUnidadeCompleta(unidade, descreverUnidade(unidade));
+            }
+        }
+        unidadesCompletadas = 0;
+        ultimasUnidadesCompletadas = completadas;
+    }
+
+    /**
+     * Compara as células marcadas com erro com o último conjunto publicado.
+     * Sem assinantes não há varredura.
+     */
+    private void publicarConflitosSeMudaram() {
+        if (!eventos.temAssinantes()) {
+            return;
+        }
+        long baixo = 0;
+        long alto = 0;
+        if (tabuleiro.temErros()) {
+            for (int indice = 0; indice < 81; indice++) {
+                if (tabuleiro.isEmErro(indice)) {
+                    if (indice < 64) {
+                        baixo |= 1L << indice;
+                    } else {
+                        alto |= 1L << (indice - 64);
+                    }
+                }
+            }
+        }
+        if (baixo != conflitosBaixo || alto != conflitosAlto) {
+            conflitosBaixo = baixo;
+            conflitosAlto = alto;
+            eventos.publicarConflitos(baixo, alto);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,67 @@
+package service;
+
+import validation.ResultadoValidacao;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resultado de um lote de jogadas aplicado pelo JogoService.
+ * O lote é atômico: ou todas as jogadas foram aplicadas, ou nenhuma.
+ */
+public class ResultadoLote {
+    private final boolean aplicado;
+    private final List<ResultadoValidacao> resultados;
+    private final ResultadoValidacao validacaoFinal;
+
+    ResultadoLote(boolean aplicado, List<ResultadoValidacao> resultados, ResultadoValidacao validacaoFinal) {
+        this.aplicado = aplicado;
+        this.resultados = new ArrayList<>(resultados);
+        this.validacaoFinal = validacaoFinal;
+    }
+
+    /**
+     * Indica se o lote foi aplicado ao tabuleiro.
+     */
+    public boolean isAplicado() {
+        return aplicado;
+    }
+
+    /**
+     * Resultado de cada jogada, na ordem do lote.
+     */
+    public List<ResultadoValidacao> getResultados() {
+        return new ArrayList<>(resultados);
+    }
+
+    public ResultadoValidacao getResultado(int indice) {
+        return resultados.get(indice);
+    }
+
+    /**
+     * Resultado da validação do tabuleiro feita uma única vez ao final do lote
+     * (sucesso se não houver conflitos). Se o lote foi rejeitado, traz o motivo.
+     */
+    public ResultadoValidacao getValidacaoFinal() {
+        return validacaoFinal;
+    }
+
+    /**
+     * Índice da primeira jogada rejeitada, ou -1 se todas foram aceitas.
+     */
+    public int getPrimeiraFalha() {
+        for (int i = 0; i < resultados.size(); i++) {
+            if (!resultados.get(i).isValido()) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public String toString() {
+        return aplicado
+                ? "Lote aplicado: " + resultados.size() + " jogadas - " + validacaoFinal
+                : "Lote rejeitado na jogada " + getPrimeiraFalha() + " - " + validacaoFinal;
+    }
+}
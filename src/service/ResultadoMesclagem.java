@@ -0,0 +1,53 @@
+package service;
+
+import domain.model.ConjuntoCelulas;
+
+/**
+ * Resultado de mesclar um ramo no ramo atual ({@link JogoService#mesclarRamo}).
+ *
+ * <p>As células alteradas só no outro ramo chegam como um lote de jogadas;
+ * as alteradas nos dois ramos com valores diferentes são conflitos e
+ * mantêm o valor do ramo atual.</p>
+ */
+public class ResultadoMesclagem {
+    private final ResultadoLote lote;
+    private final ConjuntoCelulas conflitos;
+
+    ResultadoMesclagem(ResultadoLote lote, ConjuntoCelulas conflitos) {
+        this.lote = lote;
+        this.conflitos = conflitos;
+    }
+
+    /**
+     * Indica se as jogadas vindas do outro ramo foram aplicadas (lote vazio conta como aplicado).
+     */
+    public boolean isAplicada() {
+        return lote.isAplicado();
+    }
+
+    /**
+     * Jogadas trazidas do outro ramo e a validação final do tabuleiro.
+     */
+    public ResultadoLote getLote() {
+        return lote;
+    }
+
+    public int getCelulasTrazidas() {
+        return lote.getResultados().size();
+    }
+
+    /**
+     * Células alteradas nos dois ramos com valores diferentes (ficaram com o valor do ramo atual).
+     */
+    public ConjuntoCelulas getConflitos() {
+        return conflitos;
+    }
+
+    @Override
+    public String toString() {
+        return (lote.isAplicado()
+                ? "Mesclagem aplicada: " + getCelulasTrazidas() + " células trazidas"
+                : "Mesclagem rejeitada - " + lote.getValidacaoFinal())
+                + (conflitos.estaVazio() ? "" : ", " + conflitos.tamanho() + " em conflito " + conflitos);
+    }
+}
@@ -0,0 +1,186 @@
+package service;
+
+import domain.exception.SudokuException;
+import domain.model.Celula;
+import domain.model.Dica;
+import domain.model.Posicao;
+import domain.model.Tabuleiro;
+import solver.CacheSolucoes;
+import solver.GradeCompactada;
+import solver.ImpressaoTabuleiro;
+import solver.IndiceSolucoes;
+import solver.Resolvedor;
+import solver.ResolvedorSudoku;
+import solver.sat.ResolvedorSat;
+import validation.RegrasCompiladas;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Serviço que fornece soluções e dicas para os puzzles.
+ * Fica na frente do resolvedor com um cache compartilhado entre jogos:
+ * puzzles com as mesmas células fixas são resolvidos uma única vez.
+ * Opcionalmente consulta também um {@link IndiceSolucoes} em disco, com as
+ * soluções de uma biblioteca de puzzles (-Dsudoku.indice=arquivo).
+ */
+public class SolucaoService {
+
+    /** Orçamento padrão do cache (pode ser alterado com -Dsudoku.cache.bytes). */
+    public static final long ORCAMENTO_PADRAO_BYTES = 8L * 1024 * 1024;
+
+    /**
+     * Resolvedor usado nos puzzles ainda não resolvidos: backtracking por padrão,
+     * ou o SAT com -Dsudoku.resolvedor=sat (instâncias adversariais e variantes complexas).
+     */
+    private static final boolean USAR_SAT = "sat".equalsIgnoreCase(System.getProperty("sudoku.resolvedor"));
+
+    private final CacheSolucoes cache;
+    private final IndiceSolucoes indice; // null = sem índice
+
+    public SolucaoService(CacheSolucoes cache) {
+        this(cache, null);
+    }
+
+    /**
+     * @param indice soluções pré-calculadas, consultadas depois do cache (pode ser null)
+     */
+    public SolucaoService(CacheSolucoes cache, IndiceSolucoes indice) {
+        this.cache = cache;
+        this.indice = indice;
+    }
+
+    /**
+     * Instância compartilhada por todos os jogos criados pela fábrica.
+     */
+    public static SolucaoService padrao() {
+        return Compartilhado.INSTANCIA;
+    }
+
+    // ========== SOLUÇÕES ==========
+
+    /**
+     * Retorna a solução compactada do puzzle clássico (apenas as células fixas contam).
+     *
+     * @return solução em 41 bytes (não modificar) ou null se o puzzle não tem solução
+     */
+    public byte[] obterSolucao(Tabuleiro tabuleiro) {
+        return obterSolucao(tabuleiro, RegrasCompiladas.CLASSICO);
+    }
+
+    /**
+     * Retorna a solução compactada do puzzle em uma variante.
+     */
+    public byte[] obterSolucao(Tabuleiro tabuleiro, RegrasCompiladas regras) {
+        return obterSolucao(ImpressaoTabuleiro.dosFixos(tabuleiro, regras), regras);
+    }
+
+    /**
+     * Retorna a solução compactada do puzzle identificado pela impressão.
+     * As regras devem ser as mesmas usadas para calcular a impressão.
+     * A solução vem marcada ({@link GradeCompactada#isUnica}) se for a única do puzzle.
+     */
+    public byte[] obterSolucao(ImpressaoTabuleiro impressao, RegrasCompiladas regras) {
+        byte[] solucao = consultar(impressao);
+        if (solucao != null) {
+            return solucao;
+        }
+
+        int[] grade = impressao.getFixos();
+        Resolvedor resolvedor = criarResolvedor(regras);
+        // Contada uma vez por puzzle, antes de entrar no cache
+        boolean unica = resolvedor.contarSolucoes(grade, 2) == 1;
+        if (!resolvedor.resolver(grade)) {
+            return null;
+        }
+
+        solucao = GradeCompactada.compactar(grade);
+        if (unica) {
+            GradeCompactada.marcarUnica(solucao);
+        }
+        cache.armazenar(impressao, solucao);
+        return solucao;
+    }
+
+    /**
+     * Consulta apenas o cache e o índice, sem resolver o puzzle em caso de ausência.
+     *
+     * @return solução compactada (não modificar) ou null se ainda não é conhecida
+     */
+    public byte[] consultarCache(Tabuleiro tabuleiro, RegrasCompiladas regras) {
+        return consultar(ImpressaoTabuleiro.dosFixos(tabuleiro, regras));
+    }
+
+    private byte[] consultar(ImpressaoTabuleiro impressao) {
+        byte[] solucao = cache.obter(impressao);
+        if (solucao == null && indice != null) {
+            // O índice já é a cópia em disco: a solução não ocupa espaço no cache
+            solucao = indice.obter(impressao);
+        }
+        return solucao;
+    }
+
+    // ========== DICAS ==========
+
+    /**
+     * Calcula uma dica comparando o tabuleiro com a solução.
+     * Prioriza corrigir valores errados; depois sugere a primeira célula vazia.
+     *
+     * @return a dica ou null se o tabuleiro já está igual à solução
+     */
+    public Dica obterDica(Tabuleiro tabuleiro, byte[] solucao) {
+        int primeiraVazia = -1;
+
+        for (int indice = 0; indice < 81; indice++) {
+            Celula celula = tabuleiro.getCelula(indice / 9, indice % 9);
+            if (celula.isFixo()) {
+                continue;
+            }
+            int esperado = GradeCompactada.obter(solucao, indice);
+            if (celula.isVazia()) {
+                if (primeiraVazia == -1) {
+                    primeiraVazia = indice;
+                }
+            } else if (celula.getValorAtual() != esperado) {
+                return new Dica(Posicao.doIndice(indice), esperado, true);
+            }
+        }
+
+        if (primeiraVazia == -1) {
+            return null;
+        }
+        return new Dica(Posicao.doIndice(primeiraVazia),
+                GradeCompactada.obter(solucao, primeiraVazia), false);
+    }
+
+    private static Resolvedor criarResolvedor(RegrasCompiladas regras) {
+        return USAR_SAT ? new ResolvedorSat(regras) : new ResolvedorSudoku(regras);
+    }
+
+    // ========== MÉTRICAS ==========
+
+    public CacheSolucoes.Estatisticas getEstatisticasCache() {
+        return cache.getEstatisticas();
+    }
+
+    /**
+     * Holder da instância compartilhada (criada apenas no primeiro uso).
+     */
+    private static final class Compartilhado {
+        private static final SolucaoService INSTANCIA = new SolucaoService(
+                new CacheSolucoes(Long.getLong("sudoku.cache.bytes", ORCAMENTO_PADRAO_BYTES)),
+                abrirIndice(System.getProperty("sudoku.indice")));
+
+        private static IndiceSolucoes abrirIndice(String arquivo) {
+            if (arquivo == null) {
+                return null;
+            }
+            try {
+                return IndiceSolucoes.abrir(Path.of(arquivo), RegrasCompiladas.CLASSICO);
+            } catch (IOException | SudokuException e) {
+                System.err.println("Índice de soluções ignorado: " + e.getMessage());
+                return null;
+            }
+        }
+    }
+}
@@ -1,24 +1,90 @@
 package service;
 
+import domain.model.ConjuntoCelulas;
+import domain.model.LeituraTabuleiro;
 import domain.model.Posicao;
 import domain.model.Tabuleiro;
+import solver.GradeCompactada;
+import validation.MapaCandidatos;
 import validation.RegraSudoku;
+import validation.RegrasCompiladas;
 import validation.ResultadoValidacao;
 import validation.ValidadorCelula;
+import validation.ValidadorLote;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Serviço que coordena todas as validações do Sudoku.
  * Separa detecção de conflitos (pura) de marcação de erros (com efeito).
+ *
+ * <p>Não guarda estado entre chamadas, então uma instância por variante
+ * pode ser compartilhada por todos os jogos: use {@link #padrao()} ou
+ * {@link #para(RegrasCompiladas)} em vez de criar uma por jogo.</p>
  */
 public class ValidadorService {
+
+    // ValidadorCelula não tem estado nem depende da variante
+    private static final ValidadorCelula VALIDADOR_CELULA = new ValidadorCelula();
+
+    // Variantes guardadas por para(); cada Killer é uma variante, então o total é limitado
+    private static final int MAXIMO_VARIANTES = 64;
+
+    // Validador por identificador das regras, do menos ao mais recentemente usado
+    private static final Map<Long, ValidadorService> POR_VARIANTE =
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, ValidadorService> maisAntiga) {
+                    return size() > MAXIMO_VARIANTES;
+                }
+            };
+
     private final ValidadorCelula validadorCelula;
     private final RegraSudoku regraSudoku;
 
     public ValidadorService() {
-        this.validadorCelula = new ValidadorCelula();
-        this.regraSudoku = new RegraSudoku();
+        this(RegrasCompiladas.CLASSICO);
+    }
+
+    /**
+     * Validador para uma variante específica (diagonal, jigsaw, hyper...).
+     */
+    public ValidadorService(RegrasCompiladas regras) {
+        this.validadorCelula = VALIDADOR_CELULA;
+        this.regraSudoku = new RegraSudoku(regras);
+    }
+
+    /**
+     * Validador do Sudoku clássico compartilhado, criado no primeiro uso.
+     */
+    public static ValidadorService padrao() {
+        return Padrao.INSTANCIA;
+    }
+
+    /**
+     * Validador compartilhado para as regras informadas. Regras compiladas de
+     * novo com as mesmas restrições (mesmo {@link RegrasCompiladas#getIdentificador()})
+     * reutilizam a instância; o clássico usa {@link #padrao()}.
+     */
+    public static ValidadorService para(RegrasCompiladas regras) {
+        if (regras == RegrasCompiladas.CLASSICO
+                || regras.getIdentificador() == RegrasCompiladas.CLASSICO.getIdentificador()) {
+            return padrao();
+        }
+        synchronized (POR_VARIANTE) {
+            return POR_VARIANTE.computeIfAbsent(regras.getIdentificador(), id -> new ValidadorService(regras));
+        }
+    }
+
+    // Inicialização sob demanda: a classe só é carregada na primeira chamada a padrao()
+    private static final class Padrao {
+        private static final ValidadorService INSTANCIA = new ValidadorService();
+    }
+
+    public RegrasCompiladas getRegras() {
+        return regraSudoku.getRegras();
     }
 
     /**
@@ -26,9 +92,16 @@ public class ValidadorService {
      * Combina validação de célula com regras do Sudoku.
      */
     public ResultadoValidacao validarInsercao(Tabuleiro tabuleiro, Posicao posicao, int valor) {
+        return validarInsercao(tabuleiro, posicao.getIndice(), valor);
+    }
+
+    /**
+     * Mesmo que {@link #validarInsercao(Tabuleiro, Posicao, int)}, pelo índice da célula (0-80).
+     */
+    public ResultadoValidacao validarInsercao(Tabuleiro tabuleiro, int indice, int valor) {
         // 1. Valida a célula em si
         ResultadoValidacao validacaoCelula = validadorCelula.validarInsercao(
-                tabuleiro.getCelula(posicao), valor, posicao
+                tabuleiro.getCelula(indice), valor, Posicao.doIndice(indice)
         );
 
         if (!validacaoCelula.isValido()) {
@@ -36,14 +109,21 @@ public class ValidadorService {
         }
 
         // 2. Valida regras do Sudoku
-        return regraSudoku.podeInserir(tabuleiro, posicao, valor);
+        return regraSudoku.podeInserir(tabuleiro, indice, valor);
     }
 
     /**
      * Valida se um número pode ser removido de uma posição.
      */
     public ResultadoValidacao validarRemocao(Tabuleiro tabuleiro, Posicao posicao) {
-        return validadorCelula.validarRemocao(tabuleiro.getCelula(posicao), posicao);
+        return validarRemocao(tabuleiro, posicao.getIndice());
+    }
+
+    /**
+     * Valida se um número pode ser removido da célula de índice 0-80.
+     */
+    public ResultadoValidacao validarRemocao(Tabuleiro tabuleiro, int indice) {
+        return validadorCelula.validarRemocao(tabuleiro.getCelula(indice), Posicao.doIndice(indice));
     }
 
     /**
@@ -55,21 +135,48 @@ public class ValidadorService {
         tabuleiro.limparTodosErros();
 
         // Encontra conflitos
-        List<Posicao> conflitos = regraSudoku.encontrarConflitos(tabuleiro);
+        ConjuntoCelulas conflitos = regraSudoku.encontrarConflitos(tabuleiro);
 
         // Marca células com erro
-        for (Posicao posicao : conflitos) {
-            tabuleiro.marcarErro(posicao.getLinhaIndex(), posicao.getColunaIndex());
-        }
+        conflitos.paraCada(tabuleiro::marcarErro);
 
         // Retorna resultado
-        if (conflitos.isEmpty()) {
+        if (conflitos.estaVazio()) {
             return ResultadoValidacao.sucesso();
         } else {
-            return ResultadoValidacao.erro("Tabuleiro contém " + conflitos.size() + " conflitos");
+            return ResultadoValidacao.erro("Tabuleiro contém " + conflitos.tamanho() + " conflitos");
         }
     }
 
+    /**
+     * Células em conflito, sem marcar erros no tabuleiro.
+     */
+    public ConjuntoCelulas encontrarConflitos(Tabuleiro tabuleiro) {
+        return regraSudoku.encontrarConflitos(tabuleiro);
+    }
+
+    /**
+     * Jogadas legais de todo o tabuleiro em uma chamada: máscara de candidatos
+     * (bit d-1 = dígito d) de cada célula, 0 nas preenchidas.
+     */
+    public int[] calcularCandidatos(LeituraTabuleiro tabuleiro) {
+        return regraSudoku.calcularCandidatos(tabuleiro);
+    }
+
+    /**
+     * Mesmo que {@link #calcularCandidatos(LeituraTabuleiro)}, sem alocar o vetor de resultado.
+     */
+    public void calcularCandidatos(LeituraTabuleiro tabuleiro, int[] destino) {
+        regraSudoku.calcularCandidatos(tabuleiro, destino);
+    }
+
+    /**
+     * Mapa de candidatos para ser mantido jogada a jogada (um por jogo).
+     */
+    public MapaCandidatos criarMapaCandidatos() {
+        return new MapaCandidatos(regraSudoku);
+    }
+
     /**
      * Valida se o tabuleiro completo está correto.
      * Usado para finalização do jogo.
@@ -90,6 +197,64 @@ public class ValidadorService {
         }
     }
 
+    /**
+     * Mesmo que {@link #validarTabuleiroCompleto(Tabuleiro)}, mas compara
+     * primeiro com a solução conhecida do puzzle: uma única passada, sem
+     * procurar conflitos. Se o tabuleiro for diferente da solução (puzzle com
+     * mais de uma solução, ou erro do jogador), cai na validação completa.
+     *
+     * @param solucao solução compactada do puzzle (GradeCompactada) ou null se desconhecida
+     */
+    public ResultadoValidacao validarTabuleiroCompleto(Tabuleiro tabuleiro, byte[] solucao) {
+        if (solucao != null && tabuleiro.estaCompleto() && coincide(tabuleiro, solucao)) {
+            return ResultadoValidacao.sucesso();
+        }
+        return validarTabuleiroCompleto(tabuleiro);
+    }
+
+    private static boolean coincide(Tabuleiro tabuleiro, byte[] solucao) {
+        for (int i = 0; i < 81; i++) {
+            if (tabuleiro.getValor(i) != GradeCompactada.obter(solucao, i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Versão em lote de {@link #validarTabuleiroCompleto}: {@code resultado[i]}
+     * indica se o i-ésimo tabuleiro está completo e correto.
+     *
+     * <p>Não marca erros nos tabuleiros. As grades são validadas em blocos
+     * de {@link ValidadorLote#CAPACIDADE_PADRAO}, em layout colunar.</p>
+     */
+    public boolean[] validarTabuleirosCompletos(List<? extends LeituraTabuleiro> tabuleiros) {
+        boolean[] resultado = new boolean[tabuleiros.size()];
+        ValidadorLote lote = new ValidadorLote(getRegras(),
+                Math.max(1, Math.min(tabuleiros.size(), ValidadorLote.CAPACIDADE_PADRAO)));
+        boolean[] parcial = new boolean[lote.getCapacidade()];
+
+        int inicio = 0;
+        for (LeituraTabuleiro tabuleiro : tabuleiros) {
+            lote.adicionar(tabuleiro);
+            if (lote.isCheio()) {
+                inicio = copiarResultado(lote, parcial, resultado, inicio);
+            }
+        }
+        if (lote.getTamanho() > 0) {
+            copiarResultado(lote, parcial, resultado, inicio);
+        }
+        return resultado;
+    }
+
+    private static int copiarResultado(ValidadorLote lote, boolean[] parcial, boolean[] resultado, int inicio) {
+        lote.validar(parcial);
+        System.arraycopy(parcial, 0, resultado, inicio, lote.getTamanho());
+        inicio += lote.getTamanho();
+        lote.limpar();
+        return inicio;
+    }
+
     /**
      * Verifica se o tabuleiro está pronto para ser finalizado.
      */
@@ -0,0 +1,322 @@
+package solver;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache de soluções indexado pela impressão digital do puzzle.
+ *
+ * <p>Política W-TinyLFU: uma pequena janela LRU (1%) recebe as novas entradas;
+ * quem sai da janela só entra na área principal (SLRU probatório/protegido)
+ * se for mais frequente que a vítima, segundo um esboço de frequência
+ * (count-min de 4 bits com envelhecimento).</p>
+ *
+ * <p>O tamanho é limitado por um orçamento em bytes. Soluções são guardadas
+ * compactadas (41 bytes, ver {@link GradeCompactada}).</p>
+ */
+public class CacheSolucoes {
+
+    /**
+     * Custo estimado de uma entrada: chave (41 bytes + hash), solução
+     * (41 bytes) e o overhead dos objetos e do nó do LinkedHashMap.
+     */
+    public static final int CUSTO_ENTRADA_BYTES = 176;
+
+    private final long orcamentoBytes;
+    private final int capacidadeJanela;
+    private final int capacidadePrincipal;
+    private final int capacidadeProtegida;
+
+    // Segmentos em ordem de acesso (o mais antigo é o primeiro)
+    private final LinkedHashMap<ImpressaoTabuleiro, byte[]> janela = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<ImpressaoTabuleiro, byte[]> probatorio = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<ImpressaoTabuleiro, byte[]> protegido = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final EsbocoFrequencia esboco;
+
+    // Métricas
+    private long acertos;
+    private long falhas;
+    private long remocoes;
+    private long rejeicoes;
+
+    /**
+     * Cria um cache limitado ao orçamento informado.
+     *
+     * @param orcamentoBytes memória máxima aproximada ocupada pelas entradas
+     */
+    public CacheSolucoes(long orcamentoBytes) {
+        if (orcamentoBytes < CUSTO_ENTRADA_BYTES) {
+            throw new IllegalArgumentException("Orçamento deve comportar ao menos uma entrada ("
+                    + CUSTO_ENTRADA_BYTES + " bytes)");
+        }
+        this.orcamentoBytes = orcamentoBytes;
+
+        int capacidade = (int) Math.min(Integer.MAX_VALUE / 2, orcamentoBytes / CUSTO_ENTRADA_BYTES);
+        this.capacidadeJanela = Math.max(1, capacidade / 100);
+        this.capacidadePrincipal = capacidade - capacidadeJanela;
+        this.capacidadeProtegida = capacidadePrincipal * 80 / 100;
+        this.esboco = new EsbocoFrequencia(capacidade);
+    }
+
+    // ========== OPERAÇÕES ==========
+
+    /**
+     * Busca a solução compactada de um puzzle.
+     *
+     * @return a solução (não modificar) ou null se ausente
+     */
+    public synchronized byte[] obter(ImpressaoTabuleiro chave) {
+        esboco.incrementar(chave.getHash());
+
+        byte[] solucao = janela.get(chave);
+        if (solucao == null) {
+            solucao = protegido.get(chave);
+        }
+        if (solucao == null) {
+            solucao = probatorio.remove(chave);
+            if (solucao != null) {
+                promover(chave, solucao);
+            }
+        }
+
+        if (solucao == null) {
+            falhas++;
+        } else {
+            acertos++;
+        }
+        return solucao;
+    }
+
+    /**
+     * Armazena a solução compactada de um puzzle.
+     */
+    public synchronized void armazenar(ImpressaoTabuleiro chave, byte[] solucao) {
+        if (solucao.length != GradeCompactada.TAMANHO_BYTES) {
+            throw new IllegalArgumentException("Solução deve estar compactada em "
+                    + GradeCompactada.TAMANHO_BYTES + " bytes");
+        }
+
+        // Atualização de entrada existente não altera a política
+        if (janela.containsKey(chave)) {
+            janela.put(chave, solucao);
+            return;
+        }
+        if (probatorio.containsKey(chave)) {
+            probatorio.put(chave, solucao);
+            return;
+        }
+        if (protegido.containsKey(chave)) {
+            protegido.put(chave, solucao);
+            return;
+        }
+
+        esboco.incrementar(chave.getHash());
+        janela.put(chave, solucao);
+
+        if (janela.size() > capacidadeJanela) {
+            Map.Entry<ImpressaoTabuleiro, byte[]> candidato = removerMaisAntigo(janela);
+            admitir(candidato.getKey(), candidato.getValue());
+        }
+    }
+
+    /**
+     * Remove todas as entradas (as métricas são mantidas).
+     */
+    public synchronized void limpar() {
+        janela.clear();
+        probatorio.clear();
+        protegido.clear();
+    }
+
+    // ========== CONSULTAS ==========
+
+    public synchronized int getEntradas() {
+        return janela.size() + probatorio.size() + protegido.size();
+    }
+
+    public long getOrcamentoBytes() {
+        return orcamentoBytes;
+    }
+
+    /**
+     * Retorna uma cópia imutável das métricas atuais.
+     */
+    public synchronized Estatisticas getEstatisticas() {
+        int entradas = getEntradas();
+        return new Estatisticas(acertos, falhas, remocoes, rejeicoes, entradas,
+                (long) entradas * CUSTO_ENTRADA_BYTES, orcamentoBytes);
+    }
+
+    // ========== POLÍTICA ==========
+
+    private void promover(ImpressaoTabuleiro chave, byte[] solucao) {
+        protegido.put(chave, solucao);
+        if (protegido.size() > capacidadeProtegida) {
+            // Rebaixa o mais antigo do protegido para o probatório
+            Map.Entry<ImpressaoTabuleiro, byte[]> rebaixado = removerMaisAntigo(protegido);
+            probatorio.put(rebaixado.getKey(), rebaixado.getValue());
+        }
+    }
+
+    private void admitir(ImpressaoTabuleiro candidato, byte[] solucao) {
+        if (probatorio.size() + protegido.size() < capacidadePrincipal) {
+            probatorio.put(candidato, solucao);
+            return;
+        }
+
+        LinkedHashMap<ImpressaoTabuleiro, byte[]> origemVitima = probatorio.isEmpty() ? protegido : probatorio;
+        if (origemVitima.isEmpty()) {
+            // Área principal sem capacidade: o candidato é descartado
+            remocoes++;
+            return;
+        }
+
+        ImpressaoTabuleiro vitima = origemVitima.keySet().iterator().next();
+        remocoes++;
+        if (esboco.frequencia(candidato.getHash()) > esboco.frequencia(vitima.getHash())) {
+            origemVitima.remove(vitima);
+            probatorio.put(candidato, solucao);
+        } else {
+            rejeicoes++;
+        }
+    }
+
+    private static Map.Entry<ImpressaoTabuleiro, byte[]> removerMaisAntigo(
+            LinkedHashMap<ImpressaoTabuleiro, byte[]> segmento) {
+        Iterator<Map.Entry<ImpressaoTabuleiro, byte[]>> iterador = segmento.entrySet().iterator();
+        Map.Entry<ImpressaoTabuleiro, byte[]> entrada = iterador.next();
+        Map.Entry<ImpressaoTabuleiro, byte[]> maisAntigo = Map.entry(entrada.getKey(), entrada.getValue());
+        iterador.remove();
+        return maisAntigo;
+    }
+
+    // ========== ESBOÇO DE FREQUÊNCIA ==========
+
+    /**
+     * Count-min sketch com contadores de 4 bits (máximo 15) e 4 funções de hash.
+     * Quando o número de incrementos atinge 10x a largura, todos os contadores
+     * são divididos por 2 para que a popularidade antiga envelheça.
+     */
+    private static final class EsbocoFrequencia {
+        private static final long[] SEMENTES = {
+                0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L
+        };
+
+        private final byte[] contadores;
+        private final int mascara;
+        private final int limiteAmostra;
+        private int amostra;
+
+        EsbocoFrequencia(int capacidade) {
+            int largura = Integer.highestOneBit(Math.max(16, capacidade - 1) << 1);
+            this.contadores = new byte[largura * SEMENTES.length];
+            this.mascara = largura - 1;
+            this.limiteAmostra = largura * 10;
+        }
+
+        void incrementar(long hash) {
+            boolean incrementou = false;
+            for (int i = 0; i < SEMENTES.length; i++) {
+                int posicao = posicao(hash, i);
+                if (contadores[posicao] < 15) {
+                    contadores[posicao]++;
+                    incrementou = true;
+                }
+            }
+            if (incrementou && ++amostra >= limiteAmostra) {
+                envelhecer();
+            }
+        }
+
+        int frequencia(long hash) {
+            int minimo = 15;
+            for (int i = 0; i < SEMENTES.length; i++) {
+                minimo = Math.min(minimo, contadores[posicao(hash, i)]);
+            }
+            return minimo;
+        }
+
+        private int posicao(long hash, int linha) {
+            long h = (hash + SEMENTES[linha]) * SEMENTES[(linha + 1) & 3];
+            int coluna = (int) (h ^ (h >>> 32)) & mascara;
+            return linha * (mascara + 1) + coluna;
+        }
+
+        private void envelhecer() {
+            for (int i = 0; i < contadores.length; i++) {
+                contadores[i] >>= 1;
+            }
+            amostra /= 2;
+        }
+    }
+
+    // ========== MÉTRICAS ==========
+
+    /**
+     * Fotografia imutável das métricas do cache.
+     */
+    public static final class Estatisticas {
+        private final long acertos;
+        private final long falhas;
+        private final long remocoes;
+        private final long rejeicoes;
+        private final int entradas;
+        private final long bytesUsados;
+        private final long orcamentoBytes;
+
+        Estatisticas(long acertos, long falhas, long remocoes, long rejeicoes,
+                     int entradas, long bytesUsados, long orcamentoBytes) {
+            this.acertos = acertos;
+            this.falhas = falhas;
+            this.remocoes = remocoes;
+            this.rejeicoes = rejeicoes;
+            this.entradas = entradas;
+            this.bytesUsados = bytesUsados;
+            this.orcamentoBytes = orcamentoBytes;
+        }
+
+        public long getAcertos() {
+            return acertos;
+        }
+
+        public long getFalhas() {
+            return falhas;
+        }
+
+        public long getRemocoes() {
+            return remocoes;
+        }
+
+        /**
+         * Candidatos barrados pela admissão TinyLFU (contam também como remoções).
+         */
+        public long getRejeicoes() {
+            return rejeicoes;
+        }
+
+        public int getEntradas() {
+            return entradas;
+        }
+
+        public long getBytesUsados() {
+            return bytesUsados;
+        }
+
+        public long getOrcamentoBytes() {
+            return orcamentoBytes;
+        }
+
+        public double getTaxaAcerto() {
+            long total = acertos + falhas;
+            return total == 0 ? 0.0 : (double) acertos / total;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Cache: %d acertos, %d falhas (%.1f%%), %d remoções, %d entradas, %d/%d bytes",
+                    acertos, falhas, getTaxaAcerto() * 100, remocoes, entradas, bytesUsados, orcamentoBytes);
+        }
+    }
+}
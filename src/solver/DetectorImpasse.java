@@ -0,0 +1,114 @@
+package solver;
+
+import domain.model.LeituraTabuleiro;
+import validation.RegrasCompiladas;
+
+/**
+ * Detecta cedo um tabuleiro sem saída: sem repetições em linhas, colunas e
+ * blocos, mas que já não pode ser completado.
+ *
+ * <p>Quando a solução do puzzle é conhecida e é a única
+ * ({@link GradeCompactada#isUnica}), basta comparar cada valor preenchido
+ * com ela. Com várias soluções, um valor diferente da guardada pode levar
+ * a outra; nesse caso, e sem a solução, roda uma propagação limitada
+ * ({@link ResolvedorSudoku#propagar}), que encontra a maioria dos impasses
+ * sem busca. As duas verificações custam poucos microssegundos e podem rodar
+ * a cada jogada.</p>
+ *
+ * <p>Reaproveita um vetor interno entre as chamadas: use uma instância por jogo.</p>
+ */
+public class DetectorImpasse {
+
+    /** Rodadas de propagação por verificação (cada uma percorre a grade uma vez). */
+    public static final int RODADAS_PADRAO = 4;
+
+    /**
+     * Resultado de uma verificação.
+     */
+    public enum Situacao {
+        /** Todos os valores conferem com a solução do puzzle. */
+        NO_CAMINHO("Tudo certo até aqui"),
+        /** Sem solução conhecida, a propagação não encontrou contradição. */
+        SEM_CONTRADICAO("Nenhuma contradição encontrada"),
+        /** Algum valor difere da solução do puzzle. */
+        FORA_DA_SOLUCAO("Há valores diferentes da solução do puzzle"),
+        /** A propagação encontrou contradição: o tabuleiro não pode ser completado. */
+        SEM_SAIDA("O tabuleiro não pode mais ser completado");
+
+        private final String descricao;
+
+        Situacao(String descricao) {
+            this.descricao = descricao;
+        }
+
+        public String getDescricao() {
+            return descricao;
+        }
+
+        /**
+         * true se o jogador precisa desfazer jogadas para terminar o puzzle.
+         */
+        public boolean isImpasse() {
+            return this == FORA_DA_SOLUCAO || this == SEM_SAIDA;
+        }
+    }
+
+    private final ResolvedorSudoku resolvedor;
+    private final int limiteRodadas;
+    private final int[] grade = new int[81];
+
+    public DetectorImpasse(RegrasCompiladas regras) {
+        this(regras, RODADAS_PADRAO);
+    }
+
+    public DetectorImpasse(RegrasCompiladas regras, int limiteRodadas) {
+        if (limiteRodadas < 1) {
+            throw new IllegalArgumentException("Limite de rodadas deve ser positivo");
+        }
+        this.resolvedor = new ResolvedorSudoku(regras);
+        this.limiteRodadas = limiteRodadas;
+    }
+
+    /**
+     * Verifica o tabuleiro, comparando com a solução se ela for conhecida e única.
+     *
+     * @param solucao solução compactada (ver {@link GradeCompactada}) ou null
+     */
+    public Situacao verificar(LeituraTabuleiro tabuleiro, byte[] solucao) {
+        return solucao != null && GradeCompactada.isUnica(solucao)
+                ? compararComSolucao(tabuleiro, solucao)
+                : propagar(tabuleiro);
+    }
+
+    /**
+     * Compara os valores preenchidos com a solução (que deve ser a única do puzzle).
+     */
+    public Situacao compararComSolucao(LeituraTabuleiro tabuleiro, byte[] solucao) {
+        return primeiraDivergencia(tabuleiro, solucao) == -1 ? Situacao.NO_CAMINHO : Situacao.FORA_DA_SOLUCAO;
+    }
+
+    /**
+     * Índice (0-80) da primeira célula preenchida com valor diferente da solução.
+     *
+     * @return o índice ou -1 se todos os valores conferem
+     */
+    public static int primeiraDivergencia(LeituraTabuleiro tabuleiro, byte[] solucao) {
+        for (int indice = 0; indice < 81; indice++) {
+            int valor = tabuleiro.getValor(indice);
+            if (valor != 0 && valor != GradeCompactada.obter(solucao, indice)) {
+                return indice;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Procura contradições por propagação limitada, sem usar a solução.
+     */
+    public Situacao propagar(LeituraTabuleiro tabuleiro) {
+        for (int indice = 0; indice < 81; indice++) {
+            grade[indice] = tabuleiro.getValor(indice);
+        }
+        return resolvedor.propagar(grade, limiteRodadas) ? Situacao.SEM_CONTRADICAO : Situacao.SEM_SAIDA;
+    }
+}
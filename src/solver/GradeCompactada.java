@@ -0,0 +1,82 @@
+package solver;
+
+/**
+ * Utilitários para a representação compacta de uma grade 9x9.
+ * Cada célula ocupa 4 bits (nibble): 81 células cabem em 41 bytes.
+ * O valor 0 representa célula vazia.
+ *
+ * <p>O nibble alto do último byte não pertence a nenhuma célula. Nas
+ * soluções guardadas (cache e índice) ele indica se o puzzle tem solução
+ * única ({@link #marcarUnica}): só então a solução serve de gabarito para
+ * as jogadas.</p>
+ */
+public final class GradeCompactada {
+
+    /** Bytes necessários para armazenar 81 nibbles. */
+    public static final int TAMANHO_BYTES = 41;
+
+    // Bit do nibble sem célula que marca solução única
+    private static final int BIT_UNICA = 0x10;
+
+    private GradeCompactada() {
+    }
+
+    /**
+     * Compacta um vetor de 81 valores (0-9) em 41 bytes.
+     */
+    public static byte[] compactar(int[] valores) {
+        byte[] compactada = new byte[TAMANHO_BYTES];
+        for (int indice = 0; indice < 81; indice++) {
+            definir(compactada, indice, valores[indice]);
+        }
+        return compactada;
+    }
+
+    /**
+     * Expande uma grade compactada para um vetor de 81 valores.
+     */
+    public static int[] descompactar(byte[] compactada) {
+        int[] valores = new int[81];
+        for (int indice = 0; indice < 81; indice++) {
+            valores[indice] = obter(compactada, indice);
+        }
+        return valores;
+    }
+
+    /**
+     * Lê o valor de uma célula (índice 0-80) sem descompactar a grade.
+     */
+    public static int obter(byte[] compactada, int indice) {
+        int b = compactada[indice >> 1];
+        return (indice & 1) == 0 ? b & 0x0F : (b >> 4) & 0x0F;
+    }
+
+    /**
+     * Marca a solução como a única do puzzle.
+     */
+    public static void marcarUnica(byte[] solucao) {
+        solucao[TAMANHO_BYTES - 1] |= BIT_UNICA;
+    }
+
+    /**
+     * Indica se a solução foi marcada como a única do puzzle (sem a marca,
+     * o puzzle pode ter outras soluções).
+     */
+    public static boolean isUnica(byte[] solucao) {
+        return (solucao[TAMANHO_BYTES - 1] & BIT_UNICA) != 0;
+    }
+
+    /**
+     * Escreve o valor de uma célula (índice 0-80) na grade compactada.
+     */
+    public static void definir(byte[] compactada, int indice, int valor) {
+        int posicao = indice >> 1;
+        int b = compactada[posicao];
+        if ((indice & 1) == 0) {
+            b = (b & 0xF0) | (valor & 0x0F);
+        } else {
+            b = (b & 0x0F) | ((valor & 0x0F) << 4);
+        }
+        compactada[posicao] = (byte) b;
+    }
+}
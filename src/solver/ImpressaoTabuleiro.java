@@ -0,0 +1,153 @@
+package solver;
+
+import domain.model.Celula;
+import domain.model.Tabuleiro;
+import validation.RegrasCompiladas;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * Impressão digital compacta de um puzzle: apenas as células fixas.
+ * Dois jogos criados a partir do mesmo puzzle têm a mesma impressão,
+ * independentemente das jogadas feitas pelo usuário. A variante faz parte
+ * da impressão: os mesmos fixos em variantes diferentes têm soluções diferentes.
+ */
+public final class ImpressaoTabuleiro {
+    // Células fixas compactadas (41 bytes, 0 = não fixa)
+    private final byte[] fixos;
+
+    // Identificador das regras da variante
+    private final long variante;
+
+    // Hash de 64 bits pré-calculado sobre os bytes compactados e a variante
+    private final long hash;
+
+    private static final VarHandle PALAVRA = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private ImpressaoTabuleiro(byte[] fixos, long variante) {
+        this.fixos = fixos;
+        this.variante = variante;
+        this.hash = calcularHash(fixos, variante);
+    }
+
+    /**
+     * Calcula a impressão a partir das células fixas de um tabuleiro clássico.
+     */
+    public static ImpressaoTabuleiro dosFixos(Tabuleiro tabuleiro) {
+        return dosFixos(tabuleiro, RegrasCompiladas.CLASSICO);
+    }
+
+    /**
+     * Calcula a impressão a partir das células fixas do tabuleiro de uma variante.
+     */
+    public static ImpressaoTabuleiro dosFixos(Tabuleiro tabuleiro, RegrasCompiladas regras) {
+        byte[] fixos = new byte[GradeCompactada.TAMANHO_BYTES];
+        for (int linha = 0; linha < 9; linha++) {
+            for (int coluna = 0; coluna < 9; coluna++) {
+                Celula celula = tabuleiro.getCelula(linha, coluna);
+                if (celula.isFixo()) {
+                    GradeCompactada.definir(fixos, linha * 9 + coluna, celula.getValorAtual());
+                }
+            }
+        }
+        return new ImpressaoTabuleiro(fixos, regras.getIdentificador());
+    }
+
+    /**
+     * Cria a impressão (variante clássica) a partir de uma grade de fixos já compactada.
+     */
+    public static ImpressaoTabuleiro deCompactada(byte[] fixos) {
+        return deCompactada(fixos, RegrasCompiladas.CLASSICO);
+    }
+
+    /**
+     * Cria a impressão a partir de uma grade de fixos já compactada.
+     */
+    public static ImpressaoTabuleiro deCompactada(byte[] fixos, RegrasCompiladas regras) {
+        if (fixos.length != GradeCompactada.TAMANHO_BYTES) {
+            throw new IllegalArgumentException("Grade compactada deve ter " + GradeCompactada.TAMANHO_BYTES + " bytes");
+        }
+        return new ImpressaoTabuleiro(fixos.clone(), regras.getIdentificador());
+    }
+
+    /**
+     * Retorna as células fixas expandidas (81 valores, 0 = livre).
+     */
+    public int[] getFixos() {
+        return GradeCompactada.descompactar(fixos);
+    }
+
+    public long getHash() {
+        return hash;
+    }
+
+    long getVariante() {
+        return variante;
+    }
+
+    /**
+     * Indica se a grade compactada mantém todas as células fixas desta impressão.
+     * Uma solução guardada sob o mesmo hash, mas de outro puzzle, falha aqui.
+     */
+    boolean isCompativel(byte[] solucao) {
+        // Oito bytes (16 células) por vez e sem desvios: com fixos espalhados
+        // ao acaso, um teste por célula erraria a previsão a todo momento
+        long diferencas = 0;
+        int i = 0;
+        for (; i + Long.BYTES <= fixos.length; i += Long.BYTES) {
+            long fixo = (long) PALAVRA.get(fixos, i);
+            diferencas |= ((long) PALAVRA.get(solucao, i) ^ fixo) & mascaraFixos(fixo);
+        }
+        for (; i < fixos.length; i++) {
+            long fixo = fixos[i] & 0xFF;
+            diferencas |= ((solucao[i] & 0xFF) ^ fixo) & mascaraFixos(fixo);
+        }
+        return diferencas == 0;
+    }
+
+    /**
+     * 0xF em cada nibble diferente de zero, 0 nos demais.
+     */
+    private static long mascaraFixos(long nibbles) {
+        long algumBit = (nibbles | (nibbles >>> 1) | (nibbles >>> 2) | (nibbles >>> 3)) & 0x1111111111111111L;
+        return algumBit * 0xF;
+    }
+
+    // ========== HASH ==========
+
+    private static long calcularHash(byte[] dados, long variante) {
+        // FNV-1a de 64 bits seguido de um passo de mistura (splitmix64)
+        long h = 0xcbf29ce484222325L ^ variante;
+        for (byte b : dados) {
+            h ^= (b & 0xFF);
+            h *= 0x100000001b3L;
+        }
+        h ^= (h >>> 33);
+        h *= 0xff51afd7ed558ccdL;
+        h ^= (h >>> 33);
+        return h;
+    }
+
+    // ========== EQUALS & HASHCODE ==========
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ImpressaoTabuleiro outra = (ImpressaoTabuleiro) o;
+        return hash == outra.hash && variante == outra.variante && Arrays.equals(fixos, outra.fixos);
+    }
+
+    @Override
+    public int hashCode() {
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Impressao[%016x]", hash);
+    }
+}
@@ -0,0 +1,367 @@
+package solver;
+
+import domain.exception.SudokuException;
+import importer.ImportadorPuzzles;
+import validation.RegrasCompiladas;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Índice em disco de soluções de uma biblioteca de puzzles: tabela hash de
+ * endereçamento aberto, mapeada em memória, da impressão dos fixos
+ * ({@link ImpressaoTabuleiro#getHash()}) para a solução compactada.
+ *
+ * <p><b>Arquivo</b> (versão 1):</p>
+ * <pre>
+ * 4096  cabeçalho: assinatura, versão, tamanho do slot, variante, capacidade, entradas
+ *   64  por slot: hash (8 bytes, 0 = vazio), solução (41 bytes), 15 bytes livres
+ * </pre>
+ *
+ * <p>Os slots têm 64 bytes e começam alinhados, então cada um ocupa
+ * exatamente uma linha de cache, e a sondagem linear anda por slots
+ * vizinhos da mesma página: uma busca costuma tocar uma única página do
+ * arquivo. O arquivo é mapeado em trechos de 1 GiB, o que permite
+ * centenas de milhões de entradas (com a capacidade padrão, cerca de
+ * 128 bytes de arquivo por entrada, carregados do disco sob demanda).</p>
+ *
+ * <p>Colisões de hash não dão resposta errada: uma solução só é devolvida
+ * se mantiver todas as células fixas do puzzle consultado.</p>
+ *
+ * <p>A marca de solução única ({@link GradeCompactada#isUnica}) é gravada
+ * junto com a solução; o índice montado por {@link #main} só guarda
+ * puzzles de solução única.</p>
+ *
+ * <p>Buscas não usam trava e podem rodar em paralelo com
+ * {@link #adicionar}: o hash de um slot só é publicado depois da solução.</p>
+ */
+public final class IndiceSolucoes implements AutoCloseable {
+
+    public static final int VERSAO = 1;
+    public static final int TAMANHO_SLOT = 64;
+
+    /** Fração máxima de slots ocupados; acima disso {@link #adicionar} recusa novas entradas. */
+    public static final double CARGA_MAXIMA = 0.9;
+
+    private static final long ASSINATURA = 0x53444B5F49445853L; // "SDK_IDXS"
+    private static final int TAMANHO_CABECALHO = 4096;
+    private static final int BITS_SEGMENTO = 24; // 2^24 slots x 64 bytes = 1 GiB por mapeamento
+    private static final long MASCARA_SEGMENTO = (1L << BITS_SEGMENTO) - 1;
+
+    // Posições no cabeçalho
+    private static final int POS_VERSAO = 8;
+    private static final int POS_TAMANHO_SLOT = 12;
+    private static final int POS_VARIANTE = 16;
+    private static final int POS_CAPACIDADE = 24;
+    private static final int POS_ENTRADAS = 32;
+
+    private static final VarHandle LONG = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    private final FileChannel canal;
+    private final MappedByteBuffer cabecalho;
+    private final MappedByteBuffer[] segmentos;
+    private final long capacidade;
+    private final long mascara;
+    private final long limiteEntradas;
+    private final long variante;
+    private final boolean somenteLeitura;
+    private volatile long entradas;
+
+    private IndiceSolucoes(FileChannel canal, boolean somenteLeitura, long capacidade, long variante)
+            throws IOException {
+        FileChannel.MapMode modo = somenteLeitura ? FileChannel.MapMode.READ_ONLY : FileChannel.MapMode.READ_WRITE;
+        this.canal = canal;
+        this.somenteLeitura = somenteLeitura;
+        this.capacidade = capacidade;
+        this.mascara = capacidade - 1;
+        this.limiteEntradas = (long) (capacidade * CARGA_MAXIMA);
+        this.variante = variante;
+        this.cabecalho = canal.map(modo, 0, TAMANHO_CABECALHO);
+
+        int totalSegmentos = (int) ((capacidade + MASCARA_SEGMENTO) >>> BITS_SEGMENTO);
+        this.segmentos = new MappedByteBuffer[totalSegmentos];
+        for (int s = 0; s < totalSegmentos; s++) {
+            long slots = Math.min(1L << BITS_SEGMENTO, capacidade - ((long) s << BITS_SEGMENTO));
+            segmentos[s] = canal.map(modo, TAMANHO_CABECALHO + ((long) s << BITS_SEGMENTO) * TAMANHO_SLOT,
+                    slots * TAMANHO_SLOT);
+        }
+        this.entradas = cabecalho.getLong(POS_ENTRADAS);
+    }
+
+    // ========== CRIAÇÃO E ABERTURA ==========
+
+    /**
+     * Cria um índice vazio (o arquivo é substituído), dimensionado para as
+     * entradas previstas com no máximo metade dos slots ocupados.
+     */
+    public static IndiceSolucoes criar(Path arquivo, long entradasPrevistas, RegrasCompiladas regras)
+            throws IOException {
+        if (entradasPrevistas < 1) {
+            throw new IllegalArgumentException("Entradas previstas devem ser positivas");
+        }
+        long capacidade = Math.max(64, Long.highestOneBit(entradasPrevistas * 2 - 1) << 1);
+        FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            MappedByteBuffer cabecalho = canal.map(FileChannel.MapMode.READ_WRITE, 0, TAMANHO_CABECALHO);
+            cabecalho.putLong(0, ASSINATURA)
+                    .putInt(POS_VERSAO, VERSAO)
+                    .putInt(POS_TAMANHO_SLOT, TAMANHO_SLOT)
+                    .putLong(POS_VARIANTE, regras.getIdentificador())
+                    .putLong(POS_CAPACIDADE, capacidade)
+                    .putLong(POS_ENTRADAS, 0);
+            // Mapear além do fim estende o arquivo; as páginas nunca escritas não ocupam disco (arquivo esparso)
+            return new IndiceSolucoes(canal, false, capacidade, regras.getIdentificador());
+        } catch (IOException | RuntimeException e) {
+            canal.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Abre um índice existente só para consultas.
+     *
+     * @throws SudokuException se o arquivo não for um índice desta variante
+     */
+    public static IndiceSolucoes abrir(Path arquivo, RegrasCompiladas regras) throws IOException {
+        return abrir(arquivo, regras, true);
+    }
+
+    /**
+     * Abre um índice existente para consultas e novas entradas.
+     */
+    public static IndiceSolucoes abrirParaEscrita(Path arquivo, RegrasCompiladas regras) throws IOException {
+        return abrir(arquivo, regras, false);
+    }
+
+    private static IndiceSolucoes abrir(Path arquivo, RegrasCompiladas regras, boolean somenteLeitura)
+            throws IOException {
+        FileChannel canal = somenteLeitura
+                ? FileChannel.open(arquivo, StandardOpenOption.READ)
+                : FileChannel.open(arquivo, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if (canal.size() < TAMANHO_CABECALHO) {
+                throw new SudokuException("Arquivo não é um índice de soluções: " + arquivo);
+            }
+            MappedByteBuffer cabecalho = canal.map(FileChannel.MapMode.READ_ONLY, 0, TAMANHO_CABECALHO);
+            if (cabecalho.getLong(0) != ASSINATURA) {
+                throw new SudokuException("Arquivo não é um índice de soluções: " + arquivo);
+            }
+            if (cabecalho.getInt(POS_VERSAO) != VERSAO || cabecalho.getInt(POS_TAMANHO_SLOT) != TAMANHO_SLOT) {
+                throw new SudokuException("Versão de índice não suportada: " + cabecalho.getInt(POS_VERSAO));
+            }
+            if (cabecalho.getLong(POS_VARIANTE) != regras.getIdentificador()) {
+                throw new SudokuException("Índice pertence a outra variante (esperado: " + regras.getNome() + ")");
+            }
+            long capacidade = cabecalho.getLong(POS_CAPACIDADE);
+            if (capacidade < 1 || Long.bitCount(capacidade) != 1
+                    || canal.size() < TAMANHO_CABECALHO + capacidade * TAMANHO_SLOT) {
+                throw new SudokuException("Índice truncado ou corrompido: " + arquivo);
+            }
+            return new IndiceSolucoes(canal, somenteLeitura, capacidade, regras.getIdentificador());
+        } catch (IOException | RuntimeException e) {
+            canal.close();
+            throw e;
+        }
+    }
+
+    // ========== CONSULTA ==========
+
+    /**
+     * Busca a solução de um puzzle.
+     *
+     * @return solução compactada (41 bytes, cópia) ou null se o puzzle não está no índice
+     */
+    public byte[] obter(ImpressaoTabuleiro puzzle) {
+        byte[] solucao = new byte[GradeCompactada.TAMANHO_BYTES];
+        return obter(puzzle, solucao) ? solucao : null;
+    }
+
+    /**
+     * Versão sem alocação de {@link #obter(ImpressaoTabuleiro)}.
+     *
+     * @param destino 41 bytes; recebe a solução (alterado mesmo sem sucesso)
+     * @return true se o puzzle estava no índice
+     */
+    public boolean obter(ImpressaoTabuleiro puzzle, byte[] destino) {
+        if (puzzle.getVariante() != variante) {
+            return false;
+        }
+        long chave = chave(puzzle);
+        long slot = chave & mascara;
+        for (long tentativa = 0; tentativa < capacidade; tentativa++) {
+            MappedByteBuffer segmento = segmentos[(int) (slot >>> BITS_SEGMENTO)];
+            int posicao = (int) ((slot & MASCARA_SEGMENTO) * TAMANHO_SLOT);
+            long hash = (long) LONG.getAcquire(segmento, posicao);
+            if (hash == 0) {
+                return false;
+            }
+            if (hash == chave) {
+                segmento.get(posicao + 8, destino, 0, GradeCompactada.TAMANHO_BYTES);
+                if (puzzle.isCompativel(destino)) {
+                    return true;
+                }
+            }
+            slot = (slot + 1) & mascara;
+        }
+        return false;
+    }
+
+    public boolean contem(ImpressaoTabuleiro puzzle) {
+        return obter(puzzle, new byte[GradeCompactada.TAMANHO_BYTES]);
+    }
+
+    // ========== INSERÇÃO ==========
+
+    /**
+     * Adiciona a solução de um puzzle.
+     *
+     * @return false se o puzzle já estava no índice
+     * @throws IllegalArgumentException se a solução não mantiver as células fixas do puzzle
+     * @throws IllegalStateException se o índice estiver cheio ou aberto só para leitura
+     */
+    public synchronized boolean adicionar(ImpressaoTabuleiro puzzle, byte[] solucao) {
+        if (somenteLeitura) {
+            throw new IllegalStateException("Índice aberto só para leitura");
+        }
+        if (puzzle.getVariante() != variante) {
+            throw new IllegalArgumentException("Puzzle de outra variante");
+        }
+        if (solucao.length != GradeCompactada.TAMANHO_BYTES || !puzzle.isCompativel(solucao)) {
+            throw new IllegalArgumentException("Solução não confere com as células fixas do puzzle");
+        }
+        if (entradas >= limiteEntradas) {
+            throw new IllegalStateException("Índice cheio (" + entradas + " entradas); crie um maior");
+        }
+
+        long chave = chave(puzzle);
+        byte[] existente = new byte[GradeCompactada.TAMANHO_BYTES];
+        long slot = chave & mascara;
+        while (true) {
+            MappedByteBuffer segmento = segmentos[(int) (slot >>> BITS_SEGMENTO)];
+            int posicao = (int) ((slot & MASCARA_SEGMENTO) * TAMANHO_SLOT);
+            long hash = segmento.getLong(posicao);
+            if (hash == 0) {
+                segmento.put(posicao + 8, solucao);
+                LONG.setRelease(segmento, posicao, chave);
+                entradas++;
+                cabecalho.putLong(POS_ENTRADAS, entradas);
+                return true;
+            }
+            if (hash == chave) {
+                segmento.get(posicao + 8, existente);
+                if (puzzle.isCompativel(existente)) {
+                    return false;
+                }
+            }
+            slot = (slot + 1) & mascara;
+        }
+    }
+
+    /**
+     * Grava em disco as páginas alteradas.
+     */
+    public synchronized void sincronizar() {
+        if (somenteLeitura) {
+            return;
+        }
+        for (MappedByteBuffer segmento : segmentos) {
+            segmento.force();
+        }
+        cabecalho.force();
+    }
+
+    // ========== CONSULTAS ==========
+
+    public long getEntradas() {
+        return entradas;
+    }
+
+    /** Quantidade de slots da tabela. */
+    public long getCapacidade() {
+        return capacidade;
+    }
+
+    public double getCarga() {
+        return (double) entradas / capacidade;
+    }
+
+    public long getVariante() {
+        return variante;
+    }
+
+    /**
+     * Sincroniza (se aberto para escrita) e fecha o arquivo. Os mapeamentos
+     * só são liberados pelo coletor de lixo, mas o índice não deve mais ser usado.
+     */
+    @Override
+    public void close() throws IOException {
+        sincronizar();
+        canal.close();
+    }
+
+    /**
+     * Hash do puzzle como chave do slot; 0 fica reservado para slot vazio.
+     */
+    private static long chave(ImpressaoTabuleiro puzzle) {
+        long hash = puzzle.getHash();
+        return hash != 0 ? hash : 1;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("IndiceSolucoes[%d entradas, %d slots, carga %.2f]", entradas, capacidade, getCarga());
+    }
+
+    // ========== LINHA DE COMANDO ==========
+
+    /**
+     * Monta um índice a partir de um arquivo de puzzles clássicos (formatos do {@link ImportadorPuzzles}).
+     * Puzzles sem solução ou com mais de uma ficam de fora.
+     *
+     * <p>Uso: {@code java solver.IndiceSolucoes puzzles indice [entradas previstas]}</p>
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.out.println("Uso: java solver.IndiceSolucoes arquivo-de-puzzles indice [entradas previstas]");
+            return;
+        }
+        long previstas = args.length > 2 ? Long.parseLong(args[2]) : 1 << 20;
+        ResolvedorSudoku resolvedor = new ResolvedorSudoku();
+        int[] grade = new int[81];
+        long adicionados = 0;
+        long semSolucao = 0;
+        long variasSolucoes = 0;
+        long inicio = System.nanoTime();
+
+        try (ImportadorPuzzles importador = ImportadorPuzzles.abrir(Path.of(args[0]), System.err::println);
+             IndiceSolucoes indice = criar(Path.of(args[1]), previstas, RegrasCompiladas.CLASSICO)) {
+            while (importador.proximo(grade)) {
+                ImpressaoTabuleiro puzzle = ImpressaoTabuleiro.deCompactada(GradeCompactada.compactar(grade));
+                int solucoes = resolvedor.contarSolucoes(grade, 2);
+                if (solucoes != 1) {
+                    if (solucoes == 0) {
+                        semSolucao++;
+                    } else {
+                        variasSolucoes++;
+                    }
+                    continue;
+                }
+                resolvedor.resolver(grade);
+                byte[] solucao = GradeCompactada.compactar(grade);
+                GradeCompactada.marcarUnica(solucao);
+                if (indice.adicionar(puzzle, solucao)) {
+                    adicionados++;
+                }
+            }
+            System.out.printf("%d soluções indexadas (%d sem solução, %d com várias) em %.1f s - %s%n",
+                    adicionados, semSolucao, variasSolucoes, (System.nanoTime() - inicio) / 1e9, indice);
+        }
+    }
+}
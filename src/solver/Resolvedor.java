@@ -0,0 +1,25 @@
+package solver;
+
+/**
+ * Resolvedor de puzzles sobre vetores de 81 inteiros (0 = vazio).
+ *
+ * <p>Implementações: {@link ResolvedorSudoku} (backtracking com máscaras, o
+ * padrão) e {@link solver.sat.ResolvedorSat} (CNF + CDCL, mais robusto em
+ * instâncias adversariais e variantes complexas).</p>
+ */
+public interface Resolvedor {
+
+    /**
+     * Resolve a grade no próprio vetor.
+     *
+     * @param grade 81 valores (0 = vazio), preenchido com a solução se houver
+     * @return true se encontrou solução
+     */
+    boolean resolver(int[] grade);
+
+    /**
+     * Conta soluções até atingir o limite (use 2 para verificar unicidade).
+     * Não altera a grade recebida.
+     */
+    int contarSolucoes(int[] grade, int limite);
+}
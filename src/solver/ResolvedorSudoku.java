@@ -0,0 +1,314 @@
+package solver;
+
+import validation.RegrasCompiladas;
+import validation.TabelaCombinacoes;
+
+/**
+ * Resolvedor de Sudoku por backtracking com máscaras de bits.
+ * Escolhe sempre a célula vazia com menos candidatos (MRV).
+ * Opera sobre vetores de 81 inteiros (0 = vazio) - não conhece o Tabuleiro.
+ *
+ * <p>As restrições vêm de {@link RegrasCompiladas}: uma máscara de dígitos
+ * usados por unidade, mais a consulta aos pares de exclusão quando a
+ * variante os tiver. Em gaiolas do Killer, os candidatos são cortados pela
+ * tabela de combinações de {@link TabelaCombinacoes}.</p>
+ */
+public class ResolvedorSudoku implements Resolvedor {
+
+    private static final int TODOS = 0x1FF;
+
+    private final int totalUnidades;
+    private final int[] celulasUnidade;
+    private final int[] inicioUnidade;
+    private final int[] unidadesDaCelula;
+    private final int[] inicioUnidadesDaCelula;
+    private final boolean temExclusoes;
+    private final int[] paresExclusao;
+    private final int[] inicioParesExclusao;
+    private final boolean temGaiolas;
+    private final int totalGaiolas;
+    private final int[] inicioGaiola;
+    private final int[] somaGaiola;
+    private final int[] gaiolaDaCelula;
+
+    /**
+     * Resolvedor do Sudoku clássico.
+     */
+    public ResolvedorSudoku() {
+        this(RegrasCompiladas.CLASSICO);
+    }
+
+    public ResolvedorSudoku(RegrasCompiladas regras) {
+        this.totalUnidades = regras.getTotalUnidades();
+        this.celulasUnidade = regras.getCelulasUnidade();
+        this.inicioUnidade = regras.getInicioUnidade();
+        this.unidadesDaCelula = regras.getUnidadesDaCelula();
+        this.inicioUnidadesDaCelula = regras.getInicioUnidadesDaCelula();
+        this.temExclusoes = regras.temExclusoes();
+        this.paresExclusao = regras.getParesExclusao();
+        this.inicioParesExclusao = regras.getInicioParesExclusao();
+        this.temGaiolas = regras.temGaiolas();
+        this.totalGaiolas = regras.getTotalGaiolas();
+        this.inicioGaiola = regras.getInicioGaiola();
+        this.somaGaiola = regras.getSomaGaiola();
+        this.gaiolaDaCelula = regras.getGaiolaDaCelula();
+    }
+
+    /**
+     * Resolve a grade no próprio vetor.
+     *
+     * @param grade 81 valores (0 = vazio), preenchido com a solução se houver
+     * @return true se encontrou solução
+     */
+    @Override
+    public boolean resolver(int[] grade) {
+        Busca busca = preparar(grade);
+        if (busca == null) {
+            return false;
+        }
+        busca.limite = 1;
+        busca.buscar();
+        if (busca.solucoes == 0) {
+            return false;
+        }
+        System.arraycopy(busca.primeira, 0, grade, 0, 81);
+        return true;
+    }
+
+    /**
+     * Conta soluções até atingir o limite (use 2 para verificar unicidade).
+     * Não altera a grade recebida.
+     */
+    @Override
+    public int contarSolucoes(int[] grade, int limite) {
+        Busca busca = preparar(grade.clone());
+        if (busca == null) {
+            return 0;
+        }
+        busca.limite = limite;
+        busca.buscar();
+        return busca.solucoes;
+    }
+
+    /**
+     * Propagação limitada, sem ramificar: a cada rodada preenche os simples
+     * nus (célula com um único candidato) e os simples ocultos (dígito com um
+     * único lugar em uma unidade de 9 células). Serve para detectar cedo uma
+     * grade sem saída sem pagar uma busca completa.
+     *
+     * @param grade 81 valores (0 = vazio); recebe as células deduzidas
+     * @param limiteRodadas máximo de rodadas (cada uma percorre a grade uma vez)
+     * @return false se encontrou contradição: conflito na grade, célula sem
+     *         candidatos ou dígito sem lugar em uma unidade; true não garante
+     *         que a grade tenha solução
+     */
+    public boolean propagar(int[] grade, int limiteRodadas) {
+        Busca busca = preparar(grade);
+        return busca != null && busca.propagar(limiteRodadas);
+    }
+
+    /**
+     * Monta as máscaras iniciais. Retorna null se a grade já tem conflitos.
+     */
+    private Busca preparar(int[] grade) {
+        if (grade.length != 81) {
+            throw new IllegalArgumentException("Grade deve ter 81 células");
+        }
+        Busca busca = new Busca(grade);
+        for (int indice = 0; indice < 81; indice++) {
+            int valor = grade[indice];
+            if (valor == 0) {
+                continue;
+            }
+            if (valor < 1 || valor > 9) {
+                throw new IllegalArgumentException("Valor deve estar entre 0 e 9");
+            }
+            int bit = 1 << (valor - 1);
+            if ((busca.usados(indice) & bit) != 0) {
+                return null;
+            }
+            busca.alternar(indice, bit);
+        }
+        for (int gaiola = 0; gaiola < totalGaiolas; gaiola++) {
+            int tamanho = inicioGaiola[gaiola + 1] - inicioGaiola[gaiola];
+            if (!TabelaCombinacoes.viavel(tamanho, somaGaiola[gaiola], busca.mascaraGaiola[gaiola])) {
+                return null;
+            }
+        }
+        return busca;
+    }
+
+    // ========== BUSCA ==========
+
+    /**
+     * Estado mutável de uma busca. Uma instância por chamada,
+     * o que mantém o resolvedor seguro para uso concorrente.
+     */
+    private final class Busca {
+        private final int[] grade;
+        private final int[] mascaraUnidade = new int[totalUnidades];
+        private final int[] mascaraGaiola = new int[totalGaiolas];
+        private int[] primeira;
+        private int solucoes;
+        private int limite;
+
+        private Busca(int[] grade) {
+            this.grade = grade;
+        }
+
+        /**
+         * Dígitos (bits 0-8) já usados pelos pares da célula.
+         */
+        int usados(int indice) {
+            int usados = 0;
+            for (int k = inicioUnidadesDaCelula[indice], fim = inicioUnidadesDaCelula[indice + 1]; k < fim; k++) {
+                usados |= mascaraUnidade[unidadesDaCelula[k]];
+            }
+            if (temExclusoes) {
+                for (int k = inicioParesExclusao[indice], fim = inicioParesExclusao[indice + 1]; k < fim; k++) {
+                    int valor = grade[paresExclusao[k]];
+                    if (valor != 0) {
+                        usados |= 1 << (valor - 1);
+                    }
+                }
+            }
+            if (temGaiolas) {
+                int gaiola = gaiolaDaCelula[indice];
+                if (gaiola >= 0) {
+                    int tamanho = inicioGaiola[gaiola + 1] - inicioGaiola[gaiola];
+                    usados |= ~TabelaCombinacoes.candidatos(tamanho, somaGaiola[gaiola], mascaraGaiola[gaiola]) & TODOS;
+                }
+            }
+            return usados;
+        }
+
+        /**
+         * Liga/desliga o dígito nas máscaras das unidades da célula.
+         */
+        void alternar(int indice, int bit) {
+            for (int k = inicioUnidadesDaCelula[indice], fim = inicioUnidadesDaCelula[indice + 1]; k < fim; k++) {
+                mascaraUnidade[unidadesDaCelula[k]] ^= bit;
+            }
+            if (temGaiolas && gaiolaDaCelula[indice] >= 0) {
+                mascaraGaiola[gaiolaDaCelula[indice]] ^= bit;
+            }
+        }
+
+        boolean propagar(int limiteRodadas) {
+            for (int rodada = 0; rodada < limiteRodadas; rodada++) {
+                boolean progresso = false;
+
+                // 1. Simples nus
+                for (int indice = 0; indice < 81; indice++) {
+                    if (grade[indice] != 0) {
+                        continue;
+                    }
+                    int candidatos = ~usados(indice) & TODOS;
+                    if (candidatos == 0) {
+                        return false;
+                    }
+                    if ((candidatos & (candidatos - 1)) == 0) {
+                        colocar(indice, candidatos);
+                        progresso = true;
+                    }
+                }
+
+                // 2. Simples ocultos (só em unidades completas: linhas, colunas, blocos...)
+                for (int unidade = 0; unidade < totalUnidades; unidade++) {
+                    int inicio = inicioUnidade[unidade];
+                    int fim = inicioUnidade[unidade + 1];
+                    if (fim - inicio != 9) {
+                        continue;
+                    }
+                    int algum = 0;
+                    int repetido = 0;
+                    for (int k = inicio; k < fim; k++) {
+                        int indice = celulasUnidade[k];
+                        if (grade[indice] == 0) {
+                            int candidatos = ~usados(indice) & TODOS;
+                            repetido |= algum & candidatos;
+                            algum |= candidatos;
+                        }
+                    }
+                    int colocados = mascaraUnidade[unidade];
+                    if ((algum | colocados) != TODOS) {
+                        return false; // algum dígito não cabe em lugar nenhum
+                    }
+                    int unicos = algum & ~repetido & ~colocados;
+                    for (int k = inicio; k < fim && unicos != 0; k++) {
+                        int indice = celulasUnidade[k];
+                        if (grade[indice] != 0) {
+                            continue;
+                        }
+                        int bit = ~usados(indice) & unicos;
+                        if (bit == 0) {
+                            continue;
+                        }
+                        if ((bit & (bit - 1)) != 0) {
+                            return false; // dois dígitos presos à mesma célula
+                        }
+                        colocar(indice, bit);
+                        unicos &= ~bit;
+                        progresso = true;
+                    }
+                }
+
+                if (!progresso) {
+                    break;
+                }
+            }
+            return true;
+        }
+
+        private void colocar(int indice, int bit) {
+            grade[indice] = Integer.numberOfTrailingZeros(bit) + 1;
+            alternar(indice, bit);
+        }
+
+        void buscar() {
+            // 1. Escolhe a célula vazia mais restrita
+            int melhor = -1;
+            int melhoresCandidatos = 0;
+            int menorContagem = 10;
+
+            for (int indice = 0; indice < 81; indice++) {
+                if (grade[indice] != 0) {
+                    continue;
+                }
+                int candidatos = ~usados(indice) & TODOS;
+                int contagem = Integer.bitCount(candidatos);
+                if (contagem < menorContagem) {
+                    menorContagem = contagem;
+                    melhor = indice;
+                    melhoresCandidatos = candidatos;
+                    if (contagem <= 1) {
+                        break;
+                    }
+                }
+            }
+
+            // 2. Sem células vazias: solução encontrada
+            if (melhor == -1) {
+                if (solucoes++ == 0) {
+                    primeira = grade.clone();
+                }
+                return;
+            }
+
+            // 3. Tenta cada candidato
+            int candidatos = melhoresCandidatos;
+            while (candidatos != 0 && solucoes < limite) {
+                int bit = candidatos & -candidatos;
+                candidatos ^= bit;
+
+                grade[melhor] = Integer.numberOfTrailingZeros(bit) + 1;
+                alternar(melhor, bit);
+
+                buscar();
+
+                alternar(melhor, bit);
+            }
+            grade[melhor] = 0;
+        }
+    }
+}
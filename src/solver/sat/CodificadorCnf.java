@@ -0,0 +1,196 @@
+package solver.sat;
+
+import validation.RegrasCompiladas;
+import validation.TabelaCombinacoes;
+
+import java.util.Arrays;
+
+/**
+ * Codifica um puzzle de qualquer variante em CNF para o {@link SolucionadorSat}.
+ *
+ * <p>A variável {@code x(c, d) = 9c + d} (célula 0-80, dígito 1-9) indica que
+ * a célula c tem o dígito d; as 729 primeiras variáveis são essas. Cláusulas:</p>
+ * <ul>
+ *   <li>cada célula tem ao menos um dígito e no máximo um</li>
+ *   <li>cada par de células relacionadas (unidades e exclusões) não repete dígito</li>
+ *   <li>cada unidade de 9 células contém todos os dígitos (redundante, mas acelera)</li>
+ *   <li>cada gaiola usa uma das combinações de dígitos com a soma alvo
+ *       (uma variável auxiliar por combinação)</li>
+ *   <li>as pistas viram cláusulas unitárias</li>
+ * </ul>
+ */
+public final class CodificadorCnf {
+
+    /** Variáveis das células (as auxiliares das gaiolas vêm depois). */
+    public static final int VARIAVEIS_CELULAS = 81 * 9;
+
+    // Maior número de conjuntos de dígitos distintos de um mesmo tamanho: C(9, 4)
+    private static final int MAXIMO_COMBINACOES = 126;
+
+    private CodificadorCnf() {
+    }
+
+    /**
+     * Variável que indica que a célula tem o dígito.
+     */
+    public static int variavel(int indice, int digito) {
+        return indice * 9 + digito;
+    }
+
+    /**
+     * Cria um solucionador com as regras da variante e as pistas da grade.
+     *
+     * @param grade 81 valores (0 = vazio)
+     */
+    public static SolucionadorSat codificar(RegrasCompiladas regras, int[] grade) {
+        if (grade.length != 81) {
+            throw new IllegalArgumentException("Grade deve ter 81 células");
+        }
+        SolucionadorSat sat = new SolucionadorSat(VARIAVEIS_CELULAS);
+        int[] clausula = new int[9];
+
+        // 1. Cada célula tem exatamente um dígito
+        for (int indice = 0; indice < 81; indice++) {
+            for (int d = 1; d <= 9; d++) {
+                clausula[d - 1] = variavel(indice, d);
+            }
+            sat.adicionarClausula(clausula.clone());
+            for (int d = 1; d <= 9; d++) {
+                for (int e = d + 1; e <= 9; e++) {
+                    sat.adicionarClausula(-variavel(indice, d), -variavel(indice, e));
+                }
+            }
+        }
+
+        // 2. Pares relacionados não repetem dígito (cada par uma vez)
+        int[] pares = regras.getPares();
+        int[] inicioPares = regras.getInicioPares();
+        for (int indice = 0; indice < 81; indice++) {
+            for (int k = inicioPares[indice]; k < inicioPares[indice + 1]; k++) {
+                int par = pares[k];
+                if (par <= indice) {
+                    continue;
+                }
+                for (int d = 1; d <= 9; d++) {
+                    sat.adicionarClausula(-variavel(indice, d), -variavel(par, d));
+                }
+            }
+        }
+
+        // 3. Unidades completas contêm todos os dígitos
+        int[] celulasUnidade = regras.getCelulasUnidade();
+        int[] inicioUnidade = regras.getInicioUnidade();
+        for (int unidade = 0; unidade < regras.getTotalUnidades(); unidade++) {
+            int inicio = inicioUnidade[unidade];
+            if (inicioUnidade[unidade + 1] - inicio != 9) {
+                continue;
+            }
+            for (int d = 1; d <= 9; d++) {
+                for (int k = 0; k < 9; k++) {
+                    clausula[k] = variavel(celulasUnidade[inicio + k], d);
+                }
+                sat.adicionarClausula(clausula.clone());
+            }
+        }
+
+        // 4. Gaiolas
+        if (regras.temGaiolas()) {
+            codificarGaiolas(sat, regras);
+        }
+
+        // 5. Pistas
+        for (int indice = 0; indice < 81; indice++) {
+            int valor = grade[indice];
+            if (valor < 0 || valor > 9) {
+                throw new IllegalArgumentException("Valor deve estar entre 0 e 9");
+            }
+            if (valor != 0) {
+                sat.adicionarClausula(variavel(indice, valor));
+            }
+        }
+        return sat;
+    }
+
+    /**
+     * Uma gaiola de k células (sem repetição) soma o alvo se e só se usa
+     * exatamente um conjunto de k dígitos com essa soma. Para cada conjunto
+     * possível há uma variável y; ao menos um y é verdadeiro e cada y exige
+     * que todos os seus dígitos apareçam na gaiola.
+     */
+    private static void codificarGaiolas(SolucionadorSat sat, RegrasCompiladas regras) {
+        int[] celulasGaiola = regras.getCelulasGaiola();
+        int[] inicioGaiola = regras.getInicioGaiola();
+        int[] somaGaiola = regras.getSomaGaiola();
+
+        for (int gaiola = 0; gaiola < regras.getTotalGaiolas(); gaiola++) {
+            int inicio = inicioGaiola[gaiola];
+            int tamanho = inicioGaiola[gaiola + 1] - inicio;
+
+            int[] algumaCombinacao = new int[MAXIMO_COMBINACOES];
+            int combinacoes = 0;
+            int digitosPossiveis = 0;
+            for (int mascara = 1; mascara < 512; mascara++) {
+                if (Integer.bitCount(mascara) != tamanho
+                        || TabelaCombinacoes.somaDigitos(mascara) != somaGaiola[gaiola]) {
+                    continue;
+                }
+                int y = sat.novaVariavel();
+                algumaCombinacao[combinacoes++] = y;
+                digitosPossiveis |= mascara;
+
+                for (int resto = mascara; resto != 0; resto &= resto - 1) {
+                    int d = Integer.numberOfTrailingZeros(resto) + 1;
+                    int[] clausula = new int[tamanho + 1];
+                    clausula[0] = -y;
+                    for (int k = 0; k < tamanho; k++) {
+                        clausula[k + 1] = variavel(celulasGaiola[inicio + k], d);
+                    }
+                    sat.adicionarClausula(clausula);
+                }
+            }
+            sat.adicionarClausula(Arrays.copyOf(algumaCombinacao, combinacoes));
+
+            // Dígitos fora de todas as combinações são proibidos na gaiola
+            for (int d = 1; d <= 9; d++) {
+                if ((digitosPossiveis & (1 << (d - 1))) == 0) {
+                    for (int k = 0; k < tamanho; k++) {
+                        sat.adicionarClausula(-variavel(celulasGaiola[inicio + k], d));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Lê a grade do modelo encontrado pelo solucionador.
+     */
+    public static void decodificar(SolucionadorSat sat, int[] destino) {
+        for (int indice = 0; indice < 81; indice++) {
+            destino[indice] = 0;
+            for (int d = 1; d <= 9; d++) {
+                if (sat.valor(variavel(indice, d))) {
+                    destino[indice] = d;
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Cláusula que exclui exatamente esta solução (ao menos uma célula
+     * livre precisa ter outro valor).
+     *
+     * @param solucao grade completa
+     * @param pistas grade original; células com pista não entram na cláusula
+     */
+    public static int[] clausulaBloqueio(int[] solucao, int[] pistas) {
+        int[] clausula = new int[81];
+        int tamanho = 0;
+        for (int indice = 0; indice < 81; indice++) {
+            if (pistas[indice] == 0) {
+                clausula[tamanho++] = -variavel(indice, solucao[indice]);
+            }
+        }
+        return Arrays.copyOf(clausula, tamanho);
+    }
+}
@@ -0,0 +1,84 @@
+package solver.sat;
+
+import solver.Resolvedor;
+import validation.RegrasCompiladas;
+
+/**
+ * Resolvedor que codifica o puzzle em CNF ({@link CodificadorCnf}) e usa o
+ * {@link SolucionadorSat}. O aprendizado de cláusulas evita a explosão que o
+ * backtracking pode sofrer em puzzles adversariais e em variantes com muitas
+ * restrições.
+ *
+ * <p>A unicidade é verificada de forma incremental: cada solução encontrada
+ * vira uma cláusula de bloqueio e o mesmo solucionador é chamado de novo,
+ * mantendo tudo o que já aprendeu.</p>
+ */
+public class ResolvedorSat implements Resolvedor {
+
+    private final RegrasCompiladas regras;
+    private final long limiteConflitos;
+
+    /**
+     * Resolvedor do Sudoku clássico, sem limite de conflitos.
+     */
+    public ResolvedorSat() {
+        this(RegrasCompiladas.CLASSICO);
+    }
+
+    public ResolvedorSat(RegrasCompiladas regras) {
+        this(regras, Long.MAX_VALUE);
+    }
+
+    /**
+     * @param limiteConflitos conflitos permitidos em cada chamada ao solucionador
+     */
+    public ResolvedorSat(RegrasCompiladas regras, long limiteConflitos) {
+        this.regras = regras;
+        this.limiteConflitos = limiteConflitos;
+    }
+
+    /**
+     * @throws IllegalStateException se o limite de conflitos for atingido
+     */
+    @Override
+    public boolean resolver(int[] grade) {
+        SolucionadorSat sat = preparar(grade);
+        if (!satisfazivel(sat)) {
+            return false;
+        }
+        CodificadorCnf.decodificar(sat, grade);
+        return true;
+    }
+
+    /**
+     * @throws IllegalStateException se o limite de conflitos for atingido
+     */
+    @Override
+    public int contarSolucoes(int[] grade, int limite) {
+        SolucionadorSat sat = preparar(grade);
+        int[] solucao = new int[81];
+        int solucoes = 0;
+        while (solucoes < limite && satisfazivel(sat)) {
+            solucoes++;
+            CodificadorCnf.decodificar(sat, solucao);
+            sat.adicionarClausula(CodificadorCnf.clausulaBloqueio(solucao, grade));
+        }
+        return solucoes;
+    }
+
+    private SolucionadorSat preparar(int[] grade) {
+        SolucionadorSat sat = CodificadorCnf.codificar(regras, grade);
+        if (limiteConflitos != Long.MAX_VALUE) {
+            sat.setLimiteConflitos(limiteConflitos);
+        }
+        return sat;
+    }
+
+    private static boolean satisfazivel(SolucionadorSat sat) {
+        SolucionadorSat.Resultado resultado = sat.resolver();
+        if (resultado == SolucionadorSat.Resultado.INDETERMINADO) {
+            throw new IllegalStateException("Limite de conflitos atingido sem resposta");
+        }
+        return resultado == SolucionadorSat.Resultado.SATISFAZIVEL;
+    }
+}
@@ -0,0 +1,571 @@
+package solver.sat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Solucionador SAT CDCL (conflict-driven clause learning) em Java puro.
+ *
+ * <p>Variáveis são numeradas a partir de 1 e literais seguem a convenção
+ * DIMACS: {@code v} é a variável verdadeira e {@code -v} a falsa.
+ * Internamente o literal é {@code 2v} (positivo) ou {@code 2v + 1} (negativo),
+ * de modo que {@code l ^ 1} é a negação.</p>
+ *
+ * <p>Técnicas usadas:</p>
+ * <ul>
+ *   <li>dois literais vigiados por cláusula na propagação unitária</li>
+ *   <li>aprendizado pelo primeiro ponto de implicação única (1UIP) e retrocesso não cronológico</li>
+ *   <li>heurística VSIDS (atividade com decaimento) em um heap de variáveis</li>
+ *   <li>salvamento de fase e reinícios pela sequência de Luby</li>
+ * </ul>
+ *
+ * <p>É incremental: depois de {@link #resolver()}, novas cláusulas podem ser
+ * adicionadas e a busca recomeça aproveitando as cláusulas aprendidas. É assim
+ * que a unicidade é verificada: uma cláusula de bloqueio exclui a solução
+ * encontrada e o solucionador é chamado de novo.</p>
+ *
+ * <p>Não é seguro para uso concorrente.</p>
+ */
+public final class SolucionadorSat {
+
+    /**
+     * Resultado de {@link #resolver()}.
+     */
+    public enum Resultado {
+        SATISFAZIVEL,
+        INSATISFAZIVEL,
+        /** O limite de conflitos foi atingido antes de uma resposta. */
+        INDETERMINADO
+    }
+
+    private static final byte INDEFINIDO = 0;
+    private static final byte VERDADEIRO = 1;
+    private static final byte FALSO = -1;
+
+    private static final int SEM_RAZAO = -1;
+    private static final int CONFLITOS_POR_REINICIO = 100;
+    private static final double DECAIMENTO = 0.95;
+
+    private int totalVariaveis;
+
+    // Cláusulas (originais e aprendidas); o índice identifica a cláusula
+    private final List<int[]> clausulas = new ArrayList<>();
+    private int aprendidas;
+
+    // Cláusulas que vigiam cada literal
+    private int[][] vigias = new int[2][];
+    private int[] totalVigias = new int[2];
+
+    // Atribuição: valor por literal, nível e razão por variável
+    private byte[] valor = new byte[2];
+    private int[] nivel = new int[1];
+    private int[] razao = new int[1];
+    private boolean[] fase = new boolean[1];
+    private boolean[] visto = new boolean[1];
+
+    // Trilha de literais atribuídos e início de cada nível de decisão
+    private int[] trilha = new int[1];
+    private int tamanhoTrilha;
+    private int propagados;
+    private int[] inicioNivel = new int[1];
+    private int nivelAtual;
+
+    // VSIDS
+    private double[] atividade = new double[1];
+    private double incremento = 1.0;
+    private int[] heap = new int[1];
+    private int[] posicaoHeap = new int[1];
+    private int tamanhoHeap;
+
+    private boolean inconsistente;
+    private boolean[] modelo;
+    private long limiteConflitos = Long.MAX_VALUE;
+
+    // Estatísticas
+    private long conflitos;
+    private long decisoes;
+    private long propagacoes;
+
+    public SolucionadorSat() {
+    }
+
+    public SolucionadorSat(int variaveis) {
+        novasVariaveis(variaveis);
+    }
+
+    // ========== CONSTRUÇÃO ==========
+
+    /**
+     * Cria uma variável.
+     *
+     * @return o número da variável (a partir de 1)
+     */
+    public int novaVariavel() {
+        novasVariaveis(1);
+        return totalVariaveis;
+    }
+
+    /**
+     * Cria {@code quantidade} variáveis.
+     *
+     * @return o número da primeira variável criada
+     */
+    public int novasVariaveis(int quantidade) {
+        int primeira = totalVariaveis + 1;
+        totalVariaveis += quantidade;
+
+        int n = totalVariaveis + 1;
+        if (n > nivel.length) {
+            int capacidade = Math.max(n, nivel.length * 2);
+            valor = Arrays.copyOf(valor, 2 * capacidade);
+            vigias = Arrays.copyOf(vigias, 2 * capacidade);
+            totalVigias = Arrays.copyOf(totalVigias, 2 * capacidade);
+            nivel = Arrays.copyOf(nivel, capacidade);
+            razao = Arrays.copyOf(razao, capacidade);
+            fase = Arrays.copyOf(fase, capacidade);
+            visto = Arrays.copyOf(visto, capacidade);
+            trilha = Arrays.copyOf(trilha, capacidade);
+            inicioNivel = Arrays.copyOf(inicioNivel, capacidade);
+            atividade = Arrays.copyOf(atividade, capacidade);
+            heap = Arrays.copyOf(heap, capacidade);
+            posicaoHeap = Arrays.copyOf(posicaoHeap, capacidade);
+        }
+        for (int variavel = primeira; variavel <= totalVariaveis; variavel++) {
+            vigias[2 * variavel] = new int[4];
+            vigias[2 * variavel + 1] = new int[4];
+            posicaoHeap[variavel] = -1;
+            inserirHeap(variavel);
+        }
+        return primeira;
+    }
+
+    /**
+     * Adiciona uma cláusula (disjunção de literais DIMACS). Pode ser chamado
+     * entre resoluções, para busca incremental.
+     *
+     * @return false se a fórmula ficou trivialmente insatisfazível
+     */
+    public boolean adicionarClausula(int... literais) {
+        if (inconsistente) {
+            return false;
+        }
+        voltarAoNivel(0);
+
+        // 1. Normaliza: converte, ordena, remove repetidos e literais falsos no nível 0
+        int[] clausula = new int[literais.length];
+        for (int i = 0; i < literais.length; i++) {
+            int variavel = Math.abs(literais[i]);
+            if (variavel == 0 || variavel > totalVariaveis) {
+                throw new IllegalArgumentException("Variável inexistente: " + literais[i]);
+            }
+            clausula[i] = literais[i] > 0 ? 2 * variavel : 2 * variavel + 1;
+        }
+        Arrays.sort(clausula);
+        int tamanho = 0;
+        for (int i = 0; i < clausula.length; i++) {
+            int literal = clausula[i];
+            if (valor[literal] == VERDADEIRO || (i > 0 && literal == (clausula[i - 1] ^ 1))) {
+                return true; // já satisfeita ou tautologia
+            }
+            if (valor[literal] == FALSO || (tamanho > 0 && clausula[tamanho - 1] == literal)) {
+                continue;
+            }
+            clausula[tamanho++] = literal;
+        }
+
+        // 2. Cláusula vazia, unitária ou normal
+        if (tamanho == 0) {
+            inconsistente = true;
+            return false;
+        }
+        if (tamanho == 1) {
+            atribuir(clausula[0], SEM_RAZAO);
+            if (propagar() != SEM_RAZAO) {
+                inconsistente = true;
+                return false;
+            }
+            return true;
+        }
+        anexar(Arrays.copyOf(clausula, tamanho));
+        return true;
+    }
+
+    /**
+     * Limita os conflitos de cada chamada a {@link #resolver()}
+     * (ao atingir o limite, o resultado é {@link Resultado#INDETERMINADO}).
+     */
+    public void setLimiteConflitos(long limiteConflitos) {
+        if (limiteConflitos < 1) {
+            throw new IllegalArgumentException("Limite de conflitos deve ser positivo");
+        }
+        this.limiteConflitos = limiteConflitos;
+    }
+
+    // ========== RESOLUÇÃO ==========
+
+    public Resultado resolver() {
+        modelo = null;
+        if (inconsistente) {
+            return Resultado.INSATISFAZIVEL;
+        }
+        voltarAoNivel(0);
+        if (propagar() != SEM_RAZAO) {
+            inconsistente = true;
+            return Resultado.INSATISFAZIVEL;
+        }
+
+        long conflitosIniciais = conflitos;
+        int reinicio = 1;
+        long conflitosNoReinicio = 0;
+        long limiteReinicio = luby(reinicio) * CONFLITOS_POR_REINICIO;
+
+        while (true) {
+            int conflito = propagar();
+            if (conflito != SEM_RAZAO) {
+                conflitos++;
+                conflitosNoReinicio++;
+                if (nivelAtual == 0) {
+                    inconsistente = true;
+                    return Resultado.INSATISFAZIVEL;
+                }
+                aprender(conflito);
+                incremento /= DECAIMENTO;
+
+                if (conflitos - conflitosIniciais >= limiteConflitos) {
+                    voltarAoNivel(0);
+                    return Resultado.INDETERMINADO;
+                }
+                continue;
+            }
+
+            if (conflitosNoReinicio >= limiteReinicio) {
+                voltarAoNivel(0);
+                conflitosNoReinicio = 0;
+                limiteReinicio = luby(++reinicio) * CONFLITOS_POR_REINICIO;
+                continue;
+            }
+
+            int variavel = escolherVariavel();
+            if (variavel == 0) {
+                // Todas atribuídas sem conflito: guarda o modelo
+                modelo = new boolean[totalVariaveis + 1];
+                for (int v = 1; v <= totalVariaveis; v++) {
+                    modelo[v] = valor[2 * v] == VERDADEIRO;
+                }
+                voltarAoNivel(0);
+                return Resultado.SATISFAZIVEL;
+            }
+            decisoes++;
+            inicioNivel[++nivelAtual] = tamanhoTrilha;
+            atribuir(fase[variavel] ? 2 * variavel : 2 * variavel + 1, SEM_RAZAO);
+        }
+    }
+
+    /**
+     * Valor da variável no último modelo encontrado.
+     *
+     * @throws IllegalStateException se a última resolução não foi satisfazível
+     */
+    public boolean valor(int variavel) {
+        if (modelo == null) {
+            throw new IllegalStateException("Não há modelo: a última resolução não foi satisfazível");
+        }
+        return modelo[variavel];
+    }
+
+    // ========== CONSULTAS ==========
+
+    public int getTotalVariaveis() {
+        return totalVariaveis;
+    }
+
+    public int getTotalClausulas() {
+        return clausulas.size();
+    }
+
+    public int getAprendidas() {
+        return aprendidas;
+    }
+
+    public long getConflitos() {
+        return conflitos;
+    }
+
+    public long getDecisoes() {
+        return decisoes;
+    }
+
+    public long getPropagacoes() {
+        return propagacoes;
+    }
+
+    // ========== PROPAGAÇÃO ==========
+
+    private void atribuir(int literal, int motivo) {
+        int variavel = literal >> 1;
+        valor[literal] = VERDADEIRO;
+        valor[literal ^ 1] = FALSO;
+        nivel[variavel] = nivelAtual;
+        razao[variavel] = motivo;
+        trilha[tamanhoTrilha++] = literal;
+    }
+
+    /**
+     * Propagação unitária com dois literais vigiados. O literal implicado
+     * fica sempre na posição 0 da cláusula que é sua razão.
+     *
+     * @return índice da cláusula em conflito ou SEM_RAZAO
+     */
+    private int propagar() {
+        while (propagados < tamanhoTrilha) {
+            int falso = trilha[propagados++] ^ 1;
+            propagacoes++;
+            int[] lista = vigias[falso];
+            int total = totalVigias[falso];
+            int lidos = 0;
+            int mantidos = 0;
+
+            while (lidos < total) {
+                int indiceClausula = lista[lidos++];
+                int[] clausula = clausulas.get(indiceClausula);
+                if (clausula[0] == falso) {
+                    clausula[0] = clausula[1];
+                    clausula[1] = falso;
+                }
+                if (valor[clausula[0]] == VERDADEIRO) {
+                    lista[mantidos++] = indiceClausula;
+                    continue;
+                }
+
+                // Procura outro literal não falso para vigiar
+                boolean moveu = false;
+                for (int k = 2; k < clausula.length; k++) {
+                    if (valor[clausula[k]] != FALSO) {
+                        clausula[1] = clausula[k];
+                        clausula[k] = falso;
+                        vigiar(clausula[1], indiceClausula);
+                        moveu = true;
+                        break;
+                    }
+                }
+                if (moveu) {
+                    continue;
+                }
+
+                lista[mantidos++] = indiceClausula;
+                if (valor[clausula[0]] == FALSO) {
+                    // Conflito: preserva o resto da lista e interrompe
+                    while (lidos < total) {
+                        lista[mantidos++] = lista[lidos++];
+                    }
+                    totalVigias[falso] = mantidos;
+                    propagados = tamanhoTrilha;
+                    return indiceClausula;
+                }
+                atribuir(clausula[0], indiceClausula);
+            }
+            totalVigias[falso] = mantidos;
+        }
+        return SEM_RAZAO;
+    }
+
+    private void anexar(int[] clausula) {
+        int indice = clausulas.size();
+        clausulas.add(clausula);
+        vigiar(clausula[0], indice);
+        vigiar(clausula[1], indice);
+    }
+
+    private void vigiar(int literal, int indiceClausula) {
+        int[] lista = vigias[literal];
+        if (totalVigias[literal] == lista.length) {
+            lista = vigias[literal] = Arrays.copyOf(lista, lista.length * 2);
+        }
+        lista[totalVigias[literal]++] = indiceClausula;
+    }
+
+    // ========== APRENDIZADO ==========
+
+    /**
+     * Analisa o conflito até o primeiro ponto de implicação única, volta ao
+     * nível em que a cláusula aprendida se torna unitária e a propaga.
+     */
+    private void aprender(int conflito) {
+        int[] aprendida = new int[nivelAtual + 1];
+        int tamanho = 1; // posição 0 reservada para o literal assertivo
+        int pendentes = 0;
+        int literal = -1;
+        int indiceTrilha = tamanhoTrilha - 1;
+        int clausulaAtual = conflito;
+
+        do {
+            int[] clausula = clausulas.get(clausulaAtual);
+            for (int k = literal == -1 ? 0 : 1; k < clausula.length; k++) {
+                int q = clausula[k];
+                int variavel = q >> 1;
+                if (visto[variavel] || nivel[variavel] == 0) {
+                    continue;
+                }
+                visto[variavel] = true;
+                aumentarAtividade(variavel);
+                if (nivel[variavel] == nivelAtual) {
+                    pendentes++;
+                } else {
+                    if (tamanho == aprendida.length) {
+                        aprendida = Arrays.copyOf(aprendida, tamanho * 2);
+                    }
+                    aprendida[tamanho++] = q;
+                }
+            }
+            // Próximo literal do nível atual na trilha, do mais recente para o mais antigo
+            while (!visto[trilha[indiceTrilha] >> 1]) {
+                indiceTrilha--;
+            }
+            literal = trilha[indiceTrilha--];
+            clausulaAtual = razao[literal >> 1];
+            visto[literal >> 1] = false;
+            pendentes--;
+        } while (pendentes > 0);
+        aprendida[0] = literal ^ 1;
+
+        // Nível de retorno: o maior nível entre os demais literais (que vai para a posição 1)
+        int nivelRetorno = 0;
+        for (int k = 1; k < tamanho; k++) {
+            visto[aprendida[k] >> 1] = false;
+            if (nivel[aprendida[k] >> 1] > nivelRetorno) {
+                nivelRetorno = nivel[aprendida[k] >> 1];
+                int troca = aprendida[1];
+                aprendida[1] = aprendida[k];
+                aprendida[k] = troca;
+            }
+        }
+
+        voltarAoNivel(nivelRetorno);
+        if (tamanho == 1) {
+            atribuir(aprendida[0], SEM_RAZAO);
+        } else {
+            int[] clausula = Arrays.copyOf(aprendida, tamanho);
+            anexar(clausula);
+            aprendidas++;
+            atribuir(clausula[0], clausulas.size() - 1);
+        }
+    }
+
+    private void voltarAoNivel(int destino) {
+        if (nivelAtual <= destino) {
+            return;
+        }
+        for (int i = tamanhoTrilha - 1; i >= inicioNivel[destino + 1]; i--) {
+            int literal = trilha[i];
+            int variavel = literal >> 1;
+            valor[literal] = INDEFINIDO;
+            valor[literal ^ 1] = INDEFINIDO;
+            fase[variavel] = (literal & 1) == 0;
+            if (posicaoHeap[variavel] < 0) {
+                inserirHeap(variavel);
+            }
+        }
+        tamanhoTrilha = inicioNivel[destino + 1];
+        propagados = tamanhoTrilha;
+        nivelAtual = destino;
+    }
+
+    /**
+     * Sequência de Luby (1, 1, 2, 1, 1, 2, 4, ...), para o intervalo entre reinícios.
+     */
+    private static long luby(int i) {
+        long tamanho = 1;
+        int sequencia = 0;
+        while (tamanho < i + 1) {
+            sequencia++;
+            tamanho = 2 * tamanho + 1;
+        }
+        long x = i - 1;
+        while (tamanho - 1 != x) {
+            tamanho = (tamanho - 1) >> 1;
+            sequencia--;
+            x = x % tamanho;
+        }
+        return 1L << sequencia;
+    }
+
+    // ========== VSIDS ==========
+
+    private int escolherVariavel() {
+        while (tamanhoHeap > 0) {
+            int variavel = removerMaiorHeap();
+            if (valor[2 * variavel] == INDEFINIDO) {
+                return variavel;
+            }
+        }
+        return 0;
+    }
+
+    private void aumentarAtividade(int variavel) {
+        atividade[variavel] += incremento;
+        if (atividade[variavel] > 1e100) {
+            for (int v = 1; v <= totalVariaveis; v++) {
+                atividade[v] *= 1e-100;
+            }
+            incremento *= 1e-100;
+        }
+        if (posicaoHeap[variavel] >= 0) {
+            subirHeap(posicaoHeap[variavel]);
+        }
+    }
+
+    private void inserirHeap(int variavel) {
+        heap[tamanhoHeap] = variavel;
+        posicaoHeap[variavel] = tamanhoHeap;
+        subirHeap(tamanhoHeap++);
+    }
+
+    private int removerMaiorHeap() {
+        int maior = heap[0];
+        posicaoHeap[maior] = -1;
+        int ultimo = heap[--tamanhoHeap];
+        if (tamanhoHeap > 0) {
+            heap[0] = ultimo;
+            posicaoHeap[ultimo] = 0;
+            descerHeap(0);
+        }
+        return maior;
+    }
+
+    private void subirHeap(int posicao) {
+        int variavel = heap[posicao];
+        while (posicao > 0) {
+            int pai = (posicao - 1) >> 1;
+            if (atividade[heap[pai]] >= atividade[variavel]) {
+                break;
+            }
+            heap[posicao] = heap[pai];
+            posicaoHeap[heap[posicao]] = posicao;
+            posicao = pai;
+        }
+        heap[posicao] = variavel;
+        posicaoHeap[variavel] = posicao;
+    }
+
+    private void descerHeap(int posicao) {
+        int variavel = heap[posicao];
+        while (true) {
+            int filho = 2 * posicao + 1;
+            if (filho >= tamanhoHeap) {
+                break;
+            }
+            if (filho + 1 < tamanhoHeap && atividade[heap[filho + 1]] > atividade[heap[filho]]) {
+                filho++;
+            }
+            if (atividade[heap[filho]] <= atividade[variavel]) {
+                break;
+            }
+            heap[posicao] = heap[filho];
+            posicaoHeap[heap[posicao]] = posicao;
+            posicao = filho;
+        }
+        heap[posicao] = variavel;
+        posicaoHeap[variavel] = posicao;
+    }
+}
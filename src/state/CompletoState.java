@@ -1,6 +1,5 @@
 package state;
 
-import domain.model.Posicao;
 import domain.model.Tabuleiro;
 import validation.ResultadoValidacao;
 
@@ -10,16 +9,19 @@ import validation.ResultadoValidacao;
  */
 public class CompletoState implements JogoState {
 
+    // Estados não guardam dados: as alterações são delegadas a uma instância só
+    private static final EmAndamentoState EM_ANDAMENTO = new EmAndamentoState();
+
     @Override
-    public ResultadoValidacao inserirNumero(Posicao posicao, int valor, Tabuleiro tabuleiro) {
+    public ResultadoValidacao inserirNumero(int indice, int valor, Tabuleiro tabuleiro) {
         // Em estado completo, ainda pode alterar células (para corrigir erros)
-        return new EmAndamentoState().inserirNumero(posicao, valor, tabuleiro);
+        return EM_ANDAMENTO.inserirNumero(indice, valor, tabuleiro);
     }
 
     @Override
-    public ResultadoValidacao removerNumero(Posicao posicao, Tabuleiro tabuleiro) {
+    public ResultadoValidacao removerNumero(int indice, Tabuleiro tabuleiro) {
         // Pode remover para corrigir erros
-        ResultadoValidacao resultado = new EmAndamentoState().removerNumero(posicao, tabuleiro);
+        ResultadoValidacao resultado = EM_ANDAMENTO.removerNumero(indice, tabuleiro);
 
         if (resultado.isValido()) {
             // Se removeu, volta para estado EmAndamento
@@ -39,7 +41,7 @@ public class CompletoState implements JogoState {
     @Override
     public ResultadoValidacao limparCelulasEditaveis(Tabuleiro tabuleiro) {
         // Pode limpar para recomeçar
-        return new EmAndamentoState().limparCelulasEditaveis(tabuleiro);
+        return EM_ANDAMENTO.limparCelulasEditaveis(tabuleiro);
     }
 
     @Override
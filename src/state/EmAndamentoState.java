@@ -11,25 +11,25 @@ import validation.ResultadoValidacao;
 public class EmAndamentoState implements JogoState {
 
     @Override
-    public ResultadoValidacao inserirNumero(Posicao posicao, int valor, Tabuleiro tabuleiro) {
+    public ResultadoValidacao inserirNumero(int indice, int valor, Tabuleiro tabuleiro) {
         // Validações básicas já feitas pelo Tabuleiro
-        boolean sucesso = tabuleiro.inserirNumero(posicao, valor);
+        boolean sucesso = tabuleiro.inserirNumero(indice, valor);
 
         if (sucesso) {
             return ResultadoValidacao.sucesso();
         } else {
-            return ResultadoValidacao.erro("Não foi possível inserir número na posição " + posicao);
+            return ResultadoValidacao.erro("Não foi possível inserir número na posição " + Posicao.doIndice(indice));
         }
     }
 
     @Override
-    public ResultadoValidacao removerNumero(Posicao posicao, Tabuleiro tabuleiro) {
-        boolean sucesso = tabuleiro.removerNumero(posicao);
+    public ResultadoValidacao removerNumero(int indice, Tabuleiro tabuleiro) {
+        boolean sucesso = tabuleiro.removerNumero(indice);
 
         if (sucesso) {
             return ResultadoValidacao.sucesso();
         } else {
-            return ResultadoValidacao.erro("Não foi possível remover número da posição " + posicao);
+            return ResultadoValidacao.erro("Não foi possível remover número da posição " + Posicao.doIndice(indice));
         }
     }
 
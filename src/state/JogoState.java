@@ -12,17 +12,33 @@ public interface JogoState {
 
     // ========== OPERAÇÕES DO JOGO ==========
 
+    /**
+     * Tenta inserir um número na célula de índice 0-80.
+     * @return Resultado da validação
+     */
+    ResultadoValidacao inserirNumero(int indice, int valor, Tabuleiro tabuleiro);
+
+    /**
+     * Tenta remover o número da célula de índice 0-80.
+     * @return Resultado da validação
+     */
+    ResultadoValidacao removerNumero(int indice, Tabuleiro tabuleiro);
+
     /**
      * Tenta inserir um número em uma posição.
      * @return Resultado da validação
      */
-    ResultadoValidacao inserirNumero(Posicao posicao, int valor, Tabuleiro tabuleiro);
+    default ResultadoValidacao inserirNumero(Posicao posicao, int valor, Tabuleiro tabuleiro) {
+        return inserirNumero(posicao.getIndice(), valor, tabuleiro);
+    }
 
     /**
      * Tenta remover um número de uma posição.
      * @return Resultado da validação
      */
-    ResultadoValidacao removerNumero(Posicao posicao, Tabuleiro tabuleiro);
+    default ResultadoValidacao removerNumero(Posicao posicao, Tabuleiro tabuleiro) {
+        return removerNumero(posicao.getIndice(), tabuleiro);
+    }
 
     /**
      * Verifica se o jogo pode ser finalizado.
@@ -1,6 +1,5 @@
 package state;
 
-import domain.model.Posicao;
 import domain.model.Tabuleiro;
 import validation.ResultadoValidacao;
 
@@ -11,12 +10,12 @@ import validation.ResultadoValidacao;
 public class NaoIniciadoState implements JogoState {
 
     @Override
-    public ResultadoValidacao inserirNumero(Posicao posicao, int valor, Tabuleiro tabuleiro) {
+    public ResultadoValidacao inserirNumero(int indice, int valor, Tabuleiro tabuleiro) {
         return ResultadoValidacao.erro("Jogo não iniciado. Use 'iniciarJogo()' primeiro.");
     }
 
     @Override
-    public ResultadoValidacao removerNumero(Posicao posicao, Tabuleiro tabuleiro) {
+    public ResultadoValidacao removerNumero(int indice, Tabuleiro tabuleiro) {
         return ResultadoValidacao.erro("Jogo não iniciado. Use 'iniciarJogo()' primeiro.");
     }
 
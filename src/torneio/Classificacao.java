@@ -0,0 +1,138 @@
+package torneio;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Classificação ao vivo de um torneio, atualizada por muitas threads ao mesmo tempo.
+ *
+ * <p>Duas estruturas sem bloqueio:</p>
+ * <ul>
+ *   <li>uma skip list concorrente com os resultados em ordem, para os
+ *       primeiros colocados (O(log n + k));</li>
+ *   <li>uma árvore de Fenwick de contadores atômicos por faixa de tempo,
+ *       para a posição de um jogador (O(log f) somando as faixas anteriores,
+ *       mais os poucos resultados da mesma faixa, contados na skip list).</li>
+ * </ul>
+ *
+ * <p>Leituras nunca bloqueiam registros nem jogadas. Uma consulta feita
+ * durante um registro pode ainda não contá-lo; a seguinte já conta.</p>
+ */
+public class Classificacao {
+
+    /** Largura padrão das faixas de tempo da árvore. */
+    public static final Duration RESOLUCAO_PADRAO = Duration.ofMillis(10);
+
+    private final long resolucaoNanos;
+    private final int totalFaixas;
+    private final AtomicIntegerArray arvore; // Fenwick, base 1
+
+    private final ConcurrentSkipListSet<ResultadoTorneio> ordem = new ConcurrentSkipListSet<>();
+    private final ConcurrentHashMap<String, ResultadoTorneio> porJogador = new ConcurrentHashMap<>();
+    private final AtomicLong sequencia = new AtomicLong();
+
+    /**
+     * @param duracaoMaxima tempo coberto pela árvore; conclusões depois disso ficam na última faixa
+     */
+    public Classificacao(Duration duracaoMaxima) {
+        this(duracaoMaxima, RESOLUCAO_PADRAO);
+    }
+
+    public Classificacao(Duration duracaoMaxima, Duration resolucao) {
+        if (resolucao.isZero() || resolucao.isNegative() || duracaoMaxima.compareTo(resolucao) < 0) {
+            throw new IllegalArgumentException("Duração deve ser maior que a resolução, e a resolução positiva");
+        }
+        long faixas = duracaoMaxima.toNanos() / resolucao.toNanos() + 1;
+        if (faixas > 1 << 26) {
+            throw new IllegalArgumentException("Resolução fina demais para a duração: " + faixas + " faixas");
+        }
+        this.resolucaoNanos = resolucao.toNanos();
+        this.totalFaixas = (int) faixas;
+        this.arvore = new AtomicIntegerArray(totalFaixas + 1);
+    }
+
+    /**
+     * Registra a conclusão de um jogador.
+     *
+     * @return o resultado registrado, ou null se o jogador já estava classificado
+     */
+    public ResultadoTorneio registrar(String jogador, long tempoNanos, int jogadas) {
+        ResultadoTorneio resultado = new ResultadoTorneio(jogador, Math.max(0, tempoNanos), jogadas,
+                sequencia.getAndIncrement());
+        if (porJogador.putIfAbsent(jogador, resultado) != null) {
+            return null;
+        }
+        ordem.add(resultado);
+        for (int i = faixa(resultado.getTempoNanos()) + 1; i <= totalFaixas; i += i & -i) {
+            arvore.incrementAndGet(i);
+        }
+        return resultado;
+    }
+
+    /**
+     * Posição do jogador (1 = primeiro).
+     *
+     * @return a posição ou -1 se o jogador ainda não concluiu
+     */
+    public int posicao(String jogador) {
+        ResultadoTorneio resultado = porJogador.get(jogador);
+        if (resultado == null) {
+            return -1;
+        }
+        int faixa = faixa(resultado.getTempoNanos());
+        int antes = concluidosAntesDaFaixa(faixa);
+        antes += ordem.subSet(ResultadoTorneio.limiteInferior(faixa * resolucaoNanos), true, resultado, false).size();
+        return antes + 1;
+    }
+
+    /**
+     * Quantos jogadores concluíram em menos tempo que o informado (na resolução das faixas).
+     * Útil para "você estaria em N-ésimo" antes de concluir.
+     */
+    public int concluidosAntes(long tempoNanos) {
+        return concluidosAntesDaFaixa(faixa(Math.max(0, tempoNanos)));
+    }
+
+    /**
+     * Os {@code k} primeiros colocados, em ordem.
+     */
+    public List<ResultadoTorneio> primeiros(int k) {
+        List<ResultadoTorneio> primeiros = new ArrayList<>(Math.min(k, 64));
+        Iterator<ResultadoTorneio> iterador = ordem.iterator();
+        while (primeiros.size() < k && iterador.hasNext()) {
+            primeiros.add(iterador.next());
+        }
+        return primeiros;
+    }
+
+    public ResultadoTorneio getResultado(String jogador) {
+        return porJogador.get(jogador);
+    }
+
+    public int getTotal() {
+        return porJogador.size();
+    }
+
+    // ========== ÁRVORE DE FENWICK ==========
+
+    private int faixa(long tempoNanos) {
+        return (int) Math.min(tempoNanos / resolucaoNanos, totalFaixas - 1);
+    }
+
+    /**
+     * Soma das faixas 0 até {@code faixa - 1}.
+     */
+    private int concluidosAntesDaFaixa(int faixa) {
+        int soma = 0;
+        for (int i = faixa; i > 0; i -= i & -i) {
+            soma += arvore.get(i);
+        }
+        return soma;
+    }
+}
@@ -0,0 +1,110 @@
+package torneio;
+
+import domain.model.Tabuleiro;
+import service.JogoService;
+import validation.ResultadoValidacao;
+
+/**
+ * Jogador inscrito em um {@link Torneio}, com o seu próprio jogo.
+ *
+ * <p>As operações de um participante são serializadas entre si (o
+ * {@link JogoService} não é thread-safe), mas participantes diferentes
+ * jogam em paralelo sem disputar nenhuma trava.</p>
+ */
+public class Participante {
+    private final String jogador;
+    private final Torneio torneio;
+    private final JogoService jogo;
+
+    Participante(String jogador, Torneio torneio, JogoService jogo) {
+        this.jogador = jogador;
+        this.torneio = torneio;
+        this.jogo = jogo;
+    }
+
+    // ========== JOGADAS ==========
+
+    public synchronized ResultadoValidacao inserirNumero(int linha, int coluna, int valor) {
+        ResultadoValidacao aberto = torneio.verificarAberto();
+        return aberto.isValido() ? jogo.inserirNumero(linha, coluna, valor) : aberto;
+    }
+
+    public synchronized ResultadoValidacao inserirNumero(int indice, int valor) {
+        ResultadoValidacao aberto = torneio.verificarAberto();
+        return aberto.isValido() ? jogo.inserirNumero(indice, valor) : aberto;
+    }
+
+    public synchronized ResultadoValidacao removerNumero(int linha, int coluna) {
+        ResultadoValidacao aberto = torneio.verificarAberto();
+        return aberto.isValido() ? jogo.removerNumero(linha, coluna) : aberto;
+    }
+
+    public synchronized ResultadoValidacao removerNumero(int indice) {
+        ResultadoValidacao aberto = torneio.verificarAberto();
+        return aberto.isValido() ? jogo.removerNumero(indice) : aberto;
+    }
+
+    /**
+     * Finaliza o jogo e, se estiver correto, registra o tempo na classificação.
+     */
+    public synchronized ResultadoValidacao finalizar() {
+        ResultadoValidacao aberto = torneio.verificarAberto();
+        if (!aberto.isValido()) {
+            return aberto;
+        }
+        if (jogo.isVencido()) {
+            return ResultadoValidacao.erro("Jogo já finalizado");
+        }
+        ResultadoValidacao resultado = jogo.finalizarJogo();
+        if (resultado.isValido()) {
+            torneio.registrarConclusao(jogador, jogo.getJogadasRealizadas());
+        }
+        return resultado;
+    }
+
+    // ========== CONSULTAS ==========
+
+    public String getJogador() {
+        return jogador;
+    }
+
+    /**
+     * Posição na classificação, ou -1 se ainda não concluiu.
+     */
+    public int getPosicao() {
+        return torneio.getClassificacao().posicao(jogador);
+    }
+
+    /**
+     * Resultado registrado, ou null se ainda não concluiu.
+     */
+    public ResultadoTorneio getResultado() {
+        return torneio.getClassificacao().getResultado(jogador);
+    }
+
+    public boolean isConcluido() {
+        return getResultado() != null;
+    }
+
+    public synchronized int getJogadas() {
+        return jogo.getJogadasRealizadas();
+    }
+
+    public synchronized int getCandidatos(int indice) {
+        return jogo.getCandidatos(indice);
+    }
+
+    /**
+     * Cópia do tabuleiro atual, para exibir a partida sem segurar o jogador.
+     * A cópia compartilha as linhas com o jogo e custa O(1).
+     */
+    public synchronized Tabuleiro copiarTabuleiro() {
+        return jogo.getTabuleiro().copiar();
+    }
+
+    @Override
+    public String toString() {
+        ResultadoTorneio resultado = getResultado();
+        return resultado == null ? jogador + " (em jogo)" : getPosicao() + "º " + resultado;
+    }
+}
@@ -0,0 +1,74 @@
+package torneio;
+
+/**
+ * Conclusão de um participante: tempo desde o início do torneio e jogadas feitas.
+ *
+ * <p>Ordem da classificação: menor tempo, depois menos jogadas, depois
+ * quem concluiu primeiro (sequência de registro).</p>
+ */
+public final class ResultadoTorneio implements Comparable<ResultadoTorneio> {
+    private final String jogador;
+    private final long tempoNanos;
+    private final int jogadas;
+    private final long sequencia;
+
+    ResultadoTorneio(String jogador, long tempoNanos, int jogadas, long sequencia) {
+        this.jogador = jogador;
+        this.tempoNanos = tempoNanos;
+        this.jogadas = jogadas;
+        this.sequencia = sequencia;
+    }
+
+    /**
+     * Marcador que fica antes de qualquer resultado com tempo maior ou igual ao informado.
+     */
+    static ResultadoTorneio limiteInferior(long tempoNanos) {
+        return new ResultadoTorneio("", tempoNanos, Integer.MIN_VALUE, Long.MIN_VALUE);
+    }
+
+    public String getJogador() {
+        return jogador;
+    }
+
+    public long getTempoNanos() {
+        return tempoNanos;
+    }
+
+    public long getTempoMillis() {
+        return tempoNanos / 1_000_000;
+    }
+
+    public int getJogadas() {
+        return jogadas;
+    }
+
+    @Override
+    public int compareTo(ResultadoTorneio outro) {
+        if (tempoNanos != outro.tempoNanos) {
+            return Long.compare(tempoNanos, outro.tempoNanos);
+        }
+        if (jogadas != outro.jogadas) {
+            return Integer.compare(jogadas, outro.jogadas);
+        }
+        return Long.compare(sequencia, outro.sequencia);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof ResultadoTorneio outro)) return false;
+        return compareTo(outro) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(sequencia);
+    }
+
+    @Override
+    public String toString() {
+        long millis = getTempoMillis();
+        return String.format("%s - %d:%02d.%03d, %d jogadas",
+                jogador, millis / 60_000, millis / 1000 % 60, millis % 1000, jogadas);
+    }
+}
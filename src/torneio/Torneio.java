@@ -0,0 +1,170 @@
+package torneio;
+
+import domain.exception.SudokuException;
+import domain.model.Tabuleiro;
+import factory.JogoFactory;
+import factory.TabuleiroFactory;
+import service.JogoService;
+import validation.ResultadoValidacao;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Torneio cronometrado: todos os participantes resolvem o mesmo puzzle,
+ * cada um no seu próprio jogo, e quem conclui entra na {@link Classificacao}.
+ *
+ * <p>O tempo de cada participante conta a partir de {@link #iniciar()}.
+ * Os jogos são cópias do mesmo tabuleiro modelo, que compartilham as linhas
+ * até a primeira jogada em cada uma: inscrever milhares de jogadores não
+ * copia milhares de grades.</p>
+ *
+ * <p>Inscrições, jogadas e consultas podem vir de muitas threads. Cada
+ * participante tem sua própria trava; a classificação não usa travas.</p>
+ */
+public class Torneio {
+
+    /** Duração máxima quando não informada. */
+    public static final Duration DURACAO_PADRAO = Duration.ofHours(4);
+
+    private enum Fase { INSCRICOES, EM_ANDAMENTO, ENCERRADO }
+
+    private final Tabuleiro modelo;
+    private final Duration duracao;
+    private final Classificacao classificacao;
+    private final ConcurrentHashMap<String, Participante> participantes = new ConcurrentHashMap<>();
+
+    private volatile Fase fase = Fase.INSCRICOES;
+    private volatile long inicioNanos;
+
+    public Torneio(int[] pistas) {
+        this(pistas, DURACAO_PADRAO);
+    }
+
+    /**
+     * @param pistas puzzle (81 valores, 0 = vazio)
+     * @param duracao tempo máximo; depois dele nenhuma jogada é aceita
+     */
+    public Torneio(int[] pistas, Duration duracao) {
+        this.modelo = TabuleiroFactory.criarTabuleiroDeGrade(pistas);
+        this.duracao = duracao;
+        this.classificacao = new Classificacao(duracao);
+    }
+
+    // ========== CICLO DE VIDA ==========
+
+    /**
+     * Inscreve um jogador, com um jogo novo já iniciado sobre o puzzle do torneio.
+     *
+     * @throws SudokuException se o nome já estiver inscrito ou o torneio tiver terminado
+     */
+    public Participante inscrever(String jogador) {
+        if (jogador == null || jogador.isBlank()) {
+            throw new IllegalArgumentException("Nome do jogador não pode ser vazio");
+        }
+        if (fase == Fase.ENCERRADO) {
+            throw new SudokuException("Torneio encerrado");
+        }
+        Participante novo = new Participante(jogador, this, criarJogo(copiarModelo()));
+        if (participantes.putIfAbsent(jogador, novo) != null) {
+            throw new SudokuException("Jogador já inscrito: " + jogador);
+        }
+        return novo;
+    }
+
+    /**
+     * Abre o torneio: o relógio começa para todos.
+     */
+    public synchronized void iniciar() {
+        if (fase != Fase.INSCRICOES) {
+            throw new SudokuException("Torneio já foi iniciado");
+        }
+        inicioNanos = System.nanoTime();
+        fase = Fase.EM_ANDAMENTO;
+    }
+
+    /**
+     * Encerra o torneio: jogadas e conclusões deixam de ser aceitas.
+     */
+    public void encerrar() {
+        fase = Fase.ENCERRADO;
+    }
+
+    // ========== CONSULTAS ==========
+
+    public Classificacao getClassificacao() {
+        return classificacao;
+    }
+
+    public Participante getParticipante(String jogador) {
+        return participantes.get(jogador);
+    }
+
+    public Collection<Participante> getParticipantes() {
+        return Collections.unmodifiableCollection(participantes.values());
+    }
+
+    public int getTotalParticipantes() {
+        return participantes.size();
+    }
+
+    public boolean isEmAndamento() {
+        return fase == Fase.EM_ANDAMENTO && !tempoEsgotado();
+    }
+
+    public boolean isEncerrado() {
+        return fase == Fase.ENCERRADO || (fase == Fase.EM_ANDAMENTO && tempoEsgotado());
+    }
+
+    /**
+     * Tempo desde o início (zero antes de iniciar).
+     */
+    public Duration getTempoDecorrido() {
+        return fase == Fase.INSCRICOES ? Duration.ZERO : Duration.ofNanos(System.nanoTime() - inicioNanos);
+    }
+
+    public Duration getDuracao() {
+        return duracao;
+    }
+
+    // ========== USO DOS PARTICIPANTES ==========
+
+    /**
+     * Verifica se o torneio aceita jogadas agora.
+     */
+    ResultadoValidacao verificarAberto() {
+        return switch (fase) {
+            case INSCRICOES -> ResultadoValidacao.erro("O torneio ainda não começou");
+            case ENCERRADO -> ResultadoValidacao.erro("O torneio já terminou");
+            case EM_ANDAMENTO -> tempoEsgotado()
+                    ? ResultadoValidacao.erro("Tempo esgotado")
+                    : ResultadoValidacao.sucesso();
+        };
+    }
+
+    ResultadoTorneio registrarConclusao(String jogador, int jogadas) {
+        return classificacao.registrar(jogador, System.nanoTime() - inicioNanos, jogadas);
+    }
+
+    private boolean tempoEsgotado() {
+        return System.nanoTime() - inicioNanos > duracao.toNanos();
+    }
+
+    /**
+     * Cópia do modelo para um novo jogo (o modelo nunca é alterado, então não precisa de trava).
+     */
+    private Tabuleiro copiarModelo() {
+        return modelo.copiar();
+    }
+
+    /**
+     * Jogo novo sobre uma cópia do modelo, já iniciado.
+     */
+    private static JogoService criarJogo(Tabuleiro tabuleiro) {
+        JogoService jogo = JogoFactory.criarJogoPersonalizado(tabuleiro);
+        jogo.iniciarJogo();
+        return jogo;
+    }
+}
@@ -0,0 +1,186 @@
+package ui;
+
+import service.JogoService;
+import validation.ResultadoValidacao;
+
+import java.io.PrintStream;
+
+/**
+ * Modo script: executa comandos em lote contra o JogoService, sem menu
+ * e sem redesenhar o tabuleiro a cada jogada. Usado para reproduzir
+ * partidas gravadas e em testes de carga.
+ *
+ * <p><b>Formato</b> (um comando por linha, linhas vazias e '#' ignorados):</p>
+ * <pre>
+ * s              iniciar jogo
+ * i L C V        inserir valor V na linha L, coluna C (1-9)
+ * r L C          remover número da linha L, coluna C
+ * l              limpar células editáveis
+ * f              finalizar jogo
+ * v              imprimir status
+ * m              mostrar tabuleiro
+ * </pre>
+ *
+ * <p>A leitura é feita byte a byte pelo {@link LeitorEntrada}, sem criar
+ * uma String por linha.</p>
+ */
+public class ExecutorScript {
+
+    // Quantidade máxima de erros detalhados na saída
+    private static final int MAXIMO_ERROS_EXIBIDOS = 10;
+
+    private final JogoService jogoService;
+    private final LeitorEntrada leitor;
+    private final PrintStream saida;
+    private RenderizadorTabuleiro renderizador;
+
+    // Estatísticas da execução
+    private long comandos;
+    private long aceitos;
+    private long rejeitados;
+    private long errosSintaxe;
+
+    public ExecutorScript(JogoService jogoService, LeitorEntrada leitor, PrintStream saida) {
+        this.jogoService = jogoService;
+        this.leitor = leitor;
+        this.saida = saida;
+    }
+
+    /**
+     * Executa todos os comandos até o fim da entrada e imprime um resumo.
+     */
+    public void executar() {
+        long inicio = System.nanoTime();
+
+        while (true) {
+            int b = leitor.pularEspacos();
+            if (b == LeitorEntrada.FIM) {
+                break;
+            }
+            if (b == '\n') {
+                leitor.lerByte();
+                continue;
+            }
+            if (b == '#') {
+                leitor.descartarLinha();
+                continue;
+            }
+
+            long linha = leitor.getLinha();
+            leitor.lerByte();
+            comandos++;
+            executarComando(b, linha);
+            leitor.descartarLinha();
+        }
+
+        imprimirResumo(System.nanoTime() - inicio);
+    }
+
+    // ========== COMANDOS ==========
+
+    private void executarComando(int comando, long linha) {
+        switch (comando) {
+            case 'i' -> {
+                int l = leitor.lerInteiroNaLinha();
+                int c = leitor.lerInteiroNaLinha();
+                int v = leitor.lerInteiroNaLinha();
+                if (l == LeitorEntrada.AUSENTE || c == LeitorEntrada.AUSENTE || v == LeitorEntrada.AUSENTE) {
+                    erroSintaxe(linha, "uso: i linha coluna valor");
+                    return;
+                }
+                if (l == LeitorEntrada.INVALIDO || c == LeitorEntrada.INVALIDO || v == LeitorEntrada.INVALIDO) {
+                    erroSintaxe(linha, "número inválido");
+                    return;
+                }
+                contabilizar(linha, inserir(l, c, v));
+            }
+            case 'r' -> {
+                int l = leitor.lerInteiroNaLinha();
+                int c = leitor.lerInteiroNaLinha();
+                if (l == LeitorEntrada.AUSENTE || c == LeitorEntrada.AUSENTE) {
+                    erroSintaxe(linha, "uso: r linha coluna");
+                    return;
+                }
+                if (l == LeitorEntrada.INVALIDO || c == LeitorEntrada.INVALIDO) {
+                    erroSintaxe(linha, "número inválido");
+                    return;
+                }
+                contabilizar(linha, remover(l, c));
+            }
+            case 's' -> contabilizar(linha, jogoService.iniciarJogo());
+            case 'l' -> contabilizar(linha, jogoService.limparCelulasEditaveis());
+            case 'f' -> contabilizar(linha, jogoService.finalizarJogo());
+            case 'v' -> saida.println(jogoService.verificarStatus());
+            case 'm' -> mostrarTabuleiro();
+            default -> erroSintaxe(linha, "comando desconhecido '" + (char) comando + "'");
+        }
+    }
+
+    private ResultadoValidacao inserir(int linha, int coluna, int valor) {
+        // Posicao rejeita coordenadas fora de 1-9 com exceção
+        if (linha < 1 || linha > 9 || coluna < 1 || coluna > 9) {
+            return ResultadoValidacao.erro("Linha e coluna devem ser entre 1 e 9");
+        }
+        return jogoService.inserirNumero(linha, coluna, valor);
+    }
+
+    private ResultadoValidacao remover(int linha, int coluna) {
+        if (linha < 1 || linha > 9 || coluna < 1 || coluna > 9) {
+            return ResultadoValidacao.erro("Linha e coluna devem ser entre 1 e 9");
+        }
+        return jogoService.removerNumero(linha, coluna);
+    }
+
+    private void mostrarTabuleiro() {
+        if (renderizador == null) {
+            renderizador = new RenderizadorTabuleiro(saida, "", false);
+        }
+        renderizador.renderizar(jogoService.getTabuleiro());
+    }
+
+    // ========== ESTATÍSTICAS ==========
+
+    private void contabilizar(long linha, ResultadoValidacao resultado) {
+        if (resultado.isValido()) {
+            aceitos++;
+        } else {
+            rejeitados++;
+            if (rejeitados + errosSintaxe <= MAXIMO_ERROS_EXIBIDOS) {
+                saida.println("Linha " + linha + ": " + resultado.getMensagemErro());
+            }
+        }
+    }
+
+    private void erroSintaxe(long linha, String mensagem) {
+        errosSintaxe++;
+        if (rejeitados + errosSintaxe <= MAXIMO_ERROS_EXIBIDOS) {
+            saida.println("Linha " + linha + ": " + mensagem);
+        }
+    }
+
+    private void imprimirResumo(long duracaoNanos) {
+        double segundos = duracaoNanos / 1e9;
+        saida.println("--- RESUMO DO SCRIPT ---");
+        saida.printf("Comandos: %d (aceitos: %d, rejeitados: %d, erros de sintaxe: %d)%n",
+                comandos, aceitos, rejeitados, errosSintaxe);
+        saida.printf("Tempo: %.3f s (%.0f comandos/s)%n", segundos, segundos > 0 ? comandos / segundos : 0.0);
+        saida.println("Status: " + jogoService.verificarStatus());
+        saida.println("Jogadas: " + jogoService.getJogadasRealizadas());
+    }
+
+    public long getComandos() {
+        return comandos;
+    }
+
+    public long getAceitos() {
+        return aceitos;
+    }
+
+    public long getRejeitados() {
+        return rejeitados;
+    }
+
+    public long getErrosSintaxe() {
+        return errosSintaxe;
+    }
+}
@@ -0,0 +1,233 @@
+package ui;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Leitor de entrada bufferizado que trabalha diretamente sobre bytes.
+ * Substitui o Scanner (baseado em regex) tanto no menu interativo quanto
+ * no modo script, onde milhões de comandos precisam ser lidos rapidamente.
+ *
+ * <p>Números são convertidos byte a byte, sem criar Strings. Apenas
+ * {@link #proximoToken()} aloca, e é usado só em respostas interativas.</p>
+ */
+public class LeitorEntrada implements AutoCloseable {
+
+    /** Retornado pelas leituras quando a entrada terminou. */
+    public static final int FIM = -1;
+
+    /** Retornado por {@link #lerInteiroNaLinha()} quando não há número. */
+    public static final int AUSENTE = Integer.MIN_VALUE;
+    /** Retornado por {@link #lerInteiroNaLinha()} quando o número não cabe num int. */
+    public static final int INVALIDO = Integer.MIN_VALUE + 1;
+
+    private static final int TAMANHO_BUFFER = 64 * 1024;
+
+    private final InputStream entrada;
+    private final Charset charset;
+    private final byte[] buffer = new byte[TAMANHO_BUFFER];
+    private int posicao;
+    private int limite;
+
+    // Rascunho para montar tokens que atravessam o fim do buffer
+    private byte[] token = new byte[32];
+
+    // Número da linha atual (1-based), útil para mensagens de erro em scripts
+    private long linha = 1;
+
+    public LeitorEntrada(InputStream entrada) {
+        this(entrada, Charset.defaultCharset());
+    }
+
+    public LeitorEntrada(InputStream entrada, Charset charset) {
+        this.entrada = entrada;
+        this.charset = charset;
+    }
+
+    // ========== PRIMITIVAS ==========
+
+    /**
+     * Retorna o próximo byte sem consumi-lo, ou FIM.
+     */
+    public int espiar() {
+        if (posicao == limite && !preencher()) {
+            return FIM;
+        }
+        return buffer[posicao] & 0xFF;
+    }
+
+    /**
+     * Consome e retorna o próximo byte, ou FIM.
+     */
+    public int lerByte() {
+        if (posicao == limite && !preencher()) {
+            return FIM;
+        }
+        int b = buffer[posicao++] & 0xFF;
+        if (b == '\n') {
+            linha++;
+        }
+        return b;
+    }
+
+    /**
+     * Pula espaços, tabulações e '\r' da linha atual (não pula '\n').
+     *
+     * @return o próximo byte (não consumido) ou FIM
+     */
+    public int pularEspacos() {
+        int b = espiar();
+        while (b == ' ' || b == '\t' || b == '\r') {
+            posicao++;
+            b = espiar();
+        }
+        return b;
+    }
+
+    /**
+     * Descarta o restante da linha atual, incluindo o '\n'.
+     */
+    public void descartarLinha() {
+        while (true) {
+            if (posicao == limite && !preencher()) {
+                return;
+            }
+            // Procura o '\n' diretamente no buffer
+            for (int i = posicao; i < limite; i++) {
+                if (buffer[i] == '\n') {
+                    posicao = i + 1;
+                    linha++;
+                    return;
+                }
+            }
+            posicao = limite;
+        }
+    }
+
+    public long getLinha() {
+        return linha;
+    }
+
+    // ========== LEITURA DE LINHA (MODO SCRIPT) ==========
+
+    /**
+     * Lê um inteiro não negativo da linha atual, pulando espaços antes dele.
+     *
+     * @return o número, AUSENTE se o próximo conteúdo da linha não for um dígito,
+     *         ou INVALIDO se o número passar de Integer.MAX_VALUE (os dígitos são consumidos)
+     */
+    public int lerInteiroNaLinha() {
+        int b = pularEspacos();
+        if (b < '0' || b > '9') {
+            return AUSENTE;
+        }
+        int valor = 0;
+        boolean estourou = false;
+        while (b >= '0' && b <= '9') {
+            posicao++;
+            int digito = b - '0';
+            if (valor > (Integer.MAX_VALUE - digito) / 10) {
+                estourou = true;
+            } else {
+                valor = valor * 10 + digito;
+            }
+            b = espiar();
+        }
+        return estourou ? INVALIDO : valor;
+    }
+
+    // ========== LEITURA POR TOKEN (MODO INTERATIVO) ==========
+
+    /**
+     * Lê o próximo inteiro, pulando espaços e quebras de linha (como Scanner.nextInt).
+     * O token é consumido mesmo se não for um número.
+     *
+     * @throws NumberFormatException  se o token não é um inteiro
+     * @throws NoSuchElementException se a entrada terminou
+     */
+    public int proximoInteiro() {
+        int tamanhoToken = lerToken();
+
+        int i = 0;
+        boolean negativo = false;
+        if (token[0] == '-' || token[0] == '+') {
+            negativo = token[0] == '-';
+            i = 1;
+        }
+        if (i == tamanhoToken || tamanhoToken - i > 9) {
+            throw new NumberFormatException("Número inválido: " + new String(token, 0, tamanhoToken, charset));
+        }
+
+        int valor = 0;
+        for (; i < tamanhoToken; i++) {
+            int b = token[i];
+            if (b < '0' || b > '9') {
+                throw new NumberFormatException("Número inválido: " + new String(token, 0, tamanhoToken, charset));
+            }
+            valor = valor * 10 + (b - '0');
+        }
+        return negativo ? -valor : valor;
+    }
+
+    /**
+     * Lê o próximo token separado por espaços (como Scanner.next).
+     *
+     * @throws NoSuchElementException se a entrada terminou
+     */
+    public String proximoToken() {
+        int tamanhoToken = lerToken();
+        return new String(token, 0, tamanhoToken, charset);
+    }
+
+    private int lerToken() {
+        int b = lerByte();
+        while (b == ' ' || b == '\t' || b == '\r' || b == '\n') {
+            b = lerByte();
+        }
+        if (b == FIM) {
+            throw new NoSuchElementException("Entrada encerrada");
+        }
+
+        int tamanhoToken = 0;
+        while (b != FIM && b != ' ' && b != '\t' && b != '\r' && b != '\n') {
+            if (tamanhoToken == token.length) {
+                token = Arrays.copyOf(token, token.length * 2);
+            }
+            token[tamanhoToken++] = (byte) b;
+            b = espiar();
+            if (b != FIM && b != ' ' && b != '\t' && b != '\r' && b != '\n') {
+                posicao++;
+            }
+        }
+        return tamanhoToken;
+    }
+
+    // ========== BUFFER ==========
+
+    private boolean preencher() {
+        try {
+            int lidos = entrada.read(buffer, 0, buffer.length);
+            if (lidos <= 0) {
+                return false;
+            }
+            posicao = 0;
+            limite = lidos;
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erro ao ler entrada", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            entrada.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erro ao fechar entrada", e);
+        }
+    }
+}
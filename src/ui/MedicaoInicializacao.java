@@ -0,0 +1,31 @@
+package ui;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Mede o tempo entre a partida da JVM e o primeiro prompt do menu.
+ *
+ * <p>Desligada por padrão; ative com {@code -Dsudoku.medir.inicializacao=true}.
+ * O resultado vai para a saída de erro, onde o script
+ * {@code scripts/medir-inicializacao.sh} o coleta. As classes de
+ * gerenciamento só são carregadas depois de registrado o instante do prompt.</p>
+ */
+final class MedicaoInicializacao {
+
+    private static final boolean ATIVA = Boolean.getBoolean("sudoku.medir.inicializacao");
+
+    private static boolean medida;
+
+    private MedicaoInicializacao() {
+    }
+
+    static void primeiroPrompt() {
+        if (!ATIVA || medida) {
+            return;
+        }
+        medida = true;
+        long agora = System.currentTimeMillis();
+        long inicio = ManagementFactory.getRuntimeMXBean().getStartTime();
+        System.err.println("Tempo até o primeiro prompt: " + (agora - inicio) + " ms");
+    }
+}
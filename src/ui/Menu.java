@@ -1,11 +1,15 @@
 package ui;
 
+import domain.exception.SudokuException;
 import domain.model.Posicao;
-import domain.model.Tabuleiro;
+import persistence.ArquivoJogo;
 import service.JogoService;  // ← ESTE É O IMPORT CORRETO
 import validation.ResultadoValidacao;
 
-import java.util.Scanner;
+import java.io.IOException;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.NoSuchElementException;
 /**
  * Interface de usuário do jogo de Sudoku (versão refatorada).
  * Responsável apenas por interação com usuário - toda lógica de negócio
@@ -20,8 +24,9 @@ import java.util.Scanner;
  */
 public class Menu {
     private JogoService jogoService;
-    private Scanner scanner;
+    private final LeitorEntrada leitor;
     private boolean executando;
+    private final RenderizadorTabuleiro renderizador;
 
     /**
      * Construtor que recebe o serviço do jogo por injeção de dependência.
@@ -29,8 +34,10 @@ public class Menu {
      */
     public Menu(JogoService jogoService) {
         this.jogoService = jogoService;
-        this.scanner = new Scanner(System.in);
+        this.leitor = new LeitorEntrada(System.in);
         this.executando = true;
+        this.renderizador = new RenderizadorTabuleiro(System.out, "\n=== SUDOKU REFATORADO ===",
+                RenderizadorTabuleiro.terminalSuportaCursor());
     }
 
     /**
@@ -41,55 +48,11 @@ public class Menu {
      * - Normal: células editáveis
      *
      * <p><b>Decisão de design:</b> A formatação visual é responsabilidade da UI,
-     * mas os dados vêm do domínio através do serviço.</p>
+     * mas os dados vêm do domínio através do serviço. O desenho em si fica no
+     * RenderizadorTabuleiro, que escreve o quadro de uma vez só.</p>
      */
     private void mostrarTabuleiro() {
-        Tabuleiro tabuleiro = jogoService.getTabuleiro();
-
-        System.out.println("\n    1 2 3   4 5 6   7 8 9");
-        System.out.println("  ┌───────┬───────┬───────┐");
-
-        for (int linha = 0; linha < 9; linha++) {
-            System.out.print((linha + 1) + " │ ");
-
-            for (int coluna = 0; coluna < 9; coluna++) {
-                var celula = tabuleiro.getCelula(linha, coluna);
-                Integer valor = celula.getValorAtual();
-
-                // Formatação baseada no estado da célula
-                if (valor == null) {
-                    System.out.print("· ");
-                } else {
-                    String valorStr = String.valueOf(valor);
-
-                    if (celula.isFixo()) {
-                        // Célula fixa em negrito
-                        System.out.print("\u001B[1m" + valorStr + "\u001B[0m ");
-                    } else if (celula.isEmErro()) {
-                        // Célula com erro em vermelho
-                        System.out.print("\u001B[31m" + valorStr + "\u001B[0m ");
-                    } else {
-                        // Célula normal
-                        System.out.print(valorStr + " ");
-                    }
-                }
-
-                // Separadores visuais entre blocos 3x3
-                if (coluna == 2 || coluna == 5) {
-                    System.out.print("│ ");
-                }
-            }
-
-            System.out.println("│");
-
-            // Linhas separadoras entre blocos 3x3
-            if (linha == 2 || linha == 5) {
-                System.out.println("  ├───────┼───────┼───────┤");
-            }
-        }
-
-        System.out.println("  └───────┴───────┴───────┘");
-        System.out.println("  Legenda: \u001B[1mNegrito\u001B[0m = fixo | \u001B[31mVermelho\u001B[0m = erro");
+        renderizador.renderizar(jogoService.getTabuleiro());
     }
 
     /**
@@ -100,9 +63,7 @@ public class Menu {
      * decidir quais opções mostrar, mas não toma decisões de negócio.</p>
      */
     public void exibirMenu() {
-        System.out.println("\n=== SUDOKU REFATORADO ===");
-
-        // 1. Mostra tabuleiro atual
+        // 1. Mostra título e tabuleiro atual
         mostrarTabuleiro();
 
         // 2. Mostra informações do jogo
@@ -123,6 +84,8 @@ public class Menu {
         if (!jogoService.isAtivo()) {
             System.out.println("6. Iniciar jogo");
         }
+        System.out.println("7. Salvar jogo");
+        System.out.println("8. Carregar jogo");
 
         System.out.println("0. Mostrar menu novamente");
         System.out.println("9. Sair");
@@ -143,7 +106,9 @@ public class Menu {
             case 4 -> processarLimpar();
             case 5 -> processarFinalizar();
             case 6 -> processarIniciar();
-            case 0 -> {} // Apenas mostra menu novamente
+            case 7 -> processarSalvar();
+            case 8 -> processarCarregar();
+            case 0 -> renderizador.invalidar(); // Redesenha o quadro inteiro
             case 9 -> {
                 System.out.println("Saindo do jogo...");
                 executando = false;
@@ -169,16 +134,20 @@ public class Menu {
                 // Pausa para usuário ver o resultado
                 if (executando && opcao != 0) {
                     System.out.print("\nPressione Enter para continuar...");
-                    scanner.nextLine();
+                    leitor.descartarLinha();
                 }
 
+            } catch (NoSuchElementException e) {
+                // Fim da entrada (ex.: pipe encerrado)
+                executando = false;
             } catch (Exception e) {
                 System.out.println("❌ Erro: " + e.getMessage());
-                scanner.nextLine(); // Limpa buffer
+                leitor.descartarLinha(); // Limpa buffer
             }
         }
 
-        scanner.close();
+        leitor.close();
+        renderizador.restaurarTerminal();
         System.out.println("\nObrigado por jogar! 👋");
     }
 
@@ -190,16 +159,19 @@ public class Menu {
      */
     private int lerOpcao() {
         System.out.print("\nEscolha uma opção: ");
+        MedicaoInicializacao.primeiroPrompt();
 
-        while (!scanner.hasNextInt()) {
-            System.out.println("⚠️  Erro: Digite um número válido!");
-            scanner.next(); // Descarta entrada inválida
-            System.out.print("Escolha uma opção: ");
+        while (true) {
+            try {
+                int opcao = leitor.proximoInteiro();
+                leitor.descartarLinha(); // Limpa buffer do enter
+                return opcao;
+            } catch (NumberFormatException e) {
+                // Token inválido já foi descartado pelo leitor
+                System.out.println("⚠️  Erro: Digite um número válido!");
+                System.out.print("Escolha uma opção: ");
+            }
         }
-
-        int opcao = scanner.nextInt();
-        scanner.nextLine(); // Limpa buffer do enter
-        return opcao;
     }
 
     // ========== MÉTODOS PARA CADA OPERAÇÃO ==========
@@ -225,6 +197,13 @@ public class Menu {
         );
 
         exibirResultado(resultado, "✓ Número inserido com sucesso!");
+        long completadas = resultado.isValido() ? jogoService.getUnidadesCompletadas() : 0;
+        for (; completadas != 0; completadas &= completadas - 1) {
+            System.out.println("🎉 " + jogoService.descreverUnidade(Long.numberOfTrailingZeros(completadas)) + " completa!");
+        }
+        if (resultado.isValido() && jogoService.getProgresso().isImpasse()) {
+            System.out.println("⚠️  " + jogoService.getProgresso().getDescricao());
+        }
     }
 
     /**
@@ -250,6 +229,7 @@ public class Menu {
     private void processarVerificarStatus() {
         System.out.println("\n--- STATUS DO JOGO ---");
         System.out.println(jogoService.verificarStatus());
+        System.out.println("Progresso: " + jogoService.verificarProgresso().getDescricao());
 
         // Verificação adicional se pode finalizar
         if (jogoService.getTabuleiro().estaCompleto()) {
@@ -267,8 +247,8 @@ public class Menu {
      */
     private void processarLimpar() {
         System.out.print("\n⚠️  Tem certeza que quer limpar TODAS as células editáveis? (S/N): ");
-        String resposta = scanner.next().toUpperCase();
-        scanner.nextLine(); // Limpa buffer
+        String resposta = leitor.proximoToken().toUpperCase();
+        leitor.descartarLinha(); // Limpa buffer
 
         if (resposta.equals("S") || resposta.equals("SIM")) {
             ResultadoValidacao resultado = jogoService.limparCelulasEditaveis();
@@ -307,6 +287,41 @@ public class Menu {
         }
     }
 
+    /**
+     * Salva o jogo atual em arquivo (formato binário do CodecJogo).
+     */
+    private void processarSalvar() {
+        System.out.print("\nNome do arquivo para salvar: ");
+        String nome = leitor.proximoToken();
+        leitor.descartarLinha();
+
+        try {
+            ArquivoJogo.salvar(jogoService, Path.of(nome));
+            System.out.println("✓ Jogo salvo em " + nome);
+        } catch (IOException | InvalidPathException e) {
+            System.out.println("❌ Não foi possível salvar: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Carrega um jogo salvo, substituindo o atual.
+     * O jogo salvo deve ser da mesma variante do jogo atual.
+     */
+    private void processarCarregar() {
+        System.out.print("\nNome do arquivo para carregar: ");
+        String nome = leitor.proximoToken();
+        leitor.descartarLinha();
+
+        try {
+            jogoService = ArquivoJogo.carregar(Path.of(nome), jogoService.getRegras());
+            System.out.println("✓ Jogo carregado de " + nome);
+        } catch (IOException | InvalidPathException e) {
+            System.out.println("❌ Não foi possível ler o arquivo: " + e.getMessage());
+        } catch (SudokuException e) {
+            System.out.println("❌ " + e.getMessage());
+        }
+    }
+
     // ========== MÉTODOS AUXILIARES ==========
 
     /**
@@ -317,14 +332,14 @@ public class Menu {
         System.out.print(mensagem);
 
         try {
-            int linha = scanner.nextInt();
-            int coluna = scanner.nextInt();
-            scanner.nextLine(); // Limpa buffer
+            int linha = leitor.proximoInteiro();
+            int coluna = leitor.proximoInteiro();
+            leitor.descartarLinha(); // Limpa buffer
 
-            return new Posicao(linha, coluna);
-        } catch (Exception e) {
+            return Posicao.de(linha, coluna);
+        } catch (IllegalArgumentException e) {
             System.out.println("⚠️  Formato inválido! Use: linha coluna (ex: 1 2)");
-            scanner.nextLine(); // Limpa buffer
+            leitor.descartarLinha(); // Limpa buffer
             return null;
         }
     }
@@ -336,14 +351,14 @@ public class Menu {
     private int lerNumero(String mensagem, int min, int max) {
         System.out.print(mensagem);
 
-        if (!scanner.hasNextInt()) {
+        int valor;
+        try {
+            valor = leitor.proximoInteiro();
+        } catch (NumberFormatException e) {
             System.out.println("⚠️  Erro: Digite um número!");
-            scanner.next();
             return -1;
         }
-
-        int valor = scanner.nextInt();
-        scanner.nextLine(); // Limpa buffer
+        leitor.descartarLinha(); // Limpa buffer
 
         if (valor < min || valor > max) {
             System.out.printf("⚠️  Valor deve estar entre %d e %d%n", min, max);
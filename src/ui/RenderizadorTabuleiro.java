@@ -0,0 +1,281 @@
+package ui;
+
+import domain.model.LeituraTabuleiro;
+
+import java.io.PrintStream;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * Desenha o tabuleiro no terminal montando o quadro inteiro em um buffer
+ * de bytes reutilizável e escrevendo-o com uma única chamada + flush.
+ *
+ * <p>Quando o terminal aceita endereçamento de cursor (ANSI), apenas o
+ * primeiro quadro é desenhado por completo; os seguintes reescrevem só as
+ * células que mudaram desde o último quadro e limpam a área abaixo do
+ * tabuleiro, onde o Menu continua escrevendo.</p>
+ *
+ * <p>O quadro completo fixa a região de rolagem do terminal logo abaixo do
+ * tabuleiro: o texto do Menu rola só ali, e o tabuleiro continua nas
+ * linhas em que foi desenhado, mesmo que o Menu escreva mais que a altura
+ * da tela. {@link #restaurarTerminal()} devolve a rolagem normal.</p>
+ */
+public class RenderizadorTabuleiro {
+
+    private static final String ESC = "\u001B[";
+    private static final int ESTADO_DESCONHECIDO = -1;
+
+    // Estado de uma célula no quadro: valor (0-9) | fixo << 4 | erro << 5
+    private static final int BIT_FIXO = 1 << 4;
+    private static final int BIT_ERRO = 1 << 5;
+
+    private final PrintStream saida;
+    private final boolean enderecamentoCursor;
+
+    // Fragmentos pré-codificados no charset da saída
+    private final byte[] cabecalho;
+    private final byte[] rodape;
+    private final byte[] limparTela;
+    private final byte[] vazia;
+    private final byte[] separadorColuna;
+    private final byte[] separadorBloco;
+    private final byte[] fimLinha;
+    private final byte[] negrito;
+    private final byte[] vermelho;
+    private final byte[] normal;
+
+    // Linha do terminal (1-based) de cada linha do tabuleiro e primeira linha livre abaixo
+    private final int[] linhaNaTela = new int[9];
+    private final int linhaAposQuadro;
+
+    // Buffer de saída reutilizado entre quadros
+    private byte[] buffer = new byte[2048];
+    private int tamanho;
+
+    // Último quadro desenhado
+    private final int[] ultimoQuadro = new int[81];
+    private boolean quadroValido;
+
+    /**
+     * @param saida               stream de saída (normalmente System.out)
+     * @param titulo              texto impresso antes do tabuleiro em cada quadro completo
+     * @param enderecamentoCursor se true, usa ANSI para redesenhar apenas as células alteradas
+     */
+    public RenderizadorTabuleiro(PrintStream saida, String titulo, boolean enderecamentoCursor) {
+        this.saida = saida;
+        this.enderecamentoCursor = enderecamentoCursor;
+
+        Charset charset = saida.charset();
+        String textoCabecalho = titulo + "\n\n    1 2 3   4 5 6   7 8 9\n  ┌───────┬───────┬───────┐\n";
+        this.cabecalho = textoCabecalho.getBytes(charset);
+        this.rodape = ("  └───────┴───────┴───────┘\n"
+                + "  Legenda: " + ESC + "1mNegrito" + ESC + "0m = fixo | " + ESC + "31mVermelho" + ESC + "0m = erro\n")
+                .getBytes(charset);
+        this.limparTela = (ESC + "H" + ESC + "2J").getBytes(charset);
+        this.vazia = "·".getBytes(charset);
+        this.separadorColuna = "│ ".getBytes(charset);
+        this.separadorBloco = "  ├───────┼───────┼───────┤\n".getBytes(charset);
+        this.fimLinha = "│\n".getBytes(charset);
+        this.negrito = (ESC + "1m").getBytes(charset);
+        this.vermelho = (ESC + "31m").getBytes(charset);
+        this.normal = (ESC + "0m").getBytes(charset);
+
+        // Calcula o layout vertical a partir do número de linhas do cabeçalho
+        int linha = 1 + (int) textoCabecalho.chars().filter(c -> c == '\n').count();
+        for (int l = 0; l < 9; l++) {
+            linhaNaTela[l] = linha++;
+            if (l == 2 || l == 5) {
+                linha++;
+            }
+        }
+        this.linhaAposQuadro = linha + 2; // rodapé + legenda
+
+        Arrays.fill(ultimoQuadro, ESTADO_DESCONHECIDO);
+    }
+
+    /**
+     * Detecta se o terminal atual aceita endereçamento de cursor.
+     * Pode ser forçado com -Dsudoku.render.diff=true|false.
+     */
+    public static boolean terminalSuportaCursor() {
+        String forcado = System.getProperty("sudoku.render.diff");
+        if (forcado != null) {
+            return Boolean.parseBoolean(forcado);
+        }
+        String term = System.getenv("TERM");
+        return System.console() != null && term != null && !term.equals("dumb");
+    }
+
+    // ========== RENDERIZAÇÃO ==========
+
+    /**
+     * Desenha o tabuleiro: quadro completo ou apenas as diferenças.
+     */
+    public void renderizar(LeituraTabuleiro tabuleiro) {
+        tamanho = 0;
+
+        if (enderecamentoCursor && quadroValido) {
+            montarDiferencas(tabuleiro);
+        } else {
+            montarQuadroCompleto(tabuleiro);
+            quadroValido = true;
+        }
+
+        saida.write(buffer, 0, tamanho);
+        saida.flush();
+    }
+
+    /**
+     * Força um quadro completo no próximo desenho (ex.: após o terminal ser redimensionado).
+     */
+    public void invalidar() {
+        quadroValido = false;
+    }
+
+    /**
+     * Devolve a rolagem da tela inteira, mantendo o cursor onde está.
+     * Chamar ao sair; o próximo desenho será um quadro completo.
+     */
+    public void restaurarTerminal() {
+        if (!enderecamentoCursor || !quadroValido) {
+            return;
+        }
+        tamanho = 0;
+        anexarAscii("\u001B7" + ESC + "r\u001B8");
+        saida.write(buffer, 0, tamanho);
+        saida.flush();
+        quadroValido = false;
+    }
+
+    private void montarQuadroCompleto(LeituraTabuleiro tabuleiro) {
+        if (enderecamentoCursor) {
+            anexar(limparTela);
+        }
+        anexar(cabecalho);
+
+        for (int linha = 0; linha < 9; linha++) {
+            anexarByte((byte) ('1' + linha));
+            anexarByte((byte) ' ');
+            anexar(separadorColuna);
+
+            for (int coluna = 0; coluna < 9; coluna++) {
+                int indice = linha * 9 + coluna;
+                int estado = estadoDa(tabuleiro, indice);
+                ultimoQuadro[indice] = estado;
+
+                anexarCelula(estado);
+                anexarByte((byte) ' ');
+
+                // Separadores visuais entre blocos 3x3
+                if (coluna == 2 || coluna == 5) {
+                    anexar(separadorColuna);
+                }
+            }
+
+            anexar(fimLinha);
+
+            // Linhas separadoras entre blocos 3x3
+            if (linha == 2 || linha == 5) {
+                anexar(separadorBloco);
+            }
+        }
+
+        anexar(rodape);
+
+        if (enderecamentoCursor) {
+            // Rolagem só abaixo do tabuleiro (a região leva o cursor ao topo: volta para baixo)
+            anexarAscii(ESC);
+            anexarInteiro(linhaAposQuadro);
+            anexarByte((byte) 'r');
+            moverCursor(linhaAposQuadro, 1);
+        }
+    }
+
+    private void montarDiferencas(LeituraTabuleiro tabuleiro) {
+        for (int linha = 0; linha < 9; linha++) {
+            for (int coluna = 0; coluna < 9; coluna++) {
+                int indice = linha * 9 + coluna;
+                int estado = estadoDa(tabuleiro, indice);
+                if (estado == ultimoQuadro[indice]) {
+                    continue;
+                }
+                ultimoQuadro[indice] = estado;
+
+                // Coluna na tela: "n │ " (4) + 2 por célula + 2 por separador de bloco
+                moverCursor(linhaNaTela[linha], 5 + coluna * 2 + (coluna / 3) * 2);
+                anexarCelula(estado);
+            }
+        }
+
+        // Volta para baixo do tabuleiro e apaga o texto anterior do menu
+        moverCursor(linhaAposQuadro, 1);
+        anexarAscii(ESC + "J");
+    }
+
+    private static int estadoDa(LeituraTabuleiro tabuleiro, int indice) {
+        int valor = tabuleiro.getValor(indice);
+        if (valor == 0) {
+            return 0;
+        }
+        return valor | (tabuleiro.isFixo(indice) ? BIT_FIXO : 0) | (tabuleiro.isEmErro(indice) ? BIT_ERRO : 0);
+    }
+
+    // ========== BUFFER ==========
+
+    private void anexarCelula(int estado) {
+        int valor = estado & 0x0F;
+        if (valor == 0) {
+            anexar(vazia);
+        } else if ((estado & BIT_FIXO) != 0) {
+            // Célula fixa em negrito
+            anexar(negrito);
+            anexarByte((byte) ('0' + valor));
+            anexar(normal);
+        } else if ((estado & BIT_ERRO) != 0) {
+            // Célula com erro em vermelho
+            anexar(vermelho);
+            anexarByte((byte) ('0' + valor));
+            anexar(normal);
+        } else {
+            anexarByte((byte) ('0' + valor));
+        }
+    }
+
+    private void moverCursor(int linha, int coluna) {
+        anexarAscii(ESC);
+        anexarInteiro(linha);
+        anexarByte((byte) ';');
+        anexarInteiro(coluna);
+        anexarByte((byte) 'H');
+    }
+
+    private void anexarInteiro(int valor) {
+        if (valor >= 10) {
+            anexarInteiro(valor / 10);
+        }
+        anexarByte((byte) ('0' + valor % 10));
+    }
+
+    private void anexarAscii(String texto) {
+        for (int i = 0; i < texto.length(); i++) {
+            anexarByte((byte) texto.charAt(i));
+        }
+    }
+
+    private void anexar(byte[] bytes) {
+        garantirCapacidade(bytes.length);
+        System.arraycopy(bytes, 0, buffer, tamanho, bytes.length);
+        tamanho += bytes.length;
+    }
+
+    private void anexarByte(byte b) {
+        garantirCapacidade(1);
+        buffer[tamanho++] = b;
+    }
+
+    private void garantirCapacidade(int adicional) {
+        if (tamanho + adicional > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, tamanho + adicional));
+        }
+    }
+}
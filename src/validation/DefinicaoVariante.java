@@ -0,0 +1,246 @@
+package validation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Declaração de uma variante de Sudoku como um conjunto de unidades
+ * (grupos de células sem repetição) e exclusões entre pares de células.
+ * Células são endereçadas por índice 0-80 (linha * 9 + coluna).
+ *
+ * <p>A definição é só declarativa; use {@link #compilar()} para obter as
+ * tabelas planas consumidas pelos validadores e pelo resolvedor.</p>
+ */
+public class DefinicaoVariante {
+    private final String nome;
+    private final List<int[]> unidades = new ArrayList<>();
+    private final List<TipoRestricao> tiposUnidade = new ArrayList<>();
+    private final List<int[]> exclusoes = new ArrayList<>();
+    private final List<TipoRestricao> tiposExclusao = new ArrayList<>();
+    private final List<Gaiola> gaiolas = new ArrayList<>();
+
+    public DefinicaoVariante(String nome) {
+        this.nome = nome;
+    }
+
+    // ========== VARIANTES PRONTAS ==========
+
+    /**
+     * Sudoku clássico: 9 linhas, 9 colunas e 9 blocos 3x3.
+     */
+    public static DefinicaoVariante classica() {
+        DefinicaoVariante definicao = new DefinicaoVariante("Clássico");
+        definicao.adicionarLinhasEColunas();
+        definicao.adicionarBlocos();
+        return definicao;
+    }
+
+    /**
+     * Sudoku X: clássico mais as duas diagonais principais.
+     */
+    public static DefinicaoVariante diagonal() {
+        DefinicaoVariante definicao = classica().renomear("Diagonal");
+        int[] principal = new int[9];
+        int[] secundaria = new int[9];
+        for (int i = 0; i < 9; i++) {
+            principal[i] = i * 9 + i;
+            secundaria[i] = i * 9 + (8 - i);
+        }
+        definicao.adicionarUnidade(TipoRestricao.DIAGONAL, principal);
+        definicao.adicionarUnidade(TipoRestricao.DIAGONAL, secundaria);
+        return definicao;
+    }
+
+    /**
+     * Jigsaw: os blocos 3x3 são substituídos por 9 regiões irregulares.
+     *
+     * @param regioes 81 números de região (0-8), um por célula; cada região deve ter 9 células
+     */
+    public static DefinicaoVariante jigsaw(int[] regioes) {
+        if (regioes == null || regioes.length != 81) {
+            throw new IllegalArgumentException("Jigsaw requer 81 números de região");
+        }
+
+        int[][] celulas = new int[9][9];
+        int[] tamanhos = new int[9];
+        for (int indice = 0; indice < 81; indice++) {
+            int regiao = regioes[indice];
+            if (regiao < 0 || regiao > 8 || tamanhos[regiao] == 9) {
+                throw new IllegalArgumentException("Regiões devem ser 0-8 com exatamente 9 células cada");
+            }
+            celulas[regiao][tamanhos[regiao]++] = indice;
+        }
+
+        DefinicaoVariante definicao = new DefinicaoVariante("Jigsaw");
+        definicao.adicionarLinhasEColunas();
+        for (int[] regiao : celulas) {
+            definicao.adicionarUnidade(TipoRestricao.REGIAO, regiao);
+        }
+        return definicao;
+    }
+
+    /**
+     * Hyper (Windoku): clássico mais quatro janelas 3x3 deslocadas.
+     */
+    public static DefinicaoVariante hyper() {
+        DefinicaoVariante definicao = classica().renomear("Hyper");
+        for (int linhaInicio : new int[]{1, 5}) {
+            for (int colunaInicio : new int[]{1, 5}) {
+                definicao.adicionarUnidade(TipoRestricao.JANELA, bloco(linhaInicio, colunaInicio));
+            }
+        }
+        return definicao;
+    }
+
+    /**
+     * Anti-cavalo: clássico e células a um movimento de cavalo não podem repetir valor.
+     */
+    public static DefinicaoVariante antiCavalo() {
+        DefinicaoVariante definicao = classica().renomear("Anti-cavalo");
+        int[][] saltos = {{1, 2}, {2, 1}, {2, -1}, {1, -2}};
+        for (int indice = 0; indice < 81; indice++) {
+            int linha = indice / 9;
+            int coluna = indice % 9;
+            // Apenas saltos "para baixo", para declarar cada par uma única vez
+            for (int[] salto : saltos) {
+                int l = linha + salto[0];
+                int c = coluna + salto[1];
+                if (l < 9 && c >= 0 && c < 9) {
+                    definicao.adicionarExclusao(TipoRestricao.CAVALO, indice, l * 9 + c);
+                }
+            }
+        }
+        return definicao;
+    }
+
+    /**
+     * Killer Sudoku: clássico mais gaiolas com soma alvo.
+     */
+    public static DefinicaoVariante killer(List<Gaiola> gaiolas) {
+        DefinicaoVariante definicao = classica().renomear("Killer");
+        for (Gaiola gaiola : gaiolas) {
+            definicao.adicionarGaiola(gaiola);
+        }
+        return definicao;
+    }
+
+    // ========== DECLARAÇÃO ==========
+
+    /**
+     * Declara um grupo de células que não pode ter valores repetidos.
+     */
+    public DefinicaoVariante adicionarUnidade(TipoRestricao tipo, int... celulas) {
+        if (celulas.length < 2 || celulas.length > 9) {
+            throw new IllegalArgumentException("Unidade deve ter entre 2 e 9 células");
+        }
+        boolean[] vistas = new boolean[81];
+        for (int celula : celulas) {
+            validarCelula(celula);
+            if (vistas[celula]) {
+                throw new IllegalArgumentException("Célula repetida na unidade: " + celula);
+            }
+            vistas[celula] = true;
+        }
+        unidades.add(celulas.clone());
+        tiposUnidade.add(tipo);
+        return this;
+    }
+
+    /**
+     * Declara que duas células não podem ter o mesmo valor.
+     */
+    public DefinicaoVariante adicionarExclusao(TipoRestricao tipo, int celulaA, int celulaB) {
+        validarCelula(celulaA);
+        validarCelula(celulaB);
+        if (celulaA == celulaB) {
+            throw new IllegalArgumentException("Exclusão requer duas células distintas");
+        }
+        exclusoes.add(new int[]{celulaA, celulaB});
+        tiposExclusao.add(tipo);
+        return this;
+    }
+
+    /**
+     * Declara uma gaiola: as células não repetem valor e devem somar o alvo.
+     * Gaiolas não podem se sobrepor.
+     */
+    public DefinicaoVariante adicionarGaiola(Gaiola gaiola) {
+        int[] celulas = gaiola.getCelulas();
+        for (Gaiola outra : gaiolas) {
+            for (int celula : outra.getCelulas()) {
+                for (int nova : celulas) {
+                    if (celula == nova) {
+                        throw new IllegalArgumentException("Gaiolas não podem compartilhar a célula " + celula);
+                    }
+                }
+            }
+        }
+        if (celulas.length == 1) {
+            validarCelula(celulas[0]);
+        } else {
+            adicionarUnidade(TipoRestricao.GAIOLA, celulas);
+        }
+        gaiolas.add(gaiola);
+        return this;
+    }
+
+    /**
+     * Gera as tabelas planas da variante.
+     */
+    public RegrasCompiladas compilar() {
+        return new RegrasCompiladas(nome, unidades, tiposUnidade, exclusoes, tiposExclusao, gaiolas);
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    // ========== AUXILIARES ==========
+
+    private DefinicaoVariante renomear(String novoNome) {
+        DefinicaoVariante copia = new DefinicaoVariante(novoNome);
+        copia.unidades.addAll(unidades);
+        copia.tiposUnidade.addAll(tiposUnidade);
+        copia.exclusoes.addAll(exclusoes);
+        copia.tiposExclusao.addAll(tiposExclusao);
+        copia.gaiolas.addAll(gaiolas);
+        return copia;
+    }
+
+    private void adicionarLinhasEColunas() {
+        for (int i = 0; i < 9; i++) {
+            int[] linha = new int[9];
+            for (int j = 0; j < 9; j++) {
+                linha[j] = i * 9 + j;
+            }
+            adicionarUnidade(TipoRestricao.LINHA, linha);
+        }
+        for (int i = 0; i < 9; i++) {
+            int[] coluna = new int[9];
+            for (int j = 0; j < 9; j++) {
+                coluna[j] = j * 9 + i;
+            }
+            adicionarUnidade(TipoRestricao.COLUNA, coluna);
+        }
+    }
+
+    private void adicionarBlocos() {
+        for (int b = 0; b < 9; b++) {
+            adicionarUnidade(TipoRestricao.BLOCO, bloco((b / 3) * 3, (b % 3) * 3));
+        }
+    }
+
+    private static int[] bloco(int linhaInicio, int colunaInicio) {
+        int[] celulas = new int[9];
+        for (int k = 0; k < 9; k++) {
+            celulas[k] = (linhaInicio + k / 3) * 9 + colunaInicio + k % 3;
+        }
+        return celulas;
+    }
+
+    private static void validarCelula(int celula) {
+        if (celula < 0 || celula > 80) {
+            throw new IllegalArgumentException("Índice de célula inválido: " + celula + " (deve ser 0-80)");
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package validation;
+
+import java.util.Arrays;
+
+/**
+ * Gaiola do Killer Sudoku: um grupo de células sem repetição cuja soma
+ * deve ser igual a um valor alvo. Células por índice 0-80. Imutável.
+ */
+public class Gaiola {
+    private final int soma;
+    private final int[] celulas;
+
+    public Gaiola(int soma, int... celulas) {
+        if (celulas.length < 1 || celulas.length > 9) {
+            throw new IllegalArgumentException("Gaiola deve ter entre 1 e 9 células");
+        }
+        if (!TabelaCombinacoes.somaPossivel(celulas.length, soma)) {
+            throw new IllegalArgumentException(String.format(
+                    "Soma %d impossível para gaiola de %d células", soma, celulas.length));
+        }
+        this.soma = soma;
+        this.celulas = celulas.clone();
+    }
+
+    public int getSoma() {
+        return soma;
+    }
+
+    public int getTamanho() {
+        return celulas.length;
+    }
+
+    public int[] getCelulas() {
+        return celulas.clone();
+    }
+
+    @Override
+    public String toString() {
+        return "Gaiola[soma=" + soma + ", celulas=" + Arrays.toString(celulas) + "]";
+    }
+}
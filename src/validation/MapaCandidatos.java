@@ -0,0 +1,102 @@
+package validation;
+
+import domain.model.LeituraTabuleiro;
+
+/**
+ * Candidatos de todas as células de um tabuleiro (bit d-1 = dígito d),
+ * mantidos a cada jogada em vez de recalculados.
+ *
+ * <p>Inserir em célula vazia só pode tirar candidatos: o bit do valor é
+ * apagado nos pares da célula. Qualquer outra mudança (remoção, troca de
+ * valor) recalcula a célula e seus pares. Gaiolas do Killer são
+ * recalculadas inteiras, porque a soma afeta células que não são pares.</p>
+ *
+ * <p>Não é sincronizado: pertence a um único jogo.</p>
+ */
+public class MapaCandidatos {
+
+    private final RegraSudoku regraSudoku;
+    private final int[] pares;
+    private final int[] inicioPares;
+    private final boolean temGaiolas;
+    private final int[] celulasGaiola;
+    private final int[] inicioGaiola;
+    private final int[] gaiolaDaCelula;
+
+    private final int[] candidatos = new int[81];
+
+    public MapaCandidatos(RegraSudoku regraSudoku) {
+        RegrasCompiladas regras = regraSudoku.getRegras();
+        this.regraSudoku = regraSudoku;
+        this.pares = regras.getPares();
+        this.inicioPares = regras.getInicioPares();
+        this.temGaiolas = regras.temGaiolas();
+        this.celulasGaiola = regras.getCelulasGaiola();
+        this.inicioGaiola = regras.getInicioGaiola();
+        this.gaiolaDaCelula = regras.getGaiolaDaCelula();
+    }
+
+    /**
+     * Recalcula tudo (início do jogo, limpeza, lote de jogadas).
+     */
+    public void recalcular(LeituraTabuleiro tabuleiro) {
+        regraSudoku.calcularCandidatos(tabuleiro, candidatos);
+    }
+
+    /**
+     * Atualiza após a célula mudar de valor (inserção, troca ou remoção).
+     */
+    public void atualizar(LeituraTabuleiro tabuleiro, int indice) {
+        int valor = tabuleiro.getValor(indice);
+        if (valor != 0 && candidatos[indice] != 0) {
+            // Era vazia e recebeu um valor: só retira o dígito dos pares
+            int bit = 1 << (valor - 1);
+            candidatos[indice] = 0;
+            for (int k = inicioPares[indice], fim = inicioPares[indice + 1]; k < fim; k++) {
+                candidatos[pares[k]] &= ~bit;
+            }
+        } else {
+            // O valor anterior pode ter liberado dígitos: recalcula a célula e os pares
+            candidatos[indice] = regraSudoku.candidatos(tabuleiro, indice);
+            for (int k = inicioPares[indice], fim = inicioPares[indice + 1]; k < fim; k++) {
+                candidatos[pares[k]] = regraSudoku.candidatos(tabuleiro, pares[k]);
+            }
+        }
+
+        if (temGaiolas && gaiolaDaCelula[indice] >= 0) {
+            int gaiola = gaiolaDaCelula[indice];
+            for (int k = inicioGaiola[gaiola], fim = inicioGaiola[gaiola + 1]; k < fim; k++) {
+                candidatos[celulasGaiola[k]] = regraSudoku.candidatos(tabuleiro, celulasGaiola[k]);
+            }
+        }
+    }
+
+    /**
+     * Máscara de candidatos da célula (0 se preenchida ou sem saída).
+     */
+    public int getCandidatos(int indice) {
+        return candidatos[indice];
+    }
+
+    public boolean isCandidato(int indice, int valor) {
+        return (candidatos[indice] & (1 << (valor - 1))) != 0;
+    }
+
+    /**
+     * Copia as 81 máscaras para o vetor informado.
+     */
+    public void copiarPara(int[] destino) {
+        System.arraycopy(candidatos, 0, destino, 0, 81);
+    }
+
+    /**
+     * Total de jogadas legais (pares célula-dígito).
+     */
+    public int getTotalJogadas() {
+        int total = 0;
+        for (int indice = 0; indice < 81; indice++) {
+            total += Integer.bitCount(candidatos[indice]);
+        }
+        return total;
+    }
+}
@@ -1,143 +1,368 @@
 package validation;
 
-import domain.model.Celula;
+import domain.model.ConjuntoCelulas;
+import domain.model.LeituraTabuleiro;
 import domain.model.Posicao;
-import domain.model.Tabuleiro;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 /**
- * Implementa as regras clássicas do Sudoku.
+ * Implementa as regras do Sudoku para uma variante compilada
+ * (clássico por padrão).
  * Puramente funcional - não altera estado.
+ *
+ * <p>Usa as tabelas de {@link RegrasCompiladas}: cada verificação percorre
+ * os pares distintos da célula uma única vez, e a varredura do
+ * tabuleiro inteiro trabalha por unidade com máscaras de bits.</p>
  */
 public class RegraSudoku {
 
+    private static final TipoRestricao[] TIPOS = TipoRestricao.values();
+
+    /** Máscara com os 9 dígitos (bit d-1 = dígito d). */
+    public static final int TODOS_DIGITOS = 0x1FF;
+
+    private final RegrasCompiladas regras;
+
+    // Tabelas copiadas para campos finais: acesso direto nos laços internos
+    private final int[] pares;
+    private final int[] relacoesPares;
+    private final int[] inicioPares;
+    private final int totalUnidades;
+    private final int[] celulasUnidade;
+    private final int[] inicioUnidade;
+    private final int[] unidadesDaCelula;
+    private final int[] inicioUnidadesDaCelula;
+    private final boolean temExclusoes;
+    private final int[] paresExclusao;
+    private final int[] inicioParesExclusao;
+    private final boolean temGaiolas;
+    private final int totalGaiolas;
+    private final int[] celulasGaiola;
+    private final int[] inicioGaiola;
+    private final int[] somaGaiola;
+    private final int[] gaiolaDaCelula;
+
+    /**
+     * Regras do Sudoku clássico.
+     */
+    public RegraSudoku() {
+        this(RegrasCompiladas.CLASSICO);
+    }
+
+    public RegraSudoku(RegrasCompiladas regras) {
+        this.regras = regras;
+        this.pares = regras.getPares();
+        this.relacoesPares = regras.getRelacoesPares();
+        this.inicioPares = regras.getInicioPares();
+        this.totalUnidades = regras.getTotalUnidades();
+        this.celulasUnidade = regras.getCelulasUnidade();
+        this.inicioUnidade = regras.getInicioUnidade();
+        this.unidadesDaCelula = regras.getUnidadesDaCelula();
+        this.inicioUnidadesDaCelula = regras.getInicioUnidadesDaCelula();
+        this.temExclusoes = regras.temExclusoes();
+        this.paresExclusao = regras.getParesExclusao();
+        this.inicioParesExclusao = regras.getInicioParesExclusao();
+        this.temGaiolas = regras.temGaiolas();
+        this.totalGaiolas = regras.getTotalGaiolas();
+        this.celulasGaiola = regras.getCelulasGaiola();
+        this.inicioGaiola = regras.getInicioGaiola();
+        this.somaGaiola = regras.getSomaGaiola();
+        this.gaiolaDaCelula = regras.getGaiolaDaCelula();
+    }
+
     /**
      * Verifica se um número pode ser inserido em uma posição
      * sem violar as regras do Sudoku.
      */
-    public ResultadoValidacao podeInserir(Tabuleiro tabuleiro, Posicao posicao, int valor) {
-        List<String> conflitos = new ArrayList<>();
+    public ResultadoValidacao podeInserir(LeituraTabuleiro tabuleiro, Posicao posicao, int valor) {
+        return podeInserir(tabuleiro, posicao.getIndice(), valor);
+    }
 
-        // Verifica linha
-        if (temConflitoNaLinha(tabuleiro, posicao, valor)) {
-            conflitos.add("Conflito na linha " + (posicao.getLinha()));
+    /**
+     * Mesmo que {@link #podeInserir(LeituraTabuleiro, Posicao, int)}, pelo índice da célula (0-80).
+     * Sem conflito não há alocação.
+     */
+    public ResultadoValidacao podeInserir(LeituraTabuleiro tabuleiro, int indice, int valor) {
+        int relacoes = restricoesVioladas(tabuleiro, indice, valor);
+        if (relacoes == 0) {
+            return ResultadoValidacao.sucesso();
         }
 
-        // Verifica coluna
-        if (temConflitoNaColuna(tabuleiro, posicao, valor)) {
-            conflitos.add("Conflito na coluna " + (posicao.getColuna()));
+        // Uma mensagem por tipo de restrição violada, na ordem do enum
+        Posicao posicao = Posicao.doIndice(indice);
+        List<String> conflitos = new ArrayList<>();
+        while (relacoes != 0) {
+            int tipo = Integer.numberOfTrailingZeros(relacoes);
+            relacoes &= relacoes - 1;
+            conflitos.add(TIPOS[tipo].mensagemConflito(posicao));
+        }
+        return ResultadoValidacao.erros(conflitos);
+    }
+
+    /**
+     * Restrições que o valor violaria na célula.
+     *
+     * @return bits de {@link TipoRestricao} (0 = pode inserir)
+     */
+    public int restricoesVioladas(LeituraTabuleiro tabuleiro, int indice, int valor) {
+        int relacoes = relacoesEmConflito(tabuleiro, indice, valor);
+
+        // Killer: a soma da gaiola ainda precisa ser alcançável com o novo valor
+        if (temGaiolas && gaiolaDaCelula[indice] >= 0) {
+            int gaiola = gaiolaDaCelula[indice];
+            int colocados = digitosDaGaiola(tabuleiro, gaiola, indice) | (1 << (valor - 1));
+            if (!TabelaCombinacoes.viavel(inicioGaiola[gaiola + 1] - inicioGaiola[gaiola], somaGaiola[gaiola], colocados)) {
+                relacoes |= TipoRestricao.SOMA_GAIOLA.bit();
+            }
         }
+        return relacoes;
+    }
 
-        // Verifica bloco 3x3
-        if (temConflitoNoBloco(tabuleiro, posicao, valor)) {
-            conflitos.add("Conflito no bloco 3x3");
+    /**
+     * Candidatos de todas as células em uma passada: {@code destino[indice]} recebe
+     * a máscara (bit d-1 = dígito d) dos valores que {@link #podeInserir} aceitaria
+     * na célula, ou 0 se ela já estiver preenchida.
+     *
+     * <p>Equivale a até 729 chamadas de {@code podeInserir}, mas cada unidade é
+     * lida uma vez só e nenhuma mensagem é montada.</p>
+     */
+    public void calcularCandidatos(LeituraTabuleiro tabuleiro, int[] destino) {
+        // 1. Dígitos presentes em cada unidade e em cada gaiola
+        int[] usadosUnidade = new int[totalUnidades];
+        for (int unidade = 0; unidade < totalUnidades; unidade++) {
+            int usados = 0;
+            for (int k = inicioUnidade[unidade], fim = inicioUnidade[unidade + 1]; k < fim; k++) {
+                usados |= (1 << tabuleiro.getValor(celulasUnidade[k])) >>> 1; // vazia (0) não liga bit
+            }
+            usadosUnidade[unidade] = usados;
+        }
+        int[] possiveisGaiola = null;
+        if (temGaiolas) {
+            possiveisGaiola = new int[totalGaiolas];
+            for (int gaiola = 0; gaiola < totalGaiolas; gaiola++) {
+                int tamanho = inicioGaiola[gaiola + 1] - inicioGaiola[gaiola];
+                possiveisGaiola[gaiola] = TabelaCombinacoes.candidatos(
+                        tamanho, somaGaiola[gaiola], digitosDaGaiola(tabuleiro, gaiola, -1));
+            }
         }
 
-        if (!conflitos.isEmpty()) {
-            return ResultadoValidacao.erros(conflitos);
+        // 2. Cada célula vazia: complemento do que suas unidades já usam
+        for (int indice = 0; indice < 81; indice++) {
+            if (tabuleiro.getValor(indice) != 0) {
+                destino[indice] = 0;
+                continue;
+            }
+            int usados = 0;
+            for (int k = inicioUnidadesDaCelula[indice], fim = inicioUnidadesDaCelula[indice + 1]; k < fim; k++) {
+                usados |= usadosUnidade[unidadesDaCelula[k]];
+            }
+            if (temExclusoes) {
+                usados |= digitosExcluidos(tabuleiro, indice);
+            }
+            int candidatos = ~usados & TODOS_DIGITOS;
+            if (temGaiolas && gaiolaDaCelula[indice] >= 0) {
+                candidatos &= possiveisGaiola[gaiolaDaCelula[indice]];
+            }
+            destino[indice] = candidatos;
         }
+    }
 
-        return ResultadoValidacao.sucesso();
+    /**
+     * Candidatos de todas as células em um vetor novo de 81 posições.
+     */
+    public int[] calcularCandidatos(LeituraTabuleiro tabuleiro) {
+        int[] candidatos = new int[81];
+        calcularCandidatos(tabuleiro, candidatos);
+        return candidatos;
+    }
+
+    /**
+     * Candidatos de uma única célula (bit d-1 = dígito d; 0 se preenchida).
+     */
+    public int candidatos(LeituraTabuleiro tabuleiro, int indice) {
+        if (tabuleiro.getValor(indice) != 0) {
+            return 0;
+        }
+        int usados = 0;
+        for (int k = inicioPares[indice], fim = inicioPares[indice + 1]; k < fim; k++) {
+            usados |= (1 << tabuleiro.getValor(pares[k])) >>> 1;
+        }
+        int candidatos = ~usados & TODOS_DIGITOS;
+        if (temGaiolas && gaiolaDaCelula[indice] >= 0) {
+            int gaiola = gaiolaDaCelula[indice];
+            int tamanho = inicioGaiola[gaiola + 1] - inicioGaiola[gaiola];
+            candidatos &= TabelaCombinacoes.candidatos(
+                    tamanho, somaGaiola[gaiola], digitosDaGaiola(tabuleiro, gaiola, indice));
+        }
+        return candidatos;
     }
 
     /**
      * Valida todo o tabuleiro em busca de conflitos.
-     * Retorna lista de posições com conflitos.
+     * Retorna o conjunto das células em conflito.
      */
-    public List<Posicao> encontrarConflitos(Tabuleiro tabuleiro) {
-        List<Posicao> conflitos = new ArrayList<>();
+    public ConjuntoCelulas encontrarConflitos(LeituraTabuleiro tabuleiro) {
+        // 1. Marca por unidade as células cujo valor se repete
+        long conflitosBaixo = 0; // células 0-63
+        long conflitosAlto = 0;  // células 64-80
 
-        for (int linhaIdx = 0; linhaIdx < 9; linhaIdx++) {
-            for (int colunaIdx = 0; colunaIdx < 9; colunaIdx++) {
-                Celula celula = tabuleiro.getCelula(linhaIdx, colunaIdx);
+        for (int unidade = 0; unidade < totalUnidades; unidade++) {
+            int repetidos = digitosRepetidos(tabuleiro, unidade);
+            if (repetidos == 0) {
+                continue;
+            }
+            for (int k = inicioUnidade[unidade], fim = inicioUnidade[unidade + 1]; k < fim; k++) {
+                int indice = celulasUnidade[k];
+                int valor = tabuleiro.getValor(indice);
+                if (valor != 0 && (repetidos & (1 << valor)) != 0) {
+                    if (indice < 64) {
+                        conflitosBaixo |= 1L << indice;
+                    } else {
+                        conflitosAlto |= 1L << (indice - 64);
+                    }
+                }
+            }
+        }
 
-                if (celula.isPreenchida()) {
-                    Posicao posicao = new Posicao(linhaIdx + 1, colunaIdx + 1);
+        // 2. Exclusões par a par (variantes como anti-cavalo)
+        if (temExclusoes) {
+            for (int indice = 0; indice < 81; indice++) {
+                int valor = tabuleiro.getValor(indice);
+                if (valor != 0 && temExclusaoComValor(tabuleiro, indice, valor)) {
+                    if (indice < 64) {
+                        conflitosBaixo |= 1L << indice;
+                    } else {
+                        conflitosAlto |= 1L << (indice - 64);
+                    }
+                }
+            }
+        }
 
-                    // Verifica se este valor causa conflito
-                    if (temConflito(tabuleiro, posicao, celula.getValorAtual())) {
-                        conflitos.add(posicao);
+        // 3. Gaiolas cuja soma não pode mais ser alcançada: todas as células preenchidas
+        if (temGaiolas) {
+            for (int gaiola = 0; gaiola < totalGaiolas; gaiola++) {
+                if (gaiolaViavel(tabuleiro, gaiola)) {
+                    continue;
+                }
+                for (int k = inicioGaiola[gaiola], fim = inicioGaiola[gaiola + 1]; k < fim; k++) {
+                    int indice = celulasGaiola[k];
+                    if (tabuleiro.getValor(indice) != 0) {
+                        if (indice < 64) {
+                            conflitosBaixo |= 1L << indice;
+                        } else {
+                            conflitosAlto |= 1L << (indice - 64);
+                        }
                     }
                 }
             }
         }
 
-        return conflitos;
+        return ConjuntoCelulas.de(conflitosBaixo, conflitosAlto);
     }
 
     /**
      * Verifica se o tabuleiro está totalmente correto (sem conflitos).
      */
-    public boolean estaCorreto(Tabuleiro tabuleiro) {
-        return encontrarConflitos(tabuleiro).isEmpty();
+    public boolean estaCorreto(LeituraTabuleiro tabuleiro) {
+        for (int unidade = 0; unidade < totalUnidades; unidade++) {
+            if (digitosRepetidos(tabuleiro, unidade) != 0) {
+                return false;
+            }
+        }
+        if (temExclusoes) {
+            for (int indice = 0; indice < 81; indice++) {
+                int valor = tabuleiro.getValor(indice);
+                if (valor != 0 && temExclusaoComValor(tabuleiro, indice, valor)) {
+                    return false;
+                }
+            }
+        }
+        if (temGaiolas) {
+            for (int gaiola = 0; gaiola < totalGaiolas; gaiola++) {
+                if (!gaiolaViavel(tabuleiro, gaiola)) {
+                    return false;
+                }
+            }
+        }
+        return true;
     }
 
-    // ========== MÉTODOS PRIVADOS ==========
-
-    private boolean temConflito(Tabuleiro tabuleiro, Posicao posicao, int valor) {
-        return temConflitoNaLinha(tabuleiro, posicao, valor) ||
-                temConflitoNaColuna(tabuleiro, posicao, valor) ||
-                temConflitoNoBloco(tabuleiro, posicao, valor);
+    public RegrasCompiladas getRegras() {
+        return regras;
     }
 
-    private boolean temConflitoNaLinha(Tabuleiro tabuleiro, Posicao posicao, int valor) {
-        int linhaIdx = posicao.getLinhaIndex();
+    // ========== MÉTODOS PRIVADOS ==========
 
-        for (int colunaIdx = 0; colunaIdx < 9; colunaIdx++) {
-            if (colunaIdx == posicao.getColunaIndex()) {
-                continue; // Pula a própria célula
+    /**
+     * Percorre os pares da célula uma única vez.
+     *
+     * @return OR das relações (bits de TipoRestricao) dos pares que já contêm o valor
+     */
+    private int relacoesEmConflito(LeituraTabuleiro tabuleiro, int indice, int valor) {
+        int relacoes = 0;
+        for (int k = inicioPares[indice], fim = inicioPares[indice + 1]; k < fim; k++) {
+            if (tabuleiro.getValor(pares[k]) == valor) {
+                relacoes |= relacoesPares[k];
             }
+        }
+        return relacoes;
+    }
 
-            Celula outra = tabuleiro.getCelula(linhaIdx, colunaIdx);
-            if (outra.isPreenchida() && outra.getValorAtual() == valor) {
+    private boolean temExclusaoComValor(LeituraTabuleiro tabuleiro, int indice, int valor) {
+        for (int k = inicioParesExclusao[indice], fim = inicioParesExclusao[indice + 1]; k < fim; k++) {
+            if (tabuleiro.getValor(paresExclusao[k]) == valor) {
                 return true;
             }
         }
-
         return false;
     }
 
-    private boolean temConflitoNaColuna(Tabuleiro tabuleiro, Posicao posicao, int valor) {
-        int colunaIdx = posicao.getColunaIndex();
-
-        for (int linhaIdx = 0; linhaIdx < 9; linhaIdx++) {
-            if (linhaIdx == posicao.getLinhaIndex()) {
-                continue; // Pula a própria célula
-            }
+    /**
+     * Máscara (bit d-1 = dígito d) dos valores nas células ligadas só por exclusão.
+     */
+    private int digitosExcluidos(LeituraTabuleiro tabuleiro, int indice) {
+        int usados = 0;
+        for (int k = inicioParesExclusao[indice], fim = inicioParesExclusao[indice + 1]; k < fim; k++) {
+            usados |= (1 << tabuleiro.getValor(paresExclusao[k])) >>> 1;
+        }
+        return usados;
+    }
 
-            Celula outra = tabuleiro.getCelula(linhaIdx, colunaIdx);
-            if (outra.isPreenchida() && outra.getValorAtual() == valor) {
-                return true;
+    /**
+     * Máscara (bit d-1 = dígito d) dos valores já colocados na gaiola, ignorando uma célula.
+     */
+    private int digitosDaGaiola(LeituraTabuleiro tabuleiro, int gaiola, int ignorar) {
+        int colocados = 0;
+        for (int k = inicioGaiola[gaiola], fim = inicioGaiola[gaiola + 1]; k < fim; k++) {
+            int indice = celulasGaiola[k];
+            int valor = tabuleiro.getValor(indice);
+            if (valor != 0 && indice != ignorar) {
+                colocados |= 1 << (valor - 1);
             }
         }
-
-        return false;
+        return colocados;
     }
 
-    private boolean temConflitoNoBloco(Tabuleiro tabuleiro, Posicao posicao, int valor) {
-        int linhaIdx = posicao.getLinhaIndex();
-        int colunaIdx = posicao.getColunaIndex();
-
-        int blocoLinhaInicio = (linhaIdx / 3) * 3;
-        int blocoColunaInicio = (colunaIdx / 3) * 3;
+    private boolean gaiolaViavel(LeituraTabuleiro tabuleiro, int gaiola) {
+        int tamanho = inicioGaiola[gaiola + 1] - inicioGaiola[gaiola];
+        return TabelaCombinacoes.viavel(tamanho, somaGaiola[gaiola], digitosDaGaiola(tabuleiro, gaiola, -1));
+    }
 
-        for (int l = blocoLinhaInicio; l < blocoLinhaInicio + 3; l++) {
-            for (int c = blocoColunaInicio; c < blocoColunaInicio + 3; c++) {
-                if (l == linhaIdx && c == colunaIdx) {
-                    continue; // Pula a própria célula
-                }
+    /**
+     * Máscara (bit = dígito) dos valores que aparecem mais de uma vez na unidade.
+     */
+    private int digitosRepetidos(LeituraTabuleiro tabuleiro, int unidade) {
+        int vistos = 0;
+        int repetidos = 0;
 
-                Celula outra = tabuleiro.getCelula(l, c);
-                if (outra.isPreenchida() && outra.getValorAtual() == valor) {
-                    return true;
-                }
-            }
+        for (int k = inicioUnidade[unidade], fim = inicioUnidade[unidade + 1]; k < fim; k++) {
+            int valor = tabuleiro.getValor(celulasUnidade[k]);
+            int bit = (1 << valor) & ~1; // bit 0 (vazia) é ignorado
+            repetidos |= vistos & bit;
+            vistos |= bit;
         }
-
-        return false;
+        return repetidos;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,316 @@
+package validation;
+
+import domain.model.UnidadesTabuleiro;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Regras de uma variante compiladas em tabelas planas (formato CSR:
+ * um vetor de dados e um vetor de inícios com 82 entradas por célula).
+ *
+ * <p>Todas as variantes usam esta mesma classe final, então o código que
+ * percorre as tabelas é sempre o mesmo (monomórfico): o clássico não paga
+ * nada por existirem outras variantes. Os vetores retornados pelos getters
+ * são as próprias tabelas internas e não devem ser modificados.</p>
+ */
+public final class RegrasCompiladas {
+
+    /** Regras do Sudoku clássico, compiladas uma única vez. */
+    public static final RegrasCompiladas CLASSICO = DefinicaoVariante.classica().compilar();
+
+    private final String nome;
+    private final long identificador;
+
+    // Unidades: celulasUnidade[inicioUnidade[u] .. inicioUnidade[u + 1])
+    private final int totalUnidades;
+    private final int[] celulasUnidade;
+    private final int[] inicioUnidade;
+    private final int[] tipoUnidade;
+
+    // Unidades de cada célula
+    private final int[] unidadesDaCelula;
+    private final int[] inicioUnidadesDaCelula;
+
+    // Pares distintos de cada célula (unidades + exclusões) e os tipos de restrição que os ligam
+    private final int[] pares;
+    private final int[] relacoesPares;
+    private final int[] inicioPares;
+
+    // Pares que vêm apenas de exclusões (não compartilham unidade com a célula)
+    private final int[] paresExclusao;
+    private final int[] inicioParesExclusao;
+
+    // Gaiolas (Killer): celulasGaiola[inicioGaiola[g] .. inicioGaiola[g + 1]), soma alvo e gaiola de cada célula (-1 = nenhuma)
+    private final int totalGaiolas;
+    private final int[] celulasGaiola;
+    private final int[] inicioGaiola;
+    private final int[] somaGaiola;
+    private final int[] gaiolaDaCelula;
+
+    // Unidades de 9 células acompanhadas pelo tabuleiro (conclusões e eventos)
+    private final UnidadesTabuleiro unidadesTabuleiro;
+
+    RegrasCompiladas(String nome, List<int[]> unidades, List<TipoRestricao> tiposUnidade,
+                     List<int[]> exclusoes, List<TipoRestricao> tiposExclusao, List<Gaiola> gaiolas) {
+        this.nome = nome;
+        this.totalUnidades = unidades.size();
+
+        // 1. Unidades em formato plano
+        this.inicioUnidade = new int[totalUnidades + 1];
+        this.tipoUnidade = new int[totalUnidades];
+        int totalCelulas = 0;
+        for (int u = 0; u < totalUnidades; u++) {
+            inicioUnidade[u] = totalCelulas;
+            totalCelulas += unidades.get(u).length;
+            tipoUnidade[u] = tiposUnidade.get(u).ordinal();
+        }
+        inicioUnidade[totalUnidades] = totalCelulas;
+        this.celulasUnidade = new int[totalCelulas];
+        for (int u = 0; u < totalUnidades; u++) {
+            System.arraycopy(unidades.get(u), 0, celulasUnidade, inicioUnidade[u], unidades.get(u).length);
+        }
+
+        // 2. Relações célula x célula (matriz 81x81 temporária com os bits dos tipos)
+        int[][] relacaoUnidade = new int[81][81];
+        int[][] relacaoExclusao = new int[81][81];
+        int[][] unidadesPorCelula = new int[81][];
+        int[] contagemUnidades = new int[81];
+        for (int u = 0; u < totalUnidades; u++) {
+            for (int k = inicioUnidade[u]; k < inicioUnidade[u + 1]; k++) {
+                contagemUnidades[celulasUnidade[k]]++;
+            }
+        }
+        for (int indice = 0; indice < 81; indice++) {
+            unidadesPorCelula[indice] = new int[contagemUnidades[indice]];
+            contagemUnidades[indice] = 0;
+        }
+        for (int u = 0; u < totalUnidades; u++) {
+            int bit = 1 << tipoUnidade[u];
+            for (int a = inicioUnidade[u]; a < inicioUnidade[u + 1]; a++) {
+                int celula = celulasUnidade[a];
+                unidadesPorCelula[celula][contagemUnidades[celula]++] = u;
+                for (int b = inicioUnidade[u]; b < inicioUnidade[u + 1]; b++) {
+                    if (a != b) {
+                        relacaoUnidade[celula][celulasUnidade[b]] |= bit;
+                    }
+                }
+            }
+        }
+        for (int e = 0; e < exclusoes.size(); e++) {
+            int a = exclusoes.get(e)[0];
+            int b = exclusoes.get(e)[1];
+            int bit = tiposExclusao.get(e).bit();
+            relacaoExclusao[a][b] |= bit;
+            relacaoExclusao[b][a] |= bit;
+        }
+
+        // 3. Tabelas CSR por célula
+        this.inicioUnidadesDaCelula = new int[82];
+        this.inicioPares = new int[82];
+        this.inicioParesExclusao = new int[82];
+        int[] paresTemp = new int[81 * 80];
+        int[] relacoesTemp = new int[81 * 80];
+        int[] exclusaoTemp = new int[81 * 80];
+        int totalUnidadesCelula = 0;
+        int totalPares = 0;
+        int totalExclusao = 0;
+
+        for (int indice = 0; indice < 81; indice++) {
+            inicioUnidadesDaCelula[indice] = totalUnidadesCelula;
+            totalUnidadesCelula += unidadesPorCelula[indice].length;
+            inicioPares[indice] = totalPares;
+            inicioParesExclusao[indice] = totalExclusao;
+
+            for (int outra = 0; outra < 81; outra++) {
+                int relacao = relacaoUnidade[indice][outra] | relacaoExclusao[indice][outra];
+                if (relacao != 0) {
+                    paresTemp[totalPares] = outra;
+                    relacoesTemp[totalPares] = relacao;
+                    totalPares++;
+                }
+                if (relacaoUnidade[indice][outra] == 0 && relacaoExclusao[indice][outra] != 0) {
+                    exclusaoTemp[totalExclusao++] = outra;
+                }
+            }
+        }
+        inicioUnidadesDaCelula[81] = totalUnidadesCelula;
+        inicioPares[81] = totalPares;
+        inicioParesExclusao[81] = totalExclusao;
+
+        this.unidadesDaCelula = new int[totalUnidadesCelula];
+        for (int indice = 0; indice < 81; indice++) {
+            System.arraycopy(unidadesPorCelula[indice], 0, unidadesDaCelula,
+                    inicioUnidadesDaCelula[indice], unidadesPorCelula[indice].length);
+        }
+        this.pares = Arrays.copyOf(paresTemp, totalPares);
+        this.relacoesPares = Arrays.copyOf(relacoesTemp, totalPares);
+        this.paresExclusao = Arrays.copyOf(exclusaoTemp, totalExclusao);
+
+        // 4. Gaiolas
+        this.totalGaiolas = gaiolas.size();
+        this.inicioGaiola = new int[totalGaiolas + 1];
+        this.somaGaiola = new int[totalGaiolas];
+        this.gaiolaDaCelula = new int[81];
+        Arrays.fill(gaiolaDaCelula, -1);
+        int totalCelulasGaiola = 0;
+        for (int g = 0; g < totalGaiolas; g++) {
+            inicioGaiola[g] = totalCelulasGaiola;
+            totalCelulasGaiola += gaiolas.get(g).getTamanho();
+            somaGaiola[g] = gaiolas.get(g).getSoma();
+        }
+        inicioGaiola[totalGaiolas] = totalCelulasGaiola;
+        this.celulasGaiola = new int[totalCelulasGaiola];
+        for (int g = 0; g < totalGaiolas; g++) {
+            int[] celulas = gaiolas.get(g).getCelulas();
+            System.arraycopy(celulas, 0, celulasGaiola, inicioGaiola[g], celulas.length);
+            for (int celula : celulas) {
+                gaiolaDaCelula[celula] = g;
+            }
+        }
+
+        // 5. Unidades acompanhadas pelo tabuleiro: as de 9 células, exceto gaiolas
+        this.unidadesTabuleiro = montarUnidadesTabuleiro();
+
+        this.identificador = calcularIdentificador();
+    }
+
+    // ========== GETTERS ==========
+
+    public String getNome() {
+        return nome;
+    }
+
+    /**
+     * Hash de 64 bits das tabelas: variantes com as mesmas restrições têm o mesmo identificador.
+     */
+    public long getIdentificador() {
+        return identificador;
+    }
+
+    public int getTotalUnidades() {
+        return totalUnidades;
+    }
+
+    public int[] getCelulasUnidade() {
+        return celulasUnidade;
+    }
+
+    public int[] getInicioUnidade() {
+        return inicioUnidade;
+    }
+
+    /**
+     * Ordinal de {@link TipoRestricao} de cada unidade.
+     */
+    public int[] getTipoUnidade() {
+        return tipoUnidade;
+    }
+
+    public int[] getUnidadesDaCelula() {
+        return unidadesDaCelula;
+    }
+
+    public int[] getInicioUnidadesDaCelula() {
+        return inicioUnidadesDaCelula;
+    }
+
+    public int[] getPares() {
+        return pares;
+    }
+
+    /**
+     * Máscara de bits de {@link TipoRestricao} para cada entrada de {@link #getPares()}.
+     */
+    public int[] getRelacoesPares() {
+        return relacoesPares;
+    }
+
+    public int[] getInicioPares() {
+        return inicioPares;
+    }
+
+    public int[] getParesExclusao() {
+        return paresExclusao;
+    }
+
+    public int[] getInicioParesExclusao() {
+        return inicioParesExclusao;
+    }
+
+    public boolean temExclusoes() {
+        return paresExclusao.length > 0;
+    }
+
+    public int getTotalGaiolas() {
+        return totalGaiolas;
+    }
+
+    public int[] getCelulasGaiola() {
+        return celulasGaiola;
+    }
+
+    public int[] getInicioGaiola() {
+        return inicioGaiola;
+    }
+
+    public int[] getSomaGaiola() {
+        return somaGaiola;
+    }
+
+    /**
+     * Gaiola de cada célula, ou -1 se a célula não pertence a nenhuma gaiola.
+     */
+    public int[] getGaiolaDaCelula() {
+        return gaiolaDaCelula;
+    }
+
+    public boolean temGaiolas() {
+        return totalGaiolas > 0;
+    }
+
+    /**
+     * Linhas, colunas, blocos ou regiões e unidades extras (diagonais, janelas)
+     * que o tabuleiro acompanha, com os nomes para exibição.
+     */
+    public UnidadesTabuleiro getUnidadesTabuleiro() {
+        return unidadesTabuleiro;
+    }
+
+    // ========== AUXILIARES ==========
+
+    private UnidadesTabuleiro montarUnidadesTabuleiro() {
+        List<int[]> celulas = new ArrayList<>();
+        List<String> nomes = new ArrayList<>();
+        int[] porTipo = new int[TipoRestricao.values().length];
+        for (int u = 0; u < totalUnidades && celulas.size() < UnidadesTabuleiro.MAXIMO_UNIDADES; u++) {
+            TipoRestricao tipo = TipoRestricao.values()[tipoUnidade[u]];
+            if (inicioUnidade[u + 1] - inicioUnidade[u] != 9 || tipo == TipoRestricao.GAIOLA) {
+                continue;
+            }
+            celulas.add(Arrays.copyOfRange(celulasUnidade, inicioUnidade[u], inicioUnidade[u + 1]));
+            nomes.add(tipo.nomeUnidade() + " " + ++porTipo[tipo.ordinal()]);
+        }
+        return new UnidadesTabuleiro(celulas.toArray(new int[0][]), nomes.toArray(new String[0]));
+    }
+
+    private long calcularIdentificador() {
+        long h = 0xcbf29ce484222325L;
+        for (int[] tabela : new int[][]{celulasUnidade, inicioUnidade, tipoUnidade, paresExclusao, inicioParesExclusao,
+                celulasGaiola, inicioGaiola, somaGaiola}) {
+            for (int valor : tabela) {
+                h ^= valor;
+                h *= 0x100000001b3L;
+            }
+            h ^= tabela.length;
+            h *= 0x100000001b3L;
+        }
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s (%d unidades, %d pares, %d gaiolas)", nome, totalUnidades, pares.length, totalGaiolas);
+    }
+}
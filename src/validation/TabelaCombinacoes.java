@@ -0,0 +1,89 @@
+package validation;
+
+/**
+ * Tabelas pré-calculadas de combinações de dígitos para gaiolas do Killer Sudoku.
+ *
+ * <p>Para cada (tamanho da gaiola, soma) e cada máscara de dígitos já
+ * colocados na gaiola, guarda a união de todas as combinações válidas que
+ * contêm esses dígitos. Assim, verificar uma gaiola e listar os candidatos
+ * de uma célula são uma consulta ao vetor, sem enumerar combinações.</p>
+ *
+ * <p>Máscaras usam o bit (d - 1) para o dígito d (bits 0-8).</p>
+ */
+public final class TabelaCombinacoes {
+
+    /** Maior soma possível (1 + 2 + ... + 9). */
+    public static final int SOMA_MAXIMA = 45;
+
+    private static final int MASCARAS = 512;
+
+    // CANDIDATOS[((tamanho * 46) + soma) * 512 + colocados] = união das combinações que contêm "colocados"
+    private static final short[] CANDIDATOS = new short[10 * (SOMA_MAXIMA + 1) * MASCARAS];
+
+    static {
+        // 1. Cada máscara de 1 a 511 é uma combinação de tamanho bitCount e soma dos dígitos
+        for (int combinacao = 1; combinacao < MASCARAS; combinacao++) {
+            int tamanho = Integer.bitCount(combinacao);
+            int soma = somaDigitos(combinacao);
+            int base = ((tamanho * (SOMA_MAXIMA + 1)) + soma) * MASCARAS;
+
+            // 2. Contribui para todos os subconjuntos da combinação (inclusive o vazio)
+            int subconjunto = combinacao;
+            while (true) {
+                CANDIDATOS[base + subconjunto] |= (short) combinacao;
+                if (subconjunto == 0) {
+                    break;
+                }
+                subconjunto = (subconjunto - 1) & combinacao;
+            }
+        }
+    }
+
+    private TabelaCombinacoes() {
+    }
+
+    /**
+     * União das combinações válidas para a gaiola que contêm os dígitos colocados.
+     *
+     * @return máscara de dígitos possíveis na gaiola, ou 0 se a gaiola já é inviável
+     */
+    public static int combinacoesCompativeis(int tamanho, int soma, int colocados) {
+        if (soma < 0 || soma > SOMA_MAXIMA) {
+            return 0;
+        }
+        return CANDIDATOS[((tamanho * (SOMA_MAXIMA + 1)) + soma) * MASCARAS + colocados];
+    }
+
+    /**
+     * Verifica se os dígitos colocados ainda podem completar a gaiola.
+     */
+    public static boolean viavel(int tamanho, int soma, int colocados) {
+        return combinacoesCompativeis(tamanho, soma, colocados) != 0;
+    }
+
+    /**
+     * Dígitos candidatos para as células vazias da gaiola.
+     */
+    public static int candidatos(int tamanho, int soma, int colocados) {
+        return combinacoesCompativeis(tamanho, soma, colocados) & ~colocados;
+    }
+
+    /**
+     * Verifica se existe alguma combinação de dígitos distintos com a soma e o tamanho.
+     */
+    public static boolean somaPossivel(int tamanho, int soma) {
+        return tamanho >= 1 && tamanho <= 9 && viavel(tamanho, soma, 0);
+    }
+
+    /**
+     * Soma dos dígitos de uma máscara.
+     */
+    public static int somaDigitos(int mascara) {
+        int soma = 0;
+        while (mascara != 0) {
+            soma += Integer.numberOfTrailingZeros(mascara) + 1;
+            mascara &= mascara - 1;
+        }
+        return soma;
+    }
+}
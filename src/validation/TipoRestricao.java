@@ -0,0 +1,58 @@
+package validation;
+
+import domain.model.Posicao;
+
+/**
+ * Tipos de restrição que uma variante pode declarar.
+ * Cada tipo sabe descrever um conflito para o usuário.
+ */
+public enum TipoRestricao {
+    LINHA,
+    COLUNA,
+    BLOCO,
+    DIAGONAL,
+    REGIAO,
+    JANELA,
+    CAVALO,
+    GAIOLA,
+    SOMA_GAIOLA;
+
+    /**
+     * Mensagem de conflito para um valor inserido na posição.
+     */
+    public String mensagemConflito(Posicao posicao) {
+        return switch (this) {
+            case LINHA -> "Conflito na linha " + posicao.getLinha();
+            case COLUNA -> "Conflito na coluna " + posicao.getColuna();
+            case BLOCO -> "Conflito no bloco 3x3";
+            case DIAGONAL -> "Conflito na diagonal";
+            case REGIAO -> "Conflito na região";
+            case JANELA -> "Conflito na janela extra";
+            case CAVALO -> "Conflito a um movimento de cavalo";
+            case GAIOLA -> "Conflito na gaiola";
+            case SOMA_GAIOLA -> "Soma da gaiola impossível com este valor";
+        };
+    }
+
+    /**
+     * Nome de uma unidade deste tipo para exibição (ex.: "Região" em "Região 5").
+     */
+    public String nomeUnidade() {
+        return switch (this) {
+            case LINHA -> "Linha";
+            case COLUNA -> "Coluna";
+            case BLOCO -> "Bloco";
+            case DIAGONAL -> "Diagonal";
+            case REGIAO -> "Região";
+            case JANELA -> "Janela";
+            default -> "Unidade";
+        };
+    }
+
+    /**
+     * Bit deste tipo nas máscaras de relação das regras compiladas.
+     */
+    public int bit() {
+        return 1 << ordinal();
+    }
+}
@@ -0,0 +1,238 @@
+package validation;
+
+import domain.model.LeituraTabuleiro;
+
+import java.util.Arrays;
+
+/**
+ * Validação em lote de tabuleiros completos, para conferir muitas grades de
+ * uma vez (envios de jogadores, auditoria de acervos).
+ *
+ * <p>As grades ficam em layout colunar: {@code colunas[celula][tabuleiro]},
+ * com cada valor já guardado como bit ({@code 1 << valor}). Assim a
+ * verificação de cada unidade de 9 células é um laço sobre os tabuleiros
+ * só com OU e OU exclusivo, sem desvios, que o JIT vetoriza (várias grades
+ * por instrução). Restrições que não são
+ * permutações (gaiolas, exclusões, unidades menores) são verificadas
+ * depois, uma grade por vez, só nas que passaram.</p>
+ *
+ * <p>Uso: {@link #adicionar} até {@link #isCheio()}, {@link #validar},
+ * {@link #limpar} e repete. Não é sincronizado.</p>
+ */
+public class ValidadorLote {
+
+    /** Grades por lote quando não informado. */
+    public static final int CAPACIDADE_PADRAO = 1024;
+
+    // Abaixo disto o layout colunar não compensa: valida grade a grade
+    private static final int MINIMO_COLUNAR = 32;
+
+    // Bits 1-9 ligados: unidade com todos os dígitos, sem vazias
+    private static final int UNIDADE_COMPLETA = 0x3FE;
+
+    private final RegraSudoku regraSudoku;
+    private final int[] celulasUnidade;
+    private final int[] unidadesCompletas; // início (em celulasUnidade) das unidades de 9 células
+    private final boolean precisaVerificacaoExtra;
+
+    private final int capacidade;
+    private final short[][] colunas; // bit do valor (bit 0 = vazia)
+    private final short[] erros;
+    private int tamanho;
+
+    public ValidadorLote(RegrasCompiladas regras) {
+        this(regras, CAPACIDADE_PADRAO);
+    }
+
+    public ValidadorLote(RegrasCompiladas regras, int capacidade) {
+        if (capacidade < 1) {
+            throw new IllegalArgumentException("Capacidade deve ser positiva");
+        }
+        this.regraSudoku = new RegraSudoku(regras);
+        this.celulasUnidade = regras.getCelulasUnidade();
+
+        int[] inicioUnidade = regras.getInicioUnidade();
+        int[] completas = new int[regras.getTotalUnidades()];
+        int total = 0;
+        boolean outras = false;
+        for (int unidade = 0; unidade < regras.getTotalUnidades(); unidade++) {
+            if (inicioUnidade[unidade + 1] - inicioUnidade[unidade] == 9) {
+                completas[total++] = inicioUnidade[unidade];
+            } else {
+                outras = true;
+            }
+        }
+        this.unidadesCompletas = Arrays.copyOf(completas, total);
+        this.precisaVerificacaoExtra = outras || regras.temExclusoes() || regras.temGaiolas();
+
+        this.capacidade = capacidade;
+        this.colunas = new short[81][capacidade];
+        this.erros = new short[capacidade];
+    }
+
+    // ========== ENTRADA ==========
+
+    /**
+     * Adiciona uma grade (81 valores 0-9, 0 = vazia).
+     *
+     * @throws IllegalStateException se o lote estiver cheio
+     */
+    public void adicionar(int[] grade) {
+        if (grade.length != 81) {
+            throw new IllegalArgumentException("Grade deve ter 81 valores");
+        }
+        int posicao = proximaPosicao();
+        for (int indice = 0; indice < 81; indice++) {
+            int valor = grade[indice];
+            if (valor < 0 || valor > 9) {
+                throw new IllegalArgumentException("Valor fora de 0-9 na célula " + indice);
+            }
+            colunas[indice][posicao] = (short) (1 << valor);
+        }
+        tamanho++;
+    }
+
+    /**
+     * Adiciona os valores atuais de um tabuleiro.
+     *
+     * @throws IllegalStateException se o lote estiver cheio
+     */
+    public void adicionar(LeituraTabuleiro tabuleiro) {
+        int posicao = proximaPosicao();
+        for (int indice = 0; indice < 81; indice++) {
+            colunas[indice][posicao] = (short) (1 << tabuleiro.getValor(indice));
+        }
+        tamanho++;
+    }
+
+    private int proximaPosicao() {
+        if (tamanho == capacidade) {
+            throw new IllegalStateException("Lote cheio (" + capacidade + " grades)");
+        }
+        return tamanho;
+    }
+
+    public void limpar() {
+        tamanho = 0;
+    }
+
+    public boolean isCheio() {
+        return tamanho == capacidade;
+    }
+
+    public int getTamanho() {
+        return tamanho;
+    }
+
+    public int getCapacidade() {
+        return capacidade;
+    }
+
+    // ========== VALIDAÇÃO ==========
+
+    /**
+     * Valida as grades do lote: {@code resultado[i]} fica true se a i-ésima grade
+     * adicionada está completa e sem conflitos.
+     *
+     * @return quantas grades são válidas
+     */
+    public int validar(boolean[] resultado) {
+        if (tamanho >= MINIMO_COLUNAR) {
+            validarColunar();
+        } else {
+            validarEscalar();
+        }
+
+        int validas = 0;
+        for (int tabuleiro = 0; tabuleiro < tamanho; tabuleiro++) {
+            boolean valida = erros[tabuleiro] == 0
+                    && (!precisaVerificacaoExtra || regraSudoku.estaCorreto(new Visao(tabuleiro)));
+            resultado[tabuleiro] = valida;
+            if (valida) {
+                validas++;
+            }
+        }
+        return validas;
+    }
+
+    /**
+     * Uma passada por unidade sobre todas as grades. O laço interno não tem
+     * desvios nem dependência entre iterações, para o JIT usar instruções vetoriais.
+     */
+    private void validarColunar() {
+        int n = tamanho;
+        short[] erros = this.erros;
+        Arrays.fill(erros, 0, n, (short) 0);
+
+        for (int inicio : unidadesCompletas) {
+            short[] c0 = colunas[celulasUnidade[inicio]];
+            short[] c1 = colunas[celulasUnidade[inicio + 1]];
+            short[] c2 = colunas[celulasUnidade[inicio + 2]];
+            short[] c3 = colunas[celulasUnidade[inicio + 3]];
+            short[] c4 = colunas[celulasUnidade[inicio + 4]];
+            short[] c5 = colunas[celulasUnidade[inicio + 5]];
+            short[] c6 = colunas[celulasUnidade[inicio + 6]];
+            short[] c7 = colunas[celulasUnidade[inicio + 7]];
+            short[] c8 = colunas[celulasUnidade[inicio + 8]];
+            for (int t = 0; t < n; t++) {
+                // Atribuição explícita: com "|=" em short o JIT não vetoriza o laço
+                erros[t] = (short) (erros[t]
+                        | ((c0[t] | c1[t] | c2[t] | c3[t] | c4[t] | c5[t] | c6[t] | c7[t] | c8[t]) ^ UNIDADE_COMPLETA));
+            }
+        }
+    }
+
+    /**
+     * Mesma verificação, grade a grade (lotes pequenos).
+     */
+    private void validarEscalar() {
+        for (int tabuleiro = 0; tabuleiro < tamanho; tabuleiro++) {
+            int erro = 0;
+            for (int inicio : unidadesCompletas) {
+                int mascara = 0;
+                for (int k = inicio; k < inicio + 9; k++) {
+                    mascara |= colunas[celulasUnidade[k]][tabuleiro];
+                }
+                erro |= mascara ^ UNIDADE_COMPLETA;
+            }
+            erros[tabuleiro] = (short) erro;
+        }
+    }
+
+    /**
+     * Uma grade do lote vista como tabuleiro, para as verificações extras.
+     */
+    private final class Visao implements LeituraTabuleiro {
+        private final int tabuleiro;
+
+        private Visao(int tabuleiro) {
+            this.tabuleiro = tabuleiro;
+        }
+
+        @Override
+        public int getValor(int indice) {
+            return Integer.numberOfTrailingZeros(colunas[indice][tabuleiro]);
+        }
+
+        @Override
+        public boolean isFixo(int indice) {
+            return false;
+        }
+
+        @Override
+        public boolean isEmErro(int indice) {
+            return false;
+        }
+
+        @Override
+        public int getCelulasPreenchidas() {
+            int preenchidas = 0;
+            for (int indice = 0; indice < 81; indice++) {
+                if (colunas[indice][tabuleiro] != 1) {
+                    preenchidas++;
+                }
+            }
+            return preenchidas;
+        }
+    }
+}
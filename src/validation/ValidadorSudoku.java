@@ -19,9 +19,9 @@ public class ValidadorSudoku {
     public boolean podeInserir(Tabuleiro tabuleiro, int linha, int coluna, int valor) {
         validacoesRealizadas++;
 
-        // Converter para nova API
-        domain.model.Posicao posicao = new domain.model.Posicao(linha + 1, coluna + 1);
-        var resultado = validadorService.validarInsercao(tabuleiro, posicao, valor);
+        // Converter para nova API (Posicao.de valida a faixa e não aloca)
+        int indice = domain.model.Posicao.de(linha + 1, coluna + 1).getIndice();
+        var resultado = validadorService.validarInsercao(tabuleiro, indice, valor);
         return resultado.isValido();
     }
 